@@ -0,0 +1,250 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auth;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLEngine;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.node.Node;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.security.auditlog.NullAuditLog;
+import org.opensearch.security.auth.internal.InternalAuthenticationBackend;
+import org.opensearch.security.configuration.AdminDNs;
+import org.opensearch.security.configuration.ClusterInfoHolder;
+import org.opensearch.security.filter.SecurityRequestChannel;
+import org.opensearch.security.filter.SecurityResponse;
+import org.opensearch.security.hasher.PasswordHasher;
+import org.opensearch.security.hasher.PasswordHasherFactory;
+import org.opensearch.security.http.XFFResolver;
+import org.opensearch.security.securityconf.DynamicConfigModelV7;
+import org.opensearch.security.securityconf.InternalUsersModel;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.securityconf.impl.v7.ConfigV7;
+import org.opensearch.threadpool.ThreadPool;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Authenticates REST requests with HTTP basic authentication against the internal users database.
+ * <p>
+ * All users are authenticated once during setup. Thus, this measures the path which is taken by the vast majority
+ * of requests: the credentials are found in the user cache and no password hash needs to be computed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BackendRegistryBenchmark {
+
+    private static final String PASSWORD = "benchmark_password";
+
+    private static final String CONFIG_YAML = "config:\n"
+        + "  dynamic:\n"
+        + "    authc:\n"
+        + "      basic_internal_auth_domain:\n"
+        + "        http_enabled: true\n"
+        + "        order: 0\n"
+        + "        http_authenticator:\n"
+        + "          type: basic\n"
+        + "          challenge: true\n"
+        + "        authentication_backend:\n"
+        + "          type: intern\n";
+
+    @Param({ "1", "100", "10000" })
+    public int userCount;
+
+    private ThreadPool threadPool;
+    private BackendRegistry backendRegistry;
+    private BenchmarkRequest[] requests;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Settings settings = Settings.builder().put(Node.NODE_NAME_SETTING.getKey(), "benchmark").build();
+        PasswordHasher passwordHasher = PasswordHasherFactory.createPasswordHasher(settings);
+
+        this.threadPool = new ThreadPool(settings);
+
+        InternalAuthenticationBackend internalAuthenticationBackend = new InternalAuthenticationBackend(passwordHasher);
+        internalAuthenticationBackend.onInternalUsersModelChanged(new BenchmarkUsersModel(passwordHasher.hash(PASSWORD.toCharArray())));
+
+        ConfigV7 config = SecurityDynamicConfiguration.fromYaml(CONFIG_YAML, CType.CONFIG).getCEntry("config");
+        ClusterInfoHolder clusterInfoHolder = new ClusterInfoHolder("benchmark");
+        XFFResolver xffResolver = new XFFResolver(threadPool);
+
+        this.backendRegistry = new BackendRegistry(
+            settings,
+            new AdminDNs(settings),
+            xffResolver,
+            new NullAuditLog(),
+            threadPool,
+            clusterInfoHolder
+        );
+        this.backendRegistry.onDynamicConfigModelChanged(
+            new DynamicConfigModelV7(config, settings, null, internalAuthenticationBackend, clusterInfoHolder)
+        );
+
+        this.requests = new BenchmarkRequest[userCount];
+
+        for (int i = 0; i < userCount; i++) {
+            this.requests[i] = new BenchmarkRequest("user_" + i, PASSWORD);
+
+            if (!authenticate(this.requests[i])) {
+                throw new IllegalStateException("Authentication failed for user_" + i);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public boolean authenticate() {
+        BenchmarkRequest request = requests[next];
+        next = next + 1 == requests.length ? 0 : next + 1;
+        return authenticate(request);
+    }
+
+    private boolean authenticate(BenchmarkRequest request) {
+        try (ThreadContext.StoredContext ctx = threadPool.getThreadContext().stashContext()) {
+            return backendRegistry.authenticate(request);
+        }
+    }
+
+    static class BenchmarkUsersModel extends InternalUsersModel {
+        private final String hash;
+
+        BenchmarkUsersModel(String hash) {
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean exists(String user) {
+            return user.startsWith("user_");
+        }
+
+        @Override
+        public ImmutableSet<String> getBackendRoles(String user) {
+            return ImmutableSet.of("backend_role_a", "backend_role_b");
+        }
+
+        @Override
+        public ImmutableMap<String, String> getAttributes(String user) {
+            return ImmutableMap.of("attr.department", "benchmarking");
+        }
+
+        @Override
+        public String getDescription(String user) {
+            return null;
+        }
+
+        @Override
+        public String getHash(String user) {
+            return exists(user) ? hash : null;
+        }
+
+        @Override
+        public ImmutableSet<String> getSecurityRoles(String user) {
+            return ImmutableSet.of("role_a");
+        }
+    }
+
+    static class BenchmarkRequest implements SecurityRequestChannel {
+        private static final InetSocketAddress REMOTE_ADDRESS = new InetSocketAddress(InetAddress.getLoopbackAddress(), 9200);
+
+        private final Map<String, List<String>> headers;
+
+        BenchmarkRequest(String user, String password) {
+            String credentials = Base64.getEncoder().encodeToString((user + ":" + password).getBytes(StandardCharsets.UTF_8));
+            this.headers = ImmutableMap.of("Authorization", List.of("Basic " + credentials));
+        }
+
+        @Override
+        public Map<String, List<String>> getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public SSLEngine getSSLEngine() {
+            return null;
+        }
+
+        @Override
+        public String path() {
+            return "/_search";
+        }
+
+        @Override
+        public RestRequest.Method method() {
+            return RestRequest.Method.GET;
+        }
+
+        @Override
+        public Optional<InetSocketAddress> getRemoteAddress() {
+            return Optional.of(REMOTE_ADDRESS);
+        }
+
+        @Override
+        public String uri() {
+            return "/_search";
+        }
+
+        @Override
+        public Map<String, String> params() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public Set<String> getUnconsumedParams() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public void queueForSending(SecurityResponse response) {}
+
+        @Override
+        public Optional<SecurityResponse> getQueuedResponse() {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.privileges.actionlevel;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableSet;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.privileges.PrivilegesEvaluationContext;
+import org.opensearch.security.privileges.PrivilegesEvaluatorResponse;
+import org.opensearch.security.resolver.IndexResolverReplacer;
+import org.opensearch.security.securityconf.FlattenedActionGroups;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.securityconf.impl.v7.RoleV7;
+import org.opensearch.security.util.MockIndexMetadataBuilder;
+import org.opensearch.security.util.MockPrivilegeEvaluationContextBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluates index privileges for a user who is mapped to all configured roles.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoleBasedActionPrivilegesBenchmark {
+
+    private static final ImmutableSet<String> ACTIONS = ImmutableSet.of("indices:data/read/search");
+
+    @Param({ "10", "100", "1000" })
+    public int roleCount;
+
+    @Param({ "100", "1000", "10000" })
+    public int indexCount;
+
+    /**
+     * constant: each role grants a single index; prefix: each role grants a prefix pattern;
+     * regex: each role grants a regular expression; template: each role grants a pattern with a user attribute
+     */
+    @Param({ "constant", "prefix", "regex", "template" })
+    public String patternShape;
+
+    /**
+     * Whether the privileges are precomputed for the existing indices
+     */
+    @Param({ "true", "false" })
+    public boolean precomputed;
+
+    private RoleBasedActionPrivileges subject;
+    private PrivilegesEvaluationContext context;
+    private IndexResolverReplacer.Resolved singleIndex;
+    private IndexResolverReplacer.Resolved manyIndices;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String[] indexNames = new String[indexCount];
+        for (int i = 0; i < indexCount; i++) {
+            indexNames[i] = "index_" + i;
+        }
+
+        Metadata metadata = MockIndexMetadataBuilder.indices(indexNames).build();
+
+        StringBuilder rolesYaml = new StringBuilder();
+        String[] roleNames = new String[roleCount];
+        for (int r = 0; r < roleCount; r++) {
+            roleNames[r] = "role_" + r;
+            rolesYaml.append(roleNames[r])
+                .append(":\n")
+                .append("  index_permissions:\n")
+                .append("  - index_patterns: ['")
+                .append(indexPattern(r))
+                .append("']\n")
+                .append("    allowed_actions: ['indices:data/read/*']\n");
+        }
+
+        SecurityDynamicConfiguration<RoleV7> roles = SecurityDynamicConfiguration.fromYaml(rolesYaml.toString(), CType.ROLES);
+        Settings settings = Settings.builder().put(RoleBasedActionPrivileges.PRECOMPUTED_PRIVILEGES_ENABLED.getKey(), precomputed).build();
+
+        this.subject = new RoleBasedActionPrivileges(roles, FlattenedActionGroups.EMPTY, settings);
+        this.subject.updateStatefulIndexPrivileges(metadata.getIndicesLookup(), 1);
+
+        this.context = MockPrivilegeEvaluationContextBuilder.ctx()
+            .roles(roleNames)
+            .attr("attrs.group", "1")
+            .indexMetadata(metadata)
+            .get();
+
+        this.singleIndex = IndexResolverReplacer.Resolved.ofIndex("index_" + (indexCount / 2 + 1));
+
+        ImmutableSet.Builder<String> indices = ImmutableSet.builder();
+        for (int i = 0; i < indexCount; i += 10) {
+            indices.add(indexNames[i]);
+        }
+        ImmutableSet<String> indexSet = indices.build();
+        this.manyIndices = new IndexResolverReplacer.Resolved(
+            ImmutableSet.of(),
+            indexSet,
+            indexSet,
+            ImmutableSet.of(),
+            SearchRequest.DEFAULT_INDICES_OPTIONS
+        );
+    }
+
+    @Benchmark
+    public PrivilegesEvaluatorResponse hasIndexPrivilege_singleIndex() {
+        return subject.hasIndexPrivilege(context, ACTIONS, singleIndex);
+    }
+
+    @Benchmark
+    public PrivilegesEvaluatorResponse hasIndexPrivilege_manyIndices() {
+        return subject.hasIndexPrivilege(context, ACTIONS, manyIndices);
+    }
+
+    private String indexPattern(int role) {
+        switch (patternShape) {
+            case "constant":
+                return "index_" + (role % indexCount);
+            case "prefix":
+                return "index_" + role + "*";
+            case "regex":
+                return "/index_" + role + "[0-9]?/";
+            case "template":
+                return "index_${attrs.group}" + role + "*";
+            default:
+                throw new IllegalArgumentException("Unknown pattern shape " + patternShape);
+        }
+    }
+}
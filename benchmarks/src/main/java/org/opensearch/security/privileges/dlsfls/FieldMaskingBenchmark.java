@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.privileges.dlsfls;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.util.BytesRef;
+
+import org.opensearch.security.privileges.PrivilegesConfigurationValidationException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Masks field values with the different field masking algorithms.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FieldMaskingBenchmark {
+
+    /**
+     * default: the default hash algorithm; sha256: an explicitly specified hash algorithm; regex: regular
+     * expression based replacement
+     */
+    @Param({ "default", "sha256", "regex" })
+    public String algorithm;
+
+    /**
+     * The number of distinct values which are masked in turn. A low number simulates fields with low cardinality.
+     */
+    @Param({ "1", "10000" })
+    public int distinctValues;
+
+    private FieldMasking.FieldMaskingRule.Field field;
+    private BytesRef[] values;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws PrivilegesConfigurationValidationException {
+        String expression;
+
+        switch (algorithm) {
+            case "default":
+                expression = "masked";
+                break;
+            case "sha256":
+                expression = "masked::SHA-256";
+                break;
+            case "regex":
+                expression = "masked::/[0-9]{4}/::XXXX";
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown algorithm " + algorithm);
+        }
+
+        this.field = FieldMasking.FieldMaskingRule.of(FieldMasking.Config.DEFAULT, expression).get("masked");
+        this.values = new BytesRef[distinctValues];
+
+        for (int i = 0; i < distinctValues; i++) {
+            this.values[i] = new BytesRef(("1234-5678-" + i + "-account@example.com").getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    public BytesRef apply() {
+        BytesRef value = values[next];
+        next = next + 1 == values.length ? 0 : next + 1;
+        return field.apply(value);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.privileges.dlsfls;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableSet;
+
+import org.opensearch.security.privileges.PrivilegesConfigurationValidationException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Applies field level security and field masking rules to documents of different sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FlsDocumentFilterBenchmark {
+
+    private static final Set<String> META_FIELDS = ImmutableSet.of("_id", "_index", "_routing", "_source");
+
+    @Param({ "10", "100", "1000" })
+    public int fieldCount;
+
+    /**
+     * none: no restrictions; exclude: excludes a part of the fields; include: includes a part of the fields;
+     * masked: masks a part of the fields
+     */
+    @Param({ "none", "exclude", "include", "masked" })
+    public String ruleShape;
+
+    private byte[] document;
+    private FieldPrivileges.FlsRule flsRule;
+    private FieldMasking.FieldMaskingRule fieldMaskingRule;
+
+    @Setup(Level.Trial)
+    public void setUp() throws PrivilegesConfigurationValidationException {
+        StringBuilder json = new StringBuilder("{");
+
+        for (int i = 0; i < fieldCount; i++) {
+            if (i != 0) {
+                json.append(',');
+            }
+
+            String prefix = i % 2 == 0 ? "visible_" : "hidden_";
+
+            if (i % 10 == 0) {
+                json.append('"').append(prefix).append(i).append("\":{\"nested_a\":\"value\",\"nested_b\":").append(i).append('}');
+            } else {
+                json.append('"').append(prefix).append(i).append("\":\"value_").append(i).append('"');
+            }
+        }
+
+        this.document = json.append('}').toString().getBytes(StandardCharsets.UTF_8);
+        this.flsRule = FieldPrivileges.FlsRule.ALLOW_ALL;
+        this.fieldMaskingRule = FieldMasking.FieldMaskingRule.ALLOW_ALL;
+
+        switch (ruleShape) {
+            case "none":
+                break;
+            case "exclude":
+                this.flsRule = FieldPrivileges.FlsRule.of("~hidden_*");
+                break;
+            case "include":
+                this.flsRule = FieldPrivileges.FlsRule.of("visible_*");
+                break;
+            case "masked":
+                this.fieldMaskingRule = FieldMasking.FieldMaskingRule.of(FieldMasking.Config.DEFAULT, "hidden_*");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown rule shape " + ruleShape);
+        }
+    }
+
+    @Benchmark
+    public byte[] filter() throws IOException {
+        return FlsDocumentFilter.filter(document, flsRule, fieldMaskingRule, META_FIELDS);
+    }
+}
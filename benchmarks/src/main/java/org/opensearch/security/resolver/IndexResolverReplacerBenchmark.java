@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.resolver;
+
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.security.util.MockIndexMetadataBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Resolves the indices of search requests against a cluster state with indices and aliases.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IndexResolverReplacerBenchmark {
+
+    @Param({ "100", "1000", "10000" })
+    public int indexCount;
+
+    /**
+     * single: a concrete index; list: ten concrete indices; prefix: a prefix pattern; alias: an alias pointing to
+     * ten indices; all: _all
+     */
+    @Param({ "single", "list", "prefix", "alias", "all" })
+    public String requestShape;
+
+    private IndexResolverReplacer subject;
+    private SearchRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] indexNames = new String[indexCount];
+        for (int i = 0; i < indexCount; i++) {
+            indexNames[i] = "index_" + i;
+        }
+
+        MockIndexMetadataBuilder metadataBuilder = MockIndexMetadataBuilder.indices(indexNames);
+        for (int i = 0; i < indexCount; i += 10) {
+            String[] members = new String[Math.min(10, indexCount - i)];
+            for (int k = 0; k < members.length; k++) {
+                members[k] = indexNames[i + k];
+            }
+            metadataBuilder.alias("alias_" + (i / 10)).of(members);
+        }
+
+        Metadata metadata = metadataBuilder.build();
+        ClusterState clusterState = ClusterState.builder(ClusterState.EMPTY_STATE).metadata(metadata).build();
+        IndexNameExpressionResolver resolver = new IndexNameExpressionResolver(new ThreadContext(Settings.EMPTY));
+
+        this.subject = new IndexResolverReplacer(resolver, () -> clusterState, null);
+        this.request = new SearchRequest(requestedIndices());
+    }
+
+    @Benchmark
+    public IndexResolverReplacer.Resolved resolveRequest() {
+        return subject.resolveRequest(request);
+    }
+
+    private String[] requestedIndices() {
+        switch (requestShape) {
+            case "single":
+                return new String[] { "index_" + (indexCount / 2) };
+            case "list":
+                String[] result = new String[10];
+                for (int i = 0; i < result.length; i++) {
+                    result[i] = "index_" + (i * (indexCount / 10));
+                }
+                return result;
+            case "prefix":
+                return new String[] { "index_1*" };
+            case "alias":
+                return new String[] { "alias_1" };
+            case "all":
+                return new String[] { "_all" };
+            default:
+                throw new IllegalArgumentException("Unknown request shape " + requestShape);
+        }
+    }
+}
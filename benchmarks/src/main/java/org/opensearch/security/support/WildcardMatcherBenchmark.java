@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Matches a set of index names against the different WildcardMatcher implementations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WildcardMatcherBenchmark {
+
+    /**
+     * exact: a string constant; prefix: "a*"; contains: "*a*"; simple: a pattern with several wildcards;
+     * regex: a regular expression; list: a combination of patterns as it results from the index patterns of a role;
+     * large_list: a combination of several hundred patterns as it results from merging many roles
+     */
+    @Param({ "exact", "prefix", "contains", "simple", "regex", "list", "large_list" })
+    public String patternShape;
+
+    /**
+     * The value for WildcardMatcher.AUTOMATON_THRESHOLD; 0 compares against sequential matching
+     */
+    @Param({ "0", "32" })
+    public int automatonThreshold;
+
+    @Param({ "100", "10000" })
+    public int candidateCount;
+
+    private WildcardMatcher matcher;
+    private String[] candidates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        WildcardMatcher.setAutomatonThreshold(automatonThreshold);
+        this.matcher = WildcardMatcher.from(patterns(patternShape));
+
+        this.candidates = new String[candidateCount];
+        for (int i = 0; i < candidateCount; i++) {
+            this.candidates[i] = "logs-app" + (i % 10) + "-2024." + (i % 12) + "." + (i % 28);
+        }
+    }
+
+    @Benchmark
+    public void test(Blackhole blackhole) {
+        for (String candidate : candidates) {
+            blackhole.consume(matcher.test(candidate));
+        }
+    }
+
+    @Benchmark
+    public void create(Blackhole blackhole) {
+        blackhole.consume(WildcardMatcher.from(patterns(patternShape)));
+    }
+
+    static List<String> patterns(String patternShape) {
+        List<String> result = new ArrayList<>();
+
+        switch (patternShape) {
+            case "exact":
+                result.add("logs-app1-2024.1.1");
+                break;
+            case "prefix":
+                result.add("logs-app1*");
+                break;
+            case "contains":
+                result.add("*app1*");
+                break;
+            case "simple":
+                result.add("logs-*-2024.?.1*");
+                break;
+            case "regex":
+                result.add("/logs-app[0-4]-2024\\.[0-9]+\\.1[0-9]?/");
+                break;
+            case "list":
+                for (int i = 0; i < 20; i++) {
+                    result.add("logs-app" + i + "-*");
+                }
+                result.add("metrics-*");
+                result.add("/audit-[0-9]+/");
+                break;
+            case "large_list":
+                for (int i = 0; i < 100; i++) {
+                    result.add("logs-customer" + i + "-*");
+                    result.add("metrics-customer" + i);
+                    result.add("*-customer" + i + "-archive-*");
+                }
+                result.add("/audit-[0-9]+/");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown pattern shape " + patternShape);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.user;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.support.Base64Helper;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serializes and deserializes user objects as they are passed between nodes in the thread context.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserSerializationBenchmark {
+
+    @Param({ "1", "10", "100" })
+    public int roleCount;
+
+    @Param({ "0", "10", "100" })
+    public int attributeCount;
+
+    private User user;
+    private String serializedUser;
+    private UserFactory cachingUserFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> backendRoles = new ArrayList<>(roleCount);
+        List<String> securityRoles = new ArrayList<>(roleCount);
+        Map<String, String> attributes = new HashMap<>(attributeCount);
+
+        for (int i = 0; i < roleCount; i++) {
+            backendRoles.add("backend_role_" + i);
+            securityRoles.add("security_role_" + i);
+        }
+
+        for (int i = 0; i < attributeCount; i++) {
+            attributes.put("attr.ldap.attribute_" + i, "value_" + i);
+        }
+
+        this.user = new User("benchmark_user").withRoles(backendRoles).withSecurityRoles(securityRoles).withAttributes(attributes);
+        this.serializedUser = Base64Helper.serializeObject(user);
+        this.cachingUserFactory = new UserFactory.Caching(Settings.EMPTY);
+    }
+
+    /**
+     * Serializes the user without using the serialized form cached in the user object.
+     */
+    @Benchmark
+    public String serialize() {
+        return Base64Helper.serializeObject(user);
+    }
+
+    @Benchmark
+    public User deserialize() {
+        return User.fromSerializedBase64(serializedUser);
+    }
+
+    /**
+     * Deserializes the user with the cache which is used on nodes that receive the same user repeatedly.
+     */
+    @Benchmark
+    public User deserializeCached() {
+        return cachingUserFactory.fromSerializedBase64(serializedUser);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.util.ratetracking;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the rate tracker implementations which are used by the auth failure listeners. The benchmark runs
+ * with several threads to simulate concurrent failed logins from many clients.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class RateTrackerBenchmark {
+
+    @Param({ RateTracker.HEAP_TYPE, RateTracker.STRIPED_TYPE })
+    public String type;
+
+    /**
+     * The number of distinct clients. With more clients than maxEntries, the trackers need to evict entries.
+     */
+    @Param({ "10", "10000", "1000000" })
+    public int clientCount;
+
+    @Param({ "100000" })
+    public int maxEntries;
+
+    private RateTracker<String> rateTracker;
+    private String[] clients;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.rateTracker = RateTracker.create(TimeUnit.HOURS.toMillis(1), 10, maxEntries, type);
+        this.clients = new String[clientCount];
+
+        for (int i = 0; i < clientCount; i++) {
+            this.clients[i] = "10.0." + (i >> 8 & 0xff) + "." + (i & 0xff) + "/" + i;
+        }
+    }
+
+    @Benchmark
+    public boolean track() {
+        return rateTracker.track(clients[ThreadLocalRandom.current().nextInt(clients.length)]);
+    }
+}
@@ -270,6 +270,10 @@ public class MigrateApiTests {
         ArrayNode backendRoles = readOnly.putArray("backend_roles");
         backendRoles.add("admin");
 
+        ArrayNode allSharedPrincipals = source.putArray("all_shared_principals");
+        allSharedPrincipals.add("backend:admin");
+        allSharedPrincipals.add("user:" + MIGRATION_USER.getName());
+
         // 4) Add the hit into the array
         expectedHits.add(hit);
         return expectedHits;
@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.spi.resources.client;
+
+import java.util.List;
+
+/**
+ * A page of ids of resources the current user has access to, as returned by
+ * {@link ResourceSharingClient#getAccessibleResourceIds(String, String, int, org.opensearch.core.action.ActionListener)}.
+ *
+ * @opensearch.experimental
+ */
+public class ResourceIdsPage {
+
+    private final List<String> resourceIds;
+    private final String nextPageToken;
+
+    public ResourceIdsPage(List<String> resourceIds, String nextPageToken) {
+        this.resourceIds = List.copyOf(resourceIds);
+        this.nextPageToken = nextPageToken;
+    }
+
+    /**
+     * The resource ids of this page, in ascending order.
+     */
+    public List<String> getResourceIds() {
+        return resourceIds;
+    }
+
+    /**
+     * The token to request the next page with, or null if this is the last page.
+     */
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    public boolean hasNextPage() {
+        return nextPageToken != null;
+    }
+
+    @Override
+    public String toString() {
+        return "ResourceIdsPage{" + "resourceIds=" + resourceIds + ", nextPageToken=" + nextPageToken + '}';
+    }
+}
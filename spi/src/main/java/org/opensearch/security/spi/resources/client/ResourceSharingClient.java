@@ -54,4 +54,18 @@ public interface ResourceSharingClient {
      * @param listener The listener to be notified with the set of accessible resources.
      */
     void getAccessibleResourceIds(String resourceIndex, ActionListener<Set<String>> listener);
+
+    /**
+     * Lists one page of resourceIds of all shareable resources accessible by the current user, ordered by resource id.
+     * Unlike {@link #getAccessibleResourceIds(String, ActionListener)}, the cost of a call does not depend on the total
+     * number of accessible resources. Thus, this method should be preferred for list views over large resource indices.
+     * Both variants list the same resources; for super-admins, these are all resources of the index.
+     * @param resourceIndex The index containing the resources.
+     * @param pageToken The {@link ResourceIdsPage#getNextPageToken()} of the previous page, or null for the first page.
+     * @param pageSize The maximum number of resource ids to return. Must be positive and must not exceed the
+     *                 index.max_result_window setting of the resource sharing index (10000 by default); otherwise, the
+     *                 listener is notified with an {@link IllegalArgumentException}.
+     * @param listener The listener to be notified with the page of accessible resources.
+     */
+    void getAccessibleResourceIds(String resourceIndex, String pageToken, int pageSize, ActionListener<ResourceIdsPage> listener);
 }
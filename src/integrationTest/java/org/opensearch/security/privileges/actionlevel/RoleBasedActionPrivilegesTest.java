@@ -46,6 +46,8 @@ import org.opensearch.security.securityconf.impl.v7.RoleV7;
 import org.opensearch.security.user.User;
 import org.opensearch.security.util.MockIndexMetadataBuilder;
 
+import com.selectivem.collections.CheckTable;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.opensearch.security.privileges.PrivilegeEvaluatorResponseMatcher.isAllowed;
 import static org.opensearch.security.privileges.PrivilegeEvaluatorResponseMatcher.isForbidden;
@@ -55,6 +57,7 @@ import static org.opensearch.security.util.MockIndexMetadataBuilder.dataStreams;
 import static org.opensearch.security.util.MockIndexMetadataBuilder.indices;
 import static org.opensearch.security.util.MockPrivilegeEvaluationContextBuilder.ctx;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -1016,6 +1019,94 @@ public class RoleBasedActionPrivilegesTest {
             assertThat(resultForIndexNotCoveredByAlias, isForbidden());
         }
 
+        @Test
+        public void statefulIndexPrivileges_incrementalUpdate() throws Exception {
+            SecurityDynamicConfiguration<RoleV7> roles = SecurityDynamicConfiguration.fromYaml(
+                "role_a:\n"
+                    + "  index_permissions:\n"
+                    + "  - index_patterns: ['index_a*']\n"
+                    + "    allowed_actions: ['indices:data/read/search']\n"
+                    + "role_alias:\n"
+                    + "  index_permissions:\n"
+                    + "  - index_patterns: ['alias_b']\n"
+                    + "    allowed_actions: ['indices:data/write/index']",
+                CType.ROLES
+            );
+            Metadata before = indices("index_a1", "index_b1").alias("alias_b").of("index_b1").build();
+            Metadata after = indices("index_a1", "index_a2", "index_b1", "index_b2").alias("alias_b").of("index_b2").build();
+            ByteSizeValue maxHeapSize = new ByteSizeValue(10, ByteSizeUnit.MB);
+
+            RoleBasedActionPrivileges.StatefulIndexPrivileges incremental = new RoleBasedActionPrivileges.StatefulIndexPrivileges(
+                roles,
+                FlattenedActionGroups.EMPTY,
+                RoleBasedActionPrivileges.StatefulIndexPrivileges.relevantOnly(before.getIndicesLookup()),
+                1,
+                maxHeapSize
+            ).withIndices(
+                roles,
+                FlattenedActionGroups.EMPTY,
+                RoleBasedActionPrivileges.StatefulIndexPrivileges.relevantOnly(after.getIndicesLookup()),
+                2
+            );
+            RoleBasedActionPrivileges.StatefulIndexPrivileges full = new RoleBasedActionPrivileges.StatefulIndexPrivileges(
+                roles,
+                FlattenedActionGroups.EMPTY,
+                RoleBasedActionPrivileges.StatefulIndexPrivileges.relevantOnly(after.getIndicesLookup()),
+                2,
+                maxHeapSize
+            );
+
+            assertNotNull(incremental);
+            PrivilegesEvaluationContext ctx = ctx().roles("role_a", "role_alias").indexMetadata(after).get();
+
+            for (String index : List.of("index_a1", "index_a2", "index_b1", "index_b2", "alias_b")) {
+                for (String action : List.of("indices:data/read/search", "indices:data/write/index")) {
+                    assertEquals(
+                        index + "/" + action,
+                        providesPrivilege(full, index, action, ctx),
+                        providesPrivilege(incremental, index, action, ctx)
+                    );
+                }
+            }
+
+            assertTrue(providesPrivilege(incremental, "index_a2", "indices:data/read/search", ctx));
+            assertTrue(providesPrivilege(incremental, "index_b2", "indices:data/write/index", ctx));
+            assertFalse(providesPrivilege(incremental, "index_b1", "indices:data/write/index", ctx));
+        }
+
+        @Test
+        public void statefulIndexPrivileges_incrementalUpdate_tooManyChanges() throws Exception {
+            SecurityDynamicConfiguration<RoleV7> roles = SecurityDynamicConfiguration.fromYaml(
+                "role_a:\n" + "  index_permissions:\n" + "  - index_patterns: ['index_a*']\n" + "    allowed_actions: ['indices:*']",
+                CType.ROLES
+            );
+            String[] manyIndices = new String[RoleBasedActionPrivileges.StatefulIndexPrivileges.MIN_INCREMENTAL_UPDATE_LIMIT + 1];
+            for (int i = 0; i < manyIndices.length; i++) {
+                manyIndices[i] = "index_a" + i;
+            }
+
+            RoleBasedActionPrivileges.StatefulIndexPrivileges subject = new RoleBasedActionPrivileges.StatefulIndexPrivileges(
+                roles,
+                FlattenedActionGroups.EMPTY,
+                indices("index_a").build().getIndicesLookup(),
+                1,
+                new ByteSizeValue(10, ByteSizeUnit.MB)
+            );
+
+            assertNull(subject.withIndices(roles, FlattenedActionGroups.EMPTY, indices(manyIndices).build().getIndicesLookup(), 2));
+        }
+
+        static boolean providesPrivilege(
+            RoleBasedActionPrivileges.StatefulIndexPrivileges subject,
+            String index,
+            String action,
+            PrivilegesEvaluationContext ctx
+        ) {
+            CheckTable<String, String> checkTable = CheckTable.create(ImmutableSet.of(index), ImmutableSet.of(action));
+            IndexResolverReplacer.Resolved resolved = IndexResolverReplacer.Resolved.ofIndex(index);
+            return subject.providesPrivilege(ImmutableSet.of(action), resolved, ctx, checkTable) != null;
+        }
+
         @Test
         public void statefulDisabled() throws Exception {
             SecurityDynamicConfiguration<RoleV7> roles = SecurityDynamicConfiguration.fromYaml(
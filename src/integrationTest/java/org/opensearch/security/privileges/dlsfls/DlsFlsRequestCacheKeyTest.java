@@ -0,0 +1,185 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.privileges.dlsfls;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.security.privileges.ActionPrivileges;
+import org.opensearch.security.privileges.PrivilegesEvaluationContext;
+import org.opensearch.security.user.User;
+import org.opensearch.security.util.MockIndexMetadataBuilder;
+import org.opensearch.test.framework.TestSecurityConfig;
+
+import static org.opensearch.security.privileges.dlsfls.DlsFlsLegacyHeadersTest.ctx;
+import static org.opensearch.security.privileges.dlsfls.DlsFlsLegacyHeadersTest.dlsFlsProcessedConfig;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class DlsFlsRequestCacheKeyTest {
+
+    static final Metadata METADATA = MockIndexMetadataBuilder.indices("index_a", "index_b").build();
+    static final Set<String> INDICES = ImmutableSet.of("index_a", "index_b");
+
+    @Test
+    public void sameRestrictions_differentRoles() throws Exception {
+        DlsFlsProcessedConfig config = dlsFlsProcessedConfig(
+            TestSecurityConfig.Role.toRolesConfiguration(
+                new TestSecurityConfig.Role("role_1").indexPermissions("read")
+                    .dls("{\"term\":{\"dept\":\"a\"}}")
+                    .fls("~secret")
+                    .maskedFields("ip")
+                    .on("*"),
+                new TestSecurityConfig.Role("role_2").indexPermissions("read")
+                    .dls("{\"term\":{\"dept\":\"a\"}}")
+                    .fls("~secret")
+                    .maskedFields("ip")
+                    .on("index_*")
+            ),
+            METADATA
+        );
+
+        DlsFlsRequestCacheKey key1 = DlsFlsRequestCacheKey.of(ctx(METADATA, "role_1"), config, INDICES);
+        DlsFlsRequestCacheKey key2 = DlsFlsRequestCacheKey.of(ctx(METADATA, "role_2"), config, INDICES);
+
+        assertEquals(key1, key2);
+    }
+
+    @Test
+    public void differentRestrictions() throws Exception {
+        DlsFlsProcessedConfig config = dlsFlsProcessedConfig(
+            TestSecurityConfig.Role.toRolesConfiguration(
+                new TestSecurityConfig.Role("dls_a").indexPermissions("read").dls("{\"term\":{\"dept\":\"a\"}}").on("*"),
+                new TestSecurityConfig.Role("dls_b").indexPermissions("read").dls("{\"term\":{\"dept\":\"b\"}}").on("*"),
+                new TestSecurityConfig.Role("fls_excluding").indexPermissions("read").fls("~secret").on("*"),
+                new TestSecurityConfig.Role("fls_including").indexPermissions("read").fls("secret").on("*"),
+                new TestSecurityConfig.Role("fm").indexPermissions("read").maskedFields("secret").on("*"),
+                new TestSecurityConfig.Role("fm_sha").indexPermissions("read").maskedFields("secret::SHA-256").on("*")
+            ),
+            METADATA
+        );
+
+        List<String> roles = List.of("dls_a", "dls_b", "fls_excluding", "fls_including", "fm", "fm_sha");
+
+        for (String role1 : roles) {
+            for (String role2 : roles) {
+                if (!role1.equals(role2)) {
+                    assertNotEquals(
+                        role1 + " vs " + role2,
+                        DlsFlsRequestCacheKey.of(ctx(METADATA, role1), config, INDICES),
+                        DlsFlsRequestCacheKey.of(ctx(METADATA, role2), config, INDICES)
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void swappedRestrictionsOnIndices() throws Exception {
+        DlsFlsProcessedConfig config = dlsFlsProcessedConfig(
+            TestSecurityConfig.Role.toRolesConfiguration(
+                new TestSecurityConfig.Role("role_1").indexPermissions("read")
+                    .dls("{\"term\":{\"dept\":\"a\"}}")
+                    .on("index_a")
+                    .indexPermissions("read")
+                    .dls("{\"term\":{\"dept\":\"b\"}}")
+                    .on("index_b"),
+                new TestSecurityConfig.Role("role_2").indexPermissions("read")
+                    .dls("{\"term\":{\"dept\":\"b\"}}")
+                    .on("index_a")
+                    .indexPermissions("read")
+                    .dls("{\"term\":{\"dept\":\"a\"}}")
+                    .on("index_b")
+            ),
+            METADATA
+        );
+
+        assertNotEquals(
+            DlsFlsRequestCacheKey.of(ctx(METADATA, "role_1"), config, INDICES),
+            DlsFlsRequestCacheKey.of(ctx(METADATA, "role_2"), config, INDICES)
+        );
+    }
+
+    @Test
+    public void userAttributes() throws Exception {
+        DlsFlsProcessedConfig config = dlsFlsProcessedConfig(
+            TestSecurityConfig.Role.toRolesConfiguration(
+                new TestSecurityConfig.Role("role").indexPermissions("read").dls("{\"term\":{\"dept\":\"${attr.internal.dept}\"}}").on("*")
+            ),
+            METADATA
+        );
+
+        DlsFlsRequestCacheKey keyA1 = DlsFlsRequestCacheKey.of(userCtx("user_1", "a"), config, INDICES);
+        DlsFlsRequestCacheKey keyA2 = DlsFlsRequestCacheKey.of(userCtx("user_2", "a"), config, INDICES);
+        DlsFlsRequestCacheKey keyB = DlsFlsRequestCacheKey.of(userCtx("user_3", "b"), config, INDICES);
+
+        assertEquals(keyA1, keyA2);
+        assertNotEquals(keyA1, keyB);
+    }
+
+    @Test
+    public void applyToAndRemoveFrom() throws Exception {
+        SearchRequest searchRequest = new SearchRequest("index_a").source(new SearchSourceBuilder());
+
+        new DlsFlsRequestCacheKey("a").applyTo(searchRequest);
+        new DlsFlsRequestCacheKey("b").applyTo(searchRequest);
+        assertEquals(List.of(new DlsFlsRequestCacheKey("b")), searchRequest.source().ext());
+
+        DlsFlsRequestCacheKey.removeFrom(searchRequest);
+        assertTrue(searchRequest.source().ext().isEmpty());
+    }
+
+    @Test
+    public void serialization() throws Exception {
+        DlsFlsRequestCacheKey key = new DlsFlsRequestCacheKey("fingerprint");
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            key.writeTo(out);
+            assertEquals(key, new DlsFlsRequestCacheKey(out.bytes().streamInput()));
+        }
+    }
+
+    @Test
+    public void fromXContent_rejected() {
+        assertThrows(IllegalArgumentException.class, () -> DlsFlsRequestCacheKey.fromXContent(null));
+    }
+
+    static PrivilegesEvaluationContext userCtx(String userName, String dept) {
+        User user = new User(userName).withAttributes(Map.of("attr.internal.dept", dept));
+        ClusterState clusterState = ClusterState.builder(ClusterState.EMPTY_STATE).metadata(METADATA).build();
+
+        return new PrivilegesEvaluationContext(
+            user,
+            ImmutableSet.of("role"),
+            null,
+            null,
+            null,
+            null,
+            new IndexNameExpressionResolver(new ThreadContext(Settings.EMPTY)),
+            () -> clusterState,
+            ActionPrivileges.EMPTY
+        );
+    }
+}
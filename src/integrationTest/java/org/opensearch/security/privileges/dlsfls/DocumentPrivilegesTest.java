@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import com.google.common.cache.Cache;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import org.hamcrest.BaseMatcher;
@@ -55,6 +56,7 @@ import org.opensearch.security.privileges.ActionPrivileges;
 import org.opensearch.security.privileges.PrivilegesConfigurationValidationException;
 import org.opensearch.security.privileges.PrivilegesEvaluationContext;
 import org.opensearch.security.privileges.PrivilegesEvaluationException;
+import org.opensearch.security.privileges.UserAttributes;
 import org.opensearch.security.privileges.actionlevel.RoleBasedActionPrivileges;
 import org.opensearch.security.resolver.IndexResolverReplacer;
 import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
@@ -70,6 +72,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -1175,6 +1178,31 @@ public class DocumentPrivilegesTest {
                 .evaluate(MockPrivilegeEvaluationContextBuilder.ctx().get());
         }
 
+        @Test
+        public void templatedQuery_cached() throws Exception {
+            Cache<String, DocumentPrivileges.RenderedDlsQuery> cache = UserAttributes.createRenderedTemplateCache(Settings.EMPTY);
+            DocumentPrivileges.DlsQuery query = DocumentPrivileges.DlsQuery.create(
+                "{\"term\": {\"dept\": \"${attr.attr_a}\"}}",
+                xContentRegistry,
+                cache
+            );
+
+            DocumentPrivileges.RenderedDlsQuery rendered1 = query.evaluate(
+                MockPrivilegeEvaluationContextBuilder.ctx().attr("attr.attr_a", "a").get()
+            );
+            DocumentPrivileges.RenderedDlsQuery rendered2 = query.evaluate(
+                MockPrivilegeEvaluationContextBuilder.ctx().attr("attr.attr_a", "a").get()
+            );
+            DocumentPrivileges.RenderedDlsQuery rendered3 = query.evaluate(
+                MockPrivilegeEvaluationContextBuilder.ctx().attr("attr.attr_a", "b").get()
+            );
+
+            assertSame(rendered1, rendered2);
+            assertNotEquals(rendered1.getRenderedSource(), rendered3.getRenderedSource());
+            assertEquals(new TermQueryBuilder("dept", "b"), rendered3.getQueryBuilder());
+            assertEquals(2, cache.size());
+        }
+
         @Test
         public void equals() throws Exception {
             DocumentPrivileges.DlsQuery query1a = DocumentPrivileges.DlsQuery.create(
@@ -36,6 +36,7 @@ import static org.opensearch.security.util.MockIndexMetadataBuilder.indices;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -103,6 +104,27 @@ public class FieldMaskingTest {
             assertNull("masked_field_a be unrestricted", rule.get("masked_field_a"));
         }
 
+        @Test
+        public void compile_ruleOrderMatters() throws Exception {
+            FieldMasking subject = createSubject(roleConfig());
+            FieldMasking.FieldMaskingRule.SimpleRule sha256 = (FieldMasking.FieldMaskingRule.SimpleRule) FieldMasking.FieldMaskingRule.of(
+                FieldMasking.Config.DEFAULT,
+                "field::SHA-256"
+            );
+            FieldMasking.FieldMaskingRule.SimpleRule sha512 = (FieldMasking.FieldMaskingRule.SimpleRule) FieldMasking.FieldMaskingRule.of(
+                FieldMasking.Config.DEFAULT,
+                "field::SHA-512"
+            );
+
+            FieldMasking.FieldMaskingRule first = subject.compile(ctx(), Arrays.asList(sha256, sha512));
+            FieldMasking.FieldMaskingRule second = subject.compile(ctx(), Arrays.asList(sha512, sha256));
+
+            // the first matching rule wins, so the two orders must not share a compiled rule
+            assertEquals("SHA-256", first.get("field").getExpression().getAlgoName());
+            assertEquals("SHA-512", second.get("field").getExpression().getAlgoName());
+            assertSame(first, subject.compile(ctx(), Arrays.asList(sha256, sha512)));
+        }
+
         static SecurityDynamicConfiguration<RoleV7> roleConfig(TestSecurityConfig.Role... roles) {
             return TestSecurityConfig.Role.toRolesConfiguration(roles);
         }
@@ -171,6 +193,32 @@ public class FieldMaskingTest {
             assertEquals("c3ab8ff13720e8ad9047dd39466b3c8974e592c2fa383d4a3960714caef0c4f2", field.apply("foobar"));
         }
 
+        @Test
+        public void repeatedValues() throws Exception {
+            FieldMasking.FieldMaskingExpression expression = new FieldMasking.FieldMaskingExpression("field_*");
+            FieldMasking.FieldMaskingRule.Field field = new FieldMasking.FieldMaskingRule.Field(expression, FieldMasking.Config.DEFAULT);
+
+            assertEquals("c042e214a8b49561577445be44c188a8e6274006b36cd0c6fba5312253cf9293", field.apply("foobar"));
+            assertEquals("ff78e3440382e45e8056a9c4c22c7521f5352e09859cf657e8efeff985acb876", field.apply("barfoo"));
+            assertEquals("c042e214a8b49561577445be44c188a8e6274006b36cd0c6fba5312253cf9293", field.apply("foobar"));
+
+            byte[] masked = field.apply("foobar".getBytes(StandardCharsets.UTF_8));
+            masked[0] = 'x';
+            assertEquals("c042e214a8b49561577445be44c188a8e6274006b36cd0c6fba5312253cf9293", field.apply("foobar"));
+        }
+
+        @Test
+        public void repeatedValues_explicitAlgorithm() throws Exception {
+            FieldMasking.FieldMaskingExpression expression = new FieldMasking.FieldMaskingExpression("field_*::SHA-256");
+            FieldMasking.FieldMaskingRule.Field field = new FieldMasking.FieldMaskingRule.Field(expression, FieldMasking.Config.DEFAULT);
+            String longValue = "x".repeat(300);
+
+            assertEquals("c3ab8ff13720e8ad9047dd39466b3c8974e592c2fa383d4a3960714caef0c4f2", field.apply("foobar"));
+            assertEquals("0d4e2ca9e9cbced7a7a5380eb29e1a3783b9b6d0db72de36a1051038e1c1fbc7", field.apply(longValue));
+            assertEquals("c3ab8ff13720e8ad9047dd39466b3c8974e592c2fa383d4a3960714caef0c4f2", field.apply("foobar"));
+            assertEquals("0d4e2ca9e9cbced7a7a5380eb29e1a3783b9b6d0db72de36a1051038e1c1fbc7", field.apply(longValue));
+        }
+
         @Test
         public void explicitAlgorithm() throws Exception {
             FieldMasking.FieldMaskingExpression expression = new FieldMasking.FieldMaskingExpression("field_*::SHA-256");
@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.privileges.dlsfls;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FieldPathTrieTest {
+
+    @Test
+    public void mayMatchDescendantOf_literalPatterns() {
+        FieldPathTrie trie = new FieldPathTrie(List.of("a.b.c", "d"));
+
+        assertTrue(trie.mayMatchDescendantOf("a"));
+        assertTrue(trie.mayMatchDescendantOf("a.b"));
+        assertFalse(trie.mayMatchDescendantOf("a.b.c"));
+        assertFalse(trie.mayMatchDescendantOf("a.x"));
+        assertFalse(trie.mayMatchDescendantOf("d"));
+        assertFalse(trie.mayMatchDescendantOf("e"));
+    }
+
+    @Test
+    public void mayMatchDescendantOf_wildcardPatterns() {
+        FieldPathTrie trie = new FieldPathTrie(List.of("a.b*"));
+
+        assertTrue(trie.mayMatchDescendantOf("a"));
+        assertTrue(trie.mayMatchDescendantOf("a.bc"));
+        assertFalse(trie.mayMatchDescendantOf("x"));
+
+        assertTrue(new FieldPathTrie(List.of("*.secret")).mayMatchDescendantOf("x"));
+        assertTrue(new FieldPathTrie(List.of("/a.*/")).mayMatchDescendantOf("x"));
+    }
+
+    @Test
+    public void matchesAllDescendantsOf() {
+        FieldPathTrie trie = new FieldPathTrie(List.of("a.*", "b.c*", "d.e"));
+
+        assertTrue(trie.matchesAllDescendantsOf("a"));
+        assertTrue(trie.matchesAllDescendantsOf("a.x.y"));
+        assertTrue(trie.matchesAllDescendantsOf("b.c"));
+        assertTrue(trie.matchesAllDescendantsOf("b.cd"));
+        assertFalse(trie.matchesAllDescendantsOf("b"));
+        assertFalse(trie.matchesAllDescendantsOf("b.x"));
+        assertFalse(trie.matchesAllDescendantsOf("d"));
+        assertFalse(trie.matchesAllDescendantsOf("d.e"));
+    }
+}
@@ -141,6 +141,24 @@ public class FieldPrivilegesTest {
             assertTrue("other_field should be allowed", rule.isAllowedAssumingParentsAreAllowed("other_field"));
         }
 
+        @Test
+        public void indexPattern_joined_reusesMergedRule() throws Exception {
+            SecurityDynamicConfiguration<RoleV7> roleConfig = roleConfig(
+                new TestSecurityConfig.Role("fls_role_1").indexPermissions("*").fls("included_field_a").on("index_a*"),
+                new TestSecurityConfig.Role("fls_role_2").indexPermissions("*").fls("included_field_a1_*").on("index_a1")
+            );
+
+            FieldPrivileges subject = createSubject(roleConfig);
+
+            FieldPrivileges.FlsRule rule1 = subject.getRestriction(ctx("fls_role_1", "fls_role_2"), "index_a1");
+            FieldPrivileges.FlsRule rule2 = subject.getRestriction(ctx("fls_role_2", "fls_role_1"), "index_a1");
+            assertTrue("Merged rule should be re-used", rule1 == rule2);
+            assertTrue(rule2.isAllowedRecursive("included_field_a1_foo"));
+            assertTrue(rule2.isAllowedRecursive("included_field_a1_foo"));
+            assertFalse(rule2.isAllowedRecursive("other_field"));
+            assertFalse(rule2.isAllowedRecursive("other_field"));
+        }
+
         static SecurityDynamicConfiguration<RoleV7> roleConfig(TestSecurityConfig.Role... roles) {
             return TestSecurityConfig.Role.toRolesConfiguration(roles);
         }
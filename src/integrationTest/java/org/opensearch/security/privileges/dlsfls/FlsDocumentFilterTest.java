@@ -16,6 +16,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Assert;
 import org.junit.Test;
 
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 public class FlsDocumentFilterTest {
@@ -361,6 +364,145 @@ public class FlsDocumentFilterTest {
         assertJsonStructurallyEquivalent(expectedDocument, result);
     }
 
+    @Test
+    public void filterObject_inclusionOfWholeSubtree() throws Exception {
+        String sourceDocument = """
+            {
+                "a": 41,
+                "b": {
+                    "x": 123,
+                    "y": {
+                        "z": [1, {"w": 12345678901234567890123456789012345678901234567890.123456789}]
+                    }
+                },
+                "c": 43
+            }
+            """;
+
+        byte[] result = FlsDocumentFilter.filter(
+            sourceDocument.getBytes(UTF_8),
+            FieldPrivileges.FlsRule.of("b", "b.*"),
+            FieldMasking.FieldMaskingRule.ALLOW_ALL,
+            ImmutableSet.of()
+        );
+
+        String expectedDocument = """
+            {
+                "b": {
+                    "x": 123,
+                    "y": {
+                        "z": [1, {"w": 12345678901234567890123456789012345678901234567890.123456789}]
+                    }
+                }
+            }
+            """;
+
+        assertJsonStructurallyEquivalent(expectedDocument, result);
+    }
+
+    @Test
+    public void filterObjectAttribute_exclusionNextToUnaffectedObject() throws Exception {
+        String sourceDocument = """
+            {
+                "a": {
+                    "x": 1,
+                    "y": {
+                        "x": 2
+                    }
+                },
+                "b": {
+                    "x": 123,
+                    "y": 456
+                }
+            }
+            """;
+
+        byte[] result = FlsDocumentFilter.filter(
+            sourceDocument.getBytes(UTF_8),
+            FieldPrivileges.FlsRule.of("~b.x"),
+            FieldMasking.FieldMaskingRule.ALLOW_ALL,
+            ImmutableSet.of()
+        );
+
+        String expectedDocument = """
+            {
+                "a": {
+                    "x": 1,
+                    "y": {
+                        "x": 2
+                    }
+                },
+                "b": {
+                    "y": 456
+                }
+            }
+            """;
+
+        assertJsonStructurallyEquivalent(expectedDocument, result);
+    }
+
+    @Test
+    public void maskArrayAttribute() throws Exception {
+        String sourceDocument = """
+            {
+                "a": "x",
+                "b": ["y1", "y1"]
+            }
+            """;
+
+        byte[] result = FlsDocumentFilter.filter(
+            sourceDocument.getBytes(UTF_8),
+            FieldPrivileges.FlsRule.ALLOW_ALL,
+            FieldMasking.FieldMaskingRule.of(FieldMasking.Config.DEFAULT, "b"),
+            ImmutableSet.of()
+        );
+
+        String expectedDocument = """
+            {
+                "a": "x",
+                "b": [
+                   "f16d01664d4270a4f39cdba8c89ac024380b5f249f0fbec1049497bc745cf30f",
+                   "f16d01664d4270a4f39cdba8c89ac024380b5f249f0fbec1049497bc745cf30f"
+                ]
+            }
+            """;
+
+        assertJsonStructurallyEquivalent(expectedDocument, result);
+    }
+
+    @Test
+    public void filterBytesReference() throws Exception {
+        String sourceDocument = """
+            {
+                "a": 41,
+                "b": {
+                    "x": 123,
+                    "y": 456
+                },
+                "c": "z"
+            }
+            """;
+
+        BytesReference result = FlsDocumentFilter.filter(
+            new BytesArray(sourceDocument),
+            FieldPrivileges.FlsRule.of("~b.x"),
+            FieldMasking.FieldMaskingRule.of(FieldMasking.Config.DEFAULT, "c"),
+            ImmutableSet.of()
+        );
+
+        String expectedDocument = """
+            {
+                "a": 41,
+                "b": {
+                    "y": 456
+                },
+                "c": "a343a23a797a8f39d52609674f94d0f3a857f12ed6a209b5cb7402501ba5c765"
+            }
+            """;
+
+        assertJsonStructurallyEquivalent(expectedDocument, BytesReference.toBytes(result));
+    }
+
     private static void assertJsonStructurallyEquivalent(String expected, byte[] actual) throws Exception {
         ObjectMapper objectMapper = new ObjectMapper();
 
@@ -11,9 +11,11 @@
 
 package org.opensearch.security.support;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -22,6 +24,8 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import org.opensearch.common.settings.Settings;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
@@ -225,6 +229,77 @@ public class WildcardMatcherTest {
         assertFalse(subject2.test(base2 + "_more"));
     }
 
+    @Test
+    public void combined_automaton() {
+        List<String> patterns = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            patterns.add("index_" + i);
+            patterns.add("logs-" + i + "-*");
+        }
+        patterns.add("*audit*");
+        patterns.add("metrics-*-2024.*.1*");
+        patterns.add("trace-?");
+        patterns.add("/regex_[0-9]+/");
+
+        WildcardMatcher subject = applyCase(WildcardMatcher.from(patterns));
+        assertTrue(subject instanceof WildcardMatcher.MatcherCombiner);
+        assertEquals(!ignoreCase, ((WildcardMatcher.MatcherCombiner) subject).isCompiledToAutomaton());
+
+        List<String> candidates = List.of(
+            "index_1",
+            "index_39",
+            "index_40",
+            "index_1_x",
+            "INDEX_1",
+            "logs-5-2024",
+            "logs-5-",
+            "logs-5",
+            "Logs-5-x",
+            "my-audit-log",
+            "my-AUDIT-log",
+            "metrics-a-2024.1.1",
+            "metrics-a-b-2024.12.10",
+            "metrics-a-2024.1.2",
+            "trace-1",
+            "trace-12",
+            "regex_123",
+            "regex_x",
+            "",
+            "\uD83D\uDE00"
+        );
+
+        for (String candidate : candidates) {
+            boolean expected = patterns.stream().map(WildcardMatcher::from).map(this::applyCase).anyMatch(m -> m.test(candidate));
+            assertEquals(candidate, expected, subject.test(candidate));
+        }
+    }
+
+    @Test
+    public void combined_automatonDisabled() {
+        List<String> patterns = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            patterns.add("index_" + i + "*");
+        }
+
+        WildcardMatcher.setAutomatonThreshold(0);
+        try {
+            WildcardMatcher subject = WildcardMatcher.from(patterns);
+            assertFalse(((WildcardMatcher.MatcherCombiner) subject).isCompiledToAutomaton());
+            assertTrue(subject.test("index_39_x"));
+            assertEquals(WildcardMatcher.from(patterns), subject);
+        } finally {
+            WildcardMatcher.setAutomatonThreshold(WildcardMatcher.AUTOMATON_THRESHOLD.getDefault(Settings.EMPTY));
+        }
+    }
+
+    @Test
+    public void getAllMatchingPatterns() {
+        List<WildcardMatcher> matchers = WildcardMatcher.matchers(List.of("a*", "ab*", "b*"));
+        assertEquals(List.of("a*", "ab*"), WildcardMatcher.getAllMatchingPatterns(matchers, "abc"));
+        assertEquals(List.of(), WildcardMatcher.getAllMatchingPatterns(matchers, "c"));
+        assertEquals(List.of("a*", "b*"), WildcardMatcher.getAllMatchingPatterns(matchers, List.of("ac", "bc")));
+    }
+
     public WildcardMatcherTest(boolean ignoreCase) {
         this.ignoreCase = ignoreCase;
     }
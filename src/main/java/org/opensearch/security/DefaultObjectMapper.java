@@ -50,6 +50,7 @@ import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 
 import org.opensearch.SpecialPermission;
@@ -81,6 +82,7 @@ public class DefaultObjectMapper {
     public static final ObjectMapper objectMapper = new ObjectMapper();
     public final static ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
     private static final ObjectMapper defaulOmittingObjectMapper = new ObjectMapper();
+    private static final ObjectMapper sensitiveRedactingObjectMapper = new ObjectMapper();
 
     static {
         objectMapper.setSerializationInclusion(Include.NON_NULL);
@@ -95,6 +97,7 @@ public class DefaultObjectMapper {
         defaulOmittingObjectMapper.setSerializationInclusion(Include.NON_DEFAULT);
         defaulOmittingObjectMapper.enable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION);
         YAML_MAPPER.enable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION);
+        sensitiveRedactingObjectMapper.registerModule(new SimpleModule().addSerializer(new ConfigMapSerializer()));
     }
 
     private DefaultObjectMapper() {}
@@ -216,19 +219,76 @@ public class DefaultObjectMapper {
             sm.checkPermission(new SpecialPermission());
         }
 
-        SimpleModule module = new SimpleModule();
-        module.addSerializer(new ConfigMapSerializer());
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(module);
+        try {
+            return AccessController.doPrivileged(
+                (PrivilegedExceptionAction<String>) () -> sensitiveRedactingObjectMapper.writeValueAsString(value)
+            );
+        } catch (final PrivilegedActionException e) {
+            throw (JsonProcessingException) e.getCause();
+        }
+
+    }
+
+    @SuppressWarnings("removal")
+    public static byte[] writeValueAsBytes(Object value, boolean omitDefaults) throws JsonProcessingException {
+
+        final SecurityManager sm = System.getSecurityManager();
+
+        if (sm != null) {
+            sm.checkPermission(new SpecialPermission());
+        }
 
         try {
-            return AccessController.doPrivileged((PrivilegedExceptionAction<String>) () -> mapper.writeValueAsString(value));
+            return AccessController.doPrivileged(
+                (PrivilegedExceptionAction<byte[]>) () -> (omitDefaults ? defaulOmittingObjectMapper : objectMapper).writeValueAsBytes(
+                    value
+                )
+            );
         } catch (final PrivilegedActionException e) {
             throw (JsonProcessingException) e.getCause();
         }
 
     }
 
+    /**
+     * Copies the given value into a new instance of the given type. The value is serialized into a token buffer
+     * instead of a JSON string, which avoids encoding and parsing the JSON text.
+     */
+    public static <T> T copyValue(Object value, JavaType jt) throws IOException {
+        return copyValue(objectMapper, value, jt);
+    }
+
+    /**
+     * Like {@link #copyValue(Object, JavaType)}, but redacts sensitive values like
+     * {@link #writeValueAsStringAndRedactSensitive(Object)} does.
+     */
+    public static <T> T copyValueAndRedactSensitive(Object value, JavaType jt) throws IOException {
+        return copyValue(sensitiveRedactingObjectMapper, value, jt);
+    }
+
+    @SuppressWarnings("removal")
+    private static <T> T copyValue(ObjectMapper writingObjectMapper, Object value, JavaType jt) throws IOException {
+
+        final SecurityManager sm = System.getSecurityManager();
+
+        if (sm != null) {
+            sm.checkPermission(new SpecialPermission());
+        }
+
+        try {
+            return AccessController.doPrivileged((PrivilegedExceptionAction<T>) () -> {
+                try (TokenBuffer buffer = new TokenBuffer(writingObjectMapper, false)) {
+                    writingObjectMapper.writeValue(buffer, value);
+                    try (JsonParser parser = buffer.asParser(objectMapper)) {
+                        return objectMapper.readValue(parser, jt);
+                    }
+                }
+            });
+        } catch (final PrivilegedActionException e) {
+            throw (IOException) e.getCause();
+        }
+    }
+
     @SuppressWarnings("removal")
     public static <T> T readValue(String string, TypeReference<T> tr) throws IOException {
 
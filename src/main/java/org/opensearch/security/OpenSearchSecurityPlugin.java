@@ -123,6 +123,7 @@ import org.opensearch.plugins.ExtensionAwarePlugin;
 import org.opensearch.plugins.IdentityPlugin;
 import org.opensearch.plugins.MapperPlugin;
 import org.opensearch.plugins.Plugin;
+import org.opensearch.plugins.SearchPlugin;
 import org.opensearch.plugins.SecureHttpTransportSettingsProvider;
 import org.opensearch.plugins.SecureSettingsFactory;
 import org.opensearch.plugins.SecureTransportSettingsProvider;
@@ -146,12 +147,14 @@ import org.opensearch.security.auditlog.NullAuditLog;
 import org.opensearch.security.auditlog.config.AuditConfig.Filter.FilterEntries;
 import org.opensearch.security.auditlog.impl.AuditLogImpl;
 import org.opensearch.security.auth.BackendRegistry;
+import org.opensearch.security.compliance.ComplianceConfig;
 import org.opensearch.security.compliance.ComplianceIndexingOperationListener;
 import org.opensearch.security.compliance.ComplianceIndexingOperationListenerImpl;
 import org.opensearch.security.configuration.AdminDNs;
 import org.opensearch.security.configuration.ClusterInfoHolder;
 import org.opensearch.security.configuration.CompatConfig;
 import org.opensearch.security.configuration.ConfigurationRepository;
+import org.opensearch.security.configuration.DlsBitSetCache;
 import org.opensearch.security.configuration.DlsFlsRequestValve;
 import org.opensearch.security.configuration.DlsFlsValveImpl;
 import org.opensearch.security.configuration.PrivilegesInterceptorImpl;
@@ -173,17 +176,25 @@ import org.opensearch.security.privileges.PrivilegesEvaluationException;
 import org.opensearch.security.privileges.PrivilegesEvaluator;
 import org.opensearch.security.privileges.PrivilegesInterceptor;
 import org.opensearch.security.privileges.RestLayerPrivilegesEvaluator;
+import org.opensearch.security.privileges.UserAttributes;
 import org.opensearch.security.privileges.actionlevel.RoleBasedActionPrivileges;
 import org.opensearch.security.privileges.dlsfls.DlsFlsBaseContext;
+import org.opensearch.security.privileges.dlsfls.DlsFlsRequestCacheKey;
 import org.opensearch.security.resolver.IndexResolverReplacer;
 import org.opensearch.security.resources.ResourceAccessControlClient;
 import org.opensearch.security.resources.ResourceAccessHandler;
 import org.opensearch.security.resources.ResourceIndexListener;
 import org.opensearch.security.resources.ResourcePluginInfo;
+import org.opensearch.security.resources.ResourceSharingCache;
 import org.opensearch.security.resources.ResourceSharingIndexHandler;
+import org.opensearch.security.resources.api.cache.InvalidateResourceSharingCacheAction;
+import org.opensearch.security.resources.api.cache.TransportInvalidateResourceSharingCacheAction;
 import org.opensearch.security.resources.api.share.ShareAction;
 import org.opensearch.security.resources.api.share.ShareRestAction;
 import org.opensearch.security.resources.api.share.ShareTransportAction;
+import org.opensearch.security.resources.migrate.MigrateResourceSharingInfoAction;
+import org.opensearch.security.resources.migrate.MigrateResourceSharingInfoTask;
+import org.opensearch.security.resources.migrate.TransportMigrateResourceSharingInfoAction;
 import org.opensearch.security.rest.DashboardsInfoAction;
 import org.opensearch.security.rest.SecurityConfigUpdateAction;
 import org.opensearch.security.rest.SecurityHealthAction;
@@ -191,7 +202,6 @@ import org.opensearch.security.rest.SecurityInfoAction;
 import org.opensearch.security.rest.SecurityWhoAmIAction;
 import org.opensearch.security.rest.TenantInfoAction;
 import org.opensearch.security.securityconf.DynamicConfigFactory;
-import org.opensearch.security.securityconf.impl.CType;
 import org.opensearch.security.securityconf.impl.v7.RoleV7;
 import org.opensearch.security.setting.OpensearchDynamicSetting;
 import org.opensearch.security.setting.TransportPassiveAuthSetting;
@@ -211,6 +221,7 @@ import org.opensearch.security.support.HeaderHelper;
 import org.opensearch.security.support.ModuleInfo;
 import org.opensearch.security.support.ReflectionHelper;
 import org.opensearch.security.support.SecuritySettings;
+import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.transport.DefaultInterClusterRequestEvaluator;
 import org.opensearch.security.transport.InterClusterRequestEvaluator;
 import org.opensearch.security.transport.SecurityInterceptor;
@@ -219,6 +230,7 @@ import org.opensearch.security.user.UserFactory;
 import org.opensearch.security.user.UserService;
 import org.opensearch.tasks.Task;
 import org.opensearch.telemetry.tracing.Tracer;
+import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.RemoteClusterService;
 import org.opensearch.transport.Transport;
@@ -253,6 +265,7 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
     implements
         ClusterPlugin,
         MapperPlugin,
+        SearchPlugin,
         IdentityPlugin,
         // CS-SUPPRESS-SINGLE: RegexpSingleline get Extensions Settings
         ExtensionAwarePlugin,
@@ -290,10 +303,12 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
     private volatile IndexResolverReplacer irr;
     private final AtomicReference<NamedXContentRegistry> namedXContentRegistry = new AtomicReference<>(NamedXContentRegistry.EMPTY);;
     private volatile DlsFlsRequestValve dlsFlsValve = null;
+    private volatile DlsBitSetCache dlsBitSetCache = null;
     private volatile OpensearchDynamicSetting<Boolean> transportPassiveAuthSetting;
     private volatile PasswordHasher passwordHasher;
     private volatile DlsFlsBaseContext dlsFlsBaseContext;
     private ResourceSharingIndexHandler rsIndexHandler;
+    private ResourceSharingCache resourceSharingCache;
     private final ResourcePluginInfo resourcePluginInfo = new ResourcePluginInfo();
     // CS-SUPPRESS-SINGLE: RegexpSingleline get Extensions Settings
     private final Set<ResourceSharingExtension> resourceSharingExtensions = new HashSet<>();
@@ -367,6 +382,8 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             return;
         }
 
+        WildcardMatcher.setAutomatonThreshold(WildcardMatcher.AUTOMATON_THRESHOLD.get(settings));
+
         if (settings.hasValue(SSLConfigConstants.SECURITY_SSL_HTTP_ENABLED_PROTOCOLS)) {
             verifyTLSVersion(
                 SSLConfigConstants.SECURITY_SSL_HTTP_ENABLED_PROTOCOLS,
@@ -686,8 +703,7 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                         sslSettingsManager,
                         Objects.requireNonNull(userService),
                         sslCertReloadEnabled,
-                        passwordHasher,
-                        rsIndexHandler
+                        passwordHasher
                     )
                 );
 
@@ -726,10 +742,16 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                 actions.add(new ActionHandler<>(CertificatesActionType.INSTANCE, TransportCertificatesInfoNodesAction.class));
             }
             actions.add(new ActionHandler<>(WhoAmIAction.INSTANCE, TransportWhoAmIAction.class));
+            actions.add(
+                new ActionHandler<>(MigrateResourceSharingInfoAction.INSTANCE, TransportMigrateResourceSharingInfoAction.class)
+            );
 
             // transport action to handle sharing info update
             if (settings.getAsBoolean(ConfigConstants.OPENSEARCH_RESOURCE_SHARING_ENABLED, OPENSEARCH_RESOURCE_SHARING_ENABLED_DEFAULT)) {
                 actions.add(new ActionHandler<>(ShareAction.INSTANCE, ShareTransportAction.class));
+                actions.add(
+                    new ActionHandler<>(InvalidateResourceSharingCacheAction.INSTANCE, TransportInvalidateResourceSharingCacheAction.class)
+                );
             }
 
         }
@@ -756,7 +778,8 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                     ciol,
                     evaluator,
                     dlsFlsValve::getCurrentConfig,
-                    dlsFlsBaseContext
+                    dlsFlsBaseContext,
+                    dlsBitSetCache
                 )
             );
 
@@ -765,7 +788,7 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                 ConfigConstants.OPENSEARCH_RESOURCE_SHARING_ENABLED_DEFAULT
             )) {
                 // Listening on POST and DELETE operations in resource indices
-                ResourceIndexListener resourceIndexListener = new ResourceIndexListener(threadPool, localClient);
+                ResourceIndexListener resourceIndexListener = new ResourceIndexListener(threadPool, rsIndexHandler);
                 // CS-SUPPRESS-SINGLE: RegexpSingleline get Resource Sharing Extensions
                 Set<String> resourceIndices = resourcePluginInfo.getResourceIndices();
                 // CS-ENFORCE-SINGLE
@@ -1168,7 +1191,15 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
 
         final CompatConfig compatConfig = new CompatConfig(environment, transportPassiveAuthSetting);
 
-        rsIndexHandler = new ResourceSharingIndexHandler(localClient, threadPool);
+        if (settings.getAsBoolean(
+            ConfigConstants.OPENSEARCH_RESOURCE_SHARING_ENABLED,
+            ConfigConstants.OPENSEARCH_RESOURCE_SHARING_ENABLED_DEFAULT
+        )) {
+            resourceSharingCache = new ResourceSharingCache(settings);
+        } else {
+            resourceSharingCache = ResourceSharingCache.DISABLED;
+        }
+        rsIndexHandler = new ResourceSharingIndexHandler(localClient, clusterService, threadPool, resourceSharingCache);
         evaluator = new PrivilegesEvaluator(
             clusterService,
             clusterService::state,
@@ -1197,10 +1228,14 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                 threadPool,
                 dlsFlsBaseContext
             );
-            cr.subscribeOnChange(configMap -> { ((DlsFlsValveImpl) dlsFlsValve).updateConfiguration(cr.getConfiguration(CType.ROLES)); });
+            dlsBitSetCache = new DlsBitSetCache(settings);
+            cr.subscribeOnChange(DlsFlsValveImpl.rolesChangeListener(cr, (DlsFlsValveImpl) dlsFlsValve, dlsBitSetCache));
         }
 
         ResourceAccessHandler resourceAccessHandler = new ResourceAccessHandler(threadPool, rsIndexHandler, adminDns, evaluator);
+        components.add(rsIndexHandler);
+        // needed by the migration of resource sharing info, which is available regardless of the feature flag
+        components.add(resourcePluginInfo);
         if (settings.getAsBoolean(
             ConfigConstants.OPENSEARCH_RESOURCE_SHARING_ENABLED,
             ConfigConstants.OPENSEARCH_RESOURCE_SHARING_ENABLED_DEFAULT
@@ -1212,8 +1247,8 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             resourcePluginInfo.getResourceSharingExtensions().forEach(extension -> {
                 extension.assignResourceSharingClient(resourceAccessControlClient);
             });
-            components.add(resourcePluginInfo);
             components.add(resourceAccessHandler);
+            components.add(resourceSharingCache);
             // CS-ENFORCE-SINGLE
         }
 
@@ -1332,7 +1367,19 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
     public List<NamedWriteableRegistry.Entry> getNamedWriteables() {
         return List.of(
             new NamedWriteableRegistry.Entry(ClusterState.Custom.class, SecurityMetadata.TYPE, SecurityMetadata::new),
-            new NamedWriteableRegistry.Entry(NamedDiff.class, SecurityMetadata.TYPE, SecurityMetadata::readDiffFrom)
+            new NamedWriteableRegistry.Entry(NamedDiff.class, SecurityMetadata.TYPE, SecurityMetadata::readDiffFrom),
+            new NamedWriteableRegistry.Entry(
+                Task.Status.class,
+                MigrateResourceSharingInfoTask.Status.NAME,
+                MigrateResourceSharingInfoTask.Status::new
+            )
+        );
+    }
+
+    @Override
+    public List<SearchExtSpec<?>> getSearchExts() {
+        return List.of(
+            new SearchExtSpec<>(DlsFlsRequestCacheKey.NAME, DlsFlsRequestCacheKey::new, DlsFlsRequestCacheKey::fromXContent)
         );
     }
 
@@ -1354,6 +1401,15 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
         return builder.build();
     }
 
+    @Override
+    public List<ExecutorBuilder<?>> getExecutorBuilders(Settings settings) {
+        if (client || disabled || SSLConfig.isSslOnlyMode()) {
+            return Collections.emptyList();
+        }
+
+        return List.of(BackendRegistry.executorBuilder(settings));
+    }
+
     @Override
     public List<Setting<?>> getSettings() {
         List<Setting<?>> settings = new ArrayList<Setting<?>>();
@@ -1571,6 +1627,21 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             settings.add(Setting.boolSetting(ConfigConstants.SECURITY_DISABLED, false, Property.NodeScope, Property.Filtered));
 
             settings.add(SecuritySettings.CACHE_TTL_SETTING);
+            settings.add(
+                Setting.intSetting(ConfigConstants.SECURITY_CACHE_REFRESH_AFTER_MINUTES, 0, 0, Property.NodeScope, Property.Filtered)
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_CACHE_MAX_CONCURRENT_REFRESHES,
+                    ConfigConstants.SECURITY_CACHE_MAX_CONCURRENT_REFRESHES_DEFAULT,
+                    0,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.boolSetting(ConfigConstants.SECURITY_AUTHC_ASYNC_ENABLED, false, Property.NodeScope, Property.Filtered)
+            );
 
             // Security
             settings.add(
@@ -1597,6 +1668,16 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                                                                                                                                     // here
 
             settings.add(Setting.simpleString(ConfigConstants.SECURITY_ROLES_MAPPING_RESOLUTION, Property.NodeScope, Property.Filtered));
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_ROLES_MAPPING_CACHE_MAX_SIZE,
+                    ConfigConstants.SECURITY_ROLES_MAPPING_CACHE_MAX_SIZE_DEFAULT,
+                    0,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(Setting.intSetting(ConfigConstants.SECURITY_DNS_CACHE_TTL_SECONDS, 300, 0, Property.NodeScope, Property.Filtered));
             settings.add(
                 Setting.boolSetting(ConfigConstants.SECURITY_DISABLE_ENVVAR_REPLACEMENT, false, Property.NodeScope, Property.Filtered)
             );
@@ -1614,6 +1695,11 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                     Property.Filtered
                 )
             );
+            settings.add(Setting.boolSetting(ConfigConstants.SECURITY_AUDIT_BATCH_ENABLED, false, Property.NodeScope, Property.Filtered));
+            settings.add(Setting.intSetting(ConfigConstants.SECURITY_AUDIT_BATCH_MAX_SIZE, 500, 1, Property.NodeScope, Property.Filtered));
+            settings.add(
+                Setting.longSetting(ConfigConstants.SECURITY_AUDIT_BATCH_FLUSH_INTERVAL_MS, 1000, 1, Property.NodeScope, Property.Filtered)
+            );
             settings.add(
                 Setting.boolSetting(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_LOG_REQUEST_BODY, true, Property.NodeScope, Property.Filtered)
             );
@@ -2114,6 +2200,14 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                     Property.Filtered
                 )
             );
+            settings.add(
+                Setting.simpleString(
+                    ConfigConstants.SECURITY_COMPLIANCE_HISTORY_WRITE_DIFF_MODE,
+                    ComplianceConfig.WriteDiffMode.FULL.getValue(),
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
             settings.add(transportPassiveAuthSetting.getDynamicSetting());
 
             settings.add(
@@ -2207,6 +2301,13 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             // Privileges evaluation
             settings.add(RoleBasedActionPrivileges.PRECOMPUTED_PRIVILEGES_MAX_HEAP_SIZE);
             settings.add(RoleBasedActionPrivileges.PRECOMPUTED_PRIVILEGES_ENABLED);
+            settings.add(UserAttributes.RENDERED_TEMPLATE_CACHE_MAX_SIZE);
+            settings.add(WildcardMatcher.AUTOMATON_THRESHOLD);
+
+            // DLS
+            settings.add(DlsBitSetCache.ENABLED);
+            settings.add(DlsBitSetCache.MAX_HEAP_SIZE);
+            settings.add(DlsFlsRequestCacheKey.ENABLED);
 
             // Resource Sharing
             settings.add(
@@ -2217,6 +2318,24 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                     Property.Filtered
                 )
             );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.OPENSEARCH_RESOURCE_SHARING_CACHE_MAX_SIZE,
+                    ConfigConstants.OPENSEARCH_RESOURCE_SHARING_CACHE_MAX_SIZE_DEFAULT,
+                    0,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.OPENSEARCH_RESOURCE_SHARING_CACHE_TTL_MINUTES,
+                    ConfigConstants.OPENSEARCH_RESOURCE_SHARING_CACHE_TTL_MINUTES_DEFAULT,
+                    0,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
 
             settings.add(UserFactory.Caching.MAX_SIZE);
             settings.add(UserFactory.Caching.EXPIRE_AFTER_ACCESS);
@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.action.configupdate;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+/**
+ * The entries of a configuration type which were changed by a single write of its configuration document. It allows
+ * the nodes to apply the change to their configuration instead of reloading and parsing the whole configuration type.
+ * <p>
+ * A delta can only be applied to the configuration at the document version the write was based on. Nodes which
+ * have another version, e.g. because they missed an update, have to reload the configuration type.
+ */
+public class ConfigUpdateDelta implements Writeable {
+
+    private final long baseSeqNo;
+    private final long basePrimaryTerm;
+    private final long seqNo;
+    private final long primaryTerm;
+    private final Map<String, String> changedEntries;
+
+    /**
+     * @param baseSeqNo       sequence number of the configuration document the change is based on
+     * @param basePrimaryTerm primary term of the configuration document the change is based on
+     * @param seqNo           sequence number of the written configuration document
+     * @param primaryTerm     primary term of the written configuration document
+     * @param changedEntries  the JSON representations of the changed entries by their names; null for removed entries
+     */
+    public ConfigUpdateDelta(long baseSeqNo, long basePrimaryTerm, long seqNo, long primaryTerm, Map<String, String> changedEntries) {
+        this.baseSeqNo = baseSeqNo;
+        this.basePrimaryTerm = basePrimaryTerm;
+        this.seqNo = seqNo;
+        this.primaryTerm = primaryTerm;
+        this.changedEntries = Collections.unmodifiableMap(new HashMap<>(changedEntries));
+    }
+
+    public ConfigUpdateDelta(StreamInput in) throws IOException {
+        this.baseSeqNo = in.readZLong();
+        this.basePrimaryTerm = in.readZLong();
+        this.seqNo = in.readZLong();
+        this.primaryTerm = in.readZLong();
+        this.changedEntries = in.readMap(StreamInput::readString, StreamInput::readOptionalString);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeZLong(baseSeqNo);
+        out.writeZLong(basePrimaryTerm);
+        out.writeZLong(seqNo);
+        out.writeZLong(primaryTerm);
+        out.writeMap(changedEntries, StreamOutput::writeString, StreamOutput::writeOptionalString);
+    }
+
+    public long getBaseSeqNo() {
+        return baseSeqNo;
+    }
+
+    public long getBasePrimaryTerm() {
+        return basePrimaryTerm;
+    }
+
+    public long getSeqNo() {
+        return seqNo;
+    }
+
+    public long getPrimaryTerm() {
+        return primaryTerm;
+    }
+
+    public Map<String, String> getChangedEntries() {
+        return changedEntries;
+    }
+}
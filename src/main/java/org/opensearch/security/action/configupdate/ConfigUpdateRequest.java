@@ -38,6 +38,7 @@ public class ConfigUpdateRequest extends BaseNodesRequest<ConfigUpdateRequest> {
 
     private String[] configTypes;
     private String[] entityNames;
+    private ConfigUpdateDelta delta;
 
     public ConfigUpdateRequest(StreamInput in) throws IOException {
         super(in);
@@ -45,6 +46,9 @@ public class ConfigUpdateRequest extends BaseNodesRequest<ConfigUpdateRequest> {
         if (in.getVersion().onOrAfter(Version.V_3_1_0)) {
             this.entityNames = in.readOptionalStringArray();
         }
+        if (in.getVersion().onOrAfter(Version.V_3_3_0)) {
+            this.delta = in.readOptionalWriteable(ConfigUpdateDelta::new);
+        }
     }
 
     public ConfigUpdateRequest() {
@@ -62,6 +66,16 @@ public class ConfigUpdateRequest extends BaseNodesRequest<ConfigUpdateRequest> {
         setEntityNames(entityNames);
     }
 
+    /**
+     * Creates a request to update the given configuration type by applying the given delta. Nodes which cannot
+     * apply the delta reload the configuration type.
+     */
+    public ConfigUpdateRequest(String configType, ConfigUpdateDelta delta) {
+        this();
+        setConfigTypes(new String[] { configType });
+        setDelta(delta);
+    }
+
     @Override
     public void writeTo(final StreamOutput out) throws IOException {
         super.writeTo(out);
@@ -69,6 +83,9 @@ public class ConfigUpdateRequest extends BaseNodesRequest<ConfigUpdateRequest> {
         if (out.getVersion().onOrAfter(Version.V_3_1_0)) {
             out.writeOptionalStringArray(entityNames);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_3_0)) {
+            out.writeOptionalWriteable(delta);
+        }
     }
 
     public String[] getConfigTypes() {
@@ -87,12 +104,22 @@ public class ConfigUpdateRequest extends BaseNodesRequest<ConfigUpdateRequest> {
         this.entityNames = entityNames;
     }
 
+    public ConfigUpdateDelta getDelta() {
+        return delta;
+    }
+
+    public void setDelta(final ConfigUpdateDelta delta) {
+        this.delta = delta;
+    }
+
     @Override
     public ActionRequestValidationException validate() {
         if (configTypes == null || configTypes.length == 0) {
             return new ActionRequestValidationException();
         } else if (configTypes.length > 1 && (entityNames != null && entityNames.length > 1)) {
             return new ActionRequestValidationException();
+        } else if (configTypes.length > 1 && delta != null) {
+            return new ActionRequestValidationException();
         }
         return null;
     }
@@ -132,6 +132,14 @@ public class TransportConfigUpdateAction extends TransportNodesAction<
         final var configupdateRequest = request.request;
         if (canHandleSelectively(configupdateRequest)) {
             backendRegistry.get().invalidateUserCache(configupdateRequest.getEntityNames());
+        } else if (configupdateRequest.getDelta() != null && applyDelta(configupdateRequest)) {
+            final CType<?> configType = CType.fromString(configupdateRequest.getConfigTypes()[0]);
+            if (SELECTIVE_VALIDATION_TYPES.contains(configType)) {
+                final var changedUsers = configupdateRequest.getDelta().getChangedEntries().keySet();
+                backendRegistry.get().invalidateUserCache(changedUsers.toArray(new String[0]));
+            } else {
+                backendRegistry.get().invalidateCache();
+            }
         } else {
             boolean didReload = configurationRepository.reloadConfiguration(CType.fromStringValues((configupdateRequest.getConfigTypes())));
             if (didReload) {
@@ -141,6 +149,22 @@ public class TransportConfigUpdateAction extends TransportNodesAction<
         return new ConfigUpdateNodeResponse(clusterService.localNode(), configupdateRequest.getConfigTypes(), null);
     }
 
+    private boolean applyDelta(ConfigUpdateRequest request) {
+        final ConfigUpdateDelta delta = request.getDelta();
+        final boolean applied = configurationRepository.applyChangedEntries(
+            CType.fromString(request.getConfigTypes()[0]),
+            delta.getBaseSeqNo(),
+            delta.getBasePrimaryTerm(),
+            delta.getSeqNo(),
+            delta.getPrimaryTerm(),
+            delta.getChangedEntries()
+        );
+        if (!applied) {
+            logger.debug("Could not apply changes of {}, reloading it", request.getConfigTypes()[0]);
+        }
+        return applied;
+    }
+
     private boolean canHandleSelectively(ConfigUpdateRequest request) {
         return request.getConfigTypes() != null
             && request.getEntityNames() != null
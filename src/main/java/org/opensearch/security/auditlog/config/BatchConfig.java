@@ -0,0 +1,65 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.config;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.support.ConfigConstants;
+
+/**
+ * Configuration for batched storage of audit messages. If batching is enabled, audit messages are collected in a
+ * buffer per sink and are flushed to the sink when either maxBatchSize messages are buffered or when
+ * flushIntervalMs milliseconds have passed.
+ */
+public class BatchConfig {
+    private static final int DEFAULT_MAX_BATCH_SIZE = 500;
+    private static final long DEFAULT_FLUSH_INTERVAL_MS = 1000;
+
+    public static final BatchConfig DISABLED = new BatchConfig(false, DEFAULT_MAX_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL_MS);
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long flushIntervalMs;
+
+    public BatchConfig(boolean enabled, int maxBatchSize, long flushIntervalMs) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Incorrect batch size: " + maxBatchSize + " configured for audit logging.");
+        }
+
+        if (flushIntervalMs <= 0) {
+            throw new IllegalArgumentException("Incorrect flush interval: " + flushIntervalMs + " configured for audit logging.");
+        }
+
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public static BatchConfig getConfig(Settings settings) {
+        boolean enabled = settings.getAsBoolean(ConfigConstants.SECURITY_AUDIT_BATCH_ENABLED, false);
+        int maxBatchSize = settings.getAsInt(ConfigConstants.SECURITY_AUDIT_BATCH_MAX_SIZE, DEFAULT_MAX_BATCH_SIZE);
+        long flushIntervalMs = settings.getAsLong(ConfigConstants.SECURITY_AUDIT_BATCH_FLUSH_INTERVAL_MS, DEFAULT_FLUSH_INTERVAL_MS);
+
+        return new BatchConfig(enabled, maxBatchSize, flushIntervalMs);
+    }
+}
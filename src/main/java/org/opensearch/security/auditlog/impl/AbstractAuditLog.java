@@ -50,6 +50,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.core.index.shard.ShardId;
@@ -63,11 +64,13 @@ import org.opensearch.index.engine.Engine.DeleteResult;
 import org.opensearch.index.engine.Engine.Index;
 import org.opensearch.index.engine.Engine.IndexResult;
 import org.opensearch.index.get.GetResult;
+import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.security.DefaultObjectMapper;
 import org.opensearch.security.auditlog.AuditLog;
 import org.opensearch.security.auditlog.config.AuditConfig;
 import org.opensearch.security.auth.AuthDomain;
 import org.opensearch.security.compliance.ComplianceConfig;
+import org.opensearch.security.compliance.ComplianceConfig.WriteDiffMode;
 import org.opensearch.security.dlic.rest.support.Utils;
 import org.opensearch.security.filter.SecurityRequest;
 import org.opensearch.security.securityconf.DynamicConfigModel;
@@ -570,70 +573,37 @@ public abstract class AbstractAuditLog implements AuditLog {
         msg.addComplianceDocVersion(result.getVersion());
         msg.addComplianceOperation(result.isCreated() ? Operation.CREATE : Operation.UPDATE);
 
-        if (complianceConfig.shouldLogDiffsForWrite()) {
-            try {
-                String originalSource = null;
-                String currentSource = null;
-                if (!(originalResult != null && originalResult.isExists() && originalResult.internalSourceRef() != null)) {
-                    // originalSource is empty
-                    originalSource = "{}";
-                }
-                if (securityIndex.equals(shardId.getIndexName())) {
-                    if (originalSource == null) {
-                        try (
-                            XContentParser parser = XContentHelper.createParser(
-                                NamedXContentRegistry.EMPTY,
-                                THROW_UNSUPPORTED_OPERATION,
-                                originalResult.internalSourceRef(),
-                                XContentType.JSON
-                            )
-                        ) {
-                            Object base64 = parser.map().values().iterator().next();
-                            if (base64 instanceof String) {
-                                originalSource = (new String(BaseEncoding.base64().decode((String) base64), StandardCharsets.UTF_8));
-                            } else {
-                                originalSource = XContentHelper.convertToJson(originalResult.internalSourceRef(), false, XContentType.JSON);
-                            }
-                        } catch (Exception e) {
-                            log.error(e.toString());
-                        }
-                    }
+        final WriteDiffMode writeDiffMode = complianceConfig.getWriteDiffMode();
+        final boolean originalSourceAvailable = originalResult != null
+            && originalResult.isExists()
+            && originalResult.internalSourceRef() != null;
+
+        if (writeDiffMode != WriteDiffMode.FULL) {
+            msg.addComplianceDocSeqNo(result.getSeqNo(), result.getTerm());
+            if (currentIndex.getIfSeqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO) {
+                msg.addComplianceDocPreviousSeqNo(currentIndex.getIfSeqNo(), currentIndex.getIfPrimaryTerm());
+            } else if (originalSourceAvailable) {
+                msg.addComplianceDocPreviousSeqNo(originalResult.getSeqNo(), originalResult.getPrimaryTerm());
+            }
+        }
 
-                    try (
-                        XContentParser parser = XContentHelper.createParser(
-                            NamedXContentRegistry.EMPTY,
-                            THROW_UNSUPPORTED_OPERATION,
-                            currentIndex.source(),
-                            XContentType.JSON
-                        )
-                    ) {
-                        Object base64 = parser.map().values().iterator().next();
-                        if (base64 instanceof String) {
-                            currentSource = new String(BaseEncoding.base64().decode((String) base64), StandardCharsets.UTF_8);
-                        } else {
-                            currentSource = XContentHelper.convertToJson(currentIndex.source(), false, XContentType.JSON);
-                        }
-                    } catch (Exception e) {
-                        log.error(e.toString());
-                    }
-                    final JsonNode diffnode = JsonDiff.asJson(
-                        DefaultObjectMapper.objectMapper.readTree(originalSource),
-                        DefaultObjectMapper.objectMapper.readTree(currentSource)
-                    );
-                    msg.addSecurityConfigWriteDiffSource(diffnode.size() == 0 ? "" : diffnode.toString(), id);
-                } else {
-                    if (originalSource == null) {
-                        originalSource = XContentHelper.convertToJson(originalResult.internalSourceRef(), false, XContentType.JSON);
-                    }
-                    currentSource = XContentHelper.convertToJson(currentIndex.source(), false, XContentType.JSON);
-                    final JsonNode diffnode = JsonDiff.asJson(
-                        DefaultObjectMapper.objectMapper.readTree(originalSource),
-                        DefaultObjectMapper.objectMapper.readTree(currentSource)
-                    );
-                    msg.addComplianceWriteDiffSource(diffnode.size() == 0 ? "" : diffnode.toString());
-                }
-            } catch (Exception e) {
-                log.error("Unable to generate diff for {}", msg.toPrettyString(), e);
+        // Without the original source, a diff can only be computed for new documents unless we are in full mode,
+        // which traditionally reports the complete document as diff in this case
+        if (complianceConfig.shouldLogDiffsForWrite()
+            && (writeDiffMode == WriteDiffMode.FULL || originalSourceAvailable || result.isCreated())) {
+            // The diff is computed when the message is rendered by the sink, i.e., usually not on the indexing thread.
+            // Both sources might be backed by buffers which are released once the operation is done, so we need copies.
+            final BytesReference originalSource = originalSourceAvailable ? copyOf(originalResult.internalSourceRef()) : null;
+            final BytesReference currentSource = copyOf(currentIndex.source());
+            final String indexName = shardId.getIndexName();
+
+            if (securityIndex.equals(indexName)) {
+                msg.addDeferredSecurityConfigWriteDiffSource(
+                    () -> computeWriteDiff(indexName, id, originalSource, currentSource, true),
+                    id
+                );
+            } else {
+                msg.addDeferredComplianceWriteDiffSource(() -> computeWriteDiff(indexName, id, originalSource, currentSource, false));
             }
         }
 
@@ -681,6 +651,65 @@ public abstract class AbstractAuditLog implements AuditLog {
         save(msg);
     }
 
+    /**
+     * Returns the JSON diff between both versions of a document, an empty string if there is no difference or
+     * null if the diff cannot be computed. A missing original source is treated as an empty document.
+     */
+    private String computeWriteDiff(
+        final String indexName,
+        final String id,
+        final BytesReference originalSource,
+        final BytesReference currentSource,
+        final boolean isSecurityIndex
+    ) {
+        try {
+            final String originalJson;
+            final String currentJson;
+
+            if (isSecurityIndex) {
+                originalJson = originalSource == null ? "{}" : securityConfigSourceToJson(originalSource);
+                currentJson = securityConfigSourceToJson(currentSource);
+            } else {
+                originalJson = originalSource == null ? "{}" : XContentHelper.convertToJson(originalSource, false, XContentType.JSON);
+                currentJson = XContentHelper.convertToJson(currentSource, false, XContentType.JSON);
+            }
+
+            final JsonNode diffnode = JsonDiff.asJson(
+                DefaultObjectMapper.objectMapper.readTree(originalJson),
+                DefaultObjectMapper.objectMapper.readTree(currentJson)
+            );
+            return diffnode.size() == 0 ? "" : diffnode.toString();
+        } catch (Exception e) {
+            log.error("Unable to generate diff for document {} of index {}", id, indexName, e);
+            return null;
+        }
+    }
+
+    /**
+     * Documents of the security index store the actual configuration as base64 encoded JSON in a single field
+     */
+    private static String securityConfigSourceToJson(final BytesReference source) throws IOException {
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                NamedXContentRegistry.EMPTY,
+                THROW_UNSUPPORTED_OPERATION,
+                source,
+                XContentType.JSON
+            )
+        ) {
+            Object base64 = parser.map().values().iterator().next();
+            if (base64 instanceof String) {
+                return new String(BaseEncoding.base64().decode((String) base64), StandardCharsets.UTF_8);
+            } else {
+                return XContentHelper.convertToJson(source, false, XContentType.JSON);
+            }
+        }
+    }
+
+    private static BytesReference copyOf(final BytesReference source) {
+        return source == null ? null : new BytesArray(BytesReference.toBytes(source));
+    }
+
     @Override
     public void logDocumentDeleted(ShardId shardId, Delete delete, DeleteResult result) {
 
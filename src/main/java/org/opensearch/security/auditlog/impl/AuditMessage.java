@@ -22,6 +22,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -37,10 +40,13 @@ import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.security.auditlog.AuditLog.Operation;
 import org.opensearch.security.auditlog.AuditLog.Origin;
@@ -59,7 +65,7 @@ import org.joda.time.format.DateTimeFormatter;
 import static org.opensearch.security.OpenSearchSecurityPlugin.LEGACY_OPENDISTRO_PREFIX;
 import static org.opensearch.security.OpenSearchSecurityPlugin.PLUGINS_PREFIX;
 
-public final class AuditMessage {
+public final class AuditMessage implements ToXContentObject {
 
     private static final Logger log = LogManager.getLogger(AuditMessage.class);
 
@@ -131,9 +137,14 @@ public final class AuditMessage {
 
     public static final String COMPLIANCE_OPERATION = "audit_compliance_operation";
     public static final String COMPLIANCE_DOC_VERSION = "audit_compliance_doc_version";
+    public static final String COMPLIANCE_DOC_SEQ_NO = "audit_compliance_doc_seq_no";
+    public static final String COMPLIANCE_DOC_PRIMARY_TERM = "audit_compliance_doc_primary_term";
+    public static final String COMPLIANCE_DOC_PREVIOUS_SEQ_NO = "audit_compliance_doc_previous_seq_no";
+    public static final String COMPLIANCE_DOC_PREVIOUS_PRIMARY_TERM = "audit_compliance_doc_previous_primary_term";
 
     private static final DateTimeFormatter DEFAULT_FORMAT = DateTimeFormat.forPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZZ");
     private final Map<String, Object> auditInfo = new HashMap<String, Object>(50);
+    private volatile Supplier<String> deferredWriteDiff;
     private final AuditCategory msgCategory;
 
     public AuditMessage(final AuditCategory msgCategory, final ClusterService clusterService, final Origin origin, final Origin layer) {
@@ -210,6 +221,18 @@ public final class AuditMessage {
         addComplianceWriteDiffSource(redactSecurityConfigContent(diff, id));
     }
 
+    /**
+     * Adds a diff which is only computed when the message is rendered. The supplier shall return null if the diff
+     * cannot be computed; in this case, neither the diff nor the noop flag are added to the message.
+     */
+    void addDeferredComplianceWriteDiffSource(final Supplier<String> diff) {
+        this.deferredWriteDiff = diff;
+    }
+
+    void addDeferredSecurityConfigWriteDiffSource(final Supplier<String> diff, final String id) {
+        addDeferredComplianceWriteDiffSource(() -> redactSecurityConfigContent(diff.get(), id));
+    }
+
     // public void addComplianceWriteStoredFields0(String diff) {
     // if (diff != null && !diff.isEmpty()) {
     // auditInfo.put(COMPLIANCE_STORED_FIELDS_CONTENT, diff);
@@ -219,11 +242,15 @@ public final class AuditMessage {
 
     public void addTupleToRequestBody(Tuple<MediaType, BytesReference> xContentTuple) {
         if (xContentTuple != null) {
-            try {
-                auditInfo.put(REQUEST_BODY, XContentHelper.convertToJson(xContentTuple.v2(), false, xContentTuple.v1()));
-            } catch (Exception e) {
-                auditInfo.put(REQUEST_BODY, "ERROR: Unable to convert to json because of " + e.toString());
-            }
+            auditInfo.put(
+                REQUEST_BODY,
+                new DeferredRequestBody(
+                    xContentTuple.v1(),
+                    xContentTuple.v2(),
+                    null,
+                    e -> "ERROR: Unable to convert to json because of " + e.toString()
+                )
+            );
         }
     }
 
@@ -255,11 +282,15 @@ public final class AuditMessage {
 
     void addSecurityConfigTupleToRequestBody(final Tuple<XContentType, BytesReference> xContentTuple, final String id) {
         if (xContentTuple != null) {
-            try {
-                addSecurityConfigContentToRequestBody(XContentHelper.convertToJson(xContentTuple.v2(), false, xContentTuple.v1()), id);
-            } catch (Exception e) {
-                auditInfo.put(REQUEST_BODY, "ERROR: Unable to convert to json");
-            }
+            auditInfo.put(
+                REQUEST_BODY,
+                new DeferredRequestBody(
+                    xContentTuple.v1(),
+                    xContentTuple.v2(),
+                    json -> redactSecurityConfigContent(json, id),
+                    e -> "ERROR: Unable to convert to json"
+                )
+            );
         }
     }
 
@@ -416,15 +447,19 @@ public final class AuditMessage {
 
                 try {
                     final Tuple<MediaType, BytesReference> xContentTuple = restRequest.contentOrSourceParam();
-                    final String requestBody = XContentHelper.convertToJson(xContentTuple.v2(), false, xContentTuple.v1());
-                    if (path != null
-                        && requestBody != null
-                        && SENSITIVE_PATHS.matcher(path).matches()
-                        && requestBody.contains(SENSITIVE_KEY)) {
-                        auditInfo.put(REQUEST_BODY, SENSITIVE_REPLACEMENT_VALUE);
-                    } else {
-                        auditInfo.put(REQUEST_BODY, requestBody);
-                    }
+                    final boolean sensitivePath = path != null && SENSITIVE_PATHS.matcher(path).matches();
+                    auditInfo.put(
+                        REQUEST_BODY,
+                        new DeferredRequestBody(
+                            xContentTuple.v1(),
+                            xContentTuple.v2(),
+                            json -> sensitivePath && json.contains(SENSITIVE_KEY) ? SENSITIVE_REPLACEMENT_VALUE : json,
+                            e -> {
+                                log.error("Error while generating request body for audit log", e);
+                                return "ERROR: Unable to generate request body";
+                            }
+                        )
+                    );
                 } catch (Exception e) {
                     auditInfo.put(REQUEST_BODY, "ERROR: Unable to generate request body");
                     log.error("Error while generating request body for audit log", e);
@@ -453,8 +488,35 @@ public final class AuditMessage {
         auditInfo.put(COMPLIANCE_DOC_VERSION, version);
     }
 
+    public void addComplianceDocSeqNo(long seqNo, long primaryTerm) {
+        auditInfo.put(COMPLIANCE_DOC_SEQ_NO, seqNo);
+        auditInfo.put(COMPLIANCE_DOC_PRIMARY_TERM, primaryTerm);
+    }
+
+    public void addComplianceDocPreviousSeqNo(long seqNo, long primaryTerm) {
+        auditInfo.put(COMPLIANCE_DOC_PREVIOUS_SEQ_NO, seqNo);
+        auditInfo.put(COMPLIANCE_DOC_PREVIOUS_PRIMARY_TERM, primaryTerm);
+    }
+
     public Map<String, Object> getAsMap() {
-        return new HashMap<>(this.auditInfo);
+        resolveDeferredWriteDiff();
+        final Map<String, Object> result = new HashMap<>(this.auditInfo);
+        result.computeIfPresent(REQUEST_BODY, (key, value) -> resolve(value));
+        return result;
+    }
+
+    /**
+     * Writes the message directly to the given builder, without creating an intermediate map.
+     */
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        resolveDeferredWriteDiff();
+        builder.startObject();
+        for (Entry<String, Object> entry : auditInfo.entrySet()) {
+            builder.field(entry.getKey(), resolve(entry.getValue()));
+        }
+        builder.endObject();
+        return builder;
     }
 
     public String getInitiatingUser() {
@@ -490,7 +552,7 @@ public final class AuditMessage {
     }
 
     public String getRequestBody() {
-        return (String) this.auditInfo.get(REQUEST_BODY);
+        return (String) resolve(this.auditInfo.get(REQUEST_BODY));
     }
 
     public String getNodeId() {
@@ -504,7 +566,7 @@ public final class AuditMessage {
     @Override
     public String toString() {
         try {
-            return JsonXContent.contentBuilder().map(getAsMap()).toString();
+            return toXContent(JsonXContent.contentBuilder(), EMPTY_PARAMS).toString();
         } catch (final IOException e) {
             throw ExceptionsHelper.convertToOpenSearchException(e);
         }
@@ -512,7 +574,7 @@ public final class AuditMessage {
 
     public String toPrettyString() {
         try {
-            return JsonXContent.contentBuilder().prettyPrint().map(getAsMap()).toString();
+            return toXContent(JsonXContent.contentBuilder().prettyPrint(), EMPTY_PARAMS).toString();
         } catch (final IOException e) {
             throw ExceptionsHelper.convertToOpenSearchException(e);
         }
@@ -557,6 +619,33 @@ public final class AuditMessage {
         return DEFAULT_FORMAT.print(dt);
     }
 
+    /**
+     * Computes a deferred write diff and adds it to the message. Sinks might render the same message concurrently,
+     * thus the computation is guarded. The volatile write of deferredWriteDiff publishes the modified auditInfo map.
+     */
+    private void resolveDeferredWriteDiff() {
+        if (this.deferredWriteDiff == null) {
+            return;
+        }
+
+        synchronized (this) {
+            final Supplier<String> diff = this.deferredWriteDiff;
+
+            if (diff != null) {
+                addComplianceWriteDiffSource(diff.get());
+                this.deferredWriteDiff = null;
+            }
+        }
+    }
+
+    private static Object resolve(Object value) {
+        if (value instanceof DeferredRequestBody) {
+            return ((DeferredRequestBody) value).get();
+        } else {
+            return value;
+        }
+    }
+
     protected String stringOrNull(Object object) {
         if (object == null) {
             return null;
@@ -564,4 +653,55 @@ public final class AuditMessage {
 
         return String.valueOf(object);
     }
+
+    /**
+     * A request body which is converted to JSON only when it is needed, i.e., usually when the message is
+     * written by a sink. This keeps the JSON conversion off the thread which processes the audited request.
+     */
+    private static final class DeferredRequestBody {
+        private final MediaType mediaType;
+        private final BytesReference content;
+        private final UnaryOperator<String> postProcessor;
+        private final Function<Exception, String> errorHandler;
+        private volatile String rendered;
+
+        DeferredRequestBody(
+            MediaType mediaType,
+            BytesReference content,
+            UnaryOperator<String> postProcessor,
+            Function<Exception, String> errorHandler
+        ) {
+            this.mediaType = mediaType;
+            // The content might be backed by buffers which are released once the request has been processed.
+            // Thus, we need our own copy. BytesReference.toBytes() avoids the copy for plain heap arrays.
+            this.content = content != null ? new BytesArray(BytesReference.toBytes(content)) : null;
+            this.postProcessor = postProcessor;
+            this.errorHandler = errorHandler;
+        }
+
+        String get() {
+            String result = this.rendered;
+
+            if (result == null) {
+                result = render();
+                this.rendered = result;
+            }
+
+            return result;
+        }
+
+        private String render() {
+            try {
+                String json = XContentHelper.convertToJson(content, false, mediaType);
+                return postProcessor != null && json != null ? postProcessor.apply(json) : json;
+            } catch (Exception e) {
+                return errorHandler.apply(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return get();
+        }
+    }
 }
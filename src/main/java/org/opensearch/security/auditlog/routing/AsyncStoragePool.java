@@ -11,33 +11,105 @@
 
 package org.opensearch.security.auditlog.routing;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import org.opensearch.security.auditlog.config.BatchConfig;
 import org.opensearch.security.auditlog.config.ThreadPoolConfig;
 import org.opensearch.security.auditlog.impl.AuditMessage;
 import org.opensearch.security.auditlog.sink.AuditLogSink;
+import org.opensearch.security.support.ConfigConstants;
 
 public class AsyncStoragePool {
     private static final Logger log = LogManager.getLogger(AsyncStoragePool.class);
+    /**
+     * The minimum interval between two warnings about messages which could not be queued.
+     */
+    private static final long REJECTION_WARNING_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
     private final ExecutorService pool;
     private final ThreadPoolConfig threadPoolConfig;
+    private final BatchConfig batchConfig;
+
+    /**
+     * Only used if batching is enabled: Buffers which collect the messages for each sink until they are flushed.
+     */
+    private final Map<AuditLogSink, SinkBuffer> sinkBuffers = new ConcurrentHashMap<>();
+
+    /**
+     * Only used if batching is enabled: Periodically flushes the sink buffers.
+     */
+    private final ScheduledExecutorService flushScheduler;
+
+    /**
+     * The number of messages which could not be queued and were thus stored synchronously on the fallback sink.
+     */
+    private final LongAdder rejectedMessages = new LongAdder();
+
+    /**
+     * The number of messages which could not be queued and which could not be stored on a fallback sink.
+     */
+    private final LongAdder droppedMessages = new LongAdder();
+
+    /**
+     * The time of the last warning about messages which could not be queued, see {@link #warnAboutRejectedMessages()}.
+     */
+    private final AtomicLong lastRejectionWarningNanos = new AtomicLong(System.nanoTime() - REJECTION_WARNING_INTERVAL_NANOS);
 
     public AsyncStoragePool(final ThreadPoolConfig threadPoolConfig) {
+        this(threadPoolConfig, BatchConfig.DISABLED);
+    }
+
+    public AsyncStoragePool(final ThreadPoolConfig threadPoolConfig, final BatchConfig batchConfig) {
         this.threadPoolConfig = threadPoolConfig;
+        this.batchConfig = batchConfig;
         this.pool = createExecutor(threadPoolConfig);
+
+        if (batchConfig.isEnabled()) {
+            this.flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "security-audit-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.flushScheduler.scheduleWithFixedDelay(
+                this::flushAll,
+                batchConfig.getFlushIntervalMs(),
+                batchConfig.getFlushIntervalMs(),
+                TimeUnit.MILLISECONDS
+            );
+        } else {
+            this.flushScheduler = null;
+        }
     }
 
     public ThreadPoolConfig getConfig() {
         return this.threadPoolConfig;
     }
 
+    public BatchConfig getBatchConfig() {
+        return this.batchConfig;
+    }
+
     public void submit(AuditMessage message, AuditLogSink sink) {
+        if (batchConfig.isEnabled()) {
+            submitToBuffer(message, sink);
+            return;
+        }
+
         try {
             pool.submit(() -> {
                 sink.store(message);
@@ -52,8 +124,138 @@ public class AsyncStoragePool {
                 sink.getClass().getSimpleName(),
                 ex.getMessage()
             );
-            if (sink.getFallbackSink() != null) {
-                sink.getFallbackSink().store(message);
+            storeOnFallbackSink(message, sink);
+        }
+    }
+
+    /**
+     * Returns the number of messages which could not be queued and were thus stored synchronously on the fallback sink.
+     */
+    public long getRejectedMessageCount() {
+        return rejectedMessages.sum();
+    }
+
+    /**
+     * Returns the number of messages which could neither be queued nor be stored on a fallback sink.
+     */
+    public long getDroppedMessageCount() {
+        return droppedMessages.sum();
+    }
+
+    private void submitToBuffer(AuditMessage message, AuditLogSink sink) {
+        SinkBuffer buffer = sinkBuffers.computeIfAbsent(sink, SinkBuffer::new);
+
+        if (!buffer.queue.offer(message)) {
+            storeOnFallbackSink(message, sink);
+            return;
+        }
+
+        if (buffer.queue.size() >= batchConfig.getMaxBatchSize()) {
+            buffer.scheduleFlush();
+        }
+    }
+
+    private void storeOnFallbackSink(AuditMessage message, AuditLogSink sink) {
+        if (sink.getFallbackSink() != null) {
+            rejectedMessages.increment();
+            sink.getFallbackSink().store(message);
+        } else {
+            droppedMessages.increment();
+            log.error(
+                "Dropped audit message {} as it could not be queued for delegate '{}' and there is no fallback sink",
+                message,
+                sink.getClass().getSimpleName()
+            );
+        }
+        warnAboutRejectedMessages();
+    }
+
+    /**
+     * Logs the number of messages which could not be queued so far. To avoid flooding the log while the pool is
+     * overloaded, this happens at most once per {@link #REJECTION_WARNING_INTERVAL_NANOS}.
+     */
+    private void warnAboutRejectedMessages() {
+        final long now = System.nanoTime();
+        final long lastWarning = lastRejectionWarningNanos.get();
+
+        if (now - lastWarning >= REJECTION_WARNING_INTERVAL_NANOS && lastRejectionWarningNanos.compareAndSet(lastWarning, now)) {
+            log.warn(
+                "Audit messages could not be queued: {} were stored on the fallback sink and {} were dropped so far. "
+                    + "Consider increasing {}",
+                getRejectedMessageCount(),
+                getDroppedMessageCount(),
+                ConfigConstants.SECURITY_AUDIT_THREADPOOL_MAX_QUEUE_LEN
+            );
+        }
+    }
+
+    private void flushAll() {
+        for (SinkBuffer buffer : sinkBuffers.values()) {
+            if (!buffer.queue.isEmpty()) {
+                buffer.scheduleFlush();
+            }
+        }
+    }
+
+    /**
+     * Collects the messages for a single sink. Messages are written to the sink in batches by the thread pool.
+     */
+    private class SinkBuffer {
+        private final AuditLogSink sink;
+        private final BoundedRingBuffer<AuditMessage> queue;
+        /**
+         * Ensures that there is at most one flush task per sink queued in the thread pool.
+         */
+        private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+        SinkBuffer(AuditLogSink sink) {
+            this.sink = sink;
+            this.queue = new BoundedRingBuffer<>(threadPoolConfig.getThreadPoolMaxQueueLen());
+        }
+
+        void scheduleFlush() {
+            if (flushScheduled.compareAndSet(false, true)) {
+                try {
+                    pool.execute(this::runScheduledFlush);
+                } catch (RejectedExecutionException e) {
+                    flushScheduled.set(false);
+                    log.debug("Could not schedule flush for delegate '{}' due to '{}'", sink.getClass().getSimpleName(), e.getMessage());
+                }
+            }
+        }
+
+        private void runScheduledFlush() {
+            try {
+                flush();
+            } finally {
+                flushScheduled.set(false);
+            }
+
+            // Messages might have been added while we were finishing the flush
+            if (queue.size() >= batchConfig.getMaxBatchSize()) {
+                scheduleFlush();
+            }
+        }
+
+        void flush() {
+            final int maxBatchSize = batchConfig.getMaxBatchSize();
+
+            for (;;) {
+                List<AuditMessage> batch = new ArrayList<>(Math.min(maxBatchSize, Math.max(queue.size(), 1)));
+
+                if (queue.drainTo(batch, maxBatchSize) == 0) {
+                    return;
+                }
+
+                try {
+                    sink.storeBatch(batch);
+                } catch (Exception e) {
+                    log.error("Could not store {} audit messages on delegate '{}'", batch.size(), sink.getClass().getSimpleName(), e);
+                }
+
+                if (log.isTraceEnabled()) {
+                    log.trace("stored {} messages on delegate {} asynchronously", batch.size(), sink.getClass().getSimpleName());
+                }
             }
         }
     }
@@ -77,6 +279,10 @@ public class AsyncStoragePool {
 
     public void close() {
 
+        if (flushScheduler != null) {
+            flushScheduler.shutdownNow();
+        }
+
         if (pool != null) {
             pool.shutdown(); // Disable new tasks from being submitted
 
@@ -94,5 +300,10 @@ public class AsyncStoragePool {
                 Thread.currentThread().interrupt();
             }
         }
+
+        // Write out everything that is still buffered
+        for (SinkBuffer buffer : sinkBuffers.values()) {
+            buffer.flush();
+        }
     }
 }
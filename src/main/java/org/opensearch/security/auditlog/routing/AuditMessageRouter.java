@@ -24,6 +24,7 @@ import org.apache.logging.log4j.Logger;
 
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.security.auditlog.config.BatchConfig;
 import org.opensearch.security.auditlog.config.ThreadPoolConfig;
 import org.opensearch.security.auditlog.impl.AuditCategory;
 import org.opensearch.security.auditlog.impl.AuditMessage;
@@ -53,7 +54,7 @@ public class AuditMessageRouter {
     ) {
         this(
             new SinkProvider(settings, clientProvider, threadPool, configPath, clusterService),
-            new AsyncStoragePool(ThreadPoolConfig.getConfig(settings))
+            new AsyncStoragePool(ThreadPoolConfig.getConfig(settings), BatchConfig.getConfig(settings))
         );
     }
 
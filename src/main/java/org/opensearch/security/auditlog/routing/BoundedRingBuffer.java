@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.routing;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free queue which supports multiple concurrent producers and consumers.
+ * <p>
+ * Each slot of the ring carries a sequence number which tells producers and consumers whether the slot
+ * is ready to be written or read in the current lap. Producers and consumers claim slots by advancing
+ * the tail and head counters with CAS operations. Thus, offer() and poll() never block; offer() returns
+ * false if the buffer is full.
+ * <p>
+ * The capacity is rounded up to the next power of two.
+ */
+class BoundedRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    BoundedRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+
+        int roundedCapacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+
+        this.elements = new AtomicReferenceArray<>(roundedCapacity);
+        this.sequences = new AtomicLongArray(roundedCapacity);
+        this.mask = roundedCapacity - 1;
+
+        for (int i = 0; i < roundedCapacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds the given element to the buffer. Returns false if the buffer is full.
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+
+        for (;;) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // The slot still holds an element from the previous lap
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the oldest element of the buffer. Returns null if the buffer is empty.
+     */
+    E poll() {
+        long position = head.get();
+
+        for (;;) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = elements.get(index);
+                    elements.set(index, null);
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                // The slot has not been written yet
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * Moves up to maxElements elements from this buffer to the given collection. Returns the number of moved elements.
+     */
+    int drainTo(Collection<? super E> target, int maxElements) {
+        int count = 0;
+
+        while (count < maxElements) {
+            E element = poll();
+
+            if (element == null) {
+                break;
+            }
+
+            target.add(element);
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the approximate number of elements in the buffer.
+     */
+    int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
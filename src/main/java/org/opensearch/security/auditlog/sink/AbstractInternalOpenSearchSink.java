@@ -12,17 +12,25 @@
 package org.opensearch.security.auditlog.sink;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import com.google.common.collect.ImmutableMap;
 
 import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequestBuilder;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.index.IndexRequestBuilder;
 import org.opensearch.action.support.WriteRequest.RefreshPolicy;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext.StoredContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.security.auditlog.impl.AuditMessage;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.HeaderHelper;
@@ -82,7 +90,7 @@ public abstract class AbstractInternalOpenSearchSink extends AuditLogSink {
 
                 final IndexRequestBuilder irb = clientProvider.prepareIndex(indexName)
                     .setRefreshPolicy(RefreshPolicy.IMMEDIATE)
-                    .setSource(msg.getAsMap());
+                    .setSource(msg.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS));
                 threadPool.getThreadContext().putHeader(ConfigConstants.OPENDISTRO_SECURITY_CONF_REQUEST_HEADER, "true");
                 irb.setTimeout(TimeValue.timeValueMinutes(1));
                 if (this.storeOpType != null) {
@@ -96,4 +104,63 @@ public abstract class AbstractInternalOpenSearchSink extends AuditLogSink {
             }
         }
     }
+
+    /**
+     * Stores the given messages with a single bulk request. Returns the messages which could not be stored.
+     */
+    public List<AuditMessage> doStoreBatch(final List<AuditMessage> msgs, String indexName) {
+
+        if (Boolean.parseBoolean(
+            HeaderHelper.getSafeFromHeader(threadPool.getThreadContext(), ConfigConstants.OPENDISTRO_SECURITY_CONF_REQUEST_HEADER)
+        )) {
+            if (log.isTraceEnabled()) {
+                log.trace("audit log of audit log will not be executed");
+            }
+            return Collections.emptyList();
+        }
+
+        try (StoredContext ctx = threadPool.getThreadContext().stashContext()) {
+            try {
+                boolean ok = createIndexIfAbsent(indexName);
+                if (!ok) {
+                    log.error("Failed to create index {}", indexName);
+                    return msgs;
+                }
+
+                final BulkRequestBuilder brb = clientProvider.prepareBulk().setRefreshPolicy(RefreshPolicy.IMMEDIATE);
+                for (AuditMessage msg : msgs) {
+                    final IndexRequestBuilder irb = clientProvider.prepareIndex(indexName)
+                        .setSource(msg.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS));
+                    if (this.storeOpType != null) {
+                        irb.setOpType(this.storeOpType);
+                    }
+                    brb.add(irb);
+                }
+                threadPool.getThreadContext().putHeader(ConfigConstants.OPENDISTRO_SECURITY_CONF_REQUEST_HEADER, "true");
+                brb.setTimeout(TimeValue.timeValueMinutes(1));
+                final BulkResponse response = brb.execute().actionGet();
+
+                if (!response.hasFailures()) {
+                    return Collections.emptyList();
+                }
+
+                final List<AuditMessage> failed = new ArrayList<>();
+                for (BulkItemResponse item : response.getItems()) {
+                    if (item.isFailed()) {
+                        failed.add(msgs.get(item.getItemId()));
+                    }
+                }
+                log.error(
+                    "Unable to index {} of {} audit log messages due to {}",
+                    failed.size(),
+                    msgs.size(),
+                    response.buildFailureMessage()
+                );
+                return failed;
+            } catch (final Exception e) {
+                log.error("Unable to index {} audit log messages due to", msgs.size(), e);
+                return msgs;
+            }
+        }
+    }
 }
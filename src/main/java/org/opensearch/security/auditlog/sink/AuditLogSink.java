@@ -12,6 +12,8 @@
 package org.opensearch.security.auditlog.sink;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
@@ -91,6 +93,67 @@ public abstract class AuditLogSink {
 
     protected abstract boolean doStore(AuditMessage msg);
 
+    /**
+     * Stores the given messages. Messages which cannot be stored, even after retrying, are passed on to the
+     * fallback sink.
+     */
+    public final void storeBatch(List<AuditMessage> msgs) {
+        if (msgs.isEmpty()) {
+            return;
+        }
+
+        List<AuditMessage> failed = doStoreBatchWithRetry(msgs);
+
+        if (!failed.isEmpty()) {
+            failed = fallbackSink.doStoreBatchWithRetry(failed);
+
+            for (AuditMessage msg : failed) {
+                System.err.println(msg.toPrettyString());
+            }
+        }
+    }
+
+    private List<AuditMessage> doStoreBatchWithRetry(List<AuditMessage> msgs) {
+        List<AuditMessage> failed = doStoreBatch(msgs);
+
+        final boolean isDebugEnabled = log.isDebugEnabled();
+        for (int i = 0; i < retryCount && !failed.isEmpty(); i++) {
+            if (isDebugEnabled) {
+                log.debug(
+                    "Retry attempt {}/{} for {} messages on {} ({})",
+                    i + 1,
+                    retryCount,
+                    failed.size(),
+                    this.getName(),
+                    this.getClass()
+                );
+            }
+            Uninterruptibles.sleepUninterruptibly(delayMs, TimeUnit.MILLISECONDS);
+            failed = doStoreBatch(failed);
+        }
+
+        return failed;
+    }
+
+    /**
+     * Stores the given messages and returns the messages which could not be stored. An empty list indicates
+     * that all messages were successfully stored.
+     * <p>
+     * The default implementation stores the messages one by one using doStore(). Sinks which can write
+     * several messages with a single request should override this.
+     */
+    protected List<AuditMessage> doStoreBatch(List<AuditMessage> msgs) {
+        List<AuditMessage> failed = new ArrayList<>(0);
+
+        for (AuditMessage msg : msgs) {
+            if (!doStore(msg)) {
+                failed.add(msg);
+            }
+        }
+
+        return failed;
+    }
+
     public void close() throws IOException {
         // to be implemented by subclasses
     }
@@ -17,8 +17,10 @@ import java.security.KeyStore;
 import java.security.PrivateKey;
 import java.security.cert.X509Certificate;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.opensearch.common.settings.Settings;
 import org.opensearch.security.auditlog.impl.AuditMessage;
@@ -253,4 +255,25 @@ public final class ExternalOpenSearchSink extends AuditLogSink {
             return false;
         }
     }
+
+    @Override
+    protected List<AuditMessage> doStoreBatch(final List<AuditMessage> msgs) {
+        try {
+            final List<String> contents = msgs.stream().map(AuditMessage::toString).collect(Collectors.toList());
+            final BitSet failedPositions = client.bulkIndex(contents, getExpandedIndexName(indexPattern, index), type, true);
+            if (failedPositions.isEmpty()) {
+                return Collections.emptyList();
+            }
+            log.error(
+                "Unable to send {} of {} audit log messages to one of these servers: {}",
+                failedPositions.cardinality(),
+                msgs.size(),
+                servers
+            );
+            return failedPositions.stream().mapToObj(msgs::get).collect(Collectors.toList());
+        } catch (Exception e) {
+            log.error("Unable to send {} audit log messages due to", msgs.size(), e);
+            return msgs;
+        }
+    }
 }
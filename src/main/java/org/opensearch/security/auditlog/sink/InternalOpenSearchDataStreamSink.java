@@ -154,4 +154,15 @@ public final class InternalOpenSearchDataStreamSink extends AbstractInternalOpen
 
         return super.doStore(msg, this.dataStreamName);
     }
+
+    @Override
+    protected List<AuditMessage> doStoreBatch(final List<AuditMessage> msgs) {
+
+        if (!this.initDataStream()) {
+            log.error("Datastream initializaten failed. Cannot write to auditlog");
+            return msgs;
+        }
+
+        return super.doStoreBatch(msgs, this.dataStreamName);
+    }
 }
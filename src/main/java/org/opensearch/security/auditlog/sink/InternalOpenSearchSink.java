@@ -13,6 +13,7 @@ package org.opensearch.security.auditlog.sink;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.opensearch.ResourceAlreadyExistsException;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
@@ -83,4 +84,9 @@ public final class InternalOpenSearchSink extends AbstractInternalOpenSearchSink
     public boolean doStore(final AuditMessage msg) {
         return super.doStore(msg, getExpandedIndexName(this.indexPattern, this.index));
     }
+
+    @Override
+    protected List<AuditMessage> doStoreBatch(final List<AuditMessage> msgs) {
+        return super.doStoreBatch(msgs, getExpandedIndexName(this.indexPattern, this.index));
+    }
 }
@@ -26,6 +26,9 @@
 
 package org.opensearch.security.auth;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import org.opensearch.OpenSearchSecurityException;
 import org.opensearch.security.user.AuthCredentials;
 import org.opensearch.security.user.User;
@@ -65,4 +68,19 @@ public interface AuthenticationBackend {
      * (when credentials are incorrect, the user does not exist or the backend is not reachable)
      */
     User authenticate(AuthenticationContext context) throws OpenSearchSecurityException;
+
+    /**
+     * Asynchronous variant of {@link #authenticate(AuthenticationContext)}. The returned future completes with the
+     * authenticated user or completes exceptionally in case of an authentication failure.
+     * <p/>
+     * The default implementation calls {@link #authenticate(AuthenticationContext)} on the given executor. Backends
+     * which have a non-blocking client can override this method; they may ignore the executor then.
+     * <p/>
+     * @param context The context of this authentication; contains the auth credentials
+     * @param executor The executor to be used for blocking operations
+     * @return a future for the authenticated User
+     */
+    default CompletableFuture<User> authenticateAsync(AuthenticationContext context, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> authenticate(context), executor);
+    }
 }
@@ -26,6 +26,9 @@
 
 package org.opensearch.security.auth;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import org.opensearch.OpenSearchSecurityException;
 import org.opensearch.security.user.User;
 
@@ -65,4 +68,19 @@ public interface AuthorizationBackend {
      */
     User addRoles(User user, AuthenticationContext context) throws OpenSearchSecurityException;
 
+    /**
+     * Asynchronous variant of {@link #addRoles(User, AuthenticationContext)}.
+     * <p>
+     * The default implementation calls {@link #addRoles(User, AuthenticationContext)} on the given executor. Backends
+     * which have a non-blocking client can override this method; they may ignore the executor then.
+     *
+     * @param user The authenticated user to populate with backend roles, never null
+     * @param context Context data specific to the request that is currently processed.
+     * @param executor The executor to be used for blocking operations
+     * @return a future for the user with the added backend roles
+     */
+    default CompletableFuture<User> addRolesAsync(User user, AuthenticationContext context, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> addRoles(user, context), executor);
+    }
+
 }
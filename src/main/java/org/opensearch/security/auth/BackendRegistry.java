@@ -32,20 +32,25 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
-import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import com.google.common.base.Strings;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.RemovalListener;
-import com.google.common.cache.RemovalNotification;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Multimap;
+import com.google.common.util.concurrent.MoreExecutors;
 import org.apache.http.HttpHeaders;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -53,8 +58,11 @@ import org.apache.logging.log4j.Logger;
 import org.opensearch.OpenSearchSecurityException;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.identity.UserSubject;
 import org.opensearch.security.auditlog.AuditLog;
@@ -72,6 +80,8 @@ import org.opensearch.security.support.HostAndCidrMatcher;
 import org.opensearch.security.support.SecuritySettings;
 import org.opensearch.security.user.AuthCredentials;
 import org.opensearch.security.user.User;
+import org.opensearch.threadpool.ExecutorBuilder;
+import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 
 import org.greenrobot.eventbus.Subscribe;
@@ -85,6 +95,20 @@ import static org.opensearch.security.http.HTTPBasicAuthenticator.BASIC_TYPE;
 public class BackendRegistry {
 
     protected static final Logger log = LogManager.getLogger(BackendRegistry.class);
+
+    /**
+     * The name of the thread pool which is used for calls to authentication and authorization backends by
+     * {@link #authenticateAsync(SecurityRequestChannel)}. The pool is bounded; its size and queue size can be configured
+     * with the settings thread_pool.security_authentication.size and thread_pool.security_authentication.queue_size.
+     */
+    public static final String THREAD_POOL_NAME = "security_authentication";
+    private static final int THREAD_POOL_QUEUE_SIZE = 1000;
+
+    /**
+     * The interval in which the statistics of the caches are logged on debug level.
+     */
+    private static final TimeValue CACHE_STATS_LOG_INTERVAL = TimeValue.timeValueMinutes(5);
+
     private SortedSet<AuthDomain> restAuthDomains;
     private Set<AuthorizationBackend> restAuthorizers;
 
@@ -105,40 +129,25 @@ public class BackendRegistry {
     private final UserInjector userInjector;
     private final ClusterInfoHolder clusterInfoHolder;
     private int ttlInMin;
-    private Cache<AuthCredentials, User> userCache; // rest standard
-    private Cache<String, User> restImpersonationCache; // used for rest impersonation
-    private Cache<User, Set<String>> restRoleCache; //
+    private int refreshAfterInMin;
+    private final int maxConcurrentRefreshes;
+    private RefreshAheadCache<AuthCredentials, User> userCache; // rest standard
+    private RefreshAheadCache<String, User> restImpersonationCache; // used for rest impersonation
+    private RefreshAheadCache<User, Set<String>> restRoleCache; //
+    private final Map<AuthCredentials, CompletableFuture<User>> pendingAuthentications = new ConcurrentHashMap<>();
+    private final Executor asyncExecutor;
+    private final Executor refreshExecutor;
 
     private void createCaches() {
-        userCache = CacheBuilder.newBuilder()
-            .expireAfterWrite(ttlInMin, TimeUnit.MINUTES)
-            .removalListener(new RemovalListener<AuthCredentials, User>() {
-                @Override
-                public void onRemoval(RemovalNotification<AuthCredentials, User> notification) {
-                    log.debug("Clear user cache for {} due to {}", notification.getKey().getUsername(), notification.getCause());
-                }
-            })
-            .build();
-
-        restImpersonationCache = CacheBuilder.newBuilder()
-            .expireAfterWrite(ttlInMin, TimeUnit.MINUTES)
-            .removalListener(new RemovalListener<String, User>() {
-                @Override
-                public void onRemoval(RemovalNotification<String, User> notification) {
-                    log.debug("Clear user cache for {} due to {}", notification.getKey(), notification.getCause());
-                }
-            })
-            .build();
-
-        restRoleCache = CacheBuilder.newBuilder()
-            .expireAfterWrite(ttlInMin, TimeUnit.MINUTES)
-            .removalListener(new RemovalListener<User, Set<String>>() {
-                @Override
-                public void onRemoval(RemovalNotification<User, Set<String>> notification) {
-                    log.debug("Clear user cache for {} due to {}", notification.getKey(), notification.getCause());
-                }
-            })
-            .build();
+        userCache = new RefreshAheadCache<>("user cache", ttlInMin, refreshAfterInMin, TimeUnit.MINUTES, maxConcurrentRefreshes);
+        restImpersonationCache = new RefreshAheadCache<>(
+            "impersonation cache",
+            ttlInMin,
+            refreshAfterInMin,
+            TimeUnit.MINUTES,
+            maxConcurrentRefreshes
+        );
+        restRoleCache = new RefreshAheadCache<>("role cache", ttlInMin, refreshAfterInMin, TimeUnit.MINUTES, maxConcurrentRefreshes);
     }
 
     public void registerClusterSettingsChangeListener(final ClusterSettings clusterSettings) {
@@ -167,14 +176,37 @@ public class BackendRegistry {
         this.userInjector = new UserInjector(settings, threadPool, auditLog, xffResolver);
         this.restAuthDomains = Collections.emptySortedSet();
         this.ipAuthFailureListeners = Collections.emptyList();
+        this.asyncExecutor = command -> threadPool.executor(THREAD_POOL_NAME)
+            .execute(threadPool.getThreadContext().preserveContext(command));
+        // Refreshes are not related to the request which triggered them; thus, they do not get its thread context
+        this.refreshExecutor = command -> {
+            try (ThreadContext.StoredContext ignore = threadPool.getThreadContext().stashContext()) {
+                threadPool.executor(THREAD_POOL_NAME).execute(command);
+            }
+        };
 
         this.ttlInMin = settings.getAsInt(ConfigConstants.SECURITY_CACHE_TTL_MINUTES, 60);
+        this.refreshAfterInMin = settings.getAsInt(ConfigConstants.SECURITY_CACHE_REFRESH_AFTER_MINUTES, 0);
+        this.maxConcurrentRefreshes = settings.getAsInt(
+            ConfigConstants.SECURITY_CACHE_MAX_CONCURRENT_REFRESHES,
+            ConfigConstants.SECURITY_CACHE_MAX_CONCURRENT_REFRESHES_DEFAULT
+        );
 
         // This is going to be defined in the opensearch.yml, so it's best suited to be initialized once.
         this.injectedUserEnabled = opensearchSettings.getAsBoolean(ConfigConstants.SECURITY_UNSUPPORTED_INJECT_USER_ENABLED, false);
         initialized = this.injectedUserEnabled;
 
         createCaches();
+        threadPool.scheduleWithFixedDelay(this::logCacheStats, CACHE_STATS_LOG_INTERVAL, ThreadPool.Names.GENERIC);
+    }
+
+    /**
+     * Returns the builder for the thread pool which is used by {@link #authenticateAsync(SecurityRequestChannel)}.
+     * Authentication backends like LDAP mostly wait for IO; thus, the pool is larger than the number of processors.
+     */
+    public static ExecutorBuilder<?> executorBuilder(Settings settings) {
+        int size = Math.min(4 * OpenSearchExecutors.allocatedProcessors(settings), 32);
+        return new FixedExecutorBuilder(settings, THREAD_POOL_NAME, size, THREAD_POOL_QUEUE_SIZE);
     }
 
     public boolean isInitialized() {
@@ -185,7 +217,40 @@ public class BackendRegistry {
         return ttlInMin;
     }
 
+    /**
+     * Returns the statistics of the user cache, the impersonation cache and the role cache. The statistics are reset
+     * when the caches are recreated because the TTL setting changed.
+     */
+    public Map<String, CacheStats> getCacheStats() {
+        return ImmutableMap.of(
+            "user_cache",
+            userCache.stats(),
+            "impersonation_cache",
+            restImpersonationCache.stats(),
+            "role_cache",
+            restRoleCache.stats()
+        );
+    }
+
+    private void logCacheStats() {
+        if (log.isDebugEnabled()) {
+            getCacheStats().forEach(
+                (cache, stats) -> log.debug(
+                    "Statistics of {}: hit rate {}, {} hits, {} misses, {} loads, {} failed loads, average load time {} ms",
+                    cache,
+                    stats.hitRate(),
+                    stats.hitCount(),
+                    stats.missCount(),
+                    stats.loadSuccessCount(),
+                    stats.loadExceptionCount(),
+                    TimeUnit.NANOSECONDS.toMillis((long) stats.averageLoadPenalty())
+                )
+            );
+        }
+    }
+
     public void invalidateCache() {
+        pendingAuthentications.clear();
         userCache.invalidateAll();
         restImpersonationCache.invalidateAll();
         restRoleCache.invalidateAll();
@@ -199,9 +264,11 @@ public class BackendRegistry {
 
         Set<String> usernamesAsSet = new HashSet<>(Arrays.asList(usernames));
 
+        // Pending authentications must not put their results into the userCache anymore
+        pendingAuthentications.keySet().removeIf(authCreds -> usernamesAsSet.contains(authCreds.getUsername()));
+
         // Invalidate entries in the userCache by iterating over the keys and matching the username.
-        userCache.asMap()
-            .keySet()
+        userCache.keys()
             .stream()
             .filter(authCreds -> usernamesAsSet.contains(authCreds.getUsername()))
             .forEach(userCache::invalidate);
@@ -210,7 +277,7 @@ public class BackendRegistry {
         restImpersonationCache.invalidateAll(usernamesAsSet);
 
         // Invalidate entries in the restRoleCache by iterating over the keys and matching the username.
-        restRoleCache.asMap().keySet().stream().filter(user -> usernamesAsSet.contains(user.getName())).forEach(restRoleCache::invalidate);
+        restRoleCache.keys().stream().filter(user -> usernamesAsSet.contains(user.getName())).forEach(restRoleCache::invalidate);
 
         // If the user isn't found it still says this, which could be bad
         log.debug("Cache invalidated for all valid users from list: {}", String.join(", ", usernamesAsSet));
@@ -243,6 +310,56 @@ public class BackendRegistry {
      * @throws OpenSearchSecurityException
      */
     public boolean authenticate(final SecurityRequestChannel request) {
+        try {
+            return authenticate(request, MoreExecutors.directExecutor(), true).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #authenticate(SecurityRequestChannel)}. Calls to the authentication and
+     * authorization backends are done on the bounded security_authentication thread pool; thus, a slow backend
+     * does not block the calling thread. The future is completed on the thread which completed the last backend call,
+     * with the thread context of the request. If the user is cached, the future is completed immediately.
+     * <p>
+     * The future completes exceptionally with an OpenSearchRejectedExecutionException if the thread pool is
+     * exhausted.
+     *
+     * @return a future which completes with true if the user was authenticated, false if a response was queued
+     */
+    public CompletableFuture<Boolean> authenticateAsync(final SecurityRequestChannel request) {
+        return authenticateAsync(request, asyncExecutor);
+    }
+
+    /**
+     * Authenticates the request asynchronously; blocking calls to the authentication and authorization backends are
+     * done on the given executor.
+     */
+    CompletableFuture<Boolean> authenticateAsync(final SecurityRequestChannel request, final Executor executor) {
+        return authenticate(request, executor, false);
+    }
+
+    /**
+     * @param blocking if true, the calling thread waits for the results of the backends; the returned future is then
+     * always completed on the calling thread.
+     */
+    private CompletableFuture<Boolean> authenticate(final SecurityRequestChannel request, final Executor executor, boolean blocking) {
+        try {
+            return startAuthentication(request, executor, blocking);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CompletableFuture<Boolean> startAuthentication(
+        final SecurityRequestChannel request,
+        final Executor executor,
+        final boolean blocking
+    ) {
         final boolean isDebugEnabled = log.isDebugEnabled();
         final boolean isBlockedBasedOnAddress = request.getRemoteAddress()
             .map(InetSocketAddress::getAddress)
@@ -258,7 +375,7 @@ public class BackendRegistry {
             }
 
             request.queueForSending(new SecurityResponse(SC_UNAUTHORIZED, "Authentication finally failed"));
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
         ThreadContext threadContext = this.threadPool.getThreadContext();
@@ -271,12 +388,12 @@ public class BackendRegistry {
             UserSubject subject = new UserSubjectImpl(threadPool, superuser);
             threadContext.putPersistent(ConfigConstants.OPENDISTRO_SECURITY_AUTHENTICATED_USER, subject);
             threadContext.putTransient(ConfigConstants.OPENDISTRO_SECURITY_USER, superuser);
-            return true;
+            return CompletableFuture.completedFuture(true);
         }
 
         if (userInjector.injectUser(request)) {
             // ThreadContext injected user
-            return true;
+            return CompletableFuture.completedFuture(true);
         }
 
         if (!isInitialized()) {
@@ -286,40 +403,44 @@ public class BackendRegistry {
             }
             log.error("{} (you may need to run securityadmin)", error.toString());
             request.queueForSending(new SecurityResponse(SC_SERVICE_UNAVAILABLE, error.toString()));
-            return false;
+            return CompletableFuture.completedFuture(false);
         }
 
         final TransportAddress remoteAddress = xffResolver.resolve(request);
-        final boolean isTraceEnabled = log.isTraceEnabled();
-        if (isTraceEnabled) {
+        if (log.isTraceEnabled()) {
             log.trace("Rest authentication request from {} [original: {}]", remoteAddress, request.getRemoteAddress().orElse(null));
         }
 
         threadPool.getThreadContext().putTransient(ConfigConstants.OPENDISTRO_SECURITY_REMOTE_ADDRESS, remoteAddress);
 
-        boolean authenticated = false;
-
-        User authenticatedUser = null;
-
-        AuthCredentials authCredentials = null;
+        return authenticate(request, new RestAuthenticationState(restAuthDomains, remoteAddress, executor, blocking));
+    }
 
-        HTTPAuthenticator firstChallengingHttpAuthenticator = null;
+    /**
+     * Loops over the remaining auth domains of the given state. The loop is continued asynchronously when a user could
+     * not be authenticated by an auth domain.
+     */
+    private CompletableFuture<Boolean> authenticate(final SecurityRequestChannel request, final RestAuthenticationState state) {
+        final boolean isDebugEnabled = log.isDebugEnabled();
+        final boolean isTraceEnabled = log.isTraceEnabled();
 
         // loop over all http/rest auth domains
-        for (final AuthDomain authDomain : restAuthDomains) {
+        while (state.remainingAuthDomains.hasNext()) {
+            final AuthDomain authDomain = state.remainingAuthDomains.next();
+
             if (isDebugEnabled) {
                 log.debug(
                     "Check authdomain for rest {}/{} or {} in total",
                     authDomain.getBackend().getType(),
                     authDomain.getOrder(),
-                    restAuthDomains.size()
+                    state.authDomains.size()
                 );
             }
 
             final HTTPAuthenticator httpAuthenticator = authDomain.getHttpAuthenticator();
 
-            if (authDomain.isChallenge() && firstChallengingHttpAuthenticator == null) {
-                firstChallengingHttpAuthenticator = httpAuthenticator;
+            if (authDomain.isChallenge() && state.firstChallengingHttpAuthenticator == null) {
+                state.firstChallengingHttpAuthenticator = httpAuthenticator;
             }
 
             if (isTraceEnabled) {
@@ -343,7 +464,7 @@ public class BackendRegistry {
                 continue;
             }
 
-            authCredentials = ac;
+            state.authCredentials = ac;
 
             if (ac == null) {
                 // no credentials found in request
@@ -361,9 +482,9 @@ public class BackendRegistry {
                         if (authDomain.getHttpAuthenticator().getType().equals(BASIC_TYPE)) {
                             log.warn("No 'Authorization' header, send 401 and 'WWW-Authenticate Basic'");
                         }
-                        notifyIpAuthFailureListeners(request, authCredentials);
+                        notifyIpAuthFailureListeners(request, state.authCredentials);
                         request.queueForSending(restResponse.get());
-                        return false;
+                        return CompletableFuture.completedFuture(false);
                     }
                 } else {
                     // no reRequest possible
@@ -380,7 +501,7 @@ public class BackendRegistry {
                     if (restResponse.isPresent()) {
                         notifyIpAuthFailureListeners(request, ac);
                         request.queueForSending(restResponse.get());
-                        return false;
+                        return CompletableFuture.completedFuture(false);
                     } else {
                         // no reRequest possible
                         continue;
@@ -390,116 +511,139 @@ public class BackendRegistry {
             }
 
             // http completed
-            authenticatedUser = authcz(userCache, restRoleCache, ac, authDomain.getBackend(), restAuthorizers);
+            final CompletableFuture<User> authenticatedUser = authcz(
+                userCache,
+                restRoleCache,
+                ac,
+                authDomain.getBackend(),
+                restAuthorizers,
+                state.executor,
+                state.blocking
+            );
 
-            if (authenticatedUser == null) {
-                if (isDebugEnabled) {
-                    log.debug(
-                        "Cannot authenticate rest user {} (or add roles) with authdomain {}/{} of {}, try next",
-                        ac.getUsername(),
-                        authDomain.getBackend().getType(),
-                        authDomain.getOrder(),
-                        restAuthDomains
-                    );
-                }
-                for (AuthFailureListener authFailureListener : this.authBackendFailureListeners.get(
-                    authDomain.getBackend().getClass().getName()
-                )) {
-                    authFailureListener.onAuthFailure(
-                        request.getRemoteAddress().map(InetSocketAddress::getAddress).orElse(null),
-                        ac,
-                        request
-                    );
-                }
-                continue;
-            }
+            return authenticatedUser.thenCompose(user -> onAuthczCompleted(request, state, authDomain, ac, user));
+        }// end looping auth domains
+
+        return CompletableFuture.completedFuture(onAuthenticationFailed(request, state));
+    }
 
-            if (adminDns.isAdmin(authenticatedUser)) {
-                log.error("Cannot authenticate rest user because admin user is not permitted to login via HTTP");
-                auditLog.logFailedLogin(authenticatedUser.getName(), true, null, request);
-                request.queueForSending(
-                    new SecurityResponse(SC_FORBIDDEN, "Cannot authenticate user because admin user is not permitted to login via HTTP")
+    private CompletableFuture<Boolean> onAuthczCompleted(
+        final SecurityRequestChannel request,
+        final RestAuthenticationState state,
+        final AuthDomain authDomain,
+        final AuthCredentials ac,
+        final User authenticatedUser
+    ) {
+        if (authenticatedUser == null) {
+            if (log.isDebugEnabled()) {
+                log.debug(
+                    "Cannot authenticate rest user {} (or add roles) with authdomain {}/{} of {}, try next",
+                    ac.getUsername(),
+                    authDomain.getBackend().getType(),
+                    authDomain.getOrder(),
+                    state.authDomains
                 );
-                return false;
+            }
+            for (AuthFailureListener authFailureListener : this.authBackendFailureListeners.get(
+                authDomain.getBackend().getClass().getName()
+            )) {
+                authFailureListener.onAuthFailure(request.getRemoteAddress().map(InetSocketAddress::getAddress).orElse(null), ac, request);
             }
 
-            final String tenant = resolveTenantFrom(request);
+            // continue with the next auth domain
+            return authenticate(request, state);
+        }
 
-            if (isDebugEnabled) {
-                log.debug("Rest user '{}' is authenticated", authenticatedUser);
-                log.debug("securitytenant '{}'", tenant);
-            }
+        return CompletableFuture.completedFuture(onAuthenticated(request, authenticatedUser));
+    }
 
-            if (tenant != null) {
-                authenticatedUser = authenticatedUser.withRequestedTenant(tenant);
-            }
+    private boolean onAuthenticated(final SecurityRequestChannel request, User authenticatedUser) {
+        if (adminDns.isAdmin(authenticatedUser)) {
+            log.error("Cannot authenticate rest user because admin user is not permitted to login via HTTP");
+            auditLog.logFailedLogin(authenticatedUser.getName(), true, null, request);
+            request.queueForSending(
+                new SecurityResponse(SC_FORBIDDEN, "Cannot authenticate user because admin user is not permitted to login via HTTP")
+            );
+            return false;
+        }
 
-            authenticated = true;
-            break;
-        }// end looping auth domains
+        final String tenant = resolveTenantFrom(request);
 
-        if (authenticated) {
-            final User impersonatedUser = impersonate(request, authenticatedUser);
-            final User effectiveUser = impersonatedUser == null ? authenticatedUser : impersonatedUser;
-            threadPool.getThreadContext().putTransient(ConfigConstants.OPENDISTRO_SECURITY_USER, effectiveUser);
-            threadPool.getThreadContext().putTransient(ConfigConstants.OPENDISTRO_SECURITY_INITIATING_USER, authenticatedUser.getName());
+        if (log.isDebugEnabled()) {
+            log.debug("Rest user '{}' is authenticated", authenticatedUser);
+            log.debug("securitytenant '{}'", tenant);
+        }
 
-            UserSubject subject = new UserSubjectImpl(threadPool, effectiveUser);
-            threadPool.getThreadContext().putPersistent(ConfigConstants.OPENDISTRO_SECURITY_AUTHENTICATED_USER, subject);
-        } else {
-            if (isDebugEnabled) {
-                log.debug("User still not authenticated after checking {} auth domains", restAuthDomains.size());
-            }
+        if (tenant != null) {
+            authenticatedUser = authenticatedUser.withRequestedTenant(tenant);
+        }
 
-            Optional<SecurityResponse> challengeResponse = Optional.empty();
+        final User impersonatedUser = impersonate(request, authenticatedUser);
+        final User effectiveUser = impersonatedUser == null ? authenticatedUser : impersonatedUser;
+        threadPool.getThreadContext().putTransient(ConfigConstants.OPENDISTRO_SECURITY_USER, effectiveUser);
+        threadPool.getThreadContext().putTransient(ConfigConstants.OPENDISTRO_SECURITY_INITIATING_USER, authenticatedUser.getName());
 
-            if (firstChallengingHttpAuthenticator != null) {
+        UserSubject subject = new UserSubjectImpl(threadPool, effectiveUser);
+        threadPool.getThreadContext().putPersistent(ConfigConstants.OPENDISTRO_SECURITY_AUTHENTICATED_USER, subject);
+        return true;
+    }
 
-                if (isDebugEnabled) {
-                    log.debug("Rerequest with {}", firstChallengingHttpAuthenticator.getClass());
-                }
+    private boolean onAuthenticationFailed(final SecurityRequestChannel request, final RestAuthenticationState state) {
+        final boolean isDebugEnabled = log.isDebugEnabled();
+        final AuthCredentials authCredentials = state.authCredentials;
+        final HTTPAuthenticator firstChallengingHttpAuthenticator = state.firstChallengingHttpAuthenticator;
 
-                challengeResponse = firstChallengingHttpAuthenticator.reRequestAuthentication(request, null);
-                if (challengeResponse.isPresent()) {
-                    if (isDebugEnabled) {
-                        log.debug("Rerequest {} failed", firstChallengingHttpAuthenticator.getClass());
-                    }
-                }
-            }
+        if (isDebugEnabled) {
+            log.debug("User still not authenticated after checking {} auth domains", state.authDomains.size());
+        }
 
-            if (authCredentials == null && anonymousAuthEnabled && isRequestForAnonymousLogin(request.params(), request.getHeaders())) {
-                User anonymousUser = User.ANONYMOUS;
+        Optional<SecurityResponse> challengeResponse = Optional.empty();
 
-                final String tenant = resolveTenantFrom(request);
-                if (tenant != null) {
-                    anonymousUser = anonymousUser.withRequestedTenant(tenant);
-                }
+        if (firstChallengingHttpAuthenticator != null) {
 
-                UserSubject subject = new UserSubjectImpl(threadPool, anonymousUser);
+            if (isDebugEnabled) {
+                log.debug("Rerequest with {}", firstChallengingHttpAuthenticator.getClass());
+            }
 
-                threadPool.getThreadContext().putTransient(ConfigConstants.OPENDISTRO_SECURITY_USER, anonymousUser);
-                threadPool.getThreadContext().putPersistent(ConfigConstants.OPENDISTRO_SECURITY_AUTHENTICATED_USER, subject);
+            challengeResponse = firstChallengingHttpAuthenticator.reRequestAuthentication(request, null);
+            if (challengeResponse.isPresent()) {
                 if (isDebugEnabled) {
-                    log.debug("Anonymous User is authenticated");
+                    log.debug("Rerequest {} failed", firstChallengingHttpAuthenticator.getClass());
                 }
-                return true;
             }
+        }
 
-            log.warn(
-                "Authentication finally failed for {} from {}",
-                authCredentials == null ? null : authCredentials.getUsername(),
-                remoteAddress
-            );
-            auditLog.logFailedLogin(authCredentials == null ? null : authCredentials.getUsername(), false, null, request);
+        if (authCredentials == null && anonymousAuthEnabled && isRequestForAnonymousLogin(request.params(), request.getHeaders())) {
+            User anonymousUser = User.ANONYMOUS;
 
-            notifyIpAuthFailureListeners(request, authCredentials);
+            final String tenant = resolveTenantFrom(request);
+            if (tenant != null) {
+                anonymousUser = anonymousUser.withRequestedTenant(tenant);
+            }
 
-            request.queueForSending(
-                challengeResponse.orElseGet(() -> new SecurityResponse(SC_UNAUTHORIZED, "Authentication finally failed"))
-            );
-            return false;
+            UserSubject subject = new UserSubjectImpl(threadPool, anonymousUser);
+
+            threadPool.getThreadContext().putTransient(ConfigConstants.OPENDISTRO_SECURITY_USER, anonymousUser);
+            threadPool.getThreadContext().putPersistent(ConfigConstants.OPENDISTRO_SECURITY_AUTHENTICATED_USER, subject);
+            if (isDebugEnabled) {
+                log.debug("Anonymous User is authenticated");
+            }
+            return true;
         }
-        return authenticated;
+
+        log.warn(
+            "Authentication finally failed for {} from {}",
+            authCredentials == null ? null : authCredentials.getUsername(),
+            state.remoteAddress
+        );
+        auditLog.logFailedLogin(authCredentials == null ? null : authCredentials.getUsername(), false, null, request);
+
+        notifyIpAuthFailureListeners(request, authCredentials);
+
+        request.queueForSending(
+            challengeResponse.orElseGet(() -> new SecurityResponse(SC_UNAUTHORIZED, "Authentication finally failed"))
+        );
+        return false;
     }
 
     /**
@@ -537,7 +681,7 @@ public class BackendRegistry {
      * @return null if user cannot b authenticated
      */
     private User checkExistsAndAuthz(
-        final Cache<String, User> cache,
+        final RefreshAheadCache<String, User> cache,
         final User user,
         final ImpersonationBackend impersonationBackend,
         final Set<AuthorizationBackend> authorizers
@@ -546,51 +690,68 @@ public class BackendRegistry {
             return null;
         }
 
-        final boolean isDebugEnabled = log.isDebugEnabled();
-        final boolean isTraceEnabled = log.isTraceEnabled();
-
         try {
-            return cache.get(user.getName(), new Callable<User>() { // no cache miss in case of noop
-                @Override
-                public User call() throws Exception {
-                    if (isTraceEnabled) {
-                        log.trace(
-                            "Credentials for user {} not cached, return from {} backend directly",
-                            user.getName(),
-                            impersonationBackend.getType()
-                        );
-                    }
-
-                    Optional<User> impersonatedUser = impersonationBackend.impersonate(user);
-                    if (impersonatedUser.isPresent()) {
-                        AuthenticationContext context = new AuthenticationContext(new AuthCredentials(user.getName()));
-                        return authz(context, impersonatedUser.get(), null, authorizers); // no role cache because no miss here in case of
-                                                                                          // noop
-                    }
-
-                    if (isDebugEnabled) {
-                        log.debug("User {} does not exist in {}", user.getName(), impersonationBackend.getType());
-                    }
-                    return null;
-                }
-            });
+            return cache.get(
+                user.getName(),
+                () -> loadImpersonatedUser(user, impersonationBackend, authorizers, false), // no cache miss in case of noop
+                () -> CompletableFuture.supplyAsync(
+                    () -> loadImpersonatedUser(user, impersonationBackend, authorizers, true),
+                    refreshExecutor
+                )
+            );
         } catch (Exception e) {
-            if (isDebugEnabled) {
+            if (log.isDebugEnabled()) {
                 log.debug("Can not check and authorize {} due to ", user.getName(), e);
             }
             return null;
         }
     }
 
-    private User authz(
+    /**
+     * @return null if the user does not exist
+     */
+    private User loadImpersonatedUser(
+        final User user,
+        final ImpersonationBackend impersonationBackend,
+        final Set<AuthorizationBackend> authorizers,
+        final boolean strict
+    ) {
+        if (log.isTraceEnabled()) {
+            log.trace(
+                "Credentials for user {} not cached, return from {} backend directly",
+                user.getName(),
+                impersonationBackend.getType()
+            );
+        }
+
+        Optional<User> impersonatedUser = impersonationBackend.impersonate(user);
+        if (impersonatedUser.isPresent()) {
+            AuthenticationContext context = new AuthenticationContext(new AuthCredentials(user.getName()));
+            // no role cache because no miss here in case of noop
+            return authz(context, impersonatedUser.get(), null, authorizers, MoreExecutors.directExecutor(), strict).join();
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("User {} does not exist in {}", user.getName(), impersonationBackend.getType());
+        }
+        return null;
+    }
+
+    /**
+     * @param strict if true, failures of authorization backends fail the returned future. Otherwise, failures are
+     * logged and the roles of the failed backend are missing.
+     */
+    private CompletableFuture<User> authz(
         AuthenticationContext context,
         User authenticatedUser,
-        Cache<User, Set<String>> roleCache,
-        final Set<AuthorizationBackend> authorizers
+        RefreshAheadCache<User, Set<String>> roleCache,
+        final Set<AuthorizationBackend> authorizers,
+        final Executor executor,
+        final boolean strict
     ) {
 
         if (authenticatedUser == null) {
-            return authenticatedUser;
+            return CompletableFuture.completedFuture(null);
         }
 
         if (roleCache != null) {
@@ -598,55 +759,129 @@ public class BackendRegistry {
             final Set<String> cachedBackendRoles = roleCache.getIfPresent(authenticatedUser);
 
             if (cachedBackendRoles != null) {
-                return authenticatedUser.withRoles(cachedBackendRoles);
+                return CompletableFuture.completedFuture(authenticatedUser.withRoles(cachedBackendRoles));
             }
         }
 
         if (authorizers == null || authorizers.isEmpty()) {
-            return authenticatedUser;
+            return CompletableFuture.completedFuture(authenticatedUser);
         }
 
-        final boolean isTraceEnabled = log.isTraceEnabled();
-        for (final AuthorizationBackend ab : authorizers) {
-            try {
-                if (isTraceEnabled) {
-                    log.trace(
-                        "Backend roles for {} not cached, return from {} backend directly",
-                        authenticatedUser.getName(),
-                        ab.getType()
-                    );
-                }
+        CompletableFuture<User> result = CompletableFuture.completedFuture(authenticatedUser);
 
-                authenticatedUser = ab.addRoles(authenticatedUser, context);
-            } catch (Exception e) {
-                log.error("Cannot retrieve roles for {} from {} due to {}", authenticatedUser, ab.getType(), e.toString(), e);
-            }
+        for (final AuthorizationBackend ab : authorizers) {
+            result = result.thenCompose(user -> addRoles(context, user, ab, executor, strict));
         }
 
         if (roleCache != null) {
-            roleCache.put(authenticatedUser, new HashSet<String>(authenticatedUser.getRoles()));
+            result = result.thenApply(user -> {
+                roleCache.put(user, new HashSet<String>(user.getRoles()), reauthorizationOfRoles(context, authenticatedUser, authorizers));
+                return user;
+            });
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a refresher for cache entries which runs the given authorizers again for the given user, which has
+     * not been processed by authorizers yet. Returns null if there are no authorizers, as there is nothing to refresh
+     * then. The refresh does not have the credentials of the user; it only knows the user name of the original
+     * authentication context.
+     */
+    private Supplier<CompletableFuture<User>> reauthorization(
+        AuthenticationContext originalContext,
+        User authenticatedUser,
+        Set<AuthorizationBackend> authorizers
+    ) {
+        if (authorizers == null || authorizers.isEmpty()) {
+            return null;
+        }
+
+        final String userName = originalContext.getCredentials().getUsername();
+
+        return () -> {
+            AuthenticationContext context = new AuthenticationContext(new AuthCredentials(userName));
+            return authz(context, authenticatedUser, null, authorizers, refreshExecutor, true);
+        };
+    }
+
+    private Supplier<CompletableFuture<Set<String>>> reauthorizationOfRoles(
+        AuthenticationContext originalContext,
+        User authenticatedUser,
+        Set<AuthorizationBackend> authorizers
+    ) {
+        Supplier<CompletableFuture<User>> reauthorization = reauthorization(originalContext, authenticatedUser, authorizers);
+
+        if (reauthorization == null) {
+            return null;
         }
 
-        return authenticatedUser;
+        return () -> reauthorization.get().thenApply(user -> new HashSet<String>(user.getRoles()));
+    }
+
+    /**
+     * Adds the roles of the given authorization backend to the user. If the backend fails, the user is returned without
+     * additional roles, unless strict is true. Rejections of the executor are always passed on, as these must not lead
+     * to cached users.
+     */
+    private CompletableFuture<User> addRoles(
+        AuthenticationContext context,
+        User authenticatedUser,
+        AuthorizationBackend ab,
+        Executor executor,
+        boolean strict
+    ) {
+        if (log.isTraceEnabled()) {
+            log.trace("Backend roles for {} not cached, return from {} backend directly", authenticatedUser.getName(), ab.getType());
+        }
+
+        CompletableFuture<User> result;
+
+        try {
+            result = ab.addRolesAsync(authenticatedUser, context, executor);
+        } catch (Exception e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        return result.handle((userWithRoles, e) -> {
+            if (e == null) {
+                return userWithRoles;
+            }
+
+            Throwable cause = unwrap(e);
+
+            if (strict || cause instanceof OpenSearchRejectedExecutionException) {
+                throw new CompletionException(cause);
+            }
+
+            log.error("Cannot retrieve roles for {} from {} due to {}", authenticatedUser, ab.getType(), cause.toString(), cause);
+            return authenticatedUser;
+        });
     }
 
     /**
      * no auditlog, throw no exception, does also authz for all authorizers
+     * <p>
+     * The returned future completes exceptionally only if the executor rejected a task.
      *
-     * @return null if user cannot b authenticated
+     * @return a future for the user; completes with null if user cannot b authenticated
      */
-    private User authcz(
-        final Cache<AuthCredentials, User> cache,
-        Cache<User, Set<String>> roleCache,
+    private CompletableFuture<User> authcz(
+        final RefreshAheadCache<AuthCredentials, User> cache,
+        RefreshAheadCache<User, Set<String>> roleCache,
         final AuthCredentials ac,
         final AuthenticationBackend authBackend,
-        final Set<AuthorizationBackend> authorizers
+        final Set<AuthorizationBackend> authorizers,
+        final Executor executor,
+        final boolean blocking
     ) {
         if (ac == null) {
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
 
         AuthenticationContext context = new AuthenticationContext(ac);
+        CompletableFuture<User> result;
 
         try {
 
@@ -654,31 +889,143 @@ public class BackendRegistry {
             // that mean authc and authz was completely done via HTTP (like JWT or PKI)
             if (authBackend.getClass() == NoOpAuthenticationBackend.class && authorizers.isEmpty()) {
                 // no cache
-                return authBackend.authenticate(context);
-            }
+                result = CompletableFuture.completedFuture(authBackend.authenticate(context));
+            } else {
+                User cachedUser = cache.getIfPresent(ac);
 
-            return cache.get(ac, new Callable<User>() {
-                @Override
-                public User call() throws Exception {
-                    if (log.isTraceEnabled()) {
-                        log.trace(
-                            "Credentials for user {} not cached, return from {} backend directly",
-                            ac.getUsername(),
-                            authBackend.getType()
-                        );
-                    }
-                    final User authenticatedUser = authBackend.authenticate(context);
-                    return authz(context, authenticatedUser, roleCache, authorizers);
+                if (cachedUser != null) {
+                    result = CompletableFuture.completedFuture(cachedUser);
+                } else {
+                    CompletableFuture<User> loaded = load(cache, roleCache, ac, context, authBackend, authorizers, executor);
+                    result = blocking ? await(loaded) : resumeInThreadContext(loaded);
                 }
-            });
+            }
         } catch (Exception e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        return result.handle((user, e) -> {
+            ac.clearSecrets();
+
+            if (e == null) {
+                return user;
+            }
+
+            Throwable cause = unwrap(e);
+
+            if (cause instanceof OpenSearchRejectedExecutionException) {
+                throw new CompletionException(cause);
+            }
+
             if (log.isDebugEnabled()) {
-                log.debug("Can not authenticate {} due to exception", ac.getUsername(), e);
+                log.debug("Can not authenticate {} due to exception", ac.getUsername(), cause);
             }
             return null;
-        } finally {
-            ac.clearSecrets();
+        });
+    }
+
+    /**
+     * Authenticates the user with the backend and puts it into the cache. Concurrent cache misses for the same
+     * credentials are coalesced: Only the first one calls the backends, the others wait for its result.
+     */
+    private CompletableFuture<User> load(
+        final RefreshAheadCache<AuthCredentials, User> cache,
+        final RefreshAheadCache<User, Set<String>> roleCache,
+        final AuthCredentials ac,
+        final AuthenticationContext context,
+        final AuthenticationBackend authBackend,
+        final Set<AuthorizationBackend> authorizers,
+        final Executor executor
+    ) {
+        final CompletableFuture<User> newLoad = new CompletableFuture<>();
+        final CompletableFuture<User> pendingLoad = pendingAuthentications.putIfAbsent(ac, newLoad);
+
+        if (pendingLoad != null) {
+            if (log.isTraceEnabled()) {
+                log.trace("Credentials for user {} not cached, waiting for pending authentication", ac.getUsername());
+            }
+            return pendingLoad;
+        }
+
+        if (log.isTraceEnabled()) {
+            log.trace("Credentials for user {} not cached, return from {} backend directly", ac.getUsername(), authBackend.getType());
+        }
+
+        CompletableFuture<User> authenticated;
+
+        try {
+            authenticated = authBackend.authenticateAsync(context, executor);
+        } catch (Exception e) {
+            authenticated = CompletableFuture.failedFuture(e);
         }
+
+        final long startTime = System.nanoTime();
+
+        authenticated.thenCompose(
+            authenticatedUser -> authz(context, authenticatedUser, roleCache, authorizers, executor, false).thenApply(user -> {
+                // The pending load is gone if the cache was invalidated in the meantime; the result must not be cached then
+                if (user != null && pendingAuthentications.get(ac) == newLoad) {
+                    cache.put(ac, user, reauthorization(context, authenticatedUser, authorizers));
+                }
+                return user;
+            })
+        ).whenComplete((user, e) -> {
+            cache.recordLoad(System.nanoTime() - startTime, e == null && user != null);
+            pendingAuthentications.remove(ac, newLoad);
+
+            if (e != null) {
+                newLoad.completeExceptionally(e);
+            } else {
+                newLoad.complete(user);
+            }
+        });
+
+        return newLoad;
+    }
+
+    /**
+     * Waits for the given future; the returned future is complete.
+     */
+    private static <T> CompletableFuture<T> await(CompletableFuture<T> future) {
+        try {
+            return CompletableFuture.completedFuture(future.join());
+        } catch (CompletionException | CancellationException e) {
+            return CompletableFuture.failedFuture(unwrap(e));
+        }
+    }
+
+    /**
+     * Returns a future which is completed with the thread context of the calling thread. The given future might be
+     * completed by any thread, for example by a thread which loads the user for another request with the same
+     * credentials. Dependent actions of the returned future, which populate the thread context, thus get the
+     * thread context of the request they belong to.
+     */
+    private <T> CompletableFuture<T> resumeInThreadContext(CompletableFuture<T> future) {
+        if (future.isDone()) {
+            return future;
+        }
+
+        final ThreadContext threadContext = threadPool.getThreadContext();
+        final ThreadContext.StoredContext requestContext = threadContext.newStoredContext(false);
+        final CompletableFuture<T> result = new CompletableFuture<>();
+
+        future.whenComplete((value, e) -> {
+            try (ThreadContext.StoredContext ignore = threadContext.stashContext()) {
+                requestContext.restore();
+
+                if (e != null) {
+                    result.completeExceptionally(e);
+                } else {
+                    result.complete(value);
+                }
+            }
+        });
+
+        return result;
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
     }
 
     private User impersonate(final SecurityRequest request, final User originalUser) throws OpenSearchSecurityException {
@@ -810,4 +1157,25 @@ public class BackendRegistry {
         return false;
     }
 
+    /**
+     * The state of the loop over the auth domains in authenticate().
+     */
+    private static class RestAuthenticationState {
+        private final SortedSet<AuthDomain> authDomains;
+        private final Iterator<AuthDomain> remainingAuthDomains;
+        private final TransportAddress remoteAddress;
+        private final Executor executor;
+        private final boolean blocking;
+        private AuthCredentials authCredentials;
+        private HTTPAuthenticator firstChallengingHttpAuthenticator;
+
+        RestAuthenticationState(SortedSet<AuthDomain> authDomains, TransportAddress remoteAddress, Executor executor, boolean blocking) {
+            this.authDomains = authDomains;
+            this.remainingAuthDomains = authDomains.iterator();
+            this.remoteAddress = remoteAddress;
+            this.executor = executor;
+            this.blocking = blocking;
+        }
+    }
+
 }
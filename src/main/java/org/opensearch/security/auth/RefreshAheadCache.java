@@ -0,0 +1,270 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auth;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A cache for the results of authentication and authorization backends.
+ * <p>
+ * Entries expire after the configured TTL. Additionally, a refresh interval can be configured: Entries which are read
+ * after this interval are refreshed asynchronously, using the refresher which was provided when the entry was put into
+ * the cache. Until the refresh is complete, the previous value is returned. Thus, frequently used entries stay up to
+ * date without requests waiting for the backends.
+ * <p>
+ * Refreshes do not extend the lifetime of an entry: Every entry expires at the latest after the TTL has passed since
+ * it was originally put into the cache. Refreshers only re-run authorization; thus, this guarantees that credentials
+ * are verified again by the authentication backend at least once per TTL, even for entries which are used
+ * continuously.
+ * <p>
+ * Only one refresh per entry is running at a time. The total number of concurrently running refreshes is bounded;
+ * if the bound is reached, refreshes are skipped and retried with the next read of the entry. If a refresh fails, the
+ * previous value is kept until it expires.
+ */
+class RefreshAheadCache<K, V> {
+
+    private static final Logger log = LogManager.getLogger(RefreshAheadCache.class);
+
+    private final String name;
+    private final Cache<K, Entry<V>> cache;
+    private final Ticker ticker;
+    private final long ttlNanos;
+    private final long refreshAfterNanos;
+    private final Semaphore refreshPermits;
+
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadExceptionCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder refreshSuccessCount = new LongAdder();
+    private final LongAdder refreshFailureCount = new LongAdder();
+    private final LongAdder refreshSkippedCount = new LongAdder();
+
+    /**
+     * @param name the name of the cache; only used for logging
+     * @param ttl the time after which entries expire
+     * @param refreshAfter the time after which entries are refreshed when read; 0 disables refreshes
+     * @param unit the unit of ttl and refreshAfter
+     * @param maxConcurrentRefreshes the maximum number of concurrently running refreshes
+     */
+    RefreshAheadCache(String name, long ttl, long refreshAfter, TimeUnit unit, int maxConcurrentRefreshes) {
+        this(name, ttl, refreshAfter, unit, maxConcurrentRefreshes, Ticker.systemTicker());
+    }
+
+    RefreshAheadCache(String name, long ttl, long refreshAfter, TimeUnit unit, int maxConcurrentRefreshes, Ticker ticker) {
+        this.name = name;
+        this.ticker = ticker;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.refreshAfterNanos = refreshAfter > 0 && refreshAfter < ttl ? unit.toNanos(refreshAfter) : 0;
+        this.refreshPermits = new Semaphore(Math.max(maxConcurrentRefreshes, 0));
+        this.cache = CacheBuilder.newBuilder()
+            .expireAfterWrite(ttl, unit)
+            .ticker(ticker)
+            .recordStats()
+            .<K, Entry<V>>removalListener(
+                notification -> log.debug("Clear {} for {} due to {}", name, notification.getKey(), notification.getCause())
+            )
+            .build();
+    }
+
+    /**
+     * Returns the cached value for the given key or null. Schedules a refresh if the refresh interval of the entry
+     * has passed.
+     */
+    V getIfPresent(K key) {
+        Entry<V> entry = cache.getIfPresent(key);
+
+        if (entry == null || expireIfNecessary(key, entry)) {
+            return null;
+        }
+
+        refreshIfNecessary(key, entry);
+        return entry.value;
+    }
+
+    /**
+     * Returns the cached value for the given key. If there is none, the value is loaded using the given loader; if
+     * the loader returns null, nothing is cached and an exception is thrown.
+     *
+     * @param refresher provides the refreshed value for the entry; null if the entry shall not be refreshed
+     */
+    V get(K key, Callable<V> loader, Supplier<CompletableFuture<V>> refresher) throws ExecutionException {
+        Entry<V> existing = cache.asMap().get(key);
+
+        if (existing != null) {
+            expireIfNecessary(key, existing);
+        }
+
+        Entry<V> entry = cache.get(key, () -> {
+            V value = loader.call();
+
+            if (value == null) {
+                throw new CacheLoader.InvalidCacheLoadException("No value for " + key);
+            }
+
+            return new Entry<>(value, refresher, ticker.read());
+        });
+
+        refreshIfNecessary(key, entry);
+        return entry.value;
+    }
+
+    /**
+     * @param refresher provides the refreshed value for the entry; null if the entry shall not be refreshed
+     */
+    void put(K key, V value, Supplier<CompletableFuture<V>> refresher) {
+        cache.put(key, new Entry<>(value, refresher, ticker.read()));
+    }
+
+    /**
+     * Records the duration of a load of a value which was put into the cache with put().
+     */
+    void recordLoad(long loadTimeNanos, boolean success) {
+        (success ? loadSuccessCount : loadExceptionCount).increment();
+        totalLoadTime.add(loadTimeNanos);
+    }
+
+    Set<K> keys() {
+        return cache.asMap().keySet();
+    }
+
+    void invalidate(K key) {
+        cache.invalidate(key);
+    }
+
+    void invalidateAll(Iterable<K> keys) {
+        cache.invalidateAll(keys);
+    }
+
+    void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the statistics of this cache. The load statistics include the loads recorded with recordLoad().
+     */
+    CacheStats stats() {
+        return cache.stats().plus(new CacheStats(0, 0, loadSuccessCount.sum(), loadExceptionCount.sum(), totalLoadTime.sum(), 0));
+    }
+
+    long refreshSuccessCount() {
+        return refreshSuccessCount.sum();
+    }
+
+    long refreshFailureCount() {
+        return refreshFailureCount.sum();
+    }
+
+    long refreshSkippedCount() {
+        return refreshSkippedCount.sum();
+    }
+
+    /**
+     * Removes the given entry if the TTL has passed since it was originally put into the cache, regardless of
+     * any refreshes in the meantime.
+     *
+     * @return true if the entry has expired
+     */
+    private boolean expireIfNecessary(K key, Entry<V> entry) {
+        if (ticker.read() - entry.creationTime < ttlNanos) {
+            return false;
+        }
+
+        log.debug("Expire {} for {} as the TTL since its creation has passed", name, key);
+        cache.asMap().remove(key, entry);
+        return true;
+    }
+
+    private void refreshIfNecessary(K key, Entry<V> entry) {
+        if (refreshAfterNanos == 0 || entry.refresher == null || ticker.read() - entry.writeTime < refreshAfterNanos) {
+            return;
+        }
+
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            // Another refresh of this entry is already running
+            return;
+        }
+
+        if (!refreshPermits.tryAcquire()) {
+            entry.refreshing.set(false);
+            refreshSkippedCount.increment();
+            return;
+        }
+
+        log.debug("Refreshing {} for {}", name, key);
+
+        CompletableFuture<V> refreshed;
+
+        try {
+            refreshed = entry.refresher.get();
+        } catch (RuntimeException e) {
+            refreshed = CompletableFuture.failedFuture(e);
+        }
+
+        refreshed.whenComplete((value, e) -> {
+            refreshPermits.release();
+
+            if (e != null) {
+                refreshFailureCount.increment();
+                log.debug("Refreshing {} for {} failed; keeping previous value", name, key, e);
+                entry.refreshing.set(false);
+                return;
+            }
+
+            refreshSuccessCount.increment();
+
+            // If the entry was invalidated in the meantime, the refreshed value must not be cached
+            if (value == null) {
+                cache.asMap().remove(key, entry);
+            } else {
+                cache.asMap().replace(key, entry, new Entry<>(value, entry.refresher, ticker.read(), entry.creationTime));
+            }
+        });
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final Supplier<CompletableFuture<V>> refresher;
+        private final long writeTime;
+        /**
+         * The time the entry was originally put into the cache; this is kept by refreshes
+         */
+        private final long creationTime;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Entry(V value, Supplier<CompletableFuture<V>> refresher, long writeTime) {
+            this(value, refresher, writeTime, writeTime);
+        }
+
+        Entry(V value, Supplier<CompletableFuture<V>> refresher, long writeTime, long creationTime) {
+            this.value = value;
+            this.refresher = refresher;
+            this.writeTime = writeTime;
+            this.creationTime = creationTime;
+        }
+    }
+}
@@ -34,6 +34,12 @@ public final class ConfigConstants {
     public static final String LDAP_AUTHZ_NESTEDROLEFILTER = "nested_role_filter";
     public static final String LDAP_AUTHZ_MAX_NESTED_DEPTH = "max_nested_depth";
     public static final int LDAP_AUTHZ_MAX_NESTED_DEPTH_DEFAULT = 30;
+    public static final String LDAP_AUTHZ_NESTED_ROLE_CACHE_TTL_SECONDS = "nested_role_cache.ttl_seconds";
+    public static final long LDAP_AUTHZ_NESTED_ROLE_CACHE_TTL_SECONDS_DEFAULT = 300;
+    public static final String LDAP_AUTHZ_NESTED_ROLE_CACHE_MAX_SIZE = "nested_role_cache.max_size";
+    public static final long LDAP_AUTHZ_NESTED_ROLE_CACHE_MAX_SIZE_DEFAULT = 10000;
+    public static final String LDAP_AUTHZ_NESTED_ROLE_PARALLELISM = "nested_role_parallelism";
+    public static final int LDAP_AUTHZ_NESTED_ROLE_PARALLELISM_POOLED_DEFAULT = 4;
 
     public static final String FOLLOW_REFERRALS = "follow_referrals";
     public static final boolean FOLLOW_REFERRALS_DEFAULT = true;
@@ -15,6 +15,7 @@ import java.nio.file.Path;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -23,17 +24,31 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import javax.naming.InvalidNameException;
 import javax.naming.ldap.LdapName;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.SetMultimap;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.opensearch.OpenSearchSecurityException;
 import org.opensearch.SpecialPermission;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.common.Strings;
 import org.opensearch.security.auth.AuthenticationContext;
 import org.opensearch.security.auth.AuthorizationBackend;
@@ -76,6 +91,9 @@ public class LDAPAuthorizationBackend2 implements AuthorizationBackend, Destroya
     private LDAPUserSearcher userSearcher;
     private final String[] returnAttributes;
     private final boolean shouldFollowReferrals;
+    private final int maxNestedDepth;
+    private final Cache<NestedRoleKey, SetMultimap<LdapName, Map.Entry<String, Settings>>> nestedRoleCache;
+    private final ExecutorService nestedRoleExecutor;
 
     public LDAPAuthorizationBackend2(final Settings settings, final Path configPath) throws SSLConfigException {
         this.settings = settings;
@@ -94,6 +112,51 @@ public class LDAPAuthorizationBackend2 implements AuthorizationBackend, Destroya
         this.returnAttributes = settings.getAsList(ConfigConstants.LDAP_RETURN_ATTRIBUTES, Arrays.asList(ReturnAttributes.ALL.value()))
             .toArray(new String[0]);
         this.shouldFollowReferrals = settings.getAsBoolean(ConfigConstants.FOLLOW_REFERRALS, ConfigConstants.FOLLOW_REFERRALS_DEFAULT);
+        this.maxNestedDepth = getMaxNestedDepth(settings);
+
+        long nestedRoleCacheTtl = settings.getAsLong(
+            ConfigConstants.LDAP_AUTHZ_NESTED_ROLE_CACHE_TTL_SECONDS,
+            ConfigConstants.LDAP_AUTHZ_NESTED_ROLE_CACHE_TTL_SECONDS_DEFAULT
+        );
+        // Without a connection pool, each concurrent resolution would need to open and bind a new connection
+        int nestedRoleParallelism = settings.getAsInt(
+            ConfigConstants.LDAP_AUTHZ_NESTED_ROLE_PARALLELISM,
+            settings.getAsBoolean(ConfigConstants.LDAP_POOL_ENABLED, false)
+                ? ConfigConstants.LDAP_AUTHZ_NESTED_ROLE_PARALLELISM_POOLED_DEFAULT
+                : 1
+        );
+
+        if (this.nestedRoleMatcher != null && nestedRoleCacheTtl > 0) {
+            this.nestedRoleCache = CacheBuilder.newBuilder()
+                .expireAfterWrite(nestedRoleCacheTtl, TimeUnit.SECONDS)
+                .maximumSize(
+                    settings.getAsLong(
+                        ConfigConstants.LDAP_AUTHZ_NESTED_ROLE_CACHE_MAX_SIZE,
+                        ConfigConstants.LDAP_AUTHZ_NESTED_ROLE_CACHE_MAX_SIZE_DEFAULT
+                    )
+                )
+                .build();
+        } else {
+            this.nestedRoleCache = null;
+        }
+
+        if (this.nestedRoleMatcher != null && nestedRoleParallelism > 1) {
+            this.nestedRoleExecutor = Executors.newFixedThreadPool(
+                nestedRoleParallelism,
+                OpenSearchExecutors.daemonThreadFactory("ldap_nested_roles")
+            );
+        } else {
+            this.nestedRoleExecutor = null;
+        }
+    }
+
+    private static int getMaxNestedDepth(Settings settings) {
+        try {
+            return settings.getAsInt(ConfigConstants.LDAP_AUTHZ_MAX_NESTED_DEPTH, ConfigConstants.LDAP_AUTHZ_MAX_NESTED_DEPTH_DEFAULT);
+        } catch (Exception e) {
+            log.error(ConfigConstants.LDAP_AUTHZ_MAX_NESTED_DEPTH + " is not parseable: ", e);
+            return ConfigConstants.LDAP_AUTHZ_MAX_NESTED_DEPTH_DEFAULT;
+        }
     }
 
     private static List<Map.Entry<String, Settings>> getRoleSearchSettings(Settings settings) {
@@ -349,29 +412,10 @@ public class LDAPAuthorizationBackend2 implements AuthorizationBackend, Destroya
                 }
 
                 final Set<LdapName> nestedReturn = new HashSet<>(ldapRoles);
+                nestedReturn.addAll(resolveNestedRoles(ldapRoles, resultRoleSearchBaseKeys, connection, userRoleNames, rolesearchEnabled));
 
-                for (final LdapName roleLdapName : ldapRoles) {
-                    Set<Map.Entry<String, Settings>> nameRoleSearchBaseKeys = resultRoleSearchBaseKeys.get(roleLdapName);
-
-                    if (nameRoleSearchBaseKeys == null) {
-                        log.error("Could not find roleSearchBaseKeys for {}; existing: {}", roleLdapName, resultRoleSearchBaseKeys);
-                        continue;
-                    }
-
-                    final Set<LdapName> nestedRoles = resolveNestedRoles(
-                        roleLdapName,
-                        connection,
-                        userRoleNames,
-                        0,
-                        rolesearchEnabled,
-                        nameRoleSearchBaseKeys
-                    );
-
-                    if (isTraceEnabled) {
-                        log.trace("{} nested roles for {}", nestedRoles.size(), roleLdapName);
-                    }
-
-                    nestedReturn.addAll(nestedRoles);
+                if (isTraceEnabled) {
+                    log.trace("{} roles including nested roles", nestedReturn.size());
                 }
 
                 for (final LdapName roleLdapName : nestedReturn) {
@@ -423,41 +467,183 @@ public class LDAPAuthorizationBackend2 implements AuthorizationBackend, Destroya
 
     }
 
+    /**
+     * Resolves the roles in which the given roles are nested, up to the configured maximum depth. The roles are
+     * resolved level by level; each role is only resolved once. If the nested role parallelism is greater than 1,
+     * the roles of a level are resolved concurrently, using separate connections.
+     */
     protected Set<LdapName> resolveNestedRoles(
-        final LdapName roleDn,
+        final Set<LdapName> roles,
+        final SetMultimap<LdapName, Map.Entry<String, Settings>> roleSearchBaseKeys,
         final Connection ldapConnection,
-        String userRoleName,
-        int depth,
-        final boolean rolesearchEnabled,
-        Set<Map.Entry<String, Settings>> roleSearchBaseSettingsSet
+        final String userRoleName,
+        final boolean rolesearchEnabled
     ) throws OpenSearchSecurityException, LdapException {
 
         final boolean isTraceEnabled = log.isTraceEnabled();
-        if (nestedRoleMatcher.test(roleDn.toString())) {
+        final Set<LdapName> result = new HashSet<>(20);
+        final Set<NestedRoleKey> resolved = new HashSet<>();
+
+        List<NestedRoleKey> level = new ArrayList<>(roles.size());
+
+        for (LdapName role : roles) {
+            level.add(new NestedRoleKey(role, roleSearchBaseKeys.get(role)));
+        }
+
+        for (int depth = 1; depth <= maxNestedDepth && !level.isEmpty(); depth++) {
+            List<NestedRoleKey> toResolve = new ArrayList<>(level.size());
+
+            for (NestedRoleKey key : level) {
+                if (!resolved.add(key)) {
+                    continue;
+                }
+
+                if (nestedRoleMatcher.test(key.roleDn.toString())) {
+                    if (isTraceEnabled) {
+                        log.trace("Filter nested role {}", key.roleDn);
+                    }
+                    continue;
+                }
+
+                toResolve.add(key);
+            }
+
+            List<NestedRoleKey> nextLevel = new ArrayList<>();
+
+            for (SetMultimap<LdapName, Map.Entry<String, Settings>> parentRoles : getParentRoles(
+                toResolve,
+                ldapConnection,
+                userRoleName,
+                rolesearchEnabled
+            )) {
+                for (LdapName parentRole : parentRoles.keySet()) {
+                    result.add(parentRole);
+                    nextLevel.add(new NestedRoleKey(parentRole, parentRoles.get(parentRole)));
+                }
+            }
 
             if (isTraceEnabled) {
-                log.trace("Filter nested role {}", roleDn);
+                log.trace("result nested count for depth {} : {}", depth, result.size());
             }
 
-            return Collections.emptySet();
+            level = nextLevel;
         }
 
-        depth++;
+        return result;
+    }
 
-        final Set<LdapName> result = new HashSet<>(20);
-        final HashMultimap<LdapName, Map.Entry<String, Settings>> resultRoleSearchBaseKeys = HashMultimap.create();
+    /**
+     * Returns the direct parent roles for each of the given roles. Roles which are not cached are resolved on the
+     * nested role executor if there is one; the calling thread resolves the roles which were not picked up by the
+     * executor yet, using the given connection.
+     */
+    private List<SetMultimap<LdapName, Map.Entry<String, Settings>>> getParentRoles(
+        final List<NestedRoleKey> keys,
+        final Connection ldapConnection,
+        final String userRoleName,
+        final boolean rolesearchEnabled
+    ) throws LdapException {
+
+        final List<SetMultimap<LdapName, Map.Entry<String, Settings>>> result = new ArrayList<>(keys.size());
+        final List<NestedRoleKey> notCached = new ArrayList<>(keys.size());
+
+        for (NestedRoleKey key : keys) {
+            SetMultimap<LdapName, Map.Entry<String, Settings>> cached = nestedRoleCache != null ? nestedRoleCache.getIfPresent(key) : null;
+
+            if (cached != null) {
+                result.add(cached);
+            } else {
+                notCached.add(key);
+            }
+        }
+
+        if (nestedRoleExecutor == null || notCached.size() < 2) {
+            for (NestedRoleKey key : notCached) {
+                result.add(getParentRoles(key, ldapConnection, userRoleName, rolesearchEnabled));
+            }
+
+            return result;
+        }
 
-        final LdapEntry e0 = LdapHelper.lookup(ldapConnection, roleDn.toString(), this.returnAttributes, this.shouldFollowReferrals);
+        final Thread callingThread = Thread.currentThread();
+        final List<FutureTask<SetMultimap<LdapName, Map.Entry<String, Settings>>>> tasks = new ArrayList<>(notCached.size());
+
+        for (NestedRoleKey key : notCached) {
+            FutureTask<SetMultimap<LdapName, Map.Entry<String, Settings>>> task = new FutureTask<>(() -> {
+                if (Thread.currentThread() == callingThread) {
+                    return getParentRoles(key, ldapConnection, userRoleName, rolesearchEnabled);
+                }
+
+                try (Connection connection = this.connectionFactory.getConnection()) {
+                    connection.open();
+                    return getParentRoles(key, connection, userRoleName, rolesearchEnabled);
+                }
+            });
+
+            tasks.add(task);
+
+            try {
+                nestedRoleExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                log.debug("Could not resolve nested role {} concurrently; resolving it on the calling thread", key.roleDn, e);
+            }
+        }
+
+        try {
+            for (FutureTask<SetMultimap<LdapName, Map.Entry<String, Settings>>> task : tasks) {
+                // Does nothing if the executor has already started the task
+                task.run();
+                result.add(task.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            tasks.forEach(task -> task.cancel(false));
+            throw new OpenSearchSecurityException("Interrupted while resolving nested roles", e);
+        } catch (ExecutionException e) {
+            tasks.forEach(task -> task.cancel(false));
+            throw toLdapException(e);
+        }
+
+        return result;
+    }
+
+    private SetMultimap<LdapName, Map.Entry<String, Settings>> getParentRoles(
+        final NestedRoleKey key,
+        final Connection ldapConnection,
+        final String userRoleName,
+        final boolean rolesearchEnabled
+    ) throws LdapException {
+        if (nestedRoleCache == null) {
+            return loadParentRoles(key, ldapConnection, userRoleName, rolesearchEnabled);
+        }
+
+        try {
+            return nestedRoleCache.get(key, () -> loadParentRoles(key, ldapConnection, userRoleName, rolesearchEnabled));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw toLdapException(e);
+        }
+    }
+
+    private SetMultimap<LdapName, Map.Entry<String, Settings>> loadParentRoles(
+        final NestedRoleKey key,
+        final Connection ldapConnection,
+        final String userRoleName,
+        final boolean rolesearchEnabled
+    ) throws LdapException {
+
+        final boolean isTraceEnabled = log.isTraceEnabled();
         final boolean isDebugEnabled = log.isDebugEnabled();
+        final ImmutableSetMultimap.Builder<LdapName, Map.Entry<String, Settings>> result = ImmutableSetMultimap.builder();
+        final String roleDn = key.roleDn.toString();
+
+        final LdapEntry e0 = LdapHelper.lookup(ldapConnection, roleDn, this.returnAttributes, this.shouldFollowReferrals);
 
-        if (e0.getAttribute(userRoleName) != null) {
+        if (e0 != null && e0.getAttribute(userRoleName) != null) {
             final Collection<String> userRoles = e0.getAttribute(userRoleName).getStringValues();
             for (final String possibleRoleDN : userRoles) {
                 if (isValidDn(possibleRoleDN)) {
                     try {
-                        LdapName ldapName = new LdapName(possibleRoleDN);
-                        result.add(ldapName);
-                        resultRoleSearchBaseKeys.putAll(ldapName, this.roleBaseSettings);
+                        result.putAll(new LdapName(possibleRoleDN), this.roleBaseSettings);
                     } catch (InvalidNameException e) {
                         // ignore
                     }
@@ -469,20 +655,14 @@ public class LDAPAuthorizationBackend2 implements AuthorizationBackend, Destroya
             }
         }
 
-        if (isTraceEnabled) {
-            log.trace("result nested attr count for depth {} : {}", depth, result.size());
-        }
-
         if (rolesearchEnabled) {
-            String escapedDn = roleDn.toString();
-
-            for (Map.Entry<String, Settings> roleSearchBaseSettingsEntry : Utils.getOrderedBaseSettings(roleSearchBaseSettingsSet)) {
+            for (Map.Entry<String, Settings> roleSearchBaseSettingsEntry : Utils.getOrderedBaseSettings(key.roleSearchBaseSettings)) {
                 Settings roleSearchSettings = roleSearchBaseSettingsEntry.getValue();
 
                 SearchFilter f = new SearchFilter();
                 f.setFilter(roleSearchSettings.get(ConfigConstants.LDAP_AUTHCZ_SEARCH, DEFAULT_ROLESEARCH));
-                f.setParameter(ZERO_PLACEHOLDER, escapedDn);
-                f.setParameter(ONE_PLACEHOLDER, escapedDn);
+                f.setParameter(ZERO_PLACEHOLDER, roleDn);
+                f.setParameter(ONE_PLACEHOLDER, roleDn);
 
                 List<LdapEntry> foundEntries = LdapHelper.search(
                     ldapConnection,
@@ -496,7 +676,7 @@ public class LDAPAuthorizationBackend2 implements AuthorizationBackend, Destroya
                 if (isTraceEnabled) {
                     log.trace(
                         "Results for LDAP group search for {} in base {}:\n{}",
-                        escapedDn,
+                        roleDn,
                         roleSearchBaseSettingsEntry.getKey(),
                         foundEntries
                     );
@@ -505,9 +685,7 @@ public class LDAPAuthorizationBackend2 implements AuthorizationBackend, Destroya
                 if (foundEntries != null) {
                     for (final LdapEntry entry : foundEntries) {
                         try {
-                            final LdapName dn = new LdapName(entry.getDn());
-                            result.add(dn);
-                            resultRoleSearchBaseKeys.put(dn, roleSearchBaseSettingsEntry);
+                            result.put(new LdapName(entry.getDn()), roleSearchBaseSettingsEntry);
                         } catch (final InvalidNameException e) {
                             throw new LdapException(e);
                         }
@@ -516,35 +694,21 @@ public class LDAPAuthorizationBackend2 implements AuthorizationBackend, Destroya
             }
         }
 
-        int maxDepth = ConfigConstants.LDAP_AUTHZ_MAX_NESTED_DEPTH_DEFAULT;
-        try {
-            maxDepth = settings.getAsInt(ConfigConstants.LDAP_AUTHZ_MAX_NESTED_DEPTH, ConfigConstants.LDAP_AUTHZ_MAX_NESTED_DEPTH_DEFAULT);
-        } catch (Exception e) {
-            log.error(ConfigConstants.LDAP_AUTHZ_MAX_NESTED_DEPTH + " is not parseable: ", e);
-        }
-
-        if (depth < maxDepth) {
-            for (final LdapName nm : new HashSet<LdapName>(result)) {
-                Set<Map.Entry<String, Settings>> nameRoleSearchBaseKeys = resultRoleSearchBaseKeys.get(nm);
+        return result.build();
+    }
 
-                if (nameRoleSearchBaseKeys == null) {
-                    log.error("Could not find roleSearchBaseKeys for {}; existing: {}", nm, resultRoleSearchBaseKeys);
-                    continue;
-                }
+    private static LdapException toLdapException(Exception e) {
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
 
-                final Set<LdapName> in = resolveNestedRoles(
-                    nm,
-                    ldapConnection,
-                    userRoleName,
-                    depth,
-                    rolesearchEnabled,
-                    nameRoleSearchBaseKeys
-                );
-                result.addAll(in);
-            }
+        if (cause instanceof LdapException ldapException) {
+            return ldapException;
+        } else if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        } else if (cause instanceof Exception exception) {
+            return new LdapException(exception);
+        } else {
+            throw new OpenSearchSecurityException(cause.toString(), cause);
         }
-
-        return result;
     }
 
     @Override
@@ -600,10 +764,45 @@ public class LDAPAuthorizationBackend2 implements AuthorizationBackend, Destroya
 
     @Override
     public void destroy() {
+        if (this.nestedRoleExecutor != null) {
+            this.nestedRoleExecutor.shutdown();
+        }
+
         if (this.connectionPool != null) {
             this.connectionPool.close();
             this.connectionPool = null;
         }
     }
 
+    /**
+     * Identifies the resolution of the parent roles of a role. The parent roles also depend on the role bases which
+     * are searched; these depend on how the role itself was found.
+     */
+    static class NestedRoleKey {
+        private final LdapName roleDn;
+        private final ImmutableSet<Map.Entry<String, Settings>> roleSearchBaseSettings;
+
+        NestedRoleKey(LdapName roleDn, Set<Map.Entry<String, Settings>> roleSearchBaseSettings) {
+            this.roleDn = roleDn;
+            this.roleSearchBaseSettings = ImmutableSet.copyOf(roleSearchBaseSettings);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof NestedRoleKey)) {
+                return false;
+            }
+            NestedRoleKey that = (NestedRoleKey) o;
+            return roleDn.equals(that.roleDn) && roleSearchBaseSettings.equals(that.roleSearchBaseSettings);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(roleDn, roleSearchBaseSettings);
+        }
+    }
+
 }
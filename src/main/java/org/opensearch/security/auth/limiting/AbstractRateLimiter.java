@@ -46,7 +46,8 @@ public abstract class AbstractRateLimiter<ClientIdType> implements AuthFailureLi
         this.rateTracker = RateTracker.create(
             settings.getAsInt("time_window_seconds", 60 * 60) * 1000,
             settings.getAsInt("allowed_tries", 10),
-            settings.getAsInt("max_tracked_clients", 100_000)
+            settings.getAsInt("max_tracked_clients", 100_000),
+            settings.get("rate_tracker", RateTracker.HEAP_TYPE)
         );
     }
 
@@ -29,6 +29,7 @@ package org.opensearch.security.compliance;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -107,6 +108,49 @@ public class ComplianceConfig {
     private final String auditLogIndex;
     private final boolean enabled;
     private final Supplier<DateTime> dateProvider;
+    private final WriteDiffMode writeDiffMode;
+
+    /**
+     * Determines for which write operations the previous version of a document is fetched in order to compute a diff
+     */
+    public enum WriteDiffMode {
+        /**
+         * The previous version of a document is fetched for every write operation which might update a document
+         */
+        FULL("full"),
+        /**
+         * The previous version of a document is only fetched for conditional writes, i.e., for writes which carry
+         * if_seq_no and if_primary_term. These are issued by the update API, which has just loaded the document.
+         * Diffs are omitted for unconditional overwrites, for these only the sequence numbers are recorded.
+         */
+        UPDATES_ONLY("updates_only"),
+        /**
+         * The previous version of a document is never fetched. Only the sequence numbers and primary terms
+         * of the new and, if known, of the previous version of a document are recorded.
+         */
+        SEQ_NO_ONLY("seq_no_only");
+
+        private final String value;
+
+        WriteDiffMode(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public static WriteDiffMode from(String value) {
+            for (WriteDiffMode mode : values()) {
+                if (mode.value.equals(value.toLowerCase(Locale.ROOT))) {
+                    return mode;
+                }
+            }
+            throw new IllegalArgumentException(
+                "Invalid value for " + ConfigConstants.SECURITY_COMPLIANCE_HISTORY_WRITE_DIFF_MODE + ": " + value
+            );
+        }
+    }
 
     private ComplianceConfig(
         final boolean enabled,
@@ -122,7 +166,8 @@ public class ComplianceConfig {
         final String securityIndex,
         final String destinationType,
         final String destinationIndex,
-        final Supplier<DateTime> dateProvider
+        final Supplier<DateTime> dateProvider,
+        final WriteDiffMode writeDiffMode
     ) {
         this.enabled = enabled;
         this.logExternalConfig = logExternalConfig;
@@ -174,6 +219,7 @@ public class ComplianceConfig {
         });
 
         this.dateProvider = Optional.ofNullable(dateProvider).orElse(() -> DateTime.now(DateTimeZone.UTC));
+        this.writeDiffMode = writeDiffMode;
     }
 
     @VisibleForTesting
@@ -208,7 +254,10 @@ public class ComplianceConfig {
                 ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_OPENSEARCH_INDEX,
                 "'security-auditlog-'YYYY.MM.dd"
             ),
-            dateProvider
+            dateProvider,
+            WriteDiffMode.from(
+                settings.get(ConfigConstants.SECURITY_COMPLIANCE_HISTORY_WRITE_DIFF_MODE, WriteDiffMode.FULL.getValue())
+            )
         );
     }
 
@@ -220,6 +269,7 @@ public class ComplianceConfig {
         logger.info("Auditing read operation requests from {} users is disabled.", ignoredComplianceUsersForReadMatcher);
         logger.info("Auditing only metadata information for write request is {}.", logWriteMetadataOnly ? "enabled" : "disabled");
         logger.info("Auditing diffs for write requests is {}.", logDiffsForWrite ? "enabled" : "disabled");
+        logger.info("Mode for auditing diffs of write requests is {}.", writeDiffMode.getValue());
         logger.info("Auditing write operation requests from {} users is disabled.", ignoredComplianceUsersForWriteMatcher);
         logger.info("Auditing will watch {} for write requests.", watchedWriteIndicesMatcher);
         logger.info("{} is used as internal security index.", securityIndex);
@@ -391,6 +441,14 @@ public class ComplianceConfig {
         return !shouldLogWriteMetadataOnly() && logDiffsForWrite;
     }
 
+    /**
+     * Returns the mode which determines for which write requests diffs are computed
+     * @return the write diff mode
+     */
+    public WriteDiffMode getWriteDiffMode() {
+        return writeDiffMode;
+    }
+
     /**
      * Checks if only metadata for write requests should be logged
      * @return true/false
@@ -17,6 +17,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.opensearch.OpenSearchException;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexService;
@@ -25,8 +26,10 @@ import org.opensearch.index.engine.Engine.DeleteResult;
 import org.opensearch.index.engine.Engine.Index;
 import org.opensearch.index.engine.Engine.IndexResult;
 import org.opensearch.index.get.GetResult;
+import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.security.auditlog.AuditLog;
+import org.opensearch.security.compliance.ComplianceConfig.WriteDiffMode;
 import org.opensearch.threadpool.ThreadPool;
 
 import static org.opensearch.security.support.ConfigConstants.OPENDISTRO_SECURITY_CONF_REQUEST_HEADER;
@@ -53,16 +56,31 @@ public final class ComplianceIndexingOperationListenerImpl extends ComplianceInd
     }
 
     private static final class Context {
+        private static final Context NOT_FETCHED = new Context(null, false);
+
         private final GetResult getResult;
+        private final boolean fetched;
 
         public Context(GetResult getResult) {
+            this(getResult, true);
+        }
+
+        private Context(GetResult getResult, boolean fetched) {
             super();
             this.getResult = getResult;
+            this.fetched = fetched;
         }
 
         public GetResult getGetResult() {
             return getResult;
         }
+
+        /**
+         * Returns false if the original document was deliberately not fetched
+         */
+        public boolean isFetched() {
+            return fetched;
+        }
     }
 
     private static final ThreadLocal<Context> threadContext = new ThreadLocal<Context>();
@@ -82,7 +100,8 @@ public final class ComplianceIndexingOperationListenerImpl extends ComplianceInd
 
     @Override
     public Index preIndex(final ShardId shardId, final Index index) {
-        if (isLoggingWriteDiffEnabled(auditlog.getComplianceConfig(), shardId.getIndexName())) {
+        final ComplianceConfig complianceConfig = auditlog.getComplianceConfig();
+        if (isLoggingWriteDiffEnabled(complianceConfig, shardId.getIndexName())) {
             Objects.requireNonNull(is);
 
             final IndexShard shard;
@@ -91,6 +110,11 @@ public final class ComplianceIndexingOperationListenerImpl extends ComplianceInd
                 return index;
             }
 
+            if (!shouldFetchOriginalDocument(complianceConfig.getWriteDiffMode(), index)) {
+                threadContext.set(Context.NOT_FETCHED);
+                return index;
+            }
+
             if ((shard = is.getShardOrNull(shardId.getId())) == null) {
                 return index;
             }
@@ -147,7 +171,10 @@ public final class ComplianceIndexingOperationListenerImpl extends ComplianceInd
                 return;
             }
 
-            if (previousContent == null) {
+            // if the previous content was deliberately not fetched, there is nothing to check
+            final boolean fetched = context == null || context.isFetched();
+
+            if (previousContent == null && fetched) {
                 // no previous content
                 if (!result.isCreated()) {
                     log.warn(
@@ -158,7 +185,7 @@ public final class ComplianceIndexingOperationListenerImpl extends ComplianceInd
                     );
                 }
                 assert result.isCreated() : "No previous content and not created";
-            } else {
+            } else if (previousContent != null) {
                 if (result.isCreated()) {
                     log.warn("Previous content and created for {}/{}/{}", index.startTime(), shardId, index.id());
                 }
@@ -176,6 +203,25 @@ public final class ComplianceIndexingOperationListenerImpl extends ComplianceInd
         }
     }
 
+    /**
+     * Fetching the original document doubles the I/O of a write operation, thus we avoid it where possible.
+     */
+    private static boolean shouldFetchOriginalDocument(final WriteDiffMode writeDiffMode, final Index index) {
+        if (index.getAutoGeneratedIdTimestamp() != IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP && !index.isRetry()) {
+            // documents with auto generated ids are always new ones
+            return false;
+        }
+
+        switch (writeDiffMode) {
+            case FULL:
+                return true;
+            case UPDATES_ONLY:
+                return index.getIfSeqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO;
+            default:
+                return false;
+        }
+    }
+
     private static boolean isLoggingWriteEnabled(final ComplianceConfig complianceConfig, final String indexName) {
         return complianceConfig != null && complianceConfig.writeHistoryEnabledForIndex(indexName);
     }
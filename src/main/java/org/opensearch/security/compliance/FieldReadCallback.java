@@ -12,12 +12,11 @@
 package org.opensearch.security.compliance;
 
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -101,17 +100,23 @@ public final class FieldReadCallback {
 
             if (fieldInfo.name.equals("_source")) {
 
+                final Predicate<String> watchedField = k -> auditLog.getComplianceConfig().readHistoryEnabledForField(index.getName(), k);
+                final Map<String, Object> watchedSource;
+
                 if (filterFunction != null) {
                     final Map<String, Object> filteredSource = filterFunction.apply(Utils.byteArrayToMutableJsonMap(fieldValue));
-                    fieldValue = Utils.jsonMapToByteArray(filteredSource);
+                    watchedSource = JsonFlattener.flattenAsMap(filteredSource, watchedField);
+                } else {
+                    // Only the values of watched fields are materialized
+                    watchedSource = JsonFlattener.flattenAsMap(fieldValue, watchedField);
                 }
 
-                final Map<String, Object> filteredSource = JsonFlattener.flattenAsMap(new String(fieldValue, StandardCharsets.UTF_8));
-                for (String k : filteredSource.keySet()) {
-                    if (!recordField(k, filteredSource.get(k) instanceof String)) {
+                for (Map.Entry<String, Object> entry : watchedSource.entrySet()) {
+                    // We do not record fields in read history if they are masked.
+                    if (entry.getValue() instanceof String && fmRule.isMasked(entry.getKey())) {
                         continue;
                     }
-                    fieldRead0(k, filteredSource.get(k));
+                    fieldRead0(entry.getKey(), entry.getValue());
                 }
             } else if (fieldInfo.name.equals("_id")) {
                 fieldRead0(fieldInfo.name, Uid.decodeId(fieldValue));
@@ -150,7 +155,7 @@ public final class FieldReadCallback {
             if (fieldName.equals("_id")) {
                 doc.setId(fieldValue.toString());
             } else {
-                doc.addField(new Field(fieldName, fieldValue));
+                doc.addField(fieldName, fieldValue);
             }
         } else {
             final String indexName = index.getName();
@@ -158,7 +163,7 @@ public final class FieldReadCallback {
                 doc = new Doc(indexName, fieldValue.toString());
             } else {
                 doc = new Doc(indexName, null);
-                doc.addField(new Field(fieldName, fieldValue));
+                doc.addField(fieldName, fieldValue);
             }
         }
     }
@@ -168,11 +173,7 @@ public final class FieldReadCallback {
             return;
         }
         try {
-            Map<String, String> f = new HashMap<String, String>();
-            for (Field fi : doc.fields) {
-                f.put(fi.fieldName, String.valueOf(fi.fieldValue));
-            }
-            auditLog.logDocumentRead(doc.indexName, doc.id, shardId, f);
+            auditLog.logDocumentRead(doc.indexName, doc.id, shardId, doc.fields);
         } catch (Exception e) {
             log.error("Unexpected error finished compliance read entry {} in index '{}': {}", doc.id, index.getName(), e.toString(), e);
         } finally {
@@ -184,7 +185,7 @@ public final class FieldReadCallback {
     private class Doc {
         final String indexName;
         String id;
-        final List<Field> fields = new ArrayList<Field>();
+        final Map<String, String> fields = new HashMap<String, String>();
 
         public Doc(String indexName, String id) {
             super();
@@ -192,8 +193,8 @@ public final class FieldReadCallback {
             this.id = id;
         }
 
-        public void addField(Field f) {
-            fields.add(f);
+        public void addField(String fieldName, Object fieldValue) {
+            fields.put(fieldName, String.valueOf(fieldValue));
         }
 
         public void setId(String id) {
@@ -205,20 +206,4 @@ public final class FieldReadCallback {
             return "Doc [indexName=" + indexName + ", id=" + id + ", fields=" + fields + "]";
         }
     }
-
-    private class Field {
-        final String fieldName;
-        final Object fieldValue;
-
-        public Field(String fieldName, Object fieldValue) {
-            super();
-            this.fieldName = fieldName;
-            this.fieldValue = fieldValue;
-        }
-
-        @Override
-        public String toString() {
-            return "Field [fieldName=" + fieldName + ", fieldValue=" + fieldValue + "]";
-        }
-    }
 }
@@ -36,6 +36,8 @@ import java.util.function.Function;
 import javax.naming.InvalidNameException;
 import javax.naming.ldap.LdapName;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -54,6 +56,7 @@ public class AdminDNs {
     private final Map<String, WildcardMatcher> allowedRestImpersonations;
     private boolean injectUserEnabled;
     private boolean injectAdminUserEnabled;
+    private final Cache<String, Boolean> adminDnDecisions = CacheBuilder.newBuilder().maximumSize(10000).build();
 
     public AdminDNs(final Settings settings) {
 
@@ -135,11 +138,27 @@ public class AdminDNs {
 
         if (dn == null) return false;
 
+        if (adminDn.isEmpty()) {
+            return false;
+        }
+
+        // Parsing the DN is comparably expensive and happens for every request; the admin DNs never change
+        Boolean cached = adminDnDecisions.getIfPresent(dn);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        boolean result;
+
         try {
-            return isAdminDN(new LdapName(dn));
+            result = isAdminDN(new LdapName(dn));
         } catch (InvalidNameException e) {
-            return false;
+            result = false;
         }
+
+        adminDnDecisions.put(dn, result);
+        return result;
     }
 
     private boolean isAdminDN(LdapName dn) {
@@ -27,6 +27,7 @@
 package org.opensearch.security.configuration;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -551,6 +552,71 @@ public class ConfigurationRepository implements ClusterStateListener, IndexEvent
         }
     }
 
+    /**
+     * Applies the changes of single entries of a configuration type, which were written on top of the given base
+     * version of its configuration document, without reloading the whole configuration type. Only the listeners are
+     * notified, and only about the changed configuration type.
+     *
+     * @param changedEntries the JSON representations of the changed entries; a null value removes the entry
+     * @return false if the changes could not be applied, because the local configuration is not at the base version.
+     *         The configuration type needs to be reloaded then.
+     */
+    public boolean applyChangedEntries(
+        final CType<?> configType,
+        final long baseSeqNo,
+        final long basePrimaryTerm,
+        final long seqNo,
+        final long primaryTerm,
+        final Map<String, String> changedEntries
+    ) throws ConfigUpdateAlreadyInProgressException {
+        if (!initalizeConfigTask.isDone()) {
+            return false;
+        }
+        try {
+            if (!LOCK.tryLock(60, TimeUnit.SECONDS)) {
+                throw new ConfigUpdateAlreadyInProgressException("A config update is already in progress");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConfigUpdateAlreadyInProgressException("Interrupted config update");
+        }
+        try {
+            final SecurityDynamicConfiguration<?> current = configCache.getIfPresent(configType);
+            if (current == null) {
+                return false;
+            }
+            if (current.getSeqNo() == seqNo && current.getPrimaryTerm() == primaryTerm) {
+                LOGGER.debug("Configuration {} is already at version {}/{}", configType, seqNo, primaryTerm);
+                return true;
+            }
+            if (current.getSeqNo() != baseSeqNo || current.getPrimaryTerm() != basePrimaryTerm) {
+                LOGGER.debug(
+                    "Cannot apply changes of {} based on version {}/{} to version {}/{}",
+                    configType,
+                    baseSeqNo,
+                    basePrimaryTerm,
+                    current.getSeqNo(),
+                    current.getPrimaryTerm()
+                );
+                return false;
+            }
+
+            final Map<String, String> resolvedEntries = new HashMap<>();
+            changedEntries.forEach(
+                (name, json) -> resolvedEntries.put(name, json == null ? null : SecurityUtils.replaceEnvVars(json, settings))
+            );
+            final SecurityDynamicConfiguration<?> updated = current.withChangedEntries(resolvedEntries, seqNo, primaryTerm);
+            LOGGER.debug("Applied changes of {} entries to {}", changedEntries.size(), configType);
+            notifyConfigurationListeners(ConfigurationMap.of(updated));
+            return true;
+        } catch (final IOException e) {
+            LOGGER.warn("Failed to apply changes of {}, it will be reloaded", configType, e);
+            return false;
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
     private void reloadConfiguration0(Collection<CType<?>> configTypes, boolean acceptInvalid) {
         ConfigurationMap loaded = getConfigurationsFromIndex(configTypes, false, acceptInvalid);
         notifyConfigurationListeners(loaded);
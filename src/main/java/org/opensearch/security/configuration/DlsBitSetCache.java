@@ -0,0 +1,185 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.FixedBitSet;
+
+import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.security.privileges.dlsfls.FieldMasking;
+import org.opensearch.security.privileges.dlsfls.FieldPrivileges;
+
+/**
+ * A node-level cache for the bit sets which result from applying DLS queries to index segments.
+ * <p>
+ * Computing the DLS bit set requires a full execution of the DLS query on the segment. As many users usually share
+ * only a few distinct DLS queries, this cache allows to re-use the computed bit sets across requests and users.
+ * <p>
+ * Cache keys consist of the core cache key of the segment, the rewritten Lucene DLS query, the FLS rule and the field
+ * masking rule. The FLS and field masking rules are part of the key because the DLS query is executed on a reader
+ * which already has FLS and field masking applied; a DLS query on a masked field thus yields different bit sets for
+ * different field masking rules. Field masking rules are compared by identity, as they do not implement equality;
+ * all rules which do not mask anything share the same key, though. The cached
+ * bit sets do not reflect document deletions; these must be applied by the caller, as deletions do not change
+ * the core cache key of a segment.
+ * <p>
+ * Entries are evicted when the segment is closed, when the role configuration changes and when the configured
+ * maximum heap size is exceeded. In the latter case, the least recently used entries are evicted first.
+ */
+public class DlsBitSetCache {
+
+    private static final Logger log = LogManager.getLogger(DlsBitSetCache.class);
+
+    /**
+     * Enables or disables the cache. If disabled, DLS bit sets are computed for every wrapped segment.
+     */
+    public static final Setting<Boolean> ENABLED = Setting.boolSetting(
+        "plugins.security.dls.bitset_cache.enabled",
+        true,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * This setting specifies the maximum heap size occupied by cached bit sets. The default is 1% of the heap.
+     */
+    public static final Setting<ByteSizeValue> MAX_HEAP_SIZE = Setting.memorySizeSetting(
+        "plugins.security.dls.bitset_cache.max_heap_size",
+        "1%",
+        Setting.Property.NodeScope
+    );
+
+    private final boolean enabled;
+    private final Cache<Key, FixedBitSet> cache;
+
+    /**
+     * Segments for which we have already registered a listener that cleans up the cache on segment close.
+     */
+    private final Set<IndexReader.CacheKey> segmentsWithClosedListener = ConcurrentHashMap.newKeySet();
+
+    public DlsBitSetCache(Settings settings) {
+        this.enabled = ENABLED.get(settings);
+        this.cache = CacheBuilder.newBuilder()
+            .weigher((Weigher<Key, FixedBitSet>) (key, bitSet) -> (int) Math.min(Integer.MAX_VALUE, bitSet.ramBytesUsed()))
+            .maximumWeight(MAX_HEAP_SIZE.get(settings).getBytes())
+            .build();
+    }
+
+    /**
+     * Returns the bit set of the documents in the given segment which match the given DLS query. If the bit set
+     * is not cached yet, it will be computed using the given loader and then stored in the cache.
+     * <p>
+     * The returned bit set is shared and must not be modified.
+     */
+    FixedBitSet getOrCompute(
+        LeafReader segment,
+        Query dlsQuery,
+        FieldPrivileges.FlsRule flsRule,
+        FieldMasking.FieldMaskingRule fmRule,
+        CheckedSupplier<FixedBitSet, IOException> loader
+    ) throws IOException {
+        IndexReader.CacheHelper coreCacheHelper = segment.getCoreCacheHelper();
+
+        if (!enabled || coreCacheHelper == null) {
+            return loader.get();
+        }
+
+        IndexReader.CacheKey coreKey = coreCacheHelper.getKey();
+
+        if (segmentsWithClosedListener.add(coreKey)) {
+            coreCacheHelper.addClosedListener(this::onSegmentClosed);
+        }
+
+        try {
+            return cache.get(new Key(coreKey, dlsQuery, flsRule, fmRule), loader::get);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else {
+                throw new RuntimeException(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Removes all entries from the cache. This must be called when the role configuration changes.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    long size() {
+        return cache.size();
+    }
+
+    private void onSegmentClosed(IndexReader.CacheKey coreKey) {
+        segmentsWithClosedListener.remove(coreKey);
+        cache.asMap().keySet().removeIf(key -> key.coreKey == coreKey);
+
+        if (log.isTraceEnabled()) {
+            log.trace("Removed DLS bit sets of closed segment {}; remaining entries: {}", coreKey, cache.size());
+        }
+    }
+
+    private static final class Key {
+        private final IndexReader.CacheKey coreKey;
+        private final Query dlsQuery;
+        private final FieldPrivileges.FlsRule flsRule;
+        private final FieldMasking.FieldMaskingRule fmRule;
+        private final int hashCode;
+
+        Key(IndexReader.CacheKey coreKey, Query dlsQuery, FieldPrivileges.FlsRule flsRule, FieldMasking.FieldMaskingRule fmRule) {
+            this.coreKey = coreKey;
+            this.dlsQuery = dlsQuery;
+            this.flsRule = flsRule;
+            this.fmRule = fmRule.isAllowAll() ? FieldMasking.FieldMaskingRule.ALLOW_ALL : fmRule;
+            this.hashCode = Objects.hash(System.identityHashCode(coreKey), dlsQuery, flsRule, System.identityHashCode(this.fmRule));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key that)) {
+                return false;
+            }
+            return this.coreKey == that.coreKey
+                && this.fmRule == that.fmRule
+                && this.dlsQuery.equals(that.dlsQuery)
+                && this.flsRule.equals(that.flsRule);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
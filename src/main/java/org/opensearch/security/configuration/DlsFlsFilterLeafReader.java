@@ -87,6 +87,28 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
     private final FieldPrivileges.FlsRule flsRule;
     private final FieldMasking.FieldMaskingRule fmRule;
     private final Set<String> metaFields;
+    private final DlsBitSetCache dlsBitSetCache;
+
+    /**
+     * Memoized FLS and field masking decisions, indexed by FieldInfo.number. A value of 0 means that the decision
+     * has not been computed yet. Otherwise, the value is a combination of the FIELD_DECISION_* flags. Concurrent
+     * updates are harmless, as all threads would compute the same values.
+     */
+    private final byte[] fieldDecisions;
+
+    private static final byte FIELD_DECISION_COMPUTED = 1;
+    /**
+     * The field is a meta field or it is allowed by FLS. It might be still masked, though.
+     */
+    private static final byte FIELD_DECISION_VISIBLE = 2;
+    /**
+     * The field is a meta field or it is allowed by FLS and not masked.
+     */
+    private static final byte FIELD_DECISION_FULLY_VISIBLE = 4;
+    /**
+     * The field is allowed by FLS, disregarding meta fields.
+     */
+    private static final byte FIELD_DECISION_FLS_ALLOWED = 8;
 
     private DlsGetEvaluator dge = null;
 
@@ -100,7 +122,8 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
         final AuditLog auditlog,
         final FieldMasking.FieldMaskingRule fmRule,
         final ShardId shardId,
-        final Set<String> metaFields
+        final Set<String> metaFields,
+        final DlsBitSetCache dlsBitSetCache
     ) {
         super(delegate);
 
@@ -113,21 +136,32 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
         this.flsRule = flsRule;
         this.fmRule = fmRule;
         this.metaFields = metaFields;
+        this.dlsBitSetCache = dlsBitSetCache;
 
         try {
+            FieldInfos originalFieldInfos = delegate.getFieldInfos();
+            int maxFieldNumber = -1;
+
+            if (!flsRule.isAllowAll() || !fmRule.isAllowAll()) {
+                for (FieldInfo fieldInfo : originalFieldInfos) {
+                    maxFieldNumber = Math.max(maxFieldNumber, fieldInfo.number);
+                }
+            }
+
+            this.fieldDecisions = new byte[maxFieldNumber + 1];
+
             if (!flsRule.isAllowAll()) {
-                FieldInfos originalFieldInfos = delegate.getFieldInfos();
                 List<FieldInfo> restrictedFieldInfos = new ArrayList<>(originalFieldInfos.size());
 
                 for (FieldInfo fieldInfo : originalFieldInfos) {
-                    if (metaFields.contains(fieldInfo.name) || flsRule.isAllowedRecursive(fieldInfo.name)) {
+                    if ((fieldInfoDecision(fieldInfo) & FIELD_DECISION_VISIBLE) != 0) {
                         restrictedFieldInfos.add(fieldInfo);
                     }
                 }
 
                 this.flsFieldInfos = new FieldInfos(restrictedFieldInfos.toArray(new FieldInfo[restrictedFieldInfos.size()]));
             } else {
-                this.flsFieldInfos = delegate.getFieldInfos();
+                this.flsFieldInfos = originalFieldInfos;
             }
 
             dge = new DlsGetEvaluator(dlsQuery, in, dlsQuery != null && applyDlsHere());
@@ -144,29 +178,29 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
 
         public DlsGetEvaluator(final Query dlsQuery, final LeafReader in, boolean applyDlsHere) throws IOException {
             if (dlsQuery != null && applyDlsHere) {
-                // borrowed from Apache Lucene (Copyright Apache Software Foundation (ASF))
-                // https://github.com/apache/lucene-solr/blob/branch_6_3/lucene/misc/src/java/org/apache/lucene/index/PKIndexSplitter.java
-                final IndexSearcher searcher = new IndexSearcher(DlsFlsFilterLeafReader.this);
-                searcher.setQueryCache(null);
-                final Weight preserveWeight = searcher.rewrite(dlsQuery).createWeight(searcher, ScoreMode.COMPLETE_NO_SCORES, 1f);
-
-                final int maxDoc = in.maxDoc();
-                final FixedBitSet bits = new FixedBitSet(maxDoc);
-                final Scorer preserveScorer = preserveWeight.scorer(DlsFlsFilterLeafReader.this.getContext());
-
-                if (preserveScorer != null) {
-                    bits.or(preserveScorer.iterator());
-                }
+                final FixedBitSet matchingBits = dlsBitSetCache.getOrCompute(
+                    in,
+                    dlsQuery,
+                    flsRule,
+                    fmRule,
+                    () -> computeMatchingBits(dlsQuery)
+                );
+                final Bits bits;
 
                 if (in.hasDeletions()) {
+                    // The cached bit set is shared and does not reflect deletions; thus, we need to work on a copy
+                    final FixedBitSet bitsWithoutDeletions = matchingBits.clone();
                     final Bits oldLiveDocs = in.getLiveDocs();
                     assert oldLiveDocs != null;
-                    final DocIdSetIterator it = new BitSetIterator(bits, 0L);
+                    final DocIdSetIterator it = new BitSetIterator(bitsWithoutDeletions, 0L);
                     for (int i = it.nextDoc(); i != DocIdSetIterator.NO_MORE_DOCS; i = it.nextDoc()) {
                         if (!oldLiveDocs.get(i)) {
-                            bits.clear(i);
+                            bitsWithoutDeletions.clear(i);
                         }
                     }
+                    bits = bitsWithoutDeletions;
+                } else {
+                    bits = matchingBits;
                 }
 
                 liveBits = bits;
@@ -183,6 +217,23 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
             }
         }
 
+        private FixedBitSet computeMatchingBits(final Query dlsQuery) throws IOException {
+            // borrowed from Apache Lucene (Copyright Apache Software Foundation (ASF))
+            // https://github.com/apache/lucene-solr/blob/branch_6_3/lucene/misc/src/java/org/apache/lucene/index/PKIndexSplitter.java
+            final IndexSearcher searcher = new IndexSearcher(DlsFlsFilterLeafReader.this);
+            searcher.setQueryCache(null);
+            final Weight preserveWeight = searcher.rewrite(dlsQuery).createWeight(searcher, ScoreMode.COMPLETE_NO_SCORES, 1f);
+
+            final FixedBitSet bits = new FixedBitSet(DlsFlsFilterLeafReader.this.in.maxDoc());
+            final Scorer preserveScorer = preserveWeight.scorer(DlsFlsFilterLeafReader.this.getContext());
+
+            if (preserveScorer != null) {
+                bits.or(preserveScorer.iterator());
+            }
+
+            return bits;
+        }
+
         // return null means no hidden docs
         public Bits getLiveDocs() {
             return liveBits;
@@ -212,6 +263,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
         private final FieldMasking.FieldMaskingRule fmRule;
         private final ShardId shardId;
         private final Set<String> metaFields;
+        private final DlsBitSetCache dlsBitSetCache;
 
         public DlsFlsSubReaderWrapper(
             final FieldPrivileges.FlsRule flsRule,
@@ -222,7 +274,8 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
             final AuditLog auditlog,
             final FieldMasking.FieldMaskingRule fmRule,
             ShardId shardId,
-            final Set<String> metaFields
+            final Set<String> metaFields,
+            final DlsBitSetCache dlsBitSetCache
         ) {
             this.flsRule = flsRule;
             this.dlsQuery = dlsQuery;
@@ -233,6 +286,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
             this.fmRule = fmRule;
             this.shardId = shardId;
             this.metaFields = metaFields;
+            this.dlsBitSetCache = dlsBitSetCache;
         }
 
         @Override
@@ -247,7 +301,8 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
                 auditlog,
                 fmRule,
                 shardId,
-                metaFields
+                metaFields,
+                dlsBitSetCache
             );
         }
 
@@ -264,6 +319,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
         private final FieldMasking.FieldMaskingRule fmRule;
         private final ShardId shardId;
         private final Set<String> metaFields;
+        private final DlsBitSetCache dlsBitSetCache;
 
         public DlsFlsDirectoryReader(
             final DirectoryReader in,
@@ -275,7 +331,8 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
             final AuditLog auditlog,
             final FieldMasking.FieldMaskingRule fmRule,
             ShardId shardId,
-            final Set<String> metaFields
+            final Set<String> metaFields,
+            final DlsBitSetCache dlsBitSetCache
         ) throws IOException {
             super(
                 in,
@@ -288,7 +345,8 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
                     auditlog,
                     fmRule,
                     shardId,
-                    metaFields
+                    metaFields,
+                    dlsBitSetCache
                 )
             );
             this.flsRule = flsRule;
@@ -300,6 +358,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
             this.fmRule = fmRule;
             this.shardId = shardId;
             this.metaFields = metaFields;
+            this.dlsBitSetCache = dlsBitSetCache;
         }
 
         @Override
@@ -314,7 +373,8 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
                 auditlog,
                 fmRule,
                 shardId,
-                metaFields
+                metaFields,
+                dlsBitSetCache
             );
         }
 
@@ -405,7 +465,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
      * Exceptions are meta fields, which are always fully visible to a user, regardless of any configuration.
      */
     private boolean isAllowed(String fieldName) {
-        return this.metaFields.contains(fieldName) || (this.flsRule.isAllowedRecursive(fieldName) && !this.fmRule.isMasked(fieldName));
+        return (fieldDecision(fieldName) & FIELD_DECISION_FULLY_VISIBLE) != 0;
     }
 
     /**
@@ -414,7 +474,64 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
      * Exceptions are meta fields, which are always fully visible to a user, regardless of any configuration.
      */
     private boolean isAllowedButPossiblyMasked(String fieldName) {
-        return this.metaFields.contains(fieldName) || this.flsRule.isAllowedRecursive(fieldName);
+        return (fieldDecision(fieldName) & FIELD_DECISION_VISIBLE) != 0;
+    }
+
+    /**
+     * Returns true if the field is allowed by FLS. Meta fields are not specially regarded.
+     */
+    private boolean isFlsAllowed(String fieldName) {
+        return (fieldDecision(fieldName) & FIELD_DECISION_FLS_ALLOWED) != 0;
+    }
+
+    private int fieldDecision(String fieldName) {
+        if (fieldName == null || this.fieldDecisions.length == 0) {
+            return computeFieldDecision(fieldName);
+        }
+
+        FieldInfo fieldInfo = in.getFieldInfos().fieldInfo(fieldName);
+
+        if (fieldInfo == null) {
+            return computeFieldDecision(fieldName);
+        }
+
+        return fieldInfoDecision(fieldInfo);
+    }
+
+    private int fieldInfoDecision(FieldInfo fieldInfo) {
+        if (fieldInfo.number >= this.fieldDecisions.length) {
+            return computeFieldDecision(fieldInfo.name);
+        }
+
+        int decision = this.fieldDecisions[fieldInfo.number];
+
+        if (decision == 0) {
+            decision = computeFieldDecision(fieldInfo.name);
+            this.fieldDecisions[fieldInfo.number] = (byte) decision;
+        }
+
+        return decision;
+    }
+
+    private int computeFieldDecision(String fieldName) {
+        int decision = FIELD_DECISION_COMPUTED;
+        boolean flsAllowed = this.flsRule.isAllowedRecursive(fieldName);
+
+        if (flsAllowed) {
+            decision |= FIELD_DECISION_FLS_ALLOWED;
+        }
+
+        if (this.metaFields.contains(fieldName)) {
+            decision |= FIELD_DECISION_VISIBLE | FIELD_DECISION_FULLY_VISIBLE;
+        } else if (flsAllowed) {
+            decision |= FIELD_DECISION_VISIBLE;
+
+            if (!this.fmRule.isMasked(fieldName)) {
+                decision |= FIELD_DECISION_FULLY_VISIBLE;
+            }
+        }
+
+        return decision;
     }
 
     @Override
@@ -555,7 +672,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
             return in.getBinaryDocValues(field);
         }
 
-        if (!this.flsRule.isAllowedRecursive(field)) {
+        if (!isFlsAllowed(field)) {
             // Forbidden by FLS
             return null;
         }
@@ -588,7 +705,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
             return in.getSortedDocValues(field);
         }
 
-        if (!this.flsRule.isAllowedRecursive(field)) {
+        if (!isFlsAllowed(field)) {
             // Forbidden by FLS
             return null;
         }
@@ -641,7 +758,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
             return in.getSortedSetDocValues(field);
         }
 
-        if (!this.flsRule.isAllowedRecursive(field)) {
+        if (!isFlsAllowed(field)) {
             // Forbidden by FLS
             return null;
         }
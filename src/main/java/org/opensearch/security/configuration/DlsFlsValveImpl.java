@@ -32,6 +32,7 @@ import org.apache.lucene.util.BytesRef;
 import org.opensearch.OpenSearchException;
 import org.opensearch.OpenSearchSecurityException;
 import org.opensearch.SpecialPermission;
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.RealtimeRequest;
 import org.opensearch.action.admin.indices.shrink.ResizeRequest;
@@ -73,11 +74,13 @@ import org.opensearch.security.privileges.PrivilegesEvaluationException;
 import org.opensearch.security.privileges.dlsfls.DlsFlsBaseContext;
 import org.opensearch.security.privileges.dlsfls.DlsFlsLegacyHeaders;
 import org.opensearch.security.privileges.dlsfls.DlsFlsProcessedConfig;
+import org.opensearch.security.privileges.dlsfls.DlsFlsRequestCacheKey;
 import org.opensearch.security.privileges.dlsfls.DlsRestriction;
 import org.opensearch.security.privileges.dlsfls.FieldMasking;
 import org.opensearch.security.privileges.dlsfls.IndexToRuleMap;
 import org.opensearch.security.resolver.IndexResolverReplacer;
 import org.opensearch.security.securityconf.DynamicConfigFactory;
+import org.opensearch.security.securityconf.impl.CType;
 import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 import org.opensearch.security.securityconf.impl.v7.RoleV7;
 import org.opensearch.security.support.ConfigConstants;
@@ -102,6 +105,7 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
     private final AtomicReference<DlsFlsProcessedConfig> dlsFlsProcessedConfig = new AtomicReference<>();
     private final FieldMasking.Config fieldMaskingConfig;
     private final Settings settings;
+    private final boolean requestCacheEnabled;
 
     public DlsFlsValveImpl(
         Settings settings,
@@ -122,6 +126,8 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
         this.fieldMaskingConfig = FieldMasking.Config.fromSettings(settings);
         this.dlsFlsBaseContext = dlsFlsBaseContext;
         this.settings = settings;
+        this.requestCacheEnabled = DlsFlsRequestCacheKey.ENABLED.get(settings)
+            && !settings.getAsBoolean(ConfigConstants.SECURITY_UNSUPPORTED_ALLOW_NOW_IN_DLS, false);
 
         clusterService.addListener(event -> {
             DlsFlsProcessedConfig config = dlsFlsProcessedConfig.get();
@@ -147,6 +153,11 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
         ActionRequest request = context.getRequest();
         IndexResolverReplacer.Resolved resolved = context.getResolvedRequest();
 
+        if (request instanceof SearchRequest) {
+            // Only this class may attach request cache keys
+            DlsFlsRequestCacheKey.removeFrom((SearchRequest) request);
+        }
+
         try {
             boolean hasDlsRestrictions = !config.getDocumentPrivileges().isUnrestricted(context, resolved);
             boolean hasFlsRestrictions = !config.getFieldPrivileges().isUnrestricted(context, resolved);
@@ -256,7 +267,7 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
                     }
 
                     if (!cacheable) {
-                        searchRequest.requestCache(Boolean.FALSE);
+                        restrictRequestCache(searchRequest, context, config, resolved, doFilterLevelDls && hasDlsRestrictions);
                     } else {
                         LogManager.getLogger("debuglogger")
                             .error(
@@ -268,7 +279,7 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
                     }
 
                 } else {
-                    searchRequest.requestCache(Boolean.FALSE);
+                    restrictRequestCache(searchRequest, context, config, resolved, doFilterLevelDls && hasDlsRestrictions);
                 }
             }
 
@@ -352,6 +363,43 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
         }
     }
 
+    /**
+     * Makes sure that the shard request cache cannot return results which were computed with different DLS/FLS
+     * restrictions. If enabled, the request is marked with a key which reflects the effective restrictions. Otherwise,
+     * the request cache is disabled for the request.
+     */
+    private void restrictRequestCache(
+        SearchRequest searchRequest,
+        PrivilegesEvaluationContext context,
+        DlsFlsProcessedConfig config,
+        IndexResolverReplacer.Resolved resolved,
+        boolean filterLevelDls
+    ) throws PrivilegesEvaluationException {
+        // Filter level DLS might depend on the contents of other indices, thus it cannot be cached.
+        // Documents on the allow list are exempt from DLS, which is not reflected by the key.
+        // Remote clusters and nodes of older versions do not know the key.
+        if (requestCacheEnabled
+            && !filterLevelDls
+            && searchRequest.source() != null
+            && resolved.getRemoteIndices().isEmpty()
+            && DocumentAllowList.get(threadContext).isEmpty()
+            && clusterService.state().nodes().getMinNodeVersion().onOrAfter(Version.CURRENT)) {
+
+            DlsFlsRequestCacheKey requestCacheKey = DlsFlsRequestCacheKey.of(
+                context,
+                config,
+                resolved.getAllIndicesResolved(clusterService, context.getIndexNameExpressionResolver())
+            );
+
+            if (requestCacheKey != null) {
+                requestCacheKey.applyTo(searchRequest);
+                return;
+            }
+        }
+
+        searchRequest.requestCache(Boolean.FALSE);
+    }
+
     @Override
     public void handleSearchContext(SearchContext searchContext, ThreadPool threadPool, NamedXContentRegistry namedXContentRegistry) {
         try {
@@ -692,6 +740,23 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
         }
     }
 
+    /**
+     * Returns a listener which updates the DLS/FLS rules of the given valve and invalidates the given bit set cache if
+     * the roles change. Changes of other configuration types are ignored, as both only depend on the roles.
+     */
+    public static ConfigurationChangeListener rolesChangeListener(
+        ConfigurationRepository configurationRepository,
+        DlsFlsValveImpl dlsFlsValve,
+        DlsBitSetCache dlsBitSetCache
+    ) {
+        return configMap -> {
+            if (configMap.containsKey(CType.ROLES)) {
+                dlsFlsValve.updateConfiguration(configurationRepository.getConfiguration(CType.ROLES));
+                dlsBitSetCache.invalidateAll();
+            }
+        };
+    }
+
     public void updateConfiguration(SecurityDynamicConfiguration<RoleV7> rolesConfiguration) {
         try {
             if (rolesConfiguration != null) {
@@ -61,6 +61,7 @@ public class SecurityFlsDlsIndexSearcherWrapper extends SystemIndexSearcherWrapp
     private final LongSupplier nowInMillis;
     private final Supplier<DlsFlsProcessedConfig> dlsFlsProcessedConfigSupplier;
     private final DlsFlsBaseContext dlsFlsBaseContext;
+    private final DlsBitSetCache dlsBitSetCache;
 
     public SecurityFlsDlsIndexSearcherWrapper(
         final IndexService indexService,
@@ -71,7 +72,8 @@ public class SecurityFlsDlsIndexSearcherWrapper extends SystemIndexSearcherWrapp
         final ComplianceIndexingOperationListener ciol,
         final PrivilegesEvaluator evaluator,
         final Supplier<DlsFlsProcessedConfig> dlsFlsProcessedConfigSupplier,
-        final DlsFlsBaseContext dlsFlsBaseContext
+        final DlsFlsBaseContext dlsFlsBaseContext,
+        final DlsBitSetCache dlsBitSetCache
     ) {
         super(indexService, settings, adminDNs, evaluator);
         Set<String> metadataFieldsCopy;
@@ -103,6 +105,7 @@ public class SecurityFlsDlsIndexSearcherWrapper extends SystemIndexSearcherWrapp
         log.debug("FLS/DLS {} enabled for index {}", this, indexService.index().getName());
         this.dlsFlsProcessedConfigSupplier = dlsFlsProcessedConfigSupplier;
         this.dlsFlsBaseContext = dlsFlsBaseContext;
+        this.dlsBitSetCache = dlsBitSetCache;
     }
 
     @SuppressWarnings("unchecked")
@@ -127,7 +130,8 @@ public class SecurityFlsDlsIndexSearcherWrapper extends SystemIndexSearcherWrapp
                 auditlog,
                 FieldMasking.FieldMaskingRule.ALLOW_ALL,
                 shardId,
-                metaFields
+                metaFields,
+                dlsBitSetCache
             );
         }
 
@@ -195,7 +199,8 @@ public class SecurityFlsDlsIndexSearcherWrapper extends SystemIndexSearcherWrapp
                 auditlog,
                 fmRule,
                 shardId,
-                metaFields
+                metaFields,
+                dlsBitSetCache
             );
 
         } catch (PrivilegesEvaluationException e) {
@@ -12,14 +12,17 @@
 package org.opensearch.security.dlic.rest.api;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import com.google.common.collect.ImmutableSet;
 import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -50,6 +53,7 @@ import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestRequest.Method;
 import org.opensearch.security.action.configupdate.ConfigUpdateAction;
+import org.opensearch.security.action.configupdate.ConfigUpdateDelta;
 import org.opensearch.security.action.configupdate.ConfigUpdateRequest;
 import org.opensearch.security.action.configupdate.ConfigUpdateResponse;
 import org.opensearch.security.dlic.rest.support.Utils;
@@ -119,7 +123,7 @@ public abstract class AbstractApiAction extends BaseRestHandler {
 
     private void buildDefaultRequestHandlers(final RequestHandler.RequestHandlersBuilder builder) {
         builder.withAccessHandler(request -> securityApiDependencies.restApiAdminPrivilegesEvaluator().isCurrentUserAdminFor(endpoint))
-            .withSaveOrUpdateConfigurationHandler(this::saveOrUpdateConfiguration)
+            .withSaveOrUpdateConfigurationHandler(this::saveOrUpdateSecurityConfiguration)
             .add(Method.POST, methodNotImplementedHandler)
             .add(Method.PATCH, methodNotImplementedHandler)
             .onGetRequest(this::processGetRequest)
@@ -274,18 +278,19 @@ public abstract class AbstractApiAction extends BaseRestHandler {
                     return additionalValidatorCheck;
                 }
             }
-            return ValidationResult.success(
-                SecurityConfiguration.of(
-                    null,// there is no entity name in case of patch, since there could be more the one diff entity within configuration
-                    SecurityDynamicConfiguration.fromNode(
-                        patchedConfigurationAsJson,
-                        configuration.getCType(),
-                        configuration.getVersion(),
-                        configuration.getSeqNo(),
-                        configuration.getPrimaryTerm()
-                    )
+            final var patchedSecurityConfiguration = SecurityConfiguration.of(
+                null,// there is no entity name in case of patch, since there could be more the one diff entity within configuration
+                SecurityDynamicConfiguration.fromNode(
+                    patchedConfigurationAsJson,
+                    configuration.getCType(),
+                    configuration.getVersion(),
+                    configuration.getSeqNo(),
+                    configuration.getPrimaryTerm()
                 )
             );
+            return ValidationResult.success(
+                changedEntityNames(patch).map(patchedSecurityConfiguration::withChangedEntityNames).orElse(patchedSecurityConfiguration)
+            );
         }));
     }
 
@@ -319,6 +324,27 @@ public abstract class AbstractApiAction extends BaseRestHandler {
         return patchedResourceNames.build();
     }
 
+    /**
+     * Returns the names of the entities changed by the given JSON diff, or empty if the diff changes the
+     * configuration as a whole.
+     */
+    static Optional<Set<String>> changedEntityNames(final JsonNode diff) {
+        final var changedEntityNames = ImmutableSet.<String>builder();
+        for (final JsonNode node : diff) {
+            for (final var pointer : List.of("path", "from")) {
+                if (!node.has(pointer)) {
+                    continue;
+                }
+                final var entityName = JsonPointer.compile(node.get(pointer).asText()).getMatchingProperty();
+                if (Strings.isNullOrEmpty(entityName) || "_meta".equals(entityName)) {
+                    return Optional.empty();
+                }
+                changedEntityNames.add(entityName);
+            }
+        }
+        return Optional.of(changedEntityNames.build());
+    }
+
     protected final ValidationResult<SecurityConfiguration> processPutRequest(final RestRequest request) throws IOException {
         return processPutRequest(nameParam(request), request);
     }
@@ -347,6 +373,21 @@ public abstract class AbstractApiAction extends BaseRestHandler {
         saveAndUpdateConfigsAsync(securityApiDependencies, client, getConfigType(), configuration, onSucessActionListener);
     }
 
+    final void saveOrUpdateSecurityConfiguration(
+        final Client client,
+        final SecurityConfiguration securityConfiguration,
+        final OnSucessActionListener<IndexResponse> onSucessActionListener
+    ) {
+        saveAndUpdateConfigsAsync(
+            securityApiDependencies,
+            client,
+            getConfigType(),
+            securityConfiguration.configuration(),
+            securityConfiguration.maybeChangedEntityNames().orElse(null),
+            onSucessActionListener
+        );
+    }
+
     protected final String nameParam(final RestRequest request) {
         final String name = request.param("name");
         if (Strings.isNullOrEmpty(name)) {
@@ -514,6 +555,61 @@ public abstract class AbstractApiAction extends BaseRestHandler {
         client.index(ir, new ConfigUpdatingActionListener<>(new String[] { cType.toLCString() }, client, actionListener));
     }
 
+    /**
+     * Saves the configuration and lets the nodes apply the changes of the given entities only, instead of reloading
+     * the whole configuration type.
+     *
+     * @param changedEntityNames the names of the changed entities, or null if they are unknown
+     */
+    public static void saveAndUpdateConfigsAsync(
+        final SecurityApiDependencies dependencies,
+        final Client client,
+        final CType<?> cType,
+        final SecurityDynamicConfiguration<?> configuration,
+        final Set<String> changedEntityNames,
+        final ActionListener<IndexResponse> actionListener
+    ) {
+        final var ir = createIndexRequestForConfig(dependencies, cType, configuration);
+        client.index(
+            ir,
+            new ConfigUpdatingActionListener<>(
+                client,
+                actionListener,
+                indexResponse -> createConfigUpdateRequest(cType, configuration, changedEntityNames, indexResponse)
+            )
+        );
+    }
+
+    private static ConfigUpdateRequest createConfigUpdateRequest(
+        final CType<?> cType,
+        final SecurityDynamicConfiguration<?> configuration,
+        final Set<String> changedEntityNames,
+        final IndexResponse indexResponse
+    ) {
+        if (changedEntityNames == null || changedEntityNames.isEmpty()) {
+            return new ConfigUpdateRequest(new String[] { cType.toLCString() });
+        }
+        try {
+            final Map<String, String> changedEntries = new HashMap<>();
+            for (final var entityName : changedEntityNames) {
+                changedEntries.put(entityName, configuration.exists(entityName) ? configuration.getCEntryAsJson(entityName) : null);
+            }
+            return new ConfigUpdateRequest(
+                cType.toLCString(),
+                new ConfigUpdateDelta(
+                    configuration.getSeqNo(),
+                    configuration.getPrimaryTerm(),
+                    indexResponse.getSeqNo(),
+                    indexResponse.getPrimaryTerm(),
+                    changedEntries
+                )
+            );
+        } catch (final JsonProcessingException e) {
+            LOGGER.warn("Could not serialize changed entries of {}, the configuration will be reloaded", cType, e);
+            return new ConfigUpdateRequest(new String[] { cType.toLCString() });
+        }
+    }
+
     private static IndexRequest createIndexRequestForConfig(
         final SecurityApiDependencies dependencies,
         final CType<?> cType,
@@ -535,20 +631,34 @@ public abstract class AbstractApiAction extends BaseRestHandler {
     }
 
     protected static class ConfigUpdatingActionListener<Response> implements ActionListener<Response> {
-        private final String[] cTypes;
         private final Client client;
         private final ActionListener<Response> delegate;
+        private final Function<Response, ConfigUpdateRequest> configUpdateRequestFactory;
 
         public ConfigUpdatingActionListener(String[] cTypes, Client client, ActionListener<Response> delegate) {
-            this.cTypes = Objects.requireNonNull(cTypes, "cTypes must not be null");
+            Objects.requireNonNull(cTypes, "cTypes must not be null");
+            this.client = Objects.requireNonNull(client, "client must not be null");
+            this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+            this.configUpdateRequestFactory = response -> new ConfigUpdateRequest(cTypes);
+        }
+
+        public ConfigUpdatingActionListener(
+            Client client,
+            ActionListener<Response> delegate,
+            Function<Response, ConfigUpdateRequest> configUpdateRequestFactory
+        ) {
             this.client = Objects.requireNonNull(client, "client must not be null");
             this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+            this.configUpdateRequestFactory = Objects.requireNonNull(
+                configUpdateRequestFactory,
+                "configUpdateRequestFactory must not be null"
+            );
         }
 
         @Override
         public void onResponse(Response response) {
 
-            final ConfigUpdateRequest cur = new ConfigUpdateRequest(cTypes);
+            final ConfigUpdateRequest cur = configUpdateRequestFactory.apply(response);
 
             client.execute(ConfigUpdateAction.INSTANCE, cur, new ActionListener<ConfigUpdateResponse>() {
                 @Override
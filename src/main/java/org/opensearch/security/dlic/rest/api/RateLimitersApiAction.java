@@ -34,6 +34,7 @@ import org.opensearch.security.dlic.rest.validation.ValidationResult;
 import org.opensearch.security.securityconf.impl.CType;
 import org.opensearch.security.securityconf.impl.v7.ConfigV7;
 import org.opensearch.security.support.SecurityJsonNode;
+import org.opensearch.security.util.ratetracking.RateTracker;
 import org.opensearch.threadpool.ThreadPool;
 
 import static org.opensearch.rest.RestRequest.Method.DELETE;
@@ -69,6 +70,7 @@ public class RateLimitersApiAction extends AbstractApiAction {
     public static final String BLOCK_EXPIRY_JSON_PROPERTY = "block_expiry_seconds";
     public static final String MAX_BLOCKED_CLIENTS_JSON_PROPERTY = "max_blocked_clients";
     public static final String MAX_TRACKED_CLIENTS_JSON_PROPERTY = "max_tracked_clients";
+    public static final String RATE_TRACKER_JSON_PROPERTY = "rate_tracker";
 
     private static final List<Route> ROUTES = addRoutesPrefix(
         ImmutableList.of(
@@ -150,6 +152,7 @@ public class RateLimitersApiAction extends AbstractApiAction {
                             .put(BLOCK_EXPIRY_JSON_PROPERTY, DataType.INTEGER)
                             .put(MAX_BLOCKED_CLIENTS_JSON_PROPERTY, DataType.INTEGER)
                             .put(MAX_TRACKED_CLIENTS_JSON_PROPERTY, DataType.INTEGER)
+                            .put(RATE_TRACKER_JSON_PROPERTY, DataType.STRING)
                             .build();
                     }
                 });
@@ -172,6 +175,9 @@ public class RateLimitersApiAction extends AbstractApiAction {
                     .field(BLOCK_EXPIRY_JSON_PROPERTY, listener.block_expiry_seconds)
                     .field(MAX_BLOCKED_CLIENTS_JSON_PROPERTY, listener.max_blocked_clients)
                     .field(MAX_TRACKED_CLIENTS_JSON_PROPERTY, listener.max_tracked_clients);
+                if (listener.rate_tracker != null) {
+                    builder.field(RATE_TRACKER_JSON_PROPERTY, listener.rate_tracker);
+                }
                 builder.endObject();
             }
             builder.endObject();
@@ -245,7 +251,8 @@ public class RateLimitersApiAction extends AbstractApiAction {
             authFailureListener.get(TIME_WINDOW_SECONDS_JSON_PROPERTY).asInt(TIME_WINDOW_SECONDS_DEFAULT),
             authFailureListener.get(BLOCK_EXPIRY_JSON_PROPERTY).asInt(BLOCK_EXPIRY_SECONDS_DEFAULT),
             authFailureListener.get(MAX_BLOCKED_CLIENTS_JSON_PROPERTY).asInt(MAX_BLOCKED_CLIENTS_DEFAULT),
-            authFailureListener.get(MAX_TRACKED_CLIENTS_JSON_PROPERTY).asInt(MAX_TRACKED_CLIENTS_DEFAULT)
+            authFailureListener.get(MAX_TRACKED_CLIENTS_JSON_PROPERTY).asInt(MAX_TRACKED_CLIENTS_DEFAULT),
+            authFailureListener.get(RATE_TRACKER_JSON_PROPERTY).asString()
         );
 
     }
@@ -275,6 +282,10 @@ public class RateLimitersApiAction extends AbstractApiAction {
                 badRequestMessage("ip auth failure listeners should not have an authentication backend")
             );
         }
+        final String rateTracker = authFailureListener.get(RATE_TRACKER_JSON_PROPERTY).asString();
+        if (rateTracker != null && !Set.of(RateTracker.HEAP_TYPE, RateTracker.STRIPED_TYPE).contains(rateTracker)) {
+            return ValidationResult.error(RestStatus.BAD_REQUEST, badRequestMessage("rate_tracker must be heap or striped"));
+        }
 
         return ValidationResult.success(authFailureListener);
     }
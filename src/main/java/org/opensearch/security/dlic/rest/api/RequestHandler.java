@@ -25,7 +25,6 @@ import org.opensearch.common.TriConsumer;
 import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.security.dlic.rest.validation.ValidationResult;
-import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 import org.opensearch.transport.client.Client;
 
 import static org.opensearch.security.dlic.rest.api.Responses.created;
@@ -61,7 +60,7 @@ public interface RequestHandler {
 
         private TriConsumer<
             Client,
-            SecurityDynamicConfiguration<?>,
+            SecurityConfiguration,
             AbstractApiAction.OnSucessActionListener<IndexResponse>> saveOrUpdateConfigurationHandler;
 
         private Predicate<RestRequest> accessHandler;
@@ -118,7 +117,7 @@ public interface RequestHandler {
         RequestHandlersBuilder withSaveOrUpdateConfigurationHandler(
             final TriConsumer<
                 Client,
-                SecurityDynamicConfiguration<?>,
+                SecurityConfiguration,
                 AbstractApiAction.OnSucessActionListener<IndexResponse>> saveOrUpdateConfigurationHandler
         ) {
             this.saveOrUpdateConfigurationHandler = Objects.requireNonNull(
@@ -158,7 +157,7 @@ public interface RequestHandler {
                             .valid(
                                 securityConfiguration -> saveOrUpdateConfigurationHandler.apply(
                                     client,
-                                    securityConfiguration.configuration(),
+                                    securityConfiguration,
                                     new AbstractApiAction.OnSucessActionListener<>(channel) {
                                         @Override
                                         public void onResponse(IndexResponse indexResponse) {
@@ -178,7 +177,7 @@ public interface RequestHandler {
                     add(method, (channel, request, client) -> mapper.apply(request).valid(securityConfiguration -> {
                         saveOrUpdateConfigurationHandler.apply(
                             client,
-                            securityConfiguration.configuration(),
+                            securityConfiguration,
                             new AbstractApiAction.OnSucessActionListener<>(channel) {
                                 @Override
                                 public void onResponse(IndexResponse response) {
@@ -200,7 +199,7 @@ public interface RequestHandler {
                             .valid(
                                 securityConfiguration -> saveOrUpdateConfigurationHandler.apply(
                                     client,
-                                    securityConfiguration.configuration(),
+                                    securityConfiguration,
                                     new AbstractApiAction.OnSucessActionListener<>(channel) {
                                         @Override
                                         public void onResponse(IndexResponse response) {
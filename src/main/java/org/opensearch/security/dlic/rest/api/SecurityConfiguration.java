@@ -13,6 +13,7 @@ package org.opensearch.security.dlic.rest.api;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
@@ -28,16 +29,29 @@ public class SecurityConfiguration {
 
     private final SecurityDynamicConfiguration<?> configuration;
 
+    private final Set<String> changedEntityNames;
+
     private SecurityConfiguration(
         final String entityName,
         final boolean entityExists,
         final JsonNode requestContent,
-        final SecurityDynamicConfiguration<?> configuration
+        final SecurityDynamicConfiguration<?> configuration,
+        final Set<String> changedEntityNames
     ) {
         this.entityName = entityName;
         this.entityExists = entityExists;
         this.requestContent = requestContent;
         this.configuration = configuration;
+        this.changedEntityNames = changedEntityNames;
+    }
+
+    private SecurityConfiguration(
+        final String entityName,
+        final boolean entityExists,
+        final JsonNode requestContent,
+        final SecurityDynamicConfiguration<?> configuration
+    ) {
+        this(entityName, entityExists, requestContent, configuration, null);
     }
 
     private SecurityConfiguration(
@@ -68,6 +82,21 @@ public class SecurityConfiguration {
         return maybeEntityName().orElse("empty");
     }
 
+    /**
+     * The names of the entities which were changed within the configuration, which are either set explicitly or
+     * default to the entity name. Empty if it is unknown which entities were changed.
+     */
+    public Optional<Set<String>> maybeChangedEntityNames() {
+        if (changedEntityNames != null) {
+            return Optional.of(changedEntityNames);
+        }
+        return maybeEntityName().map(name -> Set.of(name));
+    }
+
+    public SecurityConfiguration withChangedEntityNames(final Set<String> changedEntityNames) {
+        return new SecurityConfiguration(entityName, entityExists, requestContent, configuration, changedEntityNames);
+    }
+
     public static SecurityConfiguration of(final String entityName, final SecurityDynamicConfiguration<?> configuration) {
         Objects.requireNonNull(configuration, "configuration hasn't been set");
         return new SecurityConfiguration(entityName, configuration.exists(entityName), configuration);
@@ -24,7 +24,6 @@ import org.opensearch.security.configuration.AdminDNs;
 import org.opensearch.security.configuration.ConfigurationRepository;
 import org.opensearch.security.hasher.PasswordHasher;
 import org.opensearch.security.privileges.PrivilegesEvaluator;
-import org.opensearch.security.resources.ResourceSharingIndexHandler;
 import org.opensearch.security.resources.migrate.MigrateResourceSharingInfoApiAction;
 import org.opensearch.security.ssl.SslSettingsManager;
 import org.opensearch.security.ssl.transport.PrincipalExtractor;
@@ -51,8 +50,7 @@ public class SecurityRestApiActions {
         final SslSettingsManager sslSettingsManager,
         final UserService userService,
         final boolean certificatesReloadEnabled,
-        final PasswordHasher passwordHasher,
-        final ResourceSharingIndexHandler resourceSharingIndexHandler
+        final PasswordHasher passwordHasher
     ) {
         final var securityApiDependencies = new SecurityApiDependencies(
             adminDns,
@@ -106,7 +104,7 @@ public class SecurityRestApiActions {
                 securityApiDependencies
             ),
             new CertificatesApiAction(clusterService, threadPool, securityApiDependencies),
-            new MigrateResourceSharingInfoApiAction(clusterService, threadPool, securityApiDependencies, resourceSharingIndexHandler)
+            new MigrateResourceSharingInfoApiAction(clusterService, threadPool, securityApiDependencies)
         );
     }
 
@@ -31,6 +31,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.regex.Pattern;
 import javax.net.ssl.SSLPeerUnverifiedException;
 
@@ -88,6 +90,7 @@ public class SecurityRestFilter {
     private final Settings settings;
     private final Path configPath;
     private final CompatConfig compatConfig;
+    private final boolean asyncAuthenticationEnabled;
 
     private AllowlistingSettings allowlistingSettings;
 
@@ -116,9 +119,18 @@ public class SecurityRestFilter {
         this.settings = settings;
         this.configPath = configPath;
         this.compatConfig = compatConfig;
+        this.asyncAuthenticationEnabled = settings.getAsBoolean(ConfigConstants.SECURITY_AUTHC_ASYNC_ENABLED, false);
         this.allowlistingSettings = new AllowlistingSettings();
     }
 
+    /**
+     * If true, requests are authenticated by AuthczRestHandler using BackendRegistry.authenticateAsync(). Thus, calls
+     * to authentication backends do not block the HTTP worker threads.
+     */
+    public boolean isAsyncAuthenticationEnabled() {
+        return asyncAuthenticationEnabled;
+    }
+
     class AuthczRestHandler extends DelegatingRestHandler {
         private final AdminDNs adminDNs;
 
@@ -160,9 +172,36 @@ public class SecurityRestFilter {
 
             // Authenticate request
             if (!NettyAttribute.popFrom(request, Netty4HttpRequestHeaderVerifier.IS_AUTHENTICATED).orElse(false)) {
+                if (asyncAuthenticationEnabled) {
+                    // The request is continued by the thread which completes the authentication
+                    checkAndAuthenticateRequestAsync(requestChannel).whenComplete((ignored, failure) -> {
+                        if (failure != null) {
+                            sendFailure(channel, failure);
+                            return;
+                        }
+
+                        try {
+                            handleAuthenticatedRequest(request, channel, client, requestChannel);
+                        } catch (Exception e) {
+                            sendFailure(channel, e);
+                        }
+                    });
+                    return;
+                }
+
                 // we aren't authenticated so we should skip this step
                 checkAndAuthenticateRequest(requestChannel);
             }
+
+            handleAuthenticatedRequest(request, channel, client, requestChannel);
+        }
+
+        private void handleAuthenticatedRequest(
+            RestRequest request,
+            RestChannel channel,
+            NodeClient client,
+            SecurityRequestChannel requestChannel
+        ) throws Exception {
             if (requestChannel.getQueuedResponse().isPresent()) {
                 channel.sendResponse(requestChannel.getQueuedResponse().get().asRestResponse());
                 return;
@@ -216,6 +255,19 @@ public class SecurityRestFilter {
 
             channel.sendResponse(new BytesRestResponse(RestStatus.OK, builder));
         }
+
+        private void sendFailure(RestChannel channel, Throwable t) {
+            Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+
+            try {
+                channel.sendResponse(
+                    new BytesRestResponse(channel, cause instanceof Exception ? (Exception) cause : new OpenSearchException(cause))
+                );
+            } catch (Exception e) {
+                e.addSuppressed(cause);
+                log.error("Failed to send failure response", e);
+            }
+        }
     }
 
     /**
@@ -281,6 +333,36 @@ public class SecurityRestFilter {
     }
 
     public void checkAndAuthenticateRequest(SecurityRequestChannel requestChannel) throws Exception {
+        if (!checkRequest(requestChannel) || SecurityRestUtils.shouldSkipAuthentication(requestChannel)) {
+            return;
+        }
+
+        setLoggingUser(registry.authenticate(requestChannel));
+    }
+
+    /**
+     * Asynchronous variant of {@link #checkAndAuthenticateRequest(SecurityRequestChannel)}; calls to the
+     * authentication backends are done on the security_authentication thread pool.
+     */
+    public CompletableFuture<Void> checkAndAuthenticateRequestAsync(SecurityRequestChannel requestChannel) {
+        try {
+            if (!checkRequest(requestChannel) || SecurityRestUtils.shouldSkipAuthentication(requestChannel)) {
+                return CompletableFuture.completedFuture(null);
+            }
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return registry.authenticateAsync(requestChannel).thenAccept(this::setLoggingUser);
+    }
+
+    /**
+     * Performs the checks which precede authentication.
+     *
+     * @return true if the request needs to be authenticated, false if authentication is disabled or a response was
+     * queued
+     */
+    private boolean checkRequest(SecurityRequestChannel requestChannel) throws Exception {
         threadContext.putTransient(ConfigConstants.OPENDISTRO_SECURITY_ORIGIN, Origin.REST.toString());
 
         if (HTTPHelper.containsBadHeader(requestChannel)) {
@@ -289,7 +371,7 @@ public class SecurityRestFilter {
             auditLog.logBadHeaders(requestChannel);
 
             requestChannel.queueForSending(new SecurityResponse(HttpStatus.SC_FORBIDDEN, exception));
-            return;
+            return false;
         }
 
         if (SSLRequestHelper.containsBadHeader(threadContext, ConfigConstants.OPENDISTRO_SECURITY_CONFIG_PREFIX)) {
@@ -298,7 +380,7 @@ public class SecurityRestFilter {
             auditLog.logBadHeaders(requestChannel);
 
             requestChannel.queueForSending(new SecurityResponse(HttpStatus.SC_FORBIDDEN, exception));
-            return;
+            return false;
         }
 
         final SSLInfo sslInfo;
@@ -318,25 +400,27 @@ public class SecurityRestFilter {
             log.error("No ssl info", e);
             auditLog.logSSLException(requestChannel, e);
             requestChannel.queueForSending(new SecurityResponse(HttpStatus.SC_FORBIDDEN, e));
-            return;
+            return false;
         }
 
         if (!compatConfig.restAuthEnabled()) {
             // Authentication is disabled
-            return;
+            return false;
         }
 
-        if (!SecurityRestUtils.shouldSkipAuthentication(requestChannel)) {
-            if (!registry.authenticate(requestChannel)) {
-                // another roundtrip
-                org.apache.logging.log4j.ThreadContext.remove("user");
-            } else {
-                // make it possible to filter logs by username
-                org.apache.logging.log4j.ThreadContext.put(
-                    "user",
-                    ((User) threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_USER)).getName()
-                );
-            }
+        return true;
+    }
+
+    private void setLoggingUser(boolean authenticated) {
+        if (!authenticated) {
+            // another roundtrip
+            org.apache.logging.log4j.ThreadContext.remove("user");
+        } else {
+            // make it possible to filter logs by username
+            org.apache.logging.log4j.ThreadContext.put(
+                "user",
+                ((User) threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_USER)).getName()
+            );
         }
     }
 
@@ -24,6 +24,8 @@ import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
@@ -52,6 +54,9 @@ import org.apache.hc.core5.ssl.SSLContexts;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.WriteRequest.RefreshPolicy;
@@ -239,6 +244,38 @@ public class HttpClient implements Closeable {
         }
     }
 
+    /**
+     * Indexes the given documents with a single bulk request. Returns a bit set which has the positions of
+     * the documents set that could not be indexed.
+     */
+    public BitSet bulkIndex(final List<String> contents, final String index, final String type, final boolean refresh) {
+
+        final BitSet failed = new BitSet(contents.size());
+
+        try {
+
+            final BulkRequest br = new BulkRequest().setRefreshPolicy(refresh ? RefreshPolicy.IMMEDIATE : RefreshPolicy.NONE);
+
+            for (String content : contents) {
+                br.add(new IndexRequest(index).source(content, XContentType.JSON));
+            }
+
+            final BulkResponse response = rclient.bulk(br, RequestOptions.DEFAULT);
+
+            for (BulkItemResponse item : response.getItems()) {
+                if (item.isFailed() || item.getResponse().getShardInfo().getFailed() > 0) {
+                    failed.set(item.getItemId());
+                }
+            }
+
+        } catch (Exception e) {
+            log.error(e.toString(), e);
+            failed.set(0, contents.size());
+        }
+
+        return failed;
+    }
+
     private final HttpAsyncClientBuilder asyncClientBuilder(HttpAsyncClientBuilder httpClientBuilder) throws NoSuchAlgorithmException,
         KeyStoreException, UnrecoverableKeyException, KeyManagementException {
 
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.privileges;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+
+/**
+ * The indices of a cluster state which are member of more than one filtered alias. Searches on these indices are
+ * rejected in the "disallow" filtered alias mode.
+ * <p>
+ * Instances of this class are immutable and belong to exactly one Metadata instance.
+ */
+class FilteredAliasIndices {
+
+    private final Metadata metadata;
+    private final ImmutableMap<String, ImmutableList<AliasMetadata>> indexToFilteredAliases;
+
+    private FilteredAliasIndices(Metadata metadata, ImmutableMap<String, ImmutableList<AliasMetadata>> indexToFilteredAliases) {
+        this.metadata = metadata;
+        this.indexToFilteredAliases = indexToFilteredAliases;
+    }
+
+    static FilteredAliasIndices of(Metadata metadata) {
+        ImmutableMap.Builder<String, ImmutableList<AliasMetadata>> result = ImmutableMap.builder();
+
+        for (IndexMetadata indexMetadata : metadata.getIndices().values()) {
+            Map<String, AliasMetadata> aliases = indexMetadata.getAliases();
+
+            if (aliases == null || aliases.size() < 2) {
+                continue;
+            }
+
+            List<AliasMetadata> filteredAliases = new ArrayList<>(aliases.size());
+
+            for (AliasMetadata aliasMetadata : aliases.values()) {
+                if (aliasMetadata != null && aliasMetadata.filteringRequired()) {
+                    filteredAliases.add(aliasMetadata);
+                }
+            }
+
+            if (filteredAliases.size() > 1) {
+                result.put(indexMetadata.getIndex().getName(), ImmutableList.copyOf(filteredAliases));
+            }
+        }
+
+        return new FilteredAliasIndices(metadata, result.build());
+    }
+
+    /**
+     * Returns true if this instance was computed from the given metadata.
+     */
+    boolean isFor(Metadata metadata) {
+        return this.metadata == metadata;
+    }
+
+    boolean isEmpty() {
+        return indexToFilteredAliases.isEmpty();
+    }
+
+    /**
+     * Returns the first index of the given collection which has more than one filtered alias, or null if there is none.
+     */
+    String findIndex(Collection<String> indices) {
+        if (indexToFilteredAliases.isEmpty()) {
+            return null;
+        }
+
+        for (String index : indices) {
+            if (indexToFilteredAliases.containsKey(index)) {
+                return index;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns any index which has more than one filtered alias, or null if there is none.
+     */
+    String anyIndex() {
+        return indexToFilteredAliases.isEmpty() ? null : indexToFilteredAliases.keySet().iterator().next();
+    }
+
+    List<AliasMetadata> getFilteredAliases(String index) {
+        return indexToFilteredAliases.getOrDefault(index, ImmutableList.of());
+    }
+}
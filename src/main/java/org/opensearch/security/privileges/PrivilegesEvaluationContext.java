@@ -14,6 +14,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Supplier;
 
+import com.google.common.cache.Cache;
 import com.google.common.collect.ImmutableSet;
 
 import org.opensearch.action.ActionRequest;
@@ -59,6 +60,12 @@ public class PrivilegesEvaluationContext {
      */
     private final Map<String, WildcardMatcher> renderedPatternTemplateCache = new HashMap<>();
 
+    /**
+     * A node-level cache which maps rendered patterns to WildcardMatcher instances. This avoids re-creating the
+     * WildcardMatcher instances for each request. Might be null.
+     */
+    private final Cache<String, WildcardMatcher> renderedMatcherCache;
+
     public PrivilegesEvaluationContext(
         User user,
         ImmutableSet<String> mappedRoles,
@@ -69,6 +76,32 @@ public class PrivilegesEvaluationContext {
         IndexNameExpressionResolver indexNameExpressionResolver,
         Supplier<ClusterState> clusterStateSupplier,
         ActionPrivileges actionPrivileges
+    ) {
+        this(
+            user,
+            mappedRoles,
+            action,
+            request,
+            task,
+            indexResolverReplacer,
+            indexNameExpressionResolver,
+            clusterStateSupplier,
+            actionPrivileges,
+            null
+        );
+    }
+
+    public PrivilegesEvaluationContext(
+        User user,
+        ImmutableSet<String> mappedRoles,
+        String action,
+        ActionRequest request,
+        Task task,
+        IndexResolverReplacer indexResolverReplacer,
+        IndexNameExpressionResolver indexNameExpressionResolver,
+        Supplier<ClusterState> clusterStateSupplier,
+        ActionPrivileges actionPrivileges,
+        Cache<String, WildcardMatcher> renderedMatcherCache
     ) {
         this.user = user;
         this.mappedRoles = mappedRoles;
@@ -79,6 +112,7 @@ public class PrivilegesEvaluationContext {
         this.indexNameExpressionResolver = indexNameExpressionResolver;
         this.task = task;
         this.actionPrivileges = actionPrivileges;
+        this.renderedMatcherCache = renderedMatcherCache;
     }
 
     public User getUser() {
@@ -88,7 +122,8 @@ public class PrivilegesEvaluationContext {
     /**
      * Interpolates any attribute references (like ${user.name}) in the given string and parses the result
      * to a WildcardMatcher. This method catches earlier rendered templates in order to avoid recurring re-rendering
-     * of templates during a single privilege evaluation pass.
+     * of templates during a single privilege evaluation pass. Additionally, the WildcardMatcher instances for rendered
+     * templates are shared between requests via the node-level renderedMatcherCache.
      *
      * @throws ExpressionEvaluationException if the resulting pattern could not be parsed. This is usually the case
      * if an invalid regex was supplied.
@@ -98,7 +133,16 @@ public class PrivilegesEvaluationContext {
 
         if (matcher == null) {
             try {
-                matcher = WildcardMatcher.from(UserAttributes.replaceProperties(template, this));
+                String renderedPattern = UserAttributes.replaceProperties(template, this);
+                matcher = renderedMatcherCache != null ? renderedMatcherCache.getIfPresent(renderedPattern) : null;
+
+                if (matcher == null) {
+                    matcher = WildcardMatcher.from(renderedPattern);
+
+                    if (renderedMatcherCache != null) {
+                        renderedMatcherCache.put(renderedPattern, matcher);
+                    }
+                }
             } catch (Exception e) {
                 // This especially happens for invalid regular expressions
                 throw new ExpressionEvaluationException("Error while evaluating expression in " + template, e);
@@ -31,7 +31,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -39,6 +38,7 @@ import java.util.StringJoiner;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
+import com.google.common.cache.Cache;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import org.apache.logging.log4j.LogManager;
@@ -76,7 +76,6 @@ import org.opensearch.action.termvectors.MultiTermVectorsAction;
 import org.opensearch.action.update.UpdateAction;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.metadata.AliasMetadata;
-import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
@@ -167,6 +166,8 @@ public class PrivilegesEvaluator {
     private final Settings settings;
     private final AtomicReference<RoleBasedActionPrivileges> actionPrivileges = new AtomicReference<>();
     private final AtomicReference<TenantPrivileges> tenantPrivileges = new AtomicReference<>();
+    private final AtomicReference<FilteredAliasIndices> filteredAliasIndices = new AtomicReference<>();
+    private volatile Cache<String, WildcardMatcher> renderedMatcherCache;
     private final Map<String, SubjectBasedActionPrivileges> pluginIdToActionPrivileges = new HashMap<>();
 
     /**
@@ -199,6 +200,7 @@ public class PrivilegesEvaluator {
         this.privilegesInterceptor = privilegesInterceptor;
         this.clusterStateSupplier = clusterStateSupplier;
         this.settings = settings;
+        this.renderedMatcherCache = UserAttributes.createRenderedTemplateCache(settings);
 
         this.checkSnapshotRestoreWritePrivileges = settings.getAsBoolean(
             ConfigConstants.SECURITY_CHECK_SNAPSHOT_RESTORE_WRITE_PRIVILEGES,
@@ -219,6 +221,13 @@ public class PrivilegesEvaluator {
 
         if (configurationRepository != null) {
             configurationRepository.subscribeOnChange(configMap -> {
+                if (this.actionPrivileges.get() != null
+                    && !configMap.containsKey(CType.ACTIONGROUPS)
+                    && !configMap.containsKey(CType.ROLES)
+                    && !configMap.containsKey(CType.TENANTS)) {
+                    // the privileges only depend on the action groups, roles and tenants
+                    return;
+                }
                 SecurityDynamicConfiguration<ActionGroupsV7> actionGroupsConfiguration = configurationRepository.getConfiguration(
                     CType.ACTIONGROUPS
                 );
@@ -235,6 +244,10 @@ public class PrivilegesEvaluator {
                 if (actionPrivileges != null) {
                     actionPrivileges.clusterStateMetadataDependentPrivileges().updateClusterStateMetadataAsync(clusterService, threadPool);
                 }
+
+                if (event.metadataChanged() && dcm != null && "disallow".equals(dcm.getFilteredAliasMode())) {
+                    filteredAliasIndices(event.state().metadata());
+                }
             });
         }
     }
@@ -256,6 +269,9 @@ public class PrivilegesEvaluator {
             if (oldInstance != null) {
                 oldInstance.clusterStateMetadataDependentPrivileges().shutdown();
             }
+
+            // Role changes might make rendered patterns obsolete; thus, we start over with an empty cache
+            this.renderedMatcherCache = UserAttributes.createRenderedTemplateCache(settings);
         } catch (Exception e) {
             log.error("Error while updating ActionPrivileges", e);
         }
@@ -369,7 +385,8 @@ public class PrivilegesEvaluator {
             irr,
             resolver,
             clusterStateSupplier,
-            actionPrivileges
+            actionPrivileges,
+            renderedMatcherCache
         );
     }
 
@@ -634,7 +651,7 @@ public class PrivilegesEvaluator {
         }
 
         if (presponse.isAllowed()) {
-            if (checkFilteredAliases(requestedResolved, action0, isDebugEnabled)) {
+            if (checkFilteredAliases(requestedResolved, action0)) {
                 presponse.allowed = false;
                 return presponse;
             }
@@ -782,8 +799,7 @@ public class PrivilegesEvaluator {
             || (action0.equals(RenderSearchTemplateAction.NAME)));
     }
 
-    @SuppressWarnings("unchecked")
-    private boolean checkFilteredAliases(Resolved requestedResolved, String action, boolean isDebugEnabled) {
+    private boolean checkFilteredAliases(Resolved requestedResolved, String action) {
         final String faMode = dcm.getFilteredAliasMode();// getConfigSettings().dynamic.filtered_alias_mode;
 
         if (!"disallow".equals(faMode)) {
@@ -794,75 +810,44 @@ public class PrivilegesEvaluator {
             return false;
         }
 
-        Iterable<IndexMetadata> indexMetaDataCollection;
+        FilteredAliasIndices filteredAliasIndices = filteredAliasIndices(clusterStateSupplier.get().metadata());
 
-        if (requestedResolved.isLocalAll()) {
-            indexMetaDataCollection = new Iterable<IndexMetadata>() {
-                @Override
-                public Iterator<IndexMetadata> iterator() {
-                    return clusterStateSupplier.get().getMetadata().getIndices().values().iterator();
-                }
-            };
-        } else {
-            Set<IndexMetadata> indexMetaDataSet = new HashSet<>(requestedResolved.getAllIndices().size());
-
-            for (String requestAliasOrIndex : requestedResolved.getAllIndices()) {
-                IndexMetadata indexMetaData = clusterStateSupplier.get().getMetadata().getIndices().get(requestAliasOrIndex);
-                if (indexMetaData == null) {
-                    if (isDebugEnabled) {
-                        log.debug("{} does not exist in cluster metadata", requestAliasOrIndex);
-                    }
-                    continue;
-                }
-
-                indexMetaDataSet.add(indexMetaData);
-            }
-
-            indexMetaDataCollection = indexMetaDataSet;
+        if (filteredAliasIndices.isEmpty()) {
+            return false;
         }
-        // check filtered aliases
-        for (IndexMetadata indexMetaData : indexMetaDataCollection) {
-
-            final List<AliasMetadata> filteredAliases = new ArrayList<AliasMetadata>();
 
-            final Map<String, AliasMetadata> aliases = indexMetaData.getAliases();
+        String index = requestedResolved.isLocalAll()
+            ? filteredAliasIndices.anyIndex()
+            : filteredAliasIndices.findIndex(requestedResolved.getAllIndices());
 
-            if (aliases != null && aliases.size() > 0) {
-                if (isDebugEnabled) {
-                    log.debug("Aliases for {}: {}", indexMetaData.getIndex().getName(), aliases);
-                }
+        if (index != null) {
+            List<AliasMetadata> filteredAliases = filteredAliasIndices.getFilteredAliases(index);
+            // TODO add queries as dls queries (works only if dls module is installed)
+            log.error(
+                "More than one ({}) filtered alias found for same index ({}). This is currently not supported. Aliases: {}",
+                filteredAliases.size(),
+                index,
+                toString(filteredAliases)
+            );
+            return true;
+        }
 
-                final Iterator<String> it = aliases.keySet().iterator();
-                while (it.hasNext()) {
-                    final String alias = it.next();
-                    final AliasMetadata aliasMetadata = aliases.get(alias);
+        return false;
+    }
 
-                    if (aliasMetadata != null && aliasMetadata.filteringRequired()) {
-                        filteredAliases.add(aliasMetadata);
-                        if (isDebugEnabled) {
-                            log.debug("{} is a filtered alias {}", alias, aliasMetadata.getFilter());
-                        }
-                    } else {
-                        if (isDebugEnabled) {
-                            log.debug("{} is not an alias or does not have a filter", alias);
-                        }
-                    }
-                }
-            }
+    /**
+     * Returns the indices with more than one filtered alias for the given metadata. Usually, these are computed
+     * by the cluster state listener; if the listener has not run yet for the given metadata, they are computed here.
+     */
+    private FilteredAliasIndices filteredAliasIndices(Metadata metadata) {
+        FilteredAliasIndices filteredAliasIndices = this.filteredAliasIndices.get();
 
-            if (filteredAliases.size() > 1 && ACTION_MATCHER.test(action)) {
-                // TODO add queries as dls queries (works only if dls module is installed)
-                log.error(
-                    "More than one ({}) filtered alias found for same index ({}). This is currently not supported. Aliases: {}",
-                    filteredAliases.size(),
-                    indexMetaData.getIndex().getName(),
-                    toString(filteredAliases)
-                );
-                return true;
-            }
-        } // end-for
+        if (filteredAliasIndices == null || !filteredAliasIndices.isFor(metadata)) {
+            filteredAliasIndices = FilteredAliasIndices.of(metadata);
+            this.filteredAliasIndices.set(filteredAliasIndices);
+        }
 
-        return false;
+        return filteredAliasIndices;
     }
 
     private boolean checkDocAllowListHeader(User user, String action, ActionRequest request) {
@@ -14,9 +14,13 @@ import java.util.Map;
 import java.util.Set;
 
 import com.google.common.base.Joiner;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.security.user.User;
 
 /**
@@ -25,17 +29,53 @@ import org.opensearch.security.user.User;
  * This code was moved over from ConfigModelV7.
  */
 public class UserAttributes {
+
+    /**
+     * The maximum number of index patterns and DLS queries with rendered user attributes which are kept in the
+     * node-level caches. These caches are re-created when the role configuration changes. A value of 0 disables them.
+     */
+    public static final Setting<Integer> RENDERED_TEMPLATE_CACHE_MAX_SIZE = Setting.intSetting(
+        "plugins.security.privileges_evaluation.rendered_template_cache.max_size",
+        10000,
+        0,
+        Setting.Property.NodeScope
+    );
+
     public static boolean needsAttributeSubstitution(String patternString) {
         return patternString.contains("${");
     }
 
+    /**
+     * Creates a cache which maps templates with already interpolated user attributes to objects derived from
+     * these, like WildcardMatcher or QueryBuilder instances. Returns null if caching is disabled.
+     * <p>
+     * The interpolated template contains everything the derived object depends on; thus, it can be used as
+     * cache key without having to consider the user attributes separately.
+     */
+    public static <V> Cache<String, V> createRenderedTemplateCache(Settings settings) {
+        int maxSize = RENDERED_TEMPLATE_CACHE_MAX_SIZE.get(settings);
+
+        if (maxSize == 0) {
+            return null;
+        }
+
+        return CacheBuilder.newBuilder().maximumSize(maxSize).build();
+    }
+
     public static String replaceProperties(String orig, PrivilegesEvaluationContext context) {
+        if (!needsAttributeSubstitution(orig)) {
+            return orig;
+        }
+
         User user = context.getUser();
 
         orig = orig.replace("${user.name}", user.getName()).replace("${user_name}", user.getName());
         orig = replaceRoles(orig, user);
         orig = replaceSecurityRoles(orig, context);
         for (Map.Entry<String, String> entry : user.getCustomAttributesMap().entrySet()) {
+            if (!needsAttributeSubstitution(orig)) {
+                break;
+            }
             if (entry.getKey() == null || entry.getValue() == null) {
                 continue;
             }
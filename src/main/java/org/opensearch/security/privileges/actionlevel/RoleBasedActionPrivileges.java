@@ -14,6 +14,7 @@ package org.opensearch.security.privileges.actionlevel;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -123,11 +124,26 @@ public class RoleBasedActionPrivileges extends RuntimeOptimizedActionPrivileges
 
         indices = StatefulIndexPrivileges.relevantOnly(indices);
 
-        if (statefulIndex == null || !statefulIndex.indices.equals(indices)) {
+        if (statefulIndex == null) {
             long start = System.currentTimeMillis();
             this.statefulIndex.set(new StatefulIndexPrivileges(roles, actionGroups, indices, metadataVersion, statefulIndexMaxHeapSize));
             long duration = System.currentTimeMillis() - start;
             log.debug("Updating StatefulIndexPrivileges took {} ms", duration);
+        } else if (!statefulIndex.indices.equals(indices)) {
+            long start = System.currentTimeMillis();
+            StatefulIndexPrivileges updatedStatefulIndex = statefulIndex.withIndices(roles, actionGroups, indices, metadataVersion);
+
+            if (updatedStatefulIndex != null) {
+                this.statefulIndex.set(updatedStatefulIndex);
+                long duration = System.currentTimeMillis() - start;
+                log.debug("Incrementally updating StatefulIndexPrivileges took {} ms", duration);
+            } else {
+                this.statefulIndex.set(
+                    new StatefulIndexPrivileges(roles, actionGroups, indices, metadataVersion, statefulIndexMaxHeapSize)
+                );
+                long duration = System.currentTimeMillis() - start;
+                log.debug("Updating StatefulIndexPrivileges took {} ms", duration);
+            }
         } else {
             synchronized (this) {
                 // Even if the indices did not change, update the metadataVersion in statefulIndex to reflect
@@ -617,9 +633,20 @@ public class RoleBasedActionPrivileges extends RuntimeOptimizedActionPrivileges
      * <p>
      * This class also takes into account aliases and data streams. If a permission is granted on an alias, it will be
      * automatically inherited by the indices it points to. The same holds for the backing indices of a data stream.
+     * <p>
+     * Building the data structures requires a loop through all roles and all indices. To avoid this for small changes
+     * of the cluster state - like the creation of a single index - the method withIndices() only computes the
+     * privileges for the indices, aliases and data streams which were modified. These are kept in a separate map
+     * which takes precedence over the main data structures.
      */
     static class StatefulIndexPrivileges extends RuntimeOptimizedActionPrivileges.StatefulIndexPrivileges {
 
+        /**
+         * The minimum number of modified indices, aliases and data streams which is handled by incremental updates.
+         * If there are more modifications - or more modifications than 10% of the known indices - a full rebuild is done.
+         */
+        static final int MIN_INCREMENTAL_UPDATE_LIMIT = 100;
+
         /**
          * Maps concrete action names to concrete index names and then to the roles which provide privileges for the
          * combination of action and index. This map can contain besides indices also names of data streams and aliases.
@@ -632,6 +659,13 @@ public class RoleBasedActionPrivileges extends RuntimeOptimizedActionPrivileges
          */
         private final Map<String, IndexAbstraction> indices;
 
+        /**
+         * Maps names of indices, aliases and data streams that were modified after actionToIndexToRoles had been built
+         * to action names and then to the roles which provide privileges for the combination of action and index.
+         * Entries of this map take precedence over actionToIndexToRoles. Removed indices are mapped to empty maps.
+         */
+        private final ImmutableMap<String, ImmutableMap<String, ImmutableSet<String>>> updatedIndexToActionToRoles;
+
         private final int estimatedByteSize;
 
         private long metadataVersion;
@@ -774,6 +808,7 @@ public class RoleBasedActionPrivileges extends RuntimeOptimizedActionPrivileges
                 );
 
             this.indices = ImmutableMap.copyOf(indices);
+            this.updatedIndexToActionToRoles = ImmutableMap.of();
             this.metadataVersion = metadataVersion;
 
             long duration = System.currentTimeMillis() - startTime;
@@ -785,6 +820,196 @@ public class RoleBasedActionPrivileges extends RuntimeOptimizedActionPrivileges
             }
         }
 
+        private StatefulIndexPrivileges(
+            StatefulIndexPrivileges base,
+            Map<String, IndexAbstraction> indices,
+            ImmutableMap<String, ImmutableMap<String, ImmutableSet<String>>> updatedIndexToActionToRoles,
+            long metadataVersion
+        ) {
+            this.actionToIndexToRoles = base.actionToIndexToRoles;
+            this.indices = ImmutableMap.copyOf(indices);
+            this.updatedIndexToActionToRoles = updatedIndexToActionToRoles;
+            this.estimatedByteSize = base.estimatedByteSize;
+            this.metadataVersion = metadataVersion;
+        }
+
+        /**
+         * Returns an instance which reflects the given indices. Only the privileges for the indices, aliases and data
+         * streams which were added, removed or modified compared to this instance are computed; all other data
+         * structures are shared with this instance.
+         * <p>
+         * Returns null if the number of modifications is too big. In this case, a full rebuild should be done.
+         */
+        StatefulIndexPrivileges withIndices(
+            SecurityDynamicConfiguration<RoleV7> roles,
+            FlattenedActionGroups actionGroups,
+            Map<String, IndexAbstraction> indices,
+            long metadataVersion
+        ) {
+            int limit = Math.max(MIN_INCREMENTAL_UPDATE_LIMIT, this.indices.size() / 10) - this.updatedIndexToActionToRoles.size();
+            Set<String> modified = new HashSet<>();
+
+            for (IndexAbstraction indexAbstraction : indices.values()) {
+                if (isModified(this.indices.get(indexAbstraction.getName()), indexAbstraction)) {
+                    modified.add(indexAbstraction.getName());
+                }
+            }
+
+            for (String name : this.indices.keySet()) {
+                if (!indices.containsKey(name)) {
+                    modified.add(name);
+                }
+            }
+
+            if (modified.size() > limit) {
+                log.debug("Too many modified indices for an incremental update of StatefulIndexPrivileges: {}", modified.size());
+                return null;
+            }
+
+            if (modified.isEmpty()) {
+                return new StatefulIndexPrivileges(this, indices, this.updatedIndexToActionToRoles, metadataVersion);
+            }
+
+            List<IndexPermissionMatcher> matchers = IndexPermissionMatcher.of(roles, actionGroups);
+            Map<String, ImmutableMap<String, ImmutableSet<String>>> updatedIndexToActionToRoles = new HashMap<>(
+                this.updatedIndexToActionToRoles
+            );
+
+            for (String name : modified) {
+                IndexAbstraction indexAbstraction = indices.get(name);
+
+                if (indexAbstraction != null) {
+                    updatedIndexToActionToRoles.put(name, actionToRoles(indexAbstraction, indices, matchers));
+                } else {
+                    updatedIndexToActionToRoles.put(name, ImmutableMap.of());
+                }
+            }
+
+            return new StatefulIndexPrivileges(this, indices, ImmutableMap.copyOf(updatedIndexToActionToRoles), metadataVersion);
+        }
+
+        /**
+         * Computes the actions and the roles which provide privileges for these actions for a single index, alias or
+         * data stream. This mirrors the logic of the constructor: Indices inherit privileges from the aliases they are
+         * member of.
+         */
+        private static ImmutableMap<String, ImmutableSet<String>> actionToRoles(
+            IndexAbstraction indexAbstraction,
+            Map<String, IndexAbstraction> indices,
+            List<IndexPermissionMatcher> matchers
+        ) {
+            List<String> names = new ArrayList<>();
+            names.add(indexAbstraction.getName());
+
+            if (indexAbstraction instanceof IndexAbstraction.Index) {
+                for (String alias : indexAbstraction.getWriteIndex().getAliases().keySet()) {
+                    if (indices.get(alias) instanceof IndexAbstraction.Alias) {
+                        names.add(alias);
+                    }
+                }
+            }
+
+            Map<String, ImmutableSet.Builder<String>> actionToRoles = new HashMap<>();
+
+            for (IndexPermissionMatcher matcher : matchers) {
+                if (matcher.indexMatcher.matchAny(names)) {
+                    for (String action : matcher.actions) {
+                        actionToRoles.computeIfAbsent(action, k -> ImmutableSet.builder()).add(matcher.role);
+                    }
+                }
+            }
+
+            return actionToRoles.entrySet()
+                .stream()
+                .collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, entry -> entry.getValue().build()));
+        }
+
+        /**
+         * Returns true if the privileges for the given index abstraction might differ from the privileges of the
+         * given old index abstraction with the same name. Privileges of indices depend on the aliases they are member
+         * of; privileges of aliases and data streams only depend on their names.
+         */
+        static boolean isModified(IndexAbstraction old, IndexAbstraction current) {
+            if (old == current) {
+                return false;
+            }
+
+            if (old == null || old.getType() != current.getType()) {
+                return true;
+            }
+
+            if (current instanceof IndexAbstraction.Index) {
+                IndexMetadata oldIndexMetadata = old.getWriteIndex();
+                IndexMetadata currentIndexMetadata = current.getWriteIndex();
+
+                return oldIndexMetadata != currentIndexMetadata
+                    && !oldIndexMetadata.getAliases().keySet().equals(currentIndexMetadata.getAliases().keySet());
+            } else if (current instanceof IndexAbstraction.Alias) {
+                return !indexNames(old.getIndices()).equals(indexNames(current.getIndices()));
+            } else {
+                return false;
+            }
+        }
+
+        private static Set<String> indexNames(List<IndexMetadata> indices) {
+            return indices.stream().map(indexMetadata -> indexMetadata.getIndex().getName()).collect(Collectors.toSet());
+        }
+
+        /**
+         * The index patterns of a role together with the well-known actions they grant. Used for incremental updates.
+         */
+        static class IndexPermissionMatcher {
+            final String role;
+            final WildcardMatcher indexMatcher;
+            final Collection<String> actions;
+
+            IndexPermissionMatcher(String role, WildcardMatcher indexMatcher, Collection<String> actions) {
+                this.role = role;
+                this.indexMatcher = indexMatcher;
+                this.actions = actions;
+            }
+
+            /**
+             * Creates matchers for all index permissions which are relevant for StatefulIndexPrivileges. Like the
+             * constructor of StatefulIndexPrivileges, this skips the wildcard index pattern and templated patterns.
+             */
+            static List<IndexPermissionMatcher> of(SecurityDynamicConfiguration<RoleV7> roles, FlattenedActionGroups actionGroups) {
+                List<IndexPermissionMatcher> result = new ArrayList<>();
+
+                for (Map.Entry<String, RoleV7> entry : roles.getCEntries().entrySet()) {
+                    try {
+                        for (RoleV7.Index indexPermissions : entry.getValue().getIndex_permissions()) {
+                            if (indexPermissions.getIndex_patterns().contains("*")) {
+                                continue;
+                            }
+
+                            WildcardMatcher indexMatcher = IndexPattern.from(indexPermissions.getIndex_patterns()).getStaticPattern();
+
+                            if (indexMatcher == WildcardMatcher.NONE) {
+                                continue;
+                            }
+
+                            Set<String> actions = new HashSet<>();
+
+                            for (String permission : actionGroups.resolve(indexPermissions.getAllowed_actions())) {
+                                actions.addAll(
+                                    WildcardMatcher.from(permission).getMatchAny(WellKnownActions.INDEX_ACTIONS, Collectors.toList())
+                                );
+                            }
+
+                            if (!actions.isEmpty()) {
+                                result.add(new IndexPermissionMatcher(entry.getKey(), indexMatcher, actions));
+                            }
+                        }
+                    } catch (Exception e) {
+                        log.error("Unexpected exception while processing role: {}\nIgnoring role.", entry.getKey(), e);
+                    }
+                }
+
+                return result;
+            }
+        }
+
         /**
          * Checks whether the user has privileges based on the given parameters and information in this class. This method
          * has two major channels for returning results:
@@ -816,7 +1041,7 @@ public class RoleBasedActionPrivileges extends RuntimeOptimizedActionPrivileges
             for (String action : actions) {
                 Map<String, ImmutableCompactSubSet<String>> indexToRoles = actionToIndexToRoles.get(action);
 
-                if (indexToRoles != null) {
+                if (indexToRoles != null || !updatedIndexToActionToRoles.isEmpty()) {
                     for (String index : resolvedIndices.getAllIndices()) {
                         String lookupIndex = index;
 
@@ -827,9 +1052,20 @@ public class RoleBasedActionPrivileges extends RuntimeOptimizedActionPrivileges
                             lookupIndex = backingIndexToDataStream(index, indexMetadata);
                         }
 
-                        ImmutableCompactSubSet<String> rolesWithPrivileges = indexToRoles.get(lookupIndex);
+                        boolean hasPrivilege;
+                        ImmutableMap<String, ImmutableSet<String>> updatedActionToRoles = updatedIndexToActionToRoles.get(lookupIndex);
+
+                        if (updatedActionToRoles != null) {
+                            ImmutableSet<String> rolesWithPrivileges = updatedActionToRoles.get(action);
+                            hasPrivilege = rolesWithPrivileges != null && CollectionUtils.containsAny(rolesWithPrivileges, effectiveRoles);
+                        } else if (indexToRoles != null) {
+                            ImmutableCompactSubSet<String> rolesWithPrivileges = indexToRoles.get(lookupIndex);
+                            hasPrivilege = rolesWithPrivileges != null && rolesWithPrivileges.containsAny(effectiveRoles);
+                        } else {
+                            hasPrivilege = false;
+                        }
 
-                        if (rolesWithPrivileges != null && rolesWithPrivileges.containsAny(effectiveRoles)) {
+                        if (hasPrivilege) {
                             if (checkTable.check(index, action)) {
                                 return PrivilegesEvaluatorResponse.ok();
                             }
@@ -0,0 +1,230 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.privileges.dlsfls;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+
+import org.bouncycastle.util.encoders.Hex;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.search.SearchExtBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.security.privileges.PrivilegesEvaluationContext;
+import org.opensearch.security.privileges.PrivilegesEvaluationException;
+
+/**
+ * A search extension which carries a fingerprint of the effective DLS, FLS and field masking restrictions of a
+ * search request.
+ * <p>
+ * The shard request cache uses the serialized shard request as cache key; DLS, FLS and field masking are however
+ * applied on the shard level without being reflected in the shard request. Thus, cached results for users with
+ * restrictions would be visible to users with different restrictions. Attaching this extension to the search source
+ * makes the restrictions part of the cache key. Users with identical effective restrictions share the cached results,
+ * users with different restrictions get different cache entries.
+ * <p>
+ * The fingerprint only covers the rendered restrictions, i.e. user attributes are already substituted. It does not
+ * depend on the roles the restrictions were derived from.
+ * <p>
+ * The extension cannot be specified in search requests by users; it is only attached by DlsFlsValveImpl.
+ */
+public class DlsFlsRequestCacheKey extends SearchExtBuilder {
+
+    public static final String NAME = "_plugins_security_dls_fls_cache_key";
+
+    /**
+     * Enables the shard request cache for search requests which are subject to DLS, FLS or field masking. If disabled,
+     * the request cache is disabled for all such requests.
+     */
+    public static final Setting<Boolean> ENABLED = Setting.boolSetting(
+        "plugins.security.dls_fls.request_cache.enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final String fingerprint;
+
+    DlsFlsRequestCacheKey(String fingerprint) {
+        this.fingerprint = Objects.requireNonNull(fingerprint);
+    }
+
+    public DlsFlsRequestCacheKey(StreamInput in) throws IOException {
+        this.fingerprint = in.readString();
+    }
+
+    /**
+     * Computes the fingerprint of the restrictions which apply to the given indices for the user of the given context.
+     * Returns null if the restrictions do not allow the use of the request cache. This is the case for DLS queries
+     * with term lookup queries, as their results depend on the contents of other indices.
+     */
+    public static DlsFlsRequestCacheKey of(PrivilegesEvaluationContext context, DlsFlsProcessedConfig config, Collection<String> indices)
+        throws PrivilegesEvaluationException {
+        MessageDigest digest = newDigest();
+
+        for (String index : new TreeSet<>(indices)) {
+            DlsRestriction dlsRestriction = config.getDocumentPrivileges().getRestriction(context, index);
+            FieldPrivileges.FlsRule flsRule = config.getFieldPrivileges().getRestriction(context, index);
+            FieldMasking.FieldMaskingRule fieldMaskingRule = config.getFieldMasking().getRestriction(context, index);
+
+            if (dlsRestriction.containsTermLookupQuery()) {
+                return null;
+            }
+
+            update(digest, index);
+
+            // The DLS queries are combined with OR; thus, their order does not matter
+            List<String> dlsQueries = new ArrayList<>(dlsRestriction.getQueries().size());
+            for (DocumentPrivileges.RenderedDlsQuery query : dlsRestriction.getQueries()) {
+                dlsQueries.add(query.getRenderedSource());
+            }
+            update(digest, "dls", new TreeSet<>(dlsQueries));
+
+            if (flsRule.isAllowAll()) {
+                update(digest, "fls", List.of());
+            } else {
+                update(digest, flsRule.excluding ? "fls_excluding" : "fls_including", sortedSources(flsRule.effectivePatterns));
+                update(digest, "fls_objects", sortedSources(flsRule.objectOnlyPatterns));
+            }
+
+            // The first matching field masking expression wins; thus, the order is significant here
+            update(digest, "fm", fieldMaskingRule.isUnrestricted() ? List.of() : fieldMaskingRule.getSource());
+        }
+
+        return new DlsFlsRequestCacheKey(Hex.toHexString(digest.digest()));
+    }
+
+    /**
+     * Attaches this key to the given search request. Any existing key is replaced.
+     */
+    public void applyTo(SearchRequest searchRequest) {
+        SearchSourceBuilder source = searchRequest.source();
+        List<SearchExtBuilder> ext = new ArrayList<>(source.ext().size() + 1);
+
+        for (SearchExtBuilder extBuilder : source.ext()) {
+            if (!(extBuilder instanceof DlsFlsRequestCacheKey)) {
+                ext.add(extBuilder);
+            }
+        }
+
+        ext.add(this);
+        source.ext(ext);
+    }
+
+    /**
+     * Removes any key from the given search request.
+     */
+    public static void removeFrom(SearchRequest searchRequest) {
+        SearchSourceBuilder source = searchRequest.source();
+
+        if (source == null || source.ext().isEmpty()) {
+            return;
+        }
+
+        if (source.ext().stream().anyMatch(extBuilder -> extBuilder instanceof DlsFlsRequestCacheKey)) {
+            source.ext(source.ext().stream().filter(extBuilder -> !(extBuilder instanceof DlsFlsRequestCacheKey)).toList());
+        }
+    }
+
+    /**
+     * Used for the registration of the search extension. Always fails, as the key must not be specified by users.
+     */
+    public static DlsFlsRequestCacheKey fromXContent(XContentParser parser) {
+        throw new IllegalArgumentException("[" + NAME + "] must not be specified in search requests");
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public String getWriteableName() {
+        return NAME;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(fingerprint);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        return builder.field(NAME, fingerprint);
+    }
+
+    @Override
+    public int hashCode() {
+        return fingerprint.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof DlsFlsRequestCacheKey)) {
+            return false;
+        }
+        return fingerprint.equals(((DlsFlsRequestCacheKey) obj).fingerprint);
+    }
+
+    @Override
+    public String toString() {
+        return "DlsFlsRequestCacheKey{" + fingerprint + "}";
+    }
+
+    private static List<String> sortedSources(Collection<FieldPrivileges.FlsPattern> patterns) {
+        return patterns.stream().map(FieldPrivileges.FlsPattern::getSource).sorted().toList();
+    }
+
+    private static void update(MessageDigest digest, String label, Collection<String> values) {
+        update(digest, label);
+        update(digest, String.valueOf(values.size()));
+
+        for (String value : values) {
+            update(digest, value);
+        }
+    }
+
+    /**
+     * Updates the digest with the given string, prefixed by its length. This makes the digest input unambiguous.
+     */
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import com.google.common.cache.Cache;
 import org.apache.logging.log4j.util.Strings;
 
 import org.opensearch.OpenSearchSecurityException;
@@ -53,16 +54,29 @@ public class DocumentPrivileges extends AbstractRuleBasedPrivileges<DocumentPriv
         NamedXContentRegistry xContentRegistry,
         Settings settings
     ) {
-        super(roles, indexMetadata, (rolePermissions) -> roleToRule(rolePermissions, xContentRegistry), settings);
+        this(roles, indexMetadata, xContentRegistry, settings, UserAttributes.createRenderedTemplateCache(settings));
+    }
+
+    private DocumentPrivileges(
+        SecurityDynamicConfiguration<RoleV7> roles,
+        Map<String, IndexAbstraction> indexMetadata,
+        NamedXContentRegistry xContentRegistry,
+        Settings settings,
+        Cache<String, RenderedDlsQuery> renderedQueryCache
+    ) {
+        super(roles, indexMetadata, (rolePermissions) -> roleToRule(rolePermissions, xContentRegistry, renderedQueryCache), settings);
         this.xContentRegistry = xContentRegistry;
     }
 
-    static DlsQuery roleToRule(RoleV7.Index rolePermissions, NamedXContentRegistry xContentRegistry)
-        throws PrivilegesConfigurationValidationException {
+    static DlsQuery roleToRule(
+        RoleV7.Index rolePermissions,
+        NamedXContentRegistry xContentRegistry,
+        Cache<String, RenderedDlsQuery> renderedQueryCache
+    ) throws PrivilegesConfigurationValidationException {
         String dlsQueryTemplate = rolePermissions.getDls();
 
         if (dlsQueryTemplate != null && !Strings.isBlank(dlsQueryTemplate)) {
-            return DlsQuery.create(dlsQueryTemplate, xContentRegistry);
+            return DlsQuery.create(dlsQueryTemplate, xContentRegistry, renderedQueryCache);
         } else {
             return null;
         }
@@ -134,8 +148,16 @@ public class DocumentPrivileges extends AbstractRuleBasedPrivileges<DocumentPriv
 
         static DlsQuery create(String queryString, NamedXContentRegistry xContentRegistry)
             throws PrivilegesConfigurationValidationException {
+            return create(queryString, xContentRegistry, null);
+        }
+
+        static DlsQuery create(
+            String queryString,
+            NamedXContentRegistry xContentRegistry,
+            Cache<String, RenderedDlsQuery> renderedQueryCache
+        ) throws PrivilegesConfigurationValidationException {
             if (UserAttributes.needsAttributeSubstitution(queryString)) {
-                return new DlsQuery.Dynamic(queryString, xContentRegistry);
+                return new DlsQuery.Dynamic(queryString, xContentRegistry, renderedQueryCache);
             } else {
                 return new DlsQuery.Constant(queryString, xContentRegistry);
             }
@@ -161,14 +183,18 @@ public class DocumentPrivileges extends AbstractRuleBasedPrivileges<DocumentPriv
 
         /**
          * Represents a DLS query with user attribute references like "${user.name}". These queries are parsed
-         * during privilege evaluation time, after user attribute interpolation has been performed.
+         * during privilege evaluation time, after user attribute interpolation has been performed. The parsed
+         * queries are kept in the renderedQueryCache (if not null), which is shared by all queries of a
+         * DocumentPrivileges instance.
          */
         static class Dynamic extends DlsQuery {
             private final NamedXContentRegistry xContentRegistry;
+            private final Cache<String, RenderedDlsQuery> renderedQueryCache;
 
-            Dynamic(String queryString, NamedXContentRegistry xContentRegistry) {
+            Dynamic(String queryString, NamedXContentRegistry xContentRegistry, Cache<String, RenderedDlsQuery> renderedQueryCache) {
                 super(queryString);
                 this.xContentRegistry = xContentRegistry;
+                this.renderedQueryCache = renderedQueryCache;
             }
 
             @Override
@@ -180,11 +206,24 @@ public class DocumentPrivileges extends AbstractRuleBasedPrivileges<DocumentPriv
                         new OpenSearchSecurityException("User attribute substitution failed")
                     );
                 }
+
+                RenderedDlsQuery result = renderedQueryCache != null ? renderedQueryCache.getIfPresent(effectiveQueryString) : null;
+
+                if (result != null) {
+                    return result;
+                }
+
                 try {
-                    return new RenderedDlsQuery(parseQuery(effectiveQueryString, xContentRegistry), effectiveQueryString);
+                    result = new RenderedDlsQuery(parseQuery(effectiveQueryString, xContentRegistry), effectiveQueryString);
                 } catch (Exception e) {
                     throw new PrivilegesEvaluationException("Invalid DLS query: " + effectiveQueryString, e);
                 }
+
+                if (renderedQueryCache != null) {
+                    renderedQueryCache.put(effectiveQueryString, result);
+                }
+
+                return result;
             }
         }
     }
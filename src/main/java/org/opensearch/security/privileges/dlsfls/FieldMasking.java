@@ -15,13 +15,18 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
 import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.lucene.util.BytesRef;
@@ -53,6 +58,9 @@ import com.rfksystems.blake2b.Blake2b;
 public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.FieldMaskingRule.SimpleRule, FieldMasking.FieldMaskingRule> {
 
     private final FieldMasking.Config fieldMaskingConfig;
+    private final Cache<ImmutableList<FieldMaskingRule.SimpleRule>, FieldMaskingRule> compiledRuleCache = CacheBuilder.newBuilder()
+        .maximumSize(1000)
+        .build();
 
     public FieldMasking(
         SecurityDynamicConfiguration<RoleV7> roles,
@@ -90,7 +98,17 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
     @Override
     protected FieldMaskingRule compile(PrivilegesEvaluationContext context, Collection<FieldMaskingRule.SimpleRule> rules)
         throws PrivilegesEvaluationException {
-        return new FieldMaskingRule.MultiRole(rules);
+        // Re-use rules for identical lists of rules; this way, the decisions memoized by the rule instances
+        // can be shared between requests. The order is part of the key, as the first matching rule wins.
+        ImmutableList<FieldMaskingRule.SimpleRule> key = ImmutableList.copyOf(rules);
+        FieldMaskingRule result = this.compiledRuleCache.getIfPresent(key);
+
+        if (result == null) {
+            result = new FieldMaskingRule.MultiRole(rules);
+            this.compiledRuleCache.put(key, result);
+        }
+
+        return result;
     }
 
     public static abstract class FieldMaskingRule extends AbstractRuleBasedPrivileges.Rule {
@@ -107,7 +125,39 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
             return new SimpleRule(patterns.build());
         }
 
-        public abstract Field get(String field);
+        private static final int MAX_CACHED_DECISIONS = 10_000;
+
+        /**
+         * Memoized results of get(). Field names without masking are mapped to Optional.empty(). The size is bounded
+         * by MAX_CACHED_DECISIONS; further results are just not cached.
+         */
+        private final Map<String, Optional<Field>> fieldCache = new ConcurrentHashMap<>();
+
+        /**
+         * Returns the field masking definition which applies to the given field name or null if the field is not masked.
+         */
+        public Field get(String field) {
+            field = FieldPrivileges.normalizeFieldName(field);
+
+            Optional<Field> cachedResult = this.fieldCache.get(field);
+
+            if (cachedResult != null) {
+                return cachedResult.orElse(null);
+            }
+
+            Field result = internalGet(field);
+
+            if (this.fieldCache.size() < MAX_CACHED_DECISIONS) {
+                this.fieldCache.put(field, Optional.ofNullable(result));
+            }
+
+            return result;
+        }
+
+        /**
+         * Looks up the field masking definition for the given normalized field name without using the cache.
+         */
+        abstract Field internalGet(String field);
 
         public abstract boolean isAllowAll();
 
@@ -115,6 +165,12 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
             return get(field) != null;
         }
 
+        /**
+         * Returns true if any member of the given object might be masked by this rule. Returns false if it is
+         * guaranteed that no members of the object are masked. This does not check the object itself.
+         */
+        public abstract boolean mayMaskDescendantOf(String objectPath);
+
         public boolean isUnrestricted() {
             return this.isAllowAll();
         }
@@ -129,6 +185,11 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
             final RoleV7.Index sourceIndex;
             final ImmutableList<FieldMaskingRule.Field> expressions;
 
+            /**
+             * Lazily initialized by mayMaskDescendantOf()
+             */
+            private volatile FieldPathTrie patternTrie;
+
             SimpleRule(RoleV7.Index sourceIndex, FieldMasking.Config fieldMaskingConfig) throws PrivilegesConfigurationValidationException {
                 this.sourceIndex = sourceIndex;
                 this.expressions = parseExpressions(sourceIndex, fieldMaskingConfig);
@@ -139,11 +200,8 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
                 this.expressions = expressions;
             }
 
-            public Field get(String field) {
-                return internalGet(FieldPrivileges.normalizeFieldName(field));
-            }
-
-            private Field internalGet(String field) {
+            @Override
+            Field internalGet(String field) {
                 for (Field expression : this.expressions) {
                     if (expression.getPattern().test(field)) {
                         return expression;
@@ -157,6 +215,23 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
                 return expressions.isEmpty();
             }
 
+            @Override
+            public boolean mayMaskDescendantOf(String objectPath) {
+                if (expressions.isEmpty()) {
+                    return false;
+                }
+
+                FieldPathTrie patternTrie = this.patternTrie;
+
+                if (patternTrie == null) {
+                    // Concurrent initialization is harmless, as the trie only depends on the immutable expressions
+                    patternTrie = new FieldPathTrie(this.expressions.stream().map(e -> e.getPattern().toString()).toList());
+                    this.patternTrie = patternTrie;
+                }
+
+                return patternTrie.mayMatchDescendantOf(objectPath);
+            }
+
             @Override
             public String toString() {
                 if (isAllowAll()) {
@@ -192,11 +267,10 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
                 this.allowAll = this.parts.stream().anyMatch(SimpleRule::isAllowAll);
             }
 
-            public Field get(String field) {
-                field = FieldPrivileges.normalizeFieldName(field);
-
+            @Override
+            Field internalGet(String field) {
                 for (SimpleRule part : parts) {
-                    Field masking = part.get(field);
+                    Field masking = part.internalGet(field);
 
                     if (masking != null) {
                         return masking;
@@ -210,6 +284,17 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
                 return allowAll;
             }
 
+            @Override
+            public boolean mayMaskDescendantOf(String objectPath) {
+                for (SimpleRule part : parts) {
+                    if (part.mayMaskDescendantOf(objectPath)) {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+
             @Override
             public String toString() {
                 if (isAllowAll()) {
@@ -230,6 +315,22 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
          * configuration.
          */
         public static class Field {
+            /**
+             * The maximum number of masked values which are memoized per field.
+             */
+            private static final int MAX_CACHED_VALUES = 1000;
+
+            /**
+             * Only values up to this length are memoized. Longer values are unlikely to repeat often and
+             * would unnecessarily bloat the heap.
+             */
+            private static final int MAX_CACHED_VALUE_LENGTH = 256;
+
+            /**
+             * MessageDigest instances are not thread safe; thus, we keep one instance per thread and algorithm.
+             */
+            private static final ThreadLocal<Map<String, MessageDigest>> MESSAGE_DIGESTS = ThreadLocal.withInitial(HashMap::new);
+
             private final FieldMaskingExpression expression;
 
             private final String hashAlgorithm;
@@ -237,6 +338,18 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
             private final byte[] saltBytes;
             private final boolean useLegacyDefaultAlgorithm;
 
+            /**
+             * Blake2b instances are not thread safe either. As the salt is specific to the configuration, the
+             * instances are kept per field object and thread.
+             */
+            private final ThreadLocal<Blake2b> blake2b;
+
+            /**
+             * Recently masked values. Many masked fields have only a low number of distinct values (like country codes),
+             * which would otherwise be re-hashed again and again, especially by aggregations.
+             */
+            private final Cache<BytesRef, byte[]> maskedValueCache = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_VALUES).build();
+
             Field(FieldMaskingExpression expression, FieldMasking.Config fieldMaskingConfig) {
                 this.expression = expression;
                 this.hashAlgorithm = expression.getAlgoName() != null ? expression.getAlgoName()
@@ -245,6 +358,11 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
                 this.useLegacyDefaultAlgorithm = fieldMaskingConfig.useLegacyDefaultAlgorithm();
                 this.salt = fieldMaskingConfig.getSalt();
                 this.saltBytes = this.salt.getSalt16();
+                this.blake2b = ThreadLocal.withInitial(
+                    () -> this.useLegacyDefaultAlgorithm
+                        ? new Blake2b(null, 32, null, this.saltBytes)
+                        : new Blake2b(null, 32, this.saltBytes, null)
+                );
             }
 
             public WildcardMatcher getPattern() {
@@ -252,14 +370,28 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
             }
 
             public byte[] apply(byte[] value) {
+                if (value.length > MAX_CACHED_VALUE_LENGTH) {
+                    return mask(value);
+                }
+
+                byte[] result = maskedValueCache.getIfPresent(new BytesRef(value));
+
+                if (result == null) {
+                    result = mask(value);
+                    maskedValueCache.put(new BytesRef(value.clone()), result);
+                }
+
+                // The cached array must not be modified by the caller, so we return a copy
+                return result.clone();
+            }
+
+            private byte[] mask(byte[] value) {
                 if (expression.getRegexReplacements() != null) {
                     return applyRegexReplacements(value, expression.getRegexReplacements());
-                } else if (this.useLegacyDefaultAlgorithm) {
-                    return blake2bHash(value, true);
-                } else if (this.hashAlgorithm != null) {
+                } else if (!this.useLegacyDefaultAlgorithm && this.hashAlgorithm != null) {
                     return customHash(value, this.hashAlgorithm);
                 } else {
-                    return blake2bHash(value, false);
+                    return blake2bHash(value);
                 }
             }
 
@@ -289,12 +421,20 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
             }
 
             private static byte[] customHash(byte[] in, String algorithm) {
-                try {
-                    MessageDigest digest = MessageDigest.getInstance(algorithm);
-                    return Hex.encode(digest.digest(in));
-                } catch (NoSuchAlgorithmException e) {
-                    throw new IllegalArgumentException(e);
+                Map<String, MessageDigest> digests = MESSAGE_DIGESTS.get();
+                MessageDigest digest = digests.get(algorithm);
+
+                if (digest == null) {
+                    try {
+                        digest = MessageDigest.getInstance(algorithm);
+                    } catch (NoSuchAlgorithmException e) {
+                        throw new IllegalArgumentException(e);
+                    }
+                    digests.put(algorithm, digest);
                 }
+
+                // digest() resets the instance, so it can be directly re-used afterwards
+                return Hex.encode(digest.digest(in));
             }
 
             private byte[] applyRegexReplacements(byte[] value, List<FieldMaskingExpression.RegexReplacement> regexReplacements) {
@@ -305,13 +445,9 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
                 return string.getBytes(StandardCharsets.UTF_8);
             }
 
-            private byte[] blake2bHash(byte[] in, boolean useLegacyDefaultAlgorithm) {
-                final Blake2b hash;
-                if (useLegacyDefaultAlgorithm) {
-                    hash = new Blake2b(null, 32, null, saltBytes);
-                } else {
-                    hash = new Blake2b(null, 32, saltBytes, null);
-                }
+            private byte[] blake2bHash(byte[] in) {
+                final Blake2b hash = this.blake2b.get();
+                hash.reset();
                 hash.update(in, 0, in.length);
                 final byte[] out = new byte[hash.getDigestSize()];
                 hash.digest(out, 0);
@@ -347,9 +483,7 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
                     this.algoName = tokens.get(1);
                     // We try to instantiate the MessageDigest instance already now to make sure that it is valid.
                     // However, we do not store the instance as MessageDigest instance are NOT thread safe.
-                    // Some MessageDigest implementations allow to be cloned. A possible future optimization would
-                    // be detecting whether the instances can be cloned and then using the clone method for
-                    // construction.
+                    // Field keeps thread local instances for the actual hashing.
                     MessageDigest.getInstance(tokens.get(1));
                 } catch (NoSuchAlgorithmException e) {
                     throw new PrivilegesConfigurationValidationException("Invalid algorithm " + tokens.get(1));
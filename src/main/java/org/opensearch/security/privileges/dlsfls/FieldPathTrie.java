@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.privileges.dlsfls;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A trie of field path patterns, organized by the literal segments (separated by ".") at the beginning of
+ * each pattern. This is used to decide for whole sub-trees of a document whether any of the patterns can
+ * apply to a member of the sub-tree. If not, the sub-tree can be processed without checking the patterns
+ * for each single member.
+ * <p>
+ * The checks are conservative: For patterns with wildcards or regular expressions, the trie does not know
+ * exactly which paths are matched. Thus, mayMatchDescendantOf() might return true even though no descendant
+ * is actually matched and matchesAllDescendantsOf() might return false even though all descendants are matched.
+ * <p>
+ * Instances of this class are immutable after construction.
+ */
+class FieldPathTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Creates a trie from the given patterns. The patterns must use the syntax supported by WildcardMatcher.from().
+     */
+    FieldPathTrie(Collection<String> patterns) {
+        for (String pattern : patterns) {
+            add(pattern);
+        }
+    }
+
+    /**
+     * Returns true if any of the patterns might match a path which is located below the given object path.
+     * Returns false if it is guaranteed that none of the patterns match such a path.
+     */
+    boolean mayMatchDescendantOf(String objectPath) {
+        Node node = root;
+        int start = 0;
+
+        for (;;) {
+            if (node.hasWildcardPatterns) {
+                return true;
+            }
+
+            if (start > objectPath.length()) {
+                return !node.children.isEmpty();
+            }
+
+            int end = segmentEnd(objectPath, start);
+            node = node.children.get(objectPath.substring(start, end));
+
+            if (node == null) {
+                return false;
+            }
+
+            start = end + 1;
+        }
+    }
+
+    /**
+     * Returns true if it is guaranteed that all paths below the given object path are matched by at least one
+     * of the patterns.
+     */
+    boolean matchesAllDescendantsOf(String objectPath) {
+        Node node = root;
+        int start = 0;
+
+        for (;;) {
+            for (String prefix : node.prefixPatterns) {
+                // If we have already consumed the whole object path, only patterns like a.* cover all descendants
+                if (start > objectPath.length() ? prefix.isEmpty() : objectPath.startsWith(prefix, start)) {
+                    return true;
+                }
+            }
+
+            if (start > objectPath.length()) {
+                return false;
+            }
+
+            int end = segmentEnd(objectPath, start);
+            node = node.children.get(objectPath.substring(start, end));
+
+            if (node == null) {
+                return false;
+            }
+
+            start = end + 1;
+        }
+    }
+
+    private void add(String pattern) {
+        if (pattern.startsWith("/") && pattern.endsWith("/")) {
+            // Regular expressions: We cannot tell which paths are matched; they might match any path
+            root.hasWildcardPatterns = true;
+            return;
+        }
+
+        Node node = root;
+        int start = 0;
+
+        for (;;) {
+            int end = segmentEnd(pattern, start);
+            String segment = pattern.substring(start, end);
+
+            if (segment.indexOf('*') != -1 || segment.indexOf('?') != -1) {
+                node.hasWildcardPatterns = true;
+
+                String remainder = pattern.substring(start);
+                int star = remainder.indexOf('*');
+
+                if (star == remainder.length() - 1 && remainder.indexOf('?') == -1) {
+                    // Simple prefix pattern like a.b* or a.*; this matches everything which starts with the prefix
+                    node.prefixPatterns.add(remainder.substring(0, star));
+                }
+                return;
+            }
+
+            node = node.children.computeIfAbsent(segment, (k) -> new Node());
+
+            if (end >= pattern.length()) {
+                return;
+            }
+
+            start = end + 1;
+        }
+    }
+
+    private static int segmentEnd(String path, int start) {
+        int dot = path.indexOf('.', start);
+        return dot != -1 ? dot : path.length();
+    }
+
+    private static class Node {
+        final Map<String, Node> children = new HashMap<>();
+        /**
+         * Remainders of prefix patterns which start at this node. The remainder excludes the trailing "*".
+         */
+        final List<String> prefixPatterns = new ArrayList<>(0);
+        /**
+         * True if there are patterns with wildcards starting at this node. These might match any path below this node.
+         */
+        boolean hasWildcardPatterns;
+    }
+}
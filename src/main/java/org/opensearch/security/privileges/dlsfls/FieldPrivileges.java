@@ -18,9 +18,13 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.PatternSyntaxException;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 
 import org.opensearch.cluster.metadata.IndexAbstraction;
 import org.opensearch.common.settings.Settings;
@@ -41,6 +45,8 @@ import org.opensearch.security.support.WildcardMatcher;
  * Instances of this class are managed by DlsFlsProcessedConfig.
  */
 public class FieldPrivileges extends AbstractRuleBasedPrivileges<FieldPrivileges.FlsRule, FieldPrivileges.FlsRule> {
+    private final Cache<ImmutableSet<FlsRule>, FlsRule> mergedRuleCache = CacheBuilder.newBuilder().maximumSize(1000).build();
+
     public FieldPrivileges(SecurityDynamicConfiguration<RoleV7> roles, Map<String, IndexAbstraction> indexMetadata, Settings settings) {
         super(roles, indexMetadata, FieldPrivileges::roleToRule, settings);
     }
@@ -67,13 +73,29 @@ public class FieldPrivileges extends AbstractRuleBasedPrivileges<FieldPrivileges
 
     @Override
     protected FlsRule compile(PrivilegesEvaluationContext context, Collection<FlsRule> rules) throws PrivilegesEvaluationException {
-        return FlsRule.merge(rules);
+        if (rules.size() == 1) {
+            return rules.iterator().next();
+        }
+
+        // Re-use merged rules for identical sets of rules; this way, the decisions memoized by the rule instances
+        // can be shared between requests.
+        ImmutableSet<FlsRule> key = ImmutableSet.copyOf(rules);
+        FlsRule result = this.mergedRuleCache.getIfPresent(key);
+
+        if (result == null) {
+            result = FlsRule.merge(rules);
+            this.mergedRuleCache.put(key, result);
+        }
+
+        return result;
     }
 
     /**
      * Represents a set of FlsPatterns for a specific index.
      */
     public static class FlsRule extends AbstractRuleBasedPrivileges.Rule {
+        private static final int MAX_CACHED_DECISIONS = 10_000;
+
         static FlsRule of(String... rules) throws PrivilegesConfigurationValidationException {
             return from(FlsPattern.parse(Arrays.asList(rules)), ImmutableList.of());
         }
@@ -129,6 +151,19 @@ public class FieldPrivileges extends AbstractRuleBasedPrivileges<FieldPrivileges
         final ImmutableList<FlsPattern> objectOnlyPatterns;
         final boolean allowAll;
         final boolean excluding;
+        final int hashCode;
+
+        /**
+         * Memoized results of isAllowedRecursive(). As the same rule instances are used across many requests
+         * (see FieldPrivileges.compile()), the expensive pattern checks only need to be done once per field name.
+         * The size is bounded by MAX_CACHED_DECISIONS; further results are just not cached.
+         */
+        private final Map<String, Boolean> allowedRecursiveCache = new ConcurrentHashMap<>();
+
+        /**
+         * Lazily initialized by getEffectivePatternTrie()
+         */
+        private volatile FieldPathTrie effectivePatternTrie;
 
         FlsRule(
             Collection<FlsPattern> patterns,
@@ -185,6 +220,15 @@ public class FieldPrivileges extends AbstractRuleBasedPrivileges<FieldPrivileges
             }
 
             this.objectOnlyPatterns = ImmutableList.copyOf(flsPatternsIncludingObjectsOnly);
+
+            if (this.allowAll) {
+                this.hashCode = 1;
+            } else {
+                // Sums of the pattern hash codes are independent of the order of the patterns
+                int effectivePatternsHash = this.effectivePatterns.stream().mapToInt(FlsPattern::hashCode).sum();
+                int objectOnlyPatternsHash = this.objectOnlyPatterns.stream().mapToInt(FlsPattern::hashCode).sum();
+                this.hashCode = 31 * (31 * Boolean.hashCode(this.excluding) + effectivePatternsHash) + objectOnlyPatternsHash;
+            }
         }
 
         /**
@@ -233,6 +277,22 @@ public class FieldPrivileges extends AbstractRuleBasedPrivileges<FieldPrivileges
 
             field = normalizeFieldName(field);
 
+            Boolean cachedResult = this.allowedRecursiveCache.get(field);
+
+            if (cachedResult != null) {
+                return cachedResult;
+            }
+
+            boolean result = computeAllowedRecursive(field);
+
+            if (this.allowedRecursiveCache.size() < MAX_CACHED_DECISIONS) {
+                this.allowedRecursiveCache.put(field, result);
+            }
+
+            return result;
+        }
+
+        private boolean computeAllowedRecursive(String field) {
             if (excluding) {
                 // search for rules that explicitly forbid this field
                 if (!isAllowedNonRecursive(field)) {
@@ -267,6 +327,35 @@ public class FieldPrivileges extends AbstractRuleBasedPrivileges<FieldPrivileges
             }
         }
 
+        /**
+         * Returns true if it is guaranteed that all members of the given object are allowed by this rule, assuming
+         * that the object itself is allowed. This can be used to skip the FLS checks for whole sub-trees of a document.
+         * A return value of false does not necessarily mean that there are members which are not allowed.
+         */
+        public boolean isSubtreeAllowedAssumingObjectIsAllowed(String objectPath) {
+            if (isAllowAll()) {
+                return true;
+            }
+
+            if (excluding) {
+                return !getEffectivePatternTrie().mayMatchDescendantOf(objectPath);
+            } else {
+                return getEffectivePatternTrie().matchesAllDescendantsOf(objectPath);
+            }
+        }
+
+        private FieldPathTrie getEffectivePatternTrie() {
+            FieldPathTrie result = this.effectivePatternTrie;
+
+            if (result == null) {
+                // Benign race: Concurrent threads might build equivalent instances
+                result = new FieldPathTrie(this.effectivePatterns.stream().map(p -> p.getPattern().toString()).toList());
+                this.effectivePatternTrie = result;
+            }
+
+            return result;
+        }
+
         private boolean isAllowedNonRecursive(String field) {
             if (excluding) {
                 for (FlsPattern pattern : this.effectivePatterns) {
@@ -309,6 +398,33 @@ public class FieldPrivileges extends AbstractRuleBasedPrivileges<FieldPrivileges
         public boolean isUnrestricted() {
             return this.isAllowAll();
         }
+
+        /**
+         * Two FlsRules are equal if they have the same effect; the roles the rules were derived from are not regarded.
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FlsRule that)) {
+                return false;
+            }
+            if (this.allowAll || that.allowAll) {
+                return this.allowAll == that.allowAll;
+            }
+            return this.hashCode == that.hashCode
+                && this.excluding == that.excluding
+                && this.effectivePatterns.size() == that.effectivePatterns.size()
+                && this.effectivePatterns.containsAll(that.effectivePatterns)
+                && this.objectOnlyPatterns.size() == that.objectOnlyPatterns.size()
+                && this.objectOnlyPatterns.containsAll(that.objectOnlyPatterns);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
     }
 
     /**
@@ -10,8 +10,6 @@
  */
 package org.opensearch.security.privileges.dlsfls;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -24,6 +22,9 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+
 /**
  * Implements document transformation for FLS and field masking using a chained streaming parser and generator.
  * This provides optimal throughput while keeping the heap footprint low.
@@ -32,20 +33,60 @@ import com.fasterxml.jackson.core.JsonToken;
  * by FLS, and mask fields when required for field masking.
  * <p>
  * While FLS applies to attributes of any type, field masking is only available for string valued attributes.
+ * <p>
+ * Objects and arrays which are known to be neither affected by FLS nor by field masking are copied without
+ * further checks on their members.
  */
 class FlsDocumentFilter {
     private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
+    /**
+     * Output buffers which are re-used for filtering documents on the same thread. Buffers which grow beyond
+     * MAX_RECYCLED_BUFFER_SIZE are not kept.
+     */
+    private static final ThreadLocal<BytesStreamOutput> RECYCLED_OUTPUT = new ThreadLocal<>();
+    private static final int MAX_RECYCLED_BUFFER_SIZE = 1024 * 1024;
+
     static byte[] filter(
         byte[] bytes,
         FieldPrivileges.FlsRule flsRule,
         FieldMasking.FieldMaskingRule fieldMaskingRule,
         Set<String> metaFields
     ) throws IOException {
-        try (InputStream in = new ByteArrayInputStream(bytes); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            filter(in, out, flsRule, fieldMaskingRule, metaFields);
-            return out.toByteArray();
+        BytesStreamOutput out = acquireRecycledOutput();
+        try {
+            try (JsonParser parser = JSON_FACTORY.createParser(bytes)) {
+                filter(parser, out, flsRule, fieldMaskingRule, metaFields);
+            }
+            return BytesReference.toBytes(out.bytes());
+        } finally {
+            releaseRecycledOutput(out);
+        }
+    }
+
+    /**
+     * Filters the given document without creating intermediate copies of it. If the document is backed by a single
+     * array, it is parsed directly from that array.
+     */
+    static BytesReference filter(
+        BytesReference source,
+        FieldPrivileges.FlsRule flsRule,
+        FieldMasking.FieldMaskingRule fieldMaskingRule,
+        Set<String> metaFields
+    ) throws IOException {
+        BytesStreamOutput out = new BytesStreamOutput(source.length());
+
+        if (source.hasArray()) {
+            try (JsonParser parser = JSON_FACTORY.createParser(source.array(), source.arrayOffset(), source.length())) {
+                filter(parser, out, flsRule, fieldMaskingRule, metaFields);
+            }
+        } else {
+            try (InputStream in = source.streamInput(); JsonParser parser = JSON_FACTORY.createParser(in)) {
+                filter(parser, out, flsRule, fieldMaskingRule, metaFields);
+            }
         }
+
+        return out.bytes();
     }
 
     static void filter(
@@ -55,11 +96,43 @@ class FlsDocumentFilter {
         FieldMasking.FieldMaskingRule fieldMaskingRule,
         Set<String> metaFields
     ) throws IOException {
-        try (JsonParser parser = JSON_FACTORY.createParser(in); JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            filter(parser, out, flsRule, fieldMaskingRule, metaFields);
+        }
+    }
+
+    private static void filter(
+        JsonParser parser,
+        OutputStream out,
+        FieldPrivileges.FlsRule flsRule,
+        FieldMasking.FieldMaskingRule fieldMaskingRule,
+        Set<String> metaFields
+    ) throws IOException {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
             new FlsDocumentFilter(parser, generator, flsRule, fieldMaskingRule, metaFields).copy();
         }
     }
 
+    private static BytesStreamOutput acquireRecycledOutput() {
+        BytesStreamOutput out = RECYCLED_OUTPUT.get();
+
+        if (out == null) {
+            return new BytesStreamOutput();
+        }
+
+        // Remove the buffer while it is in use to be safe against re-entrant calls
+        RECYCLED_OUTPUT.remove();
+        // Unlike reset(), seek() keeps the already allocated pages
+        out.seek(0);
+        return out;
+    }
+
+    private static void releaseRecycledOutput(BytesStreamOutput out) {
+        if (out.ramBytesUsed() <= MAX_RECYCLED_BUFFER_SIZE) {
+            RECYCLED_OUTPUT.set(out);
+        }
+    }
+
     private final JsonParser parser;
     private final JsonGenerator generator;
     private final FieldPrivileges.FlsRule flsRule;
@@ -119,6 +192,14 @@ class FlsDocumentFilter {
                     || (startOfObjectOrArray && flsRule.isObjectAllowedAssumingParentsAreAllowed(fullQueuedFieldName))) {
                     generator.writeFieldName(parser.currentName());
                     fullCurrentName = fullQueuedFieldName;
+
+                    if (startOfObjectOrArray && isSubtreeUnaffected(fullQueuedFieldName)) {
+                        // Fast path: Neither FLS nor field masking applies to the members of the object or array.
+                        // Thus, we can copy it without tracking the member names. Afterwards, the parser will be
+                        // positioned on the corresponding END_OBJECT or END_ARRAY token.
+                        copySubtree();
+                        continue;
+                    }
                 } else {
                     // If the current field name is disallowed by FLS, we will skip the next token.
                     // If the next token is an object or array start, all the child tokens will be also skipped
@@ -204,4 +285,87 @@ class FlsDocumentFilter {
         }
     }
 
+    /**
+     * Returns true if neither FLS nor field masking applies to any member of the given object. Field masking
+     * also needs to be checked for the object itself, as this would apply to the string elements of arrays.
+     */
+    private boolean isSubtreeUnaffected(String fullObjectName) {
+        return flsRule.isSubtreeAllowedAssumingObjectIsAllowed(fullObjectName)
+            && (fieldMaskingRule.isAllowAll()
+                || (fieldMaskingRule.get(fullObjectName) == null && !fieldMaskingRule.mayMaskDescendantOf(fullObjectName)));
+    }
+
+    /**
+     * Copies the object or array starting at the current token of the parser to the generator.
+     * <p>
+     * Unlike JsonGenerator.copyCurrentStructure(), this preserves the precision of floating point numbers.
+     */
+    @SuppressWarnings("incomplete-switch")
+    private void copySubtree() throws IOException {
+        int depth = 0;
+
+        for (JsonToken token = parser.currentToken(); token != null; token = parser.nextToken()) {
+            switch (token) {
+                case FIELD_NAME:
+                    generator.writeFieldName(parser.currentName());
+                    break;
+
+                case START_OBJECT:
+                    generator.writeStartObject();
+                    depth++;
+                    break;
+
+                case END_OBJECT:
+                    generator.writeEndObject();
+                    depth--;
+                    break;
+
+                case START_ARRAY:
+                    generator.writeStartArray();
+                    depth++;
+                    break;
+
+                case END_ARRAY:
+                    generator.writeEndArray();
+                    depth--;
+                    break;
+
+                case VALUE_TRUE:
+                    generator.writeBoolean(Boolean.TRUE);
+                    break;
+
+                case VALUE_FALSE:
+                    generator.writeBoolean(Boolean.FALSE);
+                    break;
+
+                case VALUE_NULL:
+                    generator.writeNull();
+                    break;
+
+                case VALUE_NUMBER_FLOAT:
+                    generator.writeNumber(parser.getDecimalValue());
+                    break;
+
+                case VALUE_NUMBER_INT:
+                    generator.writeNumber(parser.getBigIntegerValue());
+                    break;
+
+                case VALUE_STRING:
+                    generator.writeString(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                    break;
+
+                case VALUE_EMBEDDED_OBJECT:
+                    generator.writeEmbeddedObject(parser.getEmbeddedObject());
+                    break;
+
+                default:
+                    throw new IllegalStateException("Unexpected token: " + token);
+            }
+
+            if (depth == 0) {
+                return;
+            }
+        }
+    }
+
 }
@@ -11,6 +11,7 @@ package org.opensearch.security.resources;
 import java.util.Set;
 
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.security.spi.resources.client.ResourceIdsPage;
 import org.opensearch.security.spi.resources.client.ResourceSharingClient;
 import org.opensearch.security.spi.resources.sharing.ResourceSharing;
 import org.opensearch.security.spi.resources.sharing.ShareWith;
@@ -81,4 +82,17 @@ public final class ResourceAccessControlClient implements ResourceSharingClient
     public void getAccessibleResourceIds(String resourceIndex, ActionListener<Set<String>> listener) {
         resourceAccessHandler.getOwnAndSharedResourceIdsForCurrentUser(resourceIndex, listener);
     }
+
+    /**
+     * Lists one page of the resources the current user has access to within the given index.
+     *
+     * @param resourceIndex The index to search for accessible resources.
+     * @param pageToken     The token of the next page as returned with the previous page, or null for the first page.
+     * @param pageSize      The maximum number of resource ids to return.
+     * @param listener      Callback receiving the page of resource ids.
+     */
+    @Override
+    public void getAccessibleResourceIds(String resourceIndex, String pageToken, int pageSize, ActionListener<ResourceIdsPage> listener) {
+        resourceAccessHandler.getOwnAndSharedResourceIdsForCurrentUser(resourceIndex, pageToken, pageSize, listener);
+    }
 }
@@ -13,6 +13,7 @@ package org.opensearch.security.resources;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -27,12 +28,12 @@ import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.index.query.BoolQueryBuilder;
-import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.security.auth.UserSubjectImpl;
 import org.opensearch.security.configuration.AdminDNs;
 import org.opensearch.security.privileges.PrivilegesEvaluationContext;
 import org.opensearch.security.privileges.PrivilegesEvaluator;
 import org.opensearch.security.privileges.actionlevel.RoleBasedActionPrivileges;
+import org.opensearch.security.spi.resources.client.ResourceIdsPage;
 import org.opensearch.security.spi.resources.sharing.Recipient;
 import org.opensearch.security.spi.resources.sharing.ResourceSharing;
 import org.opensearch.security.spi.resources.sharing.ShareWith;
@@ -92,7 +93,58 @@ public class ResourceAccessHandler {
             return;
         }
 
-        // 1) collect all entities we’ll match against share_with arrays
+        Set<String> flatPrincipals = flattenPrincipals(user);
+        BoolQueryBuilder query = ResourceSharingIndexHandler.accessibleResourcesQuery(user.getName(), flatPrincipals);
+
+        resourceSharingIndexHandler.fetchAccessibleResourceIds(resourceIndex, flatPrincipals, query, listener);
+    }
+
+    /**
+     * Returns one page of the accessible resource IDs for the current user within the specified resource index. The
+     * access restriction is applied as a filter of the search on the resource sharing index; thus, only the requested
+     * page of IDs is loaded. As with {@link #getOwnAndSharedResourceIdsForCurrentUser(String, ActionListener)}, admins
+     * get the IDs of all resources of the index.
+     *
+     * @param resourceIndex The resource index to check for accessible resources.
+     * @param pageToken     The token of the page to return, or null for the first page.
+     * @param pageSize      The maximum number of IDs to return.
+     * @param listener      The listener to be notified with the page of accessible resource IDs.
+     */
+    public void getOwnAndSharedResourceIdsForCurrentUser(
+        @NonNull String resourceIndex,
+        @Nullable String pageToken,
+        int pageSize,
+        ActionListener<ResourceIdsPage> listener
+    ) {
+        if (pageSize <= 0) {
+            listener.onFailure(new IllegalArgumentException("pageSize must be positive"));
+            return;
+        }
+
+        UserSubjectImpl userSub = (UserSubjectImpl) threadContext.getPersistent(ConfigConstants.OPENDISTRO_SECURITY_AUTHENTICATED_USER);
+        User user = userSub == null ? null : userSub.getUser();
+
+        if (user == null) {
+            LOGGER.warn("No authenticated user; returning empty page");
+            listener.onResponse(new ResourceIdsPage(List.of(), null));
+            return;
+        }
+
+        if (adminDNs.isAdmin(user)) {
+            resourceSharingIndexHandler.fetchAllResourceIdsPage(resourceIndex, pageToken, pageSize, listener);
+            return;
+        }
+
+        BoolQueryBuilder query = ResourceSharingIndexHandler.accessibleResourcesQuery(user.getName(), flattenPrincipals(user));
+
+        resourceSharingIndexHandler.fetchAccessibleResourceIdsPage(resourceIndex, query, pageToken, pageSize, listener);
+    }
+
+    /**
+     * Returns the principals of the given user in the flattened form which is used for the all_shared_principals field
+     * of the resource sharing documents, including the wildcard principals for publicly shared resources.
+     */
+    private static Set<String> flattenPrincipals(User user) {
         // for users:
         Set<String> users = new HashSet<>();
         users.add(user.getName());
@@ -106,22 +158,15 @@ public class ResourceAccessHandler {
         Set<String> backendRoles = new HashSet<>(user.getRoles());
         backendRoles.add("*"); // for matching against publicly shared resource
 
-        // 2) build a flattened query (allows us to compute large number of entries in less than a second compared to multi-match query with
-        // BEST_FIELDS)
-        Set<String> flatPrincipals = Stream.concat(
+        return Stream.concat(
             // users
-            users.stream().map(u -> "user:" + u),
+            users.stream().map(u -> ResourceSharingIndexHandler.USER_PRINCIPAL_PREFIX + u),
             // then roles and backend_roles
-            Stream.concat(roles.stream().map(r -> "role:" + r), backendRoles.stream().map(b -> "backend:" + b))
+            Stream.concat(
+                roles.stream().map(r -> ResourceSharingIndexHandler.ROLE_PRINCIPAL_PREFIX + r),
+                backendRoles.stream().map(b -> ResourceSharingIndexHandler.BACKEND_ROLE_PRINCIPAL_PREFIX + b)
+            )
         ).collect(Collectors.toSet());
-
-        BoolQueryBuilder query = QueryBuilders.boolQuery()
-            .should(QueryBuilders.termQuery("created_by.user.keyword", user.getName()))
-            .should(QueryBuilders.termsQuery("all_shared_principals", flatPrincipals))
-            .minimumShouldMatch(1);
-
-        // 3) Fetch all accessible resource IDs
-        resourceSharingIndexHandler.fetchAccessibleResourceIds(resourceIndex, flatPrincipals, query, listener);
     }
 
     /**
@@ -24,7 +24,6 @@ import org.opensearch.security.spi.resources.sharing.ResourceSharing;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.user.User;
 import org.opensearch.threadpool.ThreadPool;
-import org.opensearch.transport.client.Client;
 
 /**
  * This class implements an index operation listener for operations performed on resources stored in plugin's indices.
@@ -38,9 +37,9 @@ public class ResourceIndexListener implements IndexingOperationListener {
 
     private final ThreadPool threadPool;
 
-    public ResourceIndexListener(ThreadPool threadPool, Client client) {
+    public ResourceIndexListener(ThreadPool threadPool, ResourceSharingIndexHandler resourceSharingIndexHandler) {
         this.threadPool = threadPool;
-        this.resourceSharingIndexHandler = new ResourceSharingIndexHandler(client, threadPool);
+        this.resourceSharingIndexHandler = resourceSharingIndexHandler;
     }
 
     /**
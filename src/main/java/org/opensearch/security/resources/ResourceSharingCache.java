@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.resources;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.spi.resources.sharing.ResourceSharing;
+import org.opensearch.security.support.ConfigConstants;
+
+/**
+ * A node-local cache of resource sharing documents, keyed by resource index and resource ID. It saves the GET on the
+ * resource sharing index for each access check on a resource.
+ * <p>
+ * Entries are invalidated whenever a sharing document is changed or deleted by this node; other nodes are notified via
+ * {@link org.opensearch.security.resources.api.cache.InvalidateResourceSharingCacheAction}. Changes are only reported
+ * as complete once all nodes have invalidated their entry; if a node fails to do so, revoking access fails and the TTL
+ * bounds the staleness on that node.
+ * <p>
+ * To avoid caching a document which was read before a concurrent invalidation, callers must obtain the current
+ * {@link #generation()} before reading the document and pass it to {@link #put(String, String, ResourceSharing, long)}.
+ * <p>
+ * Cached documents are shared between requests and must not be modified.
+ *
+ * @opensearch.experimental
+ */
+public class ResourceSharingCache {
+
+    private static final Logger LOGGER = LogManager.getLogger(ResourceSharingCache.class);
+
+    public static final ResourceSharingCache DISABLED = new ResourceSharingCache(0, 0);
+
+    private final Cache<Key, ResourceSharing> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ResourceSharingCache(Settings settings) {
+        this(
+            settings.getAsInt(
+                ConfigConstants.OPENSEARCH_RESOURCE_SHARING_CACHE_MAX_SIZE,
+                ConfigConstants.OPENSEARCH_RESOURCE_SHARING_CACHE_MAX_SIZE_DEFAULT
+            ),
+            settings.getAsInt(
+                ConfigConstants.OPENSEARCH_RESOURCE_SHARING_CACHE_TTL_MINUTES,
+                ConfigConstants.OPENSEARCH_RESOURCE_SHARING_CACHE_TTL_MINUTES_DEFAULT
+            )
+        );
+    }
+
+    ResourceSharingCache(int maxSize, int ttlMinutes) {
+        if (maxSize > 0 && ttlMinutes > 0) {
+            this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttlMinutes, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        } else {
+            this.cache = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Returns the current invalidation generation. Must be obtained before the document to be cached is read.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Returns the cached sharing document or null if there is none.
+     */
+    public ResourceSharing getIfPresent(String resourceIndex, String resourceId) {
+        if (cache == null) {
+            return null;
+        }
+
+        return cache.getIfPresent(new Key(resourceIndex, resourceId));
+    }
+
+    /**
+     * Caches the given sharing document, unless an invalidation happened after the given generation was obtained.
+     */
+    public synchronized void put(String resourceIndex, String resourceId, ResourceSharing resourceSharing, long generation) {
+        if (cache == null || resourceSharing == null) {
+            return;
+        }
+
+        if (this.generation.get() != generation) {
+            LOGGER.debug("Not caching sharing info of {} in {}; it was invalidated while being read", resourceId, resourceIndex);
+            return;
+        }
+
+        cache.put(new Key(resourceIndex, resourceId), resourceSharing);
+    }
+
+    public synchronized void invalidate(String resourceIndex, String resourceId) {
+        if (cache == null) {
+            return;
+        }
+
+        generation.incrementAndGet();
+        cache.invalidate(new Key(resourceIndex, resourceId));
+    }
+
+    public synchronized void invalidate(String resourceIndex, Collection<String> resourceIds) {
+        if (cache == null) {
+            return;
+        }
+
+        generation.incrementAndGet();
+        for (String resourceId : resourceIds) {
+            cache.invalidate(new Key(resourceIndex, resourceId));
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        if (cache == null) {
+            return;
+        }
+
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache == null ? 0 : cache.size();
+    }
+
+    public CacheStats stats() {
+        return cache == null ? new CacheStats(0, 0, 0, 0, 0, 0) : cache.stats();
+    }
+
+    private static class Key {
+        private final String resourceIndex;
+        private final String resourceId;
+
+        Key(String resourceIndex, String resourceId) {
+            this.resourceIndex = resourceIndex;
+            this.resourceId = resourceId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return resourceIndex.equals(other.resourceIndex) && resourceId.equals(other.resourceId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(resourceIndex, resourceId);
+        }
+    }
+}
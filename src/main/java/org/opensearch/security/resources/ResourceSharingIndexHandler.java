@@ -10,10 +10,13 @@
 package org.opensearch.security.resources;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -21,11 +24,17 @@ import org.apache.logging.log4j.Logger;
 
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.OpenSearchStatusException;
+import org.opensearch.ResourceAlreadyExistsException;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.DocWriteResponse;
+import org.opensearch.action.FailedNodeException;
 import org.opensearch.action.StepListener;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
+import org.opensearch.action.admin.indices.mapping.put.PutMappingRequest;
+import org.opensearch.action.admin.indices.refresh.RefreshRequest;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.index.IndexRequest;
@@ -35,7 +44,10 @@ import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.action.support.WriteRequest;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
@@ -44,17 +56,26 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.engine.VersionConflictEngineException;
 import org.opensearch.index.query.AbstractQueryBuilder;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.MatchAllQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.script.Script;
 import org.opensearch.script.ScriptType;
 import org.opensearch.search.Scroll;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.security.resources.api.cache.InvalidateResourceSharingCacheAction;
+import org.opensearch.security.resources.api.cache.InvalidateResourceSharingCacheRequest;
+import org.opensearch.security.resources.api.cache.InvalidateResourceSharingCacheResponse;
+import org.opensearch.security.spi.resources.client.ResourceIdsPage;
 import org.opensearch.security.spi.resources.sharing.CreatedBy;
 import org.opensearch.security.spi.resources.sharing.Recipient;
 import org.opensearch.security.spi.resources.sharing.Recipients;
@@ -77,12 +98,27 @@ public class ResourceSharingIndexHandler {
 
     private final Client client;
 
+    private final ClusterService clusterService;
+
     private final ThreadPool threadPool;
 
+    private final ResourceSharingCache cache;
+
     @Inject
-    public ResourceSharingIndexHandler(final Client client, final ThreadPool threadPool) {
+    public ResourceSharingIndexHandler(final Client client, final ClusterService clusterService, final ThreadPool threadPool) {
+        this(client, clusterService, threadPool, ResourceSharingCache.DISABLED);
+    }
+
+    public ResourceSharingIndexHandler(
+        final Client client,
+        final ClusterService clusterService,
+        final ThreadPool threadPool,
+        final ResourceSharingCache cache
+    ) {
         this.client = client;
+        this.clusterService = clusterService;
         this.threadPool = threadPool;
+        this.cache = cache;
     }
 
     public final static Map<String, Object> INDEX_SETTINGS = Map.of(
@@ -94,6 +130,56 @@ public class ResourceSharingIndexHandler {
         "true"
     );
 
+    /**
+     * Indexed field of the sharing documents which contains the principals having access to the resource: the creator
+     * and all recipients of the share_with section. The principals are prefixed by their type, see the *_PRINCIPAL_PREFIX
+     * constants. This allows to filter the accessible resources with a single terms query.
+     */
+    public static final String ALL_SHARED_PRINCIPALS = "all_shared_principals";
+
+    public static final String USER_PRINCIPAL_PREFIX = "user:";
+    public static final String ROLE_PRINCIPAL_PREFIX = "role:";
+    public static final String BACKEND_ROLE_PRINCIPAL_PREFIX = "backend:";
+
+    public static final Map<String, Object> INDEX_MAPPINGS = Map.of("properties", Map.of(ALL_SHARED_PRINCIPALS, Map.of("type", "keyword")));
+
+    /**
+     * Derived field which computes the principals of sharing documents which were written before the
+     * all_shared_principals field was introduced.
+     */
+    private static final String DERIVED_SHARED_PRINCIPALS = "derived_shared_principals";
+
+    /**
+     * Painless script to emit all share_with principals
+     */
+    private static final Script DERIVED_SHARED_PRINCIPALS_SCRIPT = new Script(
+        ScriptType.INLINE,
+        "painless",
+        """
+            // handle shared
+            if (params._source.share_with instanceof Map) {
+              for (def grp : params._source.share_with.values()) {
+                if (grp.users instanceof List) {
+                  for (u in grp.users) {
+                    emit("user:" + u);
+                  }
+                }
+                if (grp.roles instanceof List) {
+                  for (r in grp.roles) {
+                    emit("role:" + r);
+                  }
+                }
+                if (grp.backend_roles instanceof List) {
+                  for (b in grp.backend_roles) {
+                    emit("backend:" + b);
+                  }
+                }
+              }
+            }
+            """,
+        Map.of()
+    );
+
     /**
      * Creates the resource sharing index if it doesn't already exist.
      * This method initializes the index with predefined mappings and settings
@@ -108,6 +194,7 @@ public class ResourceSharingIndexHandler {
      * - users (array): List of users with access
      * - roles (array): List of roles with access
      * - backend_roles (array): List of backend roles with access
+     * - all_shared_principals (keyword): The creator and all recipients, prefixed by their type
      *
      * @throws RuntimeException if there are issues reading/writing index settings
      *                          or communicating with the cluster
@@ -118,23 +205,113 @@ public class ResourceSharingIndexHandler {
         try (ThreadContext.StoredContext ctx = this.threadPool.getThreadContext().stashContext()) {
             for (String resourceIndex : resourceIndices) {
                 String resourceSharingIndex = getSharingIndex(resourceIndex);
-                CreateIndexRequest cir = new CreateIndexRequest(resourceSharingIndex).settings(INDEX_SETTINGS).waitForActiveShards(1);
+                CreateIndexRequest cir = new CreateIndexRequest(resourceSharingIndex).settings(INDEX_SETTINGS)
+                    .mapping(INDEX_MAPPINGS)
+                    .waitForActiveShards(1);
                 ActionListener<CreateIndexResponse> cirListener = ActionListener.wrap(response -> {
                     ctx.restore();
                     LOGGER.info("Resource sharing index {} created.", resourceSharingIndex);
                 }, (failResponse) -> {
                     /* Index already exists, ignore and continue */
                     LOGGER.info("Index {} already exists.", resourceSharingIndex);
+                    if (ExceptionsHelper.unwrapCause(failResponse) instanceof ResourceAlreadyExistsException) {
+                        updateMappings(resourceSharingIndex);
+                    }
                 });
                 this.client.admin().indices().create(cir, cirListener);
             }
         }
     }
 
+    /**
+     * Adds the mappings of fields which were introduced after the given resource sharing index was created.
+     */
+    private void updateMappings(String resourceSharingIndex) {
+        try (ThreadContext.StoredContext ctx = this.threadPool.getThreadContext().stashContext()) {
+            PutMappingRequest pmr = new PutMappingRequest(resourceSharingIndex).source(INDEX_MAPPINGS);
+            this.client.admin()
+                .indices()
+                .putMapping(
+                    pmr,
+                    ActionListener.wrap(
+                        response -> LOGGER.debug("Updated mappings of resource sharing index {}", resourceSharingIndex),
+                        e -> LOGGER.warn("Failed to update mappings of resource sharing index {}", resourceSharingIndex, e)
+                    )
+                );
+        }
+    }
+
     public static String getSharingIndex(String resourceIndex) {
         return resourceIndex + "-sharing";
     }
 
+    /**
+     * Returns the source of the sharing document for the given resource, which consists of the
+     * {@link ResourceSharing#toXContent} representation and the {@value #ALL_SHARED_PRINCIPALS} field.
+     */
+    static XContentBuilder toSource(ResourceSharing resourceSharing) throws IOException {
+        XContentBuilder builder = jsonBuilder().startObject().field("resource_id", resourceSharing.getResourceId());
+        builder.field("created_by");
+        resourceSharing.getCreatedBy().toXContent(builder, ToXContent.EMPTY_PARAMS);
+        if (resourceSharing.getShareWith() != null) {
+            builder.field("share_with");
+            resourceSharing.getShareWith().toXContent(builder, ToXContent.EMPTY_PARAMS);
+        }
+        builder.field(ALL_SHARED_PRINCIPALS, allSharedPrincipals(resourceSharing));
+        return builder.endObject();
+    }
+
+    static Set<String> allSharedPrincipals(ResourceSharing resourceSharing) {
+        Set<String> principals = new TreeSet<>();
+
+        if (resourceSharing.getCreatedBy() != null) {
+            principals.add(USER_PRINCIPAL_PREFIX + resourceSharing.getCreatedBy().getUsername());
+        }
+
+        ShareWith shareWith = resourceSharing.getShareWith();
+        if (shareWith != null) {
+            for (String accessLevel : shareWith.accessLevels()) {
+                Recipients recipients = shareWith.atAccessLevel(accessLevel);
+                if (recipients == null || recipients.getRecipients() == null) {
+                    continue;
+                }
+                for (Map.Entry<Recipient, Set<String>> entry : recipients.getRecipients().entrySet()) {
+                    if (entry.getValue() == null) {
+                        continue;
+                    }
+                    String prefix = switch (entry.getKey()) {
+                        case USERS -> USER_PRINCIPAL_PREFIX;
+                        case ROLES -> ROLE_PRINCIPAL_PREFIX;
+                        case BACKEND_ROLES -> BACKEND_ROLE_PRINCIPAL_PREFIX;
+                    };
+                    for (String name : entry.getValue()) {
+                        principals.add(prefix + name);
+                    }
+                }
+            }
+        }
+
+        return principals;
+    }
+
+    /**
+     * Returns a query which matches the sharing documents of the resources which are owned by the given user or shared
+     * with any of the given principals. The principals must be prefixed by their type.
+     */
+    public static BoolQueryBuilder accessibleResourcesQuery(String userName, Set<String> principals) {
+        // Documents which were written before the all_shared_principals field was introduced are matched using a
+        // derived field; the script is only evaluated for these documents
+        BoolQueryBuilder legacyDocumentsQuery = QueryBuilders.boolQuery()
+            .mustNot(QueryBuilders.existsQuery(ALL_SHARED_PRINCIPALS))
+            .filter(QueryBuilders.termsQuery(DERIVED_SHARED_PRINCIPALS, principals));
+
+        return QueryBuilders.boolQuery()
+            .should(QueryBuilders.termQuery("created_by.user.keyword", userName))
+            .should(QueryBuilders.termsQuery(ALL_SHARED_PRINCIPALS, principals))
+            .should(legacyDocumentsQuery)
+            .minimumShouldMatch(1);
+    }
+
     /**
      * Creates or updates a resource sharing record in the dedicated resource sharing index.
      * This method handles the persistence of sharing metadata for resources, including
@@ -164,12 +341,13 @@ public class ResourceSharingIndexHandler {
     ) throws IOException {
         // TODO: Once stashContext is replaced with switchContext this call will have to be modified
         String resourceSharingIndex = getSharingIndex(resourceIndex);
+        long cacheGeneration = cache.generation();
         try (ThreadContext.StoredContext ctx = this.threadPool.getThreadContext().stashContext()) {
             ResourceSharing entry = new ResourceSharing(resourceId, createdBy, shareWith);
 
             IndexRequest ir = client.prepareIndex(resourceSharingIndex)
                 .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE)
-                .setSource(entry.toXContent(jsonBuilder(), ToXContent.EMPTY_PARAMS))
+                .setSource(toSource(entry))
                 .setOpType(DocWriteRequest.OpType.CREATE) // only create if an entry doesn't exist
                 .setId(resourceId)
                 .request();
@@ -177,6 +355,8 @@ public class ResourceSharingIndexHandler {
             ActionListener<IndexResponse> irListener = ActionListener.wrap(idxResponse -> {
                 ctx.restore();
                 LOGGER.info("Successfully created {} entry for resource {} in index {}.", resourceSharingIndex, resourceId, resourceIndex);
+                // Keep the cache warm for the access checks which usually follow the creation of a resource
+                cache.put(resourceIndex, resourceId, new ResourceSharing(resourceId, createdBy, shareWith), cacheGeneration);
                 listener.onResponse(entry);
             }, (e) -> {
                 if (ExceptionsHelper.unwrapCause(e) instanceof VersionConflictEngineException) {
@@ -192,6 +372,52 @@ public class ResourceSharingIndexHandler {
         }
     }
 
+    /**
+     * Creates the sharing records of the given resources with a single bulk request. Records which already exist are
+     * left untouched and reported as a version conflict in the corresponding bulk item, so that repeating the request
+     * is safe. The written records only become visible for search with the next refresh of the sharing index, see
+     * {@link #refreshSharingIndex(String, ActionListener)}.
+     *
+     * @param resourceIndex The resource index of the given records
+     * @param entries       The sharing records to create
+     * @param listener      The listener to be notified with the bulk response, which holds one item per entry
+     */
+    public void bulkCreateResourceSharing(String resourceIndex, List<ResourceSharing> entries, ActionListener<BulkResponse> listener)
+        throws IOException {
+        String resourceSharingIndex = getSharingIndex(resourceIndex);
+        BulkRequest bulkRequest = new BulkRequest();
+        for (ResourceSharing entry : entries) {
+            bulkRequest.add(
+                new IndexRequest(resourceSharingIndex).id(entry.getResourceId())
+                    .source(toSource(entry))
+                    .opType(DocWriteRequest.OpType.CREATE)
+            );
+        }
+
+        try (ThreadContext.StoredContext ctx = this.threadPool.getThreadContext().stashContext()) {
+            client.bulk(bulkRequest, ActionListener.wrap(bulkResponse -> {
+                ctx.restore();
+                listener.onResponse(bulkResponse);
+            }, e -> {
+                LOGGER.error("Failed to create {} entries in [{}]", entries.size(), resourceSharingIndex, e);
+                listener.onFailure(e);
+            }));
+        }
+    }
+
+    /**
+     * Refreshes the sharing index of the given resource index.
+     */
+    public void refreshSharingIndex(String resourceIndex, ActionListener<Void> listener) {
+        String resourceSharingIndex = getSharingIndex(resourceIndex);
+        try (ThreadContext.StoredContext ctx = this.threadPool.getThreadContext().stashContext()) {
+            client.admin().indices().refresh(new RefreshRequest(resourceSharingIndex), ActionListener.wrap(refreshResponse -> {
+                ctx.restore();
+                listener.onResponse(null);
+            }, listener::onFailure));
+        }
+    }
+
     /**
      * Fetches all resource sharing records that match the specified system index. This method retrieves
      * a get of resource IDs associated with the given system index from the resource sharing index.
@@ -298,6 +524,91 @@ public class ResourceSharingIndexHandler {
         }
     }
 
+    /**
+     * Fetches one page of the IDs of all resources of the given resource index, ordered by resource ID. This is the paged
+     * counterpart of {@link #fetchAllResourceIds}; like it, it lists all documents of the resource sharing index.
+     *
+     * @param resourceIndex The source index to match against the source_idx field
+     * @param pageToken     The token of the page to fetch, or null for the first page
+     * @param pageSize      The maximum number of IDs to fetch
+     * @param listener      The listener to be notified with the page of resource IDs
+     */
+    public void fetchAllResourceIdsPage(String resourceIndex, String pageToken, int pageSize, ActionListener<ResourceIdsPage> listener) {
+        fetchAccessibleResourceIdsPage(resourceIndex, QueryBuilders.matchAllQuery(), pageToken, pageSize, listener);
+    }
+
+    /**
+     * Fetches one page of the IDs of the resources whose sharing documents match the given query, ordered by resource
+     * ID. In contrast to {@link #fetchAccessibleResourceIds}, only the requested page is loaded; the page token is the
+     * last resource ID of the previous page and is used as search_after value.
+     * <p>
+     * As a page is fetched by a single search request, the page size must not exceed the index.max_result_window setting
+     * of the resource sharing index; otherwise, the listener is notified with an {@link IllegalArgumentException}
+     * without searching.
+     *
+     * @param resourceIndex The source index to match against the source_idx field
+     * @param query         The query restricting the resources, usually {@link #accessibleResourcesQuery}
+     * @param pageToken     The token of the page to fetch, or null for the first page
+     * @param pageSize      The maximum number of IDs to fetch
+     * @param listener      The listener to be notified with the page of resource IDs
+     */
+    public void fetchAccessibleResourceIdsPage(
+        String resourceIndex,
+        QueryBuilder query,
+        String pageToken,
+        int pageSize,
+        ActionListener<ResourceIdsPage> listener
+    ) {
+        String resourceSharingIndex = getSharingIndex(resourceIndex);
+        int maxResultWindow = maxResultWindow(resourceSharingIndex);
+        if (pageSize > maxResultWindow) {
+            listener.onFailure(
+                new IllegalArgumentException(
+                    "pageSize must not exceed index.max_result_window [" + maxResultWindow + "] of " + resourceSharingIndex
+                )
+            );
+            return;
+        }
+
+        try (ThreadContext.StoredContext ctx = this.threadPool.getThreadContext().stashContext()) {
+            SearchSourceBuilder ssb = new SearchSourceBuilder().query(QueryBuilders.boolQuery().filter(query))
+                .size(pageSize)
+                .sort(SortBuilders.fieldSort("resource_id.keyword").order(SortOrder.ASC).unmappedType("keyword"))
+                .fetchSource(false)
+                .trackTotalHits(false);
+            ssb.derivedField(DERIVED_SHARED_PRINCIPALS, "keyword", DERIVED_SHARED_PRINCIPALS_SCRIPT);
+
+            if (pageToken != null) {
+                ssb.searchAfter(new Object[] { pageToken });
+            }
+
+            client.search(new SearchRequest(resourceSharingIndex).source(ssb), ActionListener.wrap(searchResponse -> {
+                ctx.restore();
+                SearchHit[] hits = searchResponse.getHits().getHits();
+                List<String> resourceIds = new ArrayList<>(hits.length);
+                for (SearchHit hit : hits) {
+                    resourceIds.add(hit.getId());
+                }
+
+                String nextPageToken = hits.length == pageSize ? String.valueOf(hits[hits.length - 1].getSortValues()[0]) : null;
+                LOGGER.debug("Found {} documents matching the criteria in {}", resourceIds.size(), resourceSharingIndex);
+                listener.onResponse(new ResourceIdsPage(resourceIds, nextPageToken));
+            }, exception -> {
+                LOGGER.error("Search failed for resourceIndex={}, pageToken={}", resourceIndex, pageToken, exception);
+                listener.onFailure(exception);
+            }));
+        }
+    }
+
+    /**
+     * Returns the index.max_result_window setting of the given resource sharing index, or its default if the index does
+     * not exist yet.
+     */
+    int maxResultWindow(String resourceSharingIndex) {
+        IndexMetadata indexMetadata = clusterService.state().metadata().index(resourceSharingIndex);
+        return IndexSettings.MAX_RESULT_WINDOW_SETTING.get(indexMetadata == null ? Settings.EMPTY : indexMetadata.getSettings());
+    }
+
     /**
      * Fetches a specific resource sharing document by its resource ID and system resourceIndex.
      * This method performs an exact match search and parses the result into a ResourceSharing object.
@@ -349,13 +660,39 @@ public class ResourceSharingIndexHandler {
      *     // Process the resource sharing object
      * }
      * </pre>
+     * <p>
+     * The document may be served from the node-local {@link ResourceSharingCache}. Thus, it is shared between callers and
+     * must not be modified.
      */
     public void fetchSharingInfo(String resourceIndex, String resourceId, ActionListener<ResourceSharing> listener) {
         if (StringUtils.isBlank(resourceIndex) || StringUtils.isBlank(resourceId)) {
             listener.onFailure(new IllegalArgumentException("resourceIndex and resourceId must not be null or empty"));
             return;
         }
+
+        ResourceSharing cached = cache.getIfPresent(resourceIndex, resourceId);
+        if (cached != null) {
+            LOGGER.debug("Found sharing info of resource_id: {} and source_idx: {} in cache", resourceId, resourceIndex);
+            listener.onResponse(cached);
+            return;
+        }
+
+        loadSharingInfo(resourceIndex, resourceId, true, listener);
+    }
+
+    /**
+     * Reads a resource sharing document from the index, bypassing the cache. Used by the operations which modify the
+     * document they read.
+     *
+     * @param cacheResult whether the read document shall be put into the cache
+     */
+    private void loadSharingInfo(String resourceIndex, String resourceId, boolean cacheResult, ActionListener<ResourceSharing> listener) {
+        if (StringUtils.isBlank(resourceIndex) || StringUtils.isBlank(resourceId)) {
+            listener.onFailure(new IllegalArgumentException("resourceIndex and resourceId must not be null or empty"));
+            return;
+        }
         String resourceSharingIndex = getSharingIndex(resourceIndex);
+        long cacheGeneration = cache.generation();
         LOGGER.debug("Fetching document from {}, matching resource_id: {}", resourceSharingIndex, resourceId);
 
         try (ThreadContext.StoredContext ctx = this.threadPool.getThreadContext().stashContext()) {
@@ -390,6 +727,9 @@ public class ResourceSharingIndexHandler {
                             resourceIndex
                         );
 
+                        if (cacheResult) {
+                            cache.put(resourceIndex, resourceId, resourceSharing, cacheGeneration);
+                        }
                         listener.onResponse(resourceSharing);
                     }
                 } catch (Exception e) {
@@ -439,7 +779,7 @@ public class ResourceSharingIndexHandler {
         StepListener<ResourceSharing> sharingInfoListener = new StepListener<>();
 
         // Fetch resource sharing doc
-        fetchSharingInfo(resourceIndex, resourceId, sharingInfoListener);
+        loadSharingInfo(resourceIndex, resourceId, false, sharingInfoListener);
 
         // build update script
         sharingInfoListener.whenComplete(sharingInfo -> {
@@ -459,7 +799,7 @@ public class ResourceSharingIndexHandler {
                 IndexRequest ir = client.prepareIndex(resourceSharingIndex)
                     .setId(sharingInfo.getResourceId())
                     .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE)
-                    .setSource(sharingInfo.toXContent(jsonBuilder(), ToXContent.EMPTY_PARAMS))
+                    .setSource(toSource(sharingInfo))
                     .setOpType(DocWriteRequest.OpType.INDEX)
                     .request();
 
@@ -471,7 +811,11 @@ public class ResourceSharingIndexHandler {
                         resourceId,
                         resourceIndex
                     );
-                    listener.onResponse(sharingInfo);
+                    // nodes which still cache the previous record only deny the new access until the entry expires
+                    invalidateCache(resourceIndex, resourceId, ActionListener.wrap(ignored -> listener.onResponse(sharingInfo), e -> {
+                        LOGGER.warn(e.getMessage());
+                        listener.onResponse(sharingInfo);
+                    }));
                 }, (failResponse) -> {
                     LOGGER.error(failResponse.getMessage());
                     listener.onFailure(failResponse);
@@ -531,7 +875,7 @@ public class ResourceSharingIndexHandler {
         StepListener<ResourceSharing> sharingInfoListener = new StepListener<>();
 
         // Fetch the current ResourceSharing document
-        fetchSharingInfo(resourceIndex, resourceId, sharingInfoListener);
+        loadSharingInfo(resourceIndex, resourceId, false, sharingInfoListener);
 
         // build revoke script
         sharingInfoListener.whenComplete(sharingInfo -> {
@@ -553,14 +897,19 @@ public class ResourceSharingIndexHandler {
                 IndexRequest ir = client.prepareIndex(resourceSharingIndex)
                     .setId(sharingInfo.getResourceId())
                     .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE)
-                    .setSource(sharingInfo.toXContent(jsonBuilder(), ToXContent.EMPTY_PARAMS))
+                    .setSource(toSource(sharingInfo))
                     .setOpType(DocWriteRequest.OpType.INDEX)
                     .request();
 
                 ActionListener<IndexResponse> irListener = ActionListener.wrap(idxResponse -> {
                     ctx.restore();
                     LOGGER.info("Successfully revoked access of {} to resource {} in index {}.", revokeAccess, resourceId, resourceIndex);
-                    listener.onResponse(sharingInfo);
+                    // only respond once no node grants the revoked access from its cache anymore
+                    invalidateCache(
+                        resourceIndex,
+                        resourceId,
+                        ActionListener.wrap(ignored -> listener.onResponse(sharingInfo), listener::onFailure)
+                    );
                 }, (failResponse) -> {
                     LOGGER.error(failResponse.getMessage());
                     listener.onFailure(failResponse);
@@ -593,7 +942,7 @@ public class ResourceSharingIndexHandler {
         String resourceSharingIndex = getSharingIndex(resourceIndex);
 
         // Fetch the current ResourceSharing document
-        fetchSharingInfo(resourceIndex, resourceId, sharingInfoListener);
+        loadSharingInfo(resourceIndex, resourceId, false, sharingInfoListener);
 
         // Apply patch and update the document
         sharingInfoListener.whenComplete(resourceSharing -> {
@@ -615,7 +964,7 @@ public class ResourceSharingIndexHandler {
                 IndexRequest ir = client.prepareIndex(resourceSharingIndex)
                     .setId(resourceId)
                     .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE)
-                    .setSource(updatedSharingInfo.toXContent(jsonBuilder(), ToXContent.EMPTY_PARAMS))
+                    .setSource(toSource(updatedSharingInfo))
                     .setOpType(DocWriteRequest.OpType.INDEX)
                     .request();
 
@@ -627,8 +976,12 @@ public class ResourceSharingIndexHandler {
                         resourceId,
                         resourceIndex
                     );
-
-                    listener.onResponse(updatedSharingInfo);
+                    // only respond once no node grants revoked access from its cache anymore
+                    invalidateCache(
+                        resourceIndex,
+                        resourceId,
+                        ActionListener.wrap(ignored -> listener.onResponse(updatedSharingInfo), listener::onFailure)
+                    );
                 }, (e) -> {
                     LOGGER.error(e.getMessage());
                     listener.onFailure(e);
@@ -697,7 +1050,10 @@ public class ResourceSharingIndexHandler {
                 boolean deleted = DocWriteResponse.Result.DELETED.equals(deleteResponse.getResult());
                 if (deleted) {
                     LOGGER.debug("Successfully deleted {} documents from {}", deleted, resourceSharingIndex);
-                    listener.onResponse(true);
+                    invalidateCache(resourceIndex, resourceId, ActionListener.wrap(ignored -> listener.onResponse(true), e -> {
+                        LOGGER.warn(e.getMessage());
+                        listener.onResponse(true);
+                    }));
                 } else {
                     LOGGER.debug(
                         "No documents found to delete in {} for source_idx: {} and resource_id: {}",
@@ -716,6 +1072,68 @@ public class ResourceSharingIndexHandler {
         }
     }
 
+    /**
+     * Removes the sharing document of the given resource from the cache of this node and asks all other nodes to do
+     * the same. The listener is completed once all nodes have responded. It fails if the cache could not be invalidated
+     * on all nodes, as these nodes keep using the previous sharing document until it expires.
+     */
+    private void invalidateCache(String resourceIndex, String resourceId, ActionListener<Void> listener) {
+        if (!cache.isEnabled()) {
+            listener.onResponse(null);
+            return;
+        }
+
+        cache.invalidate(resourceIndex, resourceId);
+
+        try (ThreadContext.StoredContext ctx = threadPool.getThreadContext().stashContext()) {
+            client.execute(
+                InvalidateResourceSharingCacheAction.INSTANCE,
+                new InvalidateResourceSharingCacheRequest(resourceIndex, resourceId),
+                ActionListener.wrap(response -> {
+                    ctx.restore();
+                    Exception failure = invalidationFailure(resourceIndex, resourceId, response);
+                    if (failure != null) {
+                        listener.onFailure(failure);
+                    } else {
+                        listener.onResponse(null);
+                    }
+                }, e -> {
+                    ctx.restore();
+                    listener.onFailure(
+                        new OpenSearchStatusException(
+                            "Failed to invalidate the cached sharing info of resource " + resourceId + " in index " + resourceIndex,
+                            RestStatus.INTERNAL_SERVER_ERROR,
+                            e
+                        )
+                    );
+                })
+            );
+        }
+    }
+
+    /**
+     * Returns the failure to report if the cache could not be invalidated on some nodes, or null if it was invalidated
+     * on all nodes.
+     */
+    static Exception invalidationFailure(String resourceIndex, String resourceId, InvalidateResourceSharingCacheResponse response) {
+        if (!response.hasFailures()) {
+            return null;
+        }
+
+        OpenSearchStatusException failure = new OpenSearchStatusException(
+            "The sharing info of resource "
+                + resourceId
+                + " in index "
+                + resourceIndex
+                + " was updated, but its cached copy could not be invalidated on nodes "
+                + response.failures().stream().map(FailedNodeException::nodeId).toList()
+                + "; these nodes use the previous sharing info until it expires from their cache",
+            RestStatus.INTERNAL_SERVER_ERROR
+        );
+        response.failures().forEach(failure::addSuppressed);
+        return failure;
+    }
+
     /**
      * Executes a search request and returns a set of collected resource IDs using scroll.
      *
@@ -760,36 +1178,10 @@ public class ResourceSharingIndexHandler {
         BoolQueryBuilder filterQuery,
         ActionListener<Set<String>> listener
     ) {
-        // Painless script to emit all share_with principals
-        String scriptSource = """
-                // handle shared
-                if (params._source.share_with instanceof Map) {
-                  for (def grp : params._source.share_with.values()) {
-                    if (grp.users instanceof List) {
-                      for (u in grp.users) {
-                        emit("user:" + u);
-                      }
-                    }
-                    if (grp.roles instanceof List) {
-                      for (r in grp.roles) {
-                        emit("role:" + r);
-                      }
-                    }
-                    if (grp.backend_roles instanceof List) {
-                      for (b in grp.backend_roles) {
-                        emit("backend:" + b);
-                      }
-                    }
-                  }
-                }
-            """;
-
-        Script script = new Script(ScriptType.INLINE, "painless", scriptSource, Map.of());
-
         SearchSourceBuilder ssb = new SearchSourceBuilder().derivedField(
-            "all_shared_principals",   // flattened runtime field
-            "keyword",                 // type
-            script
+            DERIVED_SHARED_PRINCIPALS,   // flattened runtime field
+            "keyword",                   // type
+            DERIVED_SHARED_PRINCIPALS_SCRIPT
         ).query(filterQuery).size(1000).fetchSource(new String[] { "resource_id" }, null);
 
         searchRequest.source(ssb);
@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.resources.api.cache;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Invalidates entries of the resource sharing cache on all nodes after a sharing document was changed or deleted.
+ *
+ * @opensearch.experimental
+ */
+public class InvalidateResourceSharingCacheAction extends ActionType<InvalidateResourceSharingCacheResponse> {
+
+    public static final InvalidateResourceSharingCacheAction INSTANCE = new InvalidateResourceSharingCacheAction();
+
+    public static final String NAME = "cluster:admin/security/resource/sharing_cache/invalidate";
+
+    private InvalidateResourceSharingCacheAction() {
+        super(NAME, InvalidateResourceSharingCacheResponse::new);
+    }
+}
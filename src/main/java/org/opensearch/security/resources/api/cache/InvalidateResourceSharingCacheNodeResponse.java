@@ -0,0 +1,29 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.resources.api.cache;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+/**
+ * @opensearch.experimental
+ */
+public class InvalidateResourceSharingCacheNodeResponse extends BaseNodeResponse {
+
+    public InvalidateResourceSharingCacheNodeResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public InvalidateResourceSharingCacheNodeResponse(final DiscoveryNode node) {
+        super(node);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.resources.api.cache;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+/**
+ * Request to invalidate the cached sharing documents of the given resources. If no resource index is given, the whole
+ * cache is invalidated.
+ *
+ * @opensearch.experimental
+ */
+public class InvalidateResourceSharingCacheRequest extends BaseNodesRequest<InvalidateResourceSharingCacheRequest> {
+
+    private final String resourceIndex;
+    private final String[] resourceIds;
+
+    public InvalidateResourceSharingCacheRequest(StreamInput in) throws IOException {
+        super(in);
+        this.resourceIndex = in.readOptionalString();
+        this.resourceIds = in.readStringArray();
+    }
+
+    public InvalidateResourceSharingCacheRequest(String resourceIndex, String... resourceIds) {
+        super(new String[0]);
+        this.resourceIndex = resourceIndex;
+        this.resourceIds = resourceIds;
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeOptionalString(resourceIndex);
+        out.writeStringArray(resourceIds);
+    }
+
+    public String getResourceIndex() {
+        return resourceIndex;
+    }
+
+    public String[] getResourceIds() {
+        return resourceIds;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.resources.api.cache;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+/**
+ * @opensearch.experimental
+ */
+public class InvalidateResourceSharingCacheResponse extends BaseNodesResponse<InvalidateResourceSharingCacheNodeResponse> {
+
+    public InvalidateResourceSharingCacheResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public InvalidateResourceSharingCacheResponse(
+        final ClusterName clusterName,
+        List<InvalidateResourceSharingCacheNodeResponse> nodes,
+        List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    public List<InvalidateResourceSharingCacheNodeResponse> readNodesFrom(final StreamInput in) throws IOException {
+        return in.readList(InvalidateResourceSharingCacheNodeResponse::new);
+    }
+
+    @Override
+    public void writeNodesTo(final StreamOutput out, List<InvalidateResourceSharingCacheNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+}
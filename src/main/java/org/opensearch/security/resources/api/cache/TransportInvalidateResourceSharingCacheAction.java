@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.resources.api.cache;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.security.resources.ResourceSharingCache;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Transport action which invalidates the resource sharing cache of each node.
+ *
+ * @opensearch.experimental
+ */
+public class TransportInvalidateResourceSharingCacheAction extends TransportNodesAction<
+    InvalidateResourceSharingCacheRequest,
+    InvalidateResourceSharingCacheResponse,
+    TransportInvalidateResourceSharingCacheAction.NodeRequest,
+    InvalidateResourceSharingCacheNodeResponse> {
+
+    private final ResourceSharingCache resourceSharingCache;
+
+    @Inject
+    public TransportInvalidateResourceSharingCacheAction(
+        final ThreadPool threadPool,
+        final ClusterService clusterService,
+        final TransportService transportService,
+        final ActionFilters actionFilters,
+        final ResourceSharingCache resourceSharingCache
+    ) {
+        super(
+            InvalidateResourceSharingCacheAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            InvalidateResourceSharingCacheRequest::new,
+            NodeRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            InvalidateResourceSharingCacheNodeResponse.class
+        );
+        this.resourceSharingCache = resourceSharingCache;
+    }
+
+    public static class NodeRequest extends TransportRequest {
+
+        final InvalidateResourceSharingCacheRequest request;
+
+        public NodeRequest(StreamInput in) throws IOException {
+            super(in);
+            request = new InvalidateResourceSharingCacheRequest(in);
+        }
+
+        public NodeRequest(final InvalidateResourceSharingCacheRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void writeTo(final StreamOutput out) throws IOException {
+            super.writeTo(out);
+            request.writeTo(out);
+        }
+    }
+
+    @Override
+    protected NodeRequest newNodeRequest(InvalidateResourceSharingCacheRequest request) {
+        return new NodeRequest(request);
+    }
+
+    @Override
+    protected InvalidateResourceSharingCacheNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new InvalidateResourceSharingCacheNodeResponse(in);
+    }
+
+    @Override
+    protected InvalidateResourceSharingCacheResponse newResponse(
+        InvalidateResourceSharingCacheRequest request,
+        List<InvalidateResourceSharingCacheNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new InvalidateResourceSharingCacheResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected InvalidateResourceSharingCacheNodeResponse nodeOperation(NodeRequest nodeRequest) {
+        InvalidateResourceSharingCacheRequest request = nodeRequest.request;
+
+        if (request.getResourceIndex() == null) {
+            resourceSharingCache.invalidateAll();
+        } else {
+            resourceSharingCache.invalidate(request.getResourceIndex(), Arrays.asList(request.getResourceIds()));
+        }
+
+        return new InvalidateResourceSharingCacheNodeResponse(clusterService.localNode());
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.resources.migrate;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Migrates the resource sharing information of a plugin index to the resource sharing index managed by the security
+ * plugin. The migration runs as a cancellable task whose progress is reported by the tasks API.
+ *
+ * @opensearch.experimental
+ */
+public class MigrateResourceSharingInfoAction extends ActionType<MigrateResourceSharingInfoResponse> {
+
+    public static final MigrateResourceSharingInfoAction INSTANCE = new MigrateResourceSharingInfoAction();
+
+    public static final String NAME = "cluster:admin/security/resource/migrate";
+
+    private MigrateResourceSharingInfoAction() {
+        super(NAME, MigrateResourceSharingInfoResponse::new);
+    }
+}
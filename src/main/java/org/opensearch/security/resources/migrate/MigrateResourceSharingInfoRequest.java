@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.resources.migrate;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.tasks.Task;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Request of the {@link MigrateResourceSharingInfoAction}.
+ *
+ * @opensearch.experimental
+ */
+public class MigrateResourceSharingInfoRequest extends ActionRequest {
+
+    public static final String DEFAULT_ACCESS_LEVEL = "default";
+
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    /**
+     * Scrolls one slice per primary shard of the source index, up to {@link #MAX_AUTO_SLICES}
+     */
+    public static final int AUTO_SLICES = 0;
+
+    public static final int MAX_AUTO_SLICES = 8;
+
+    private final String sourceIndex;
+    private final String usernamePath;
+    private final String backendRolesPath;
+    private final String defaultAccessLevel;
+    private final int slices;
+    private final int batchSize;
+    private final int requestsPerSecond;
+
+    /**
+     * @param sourceIndex        the plugin index to migrate the sharing information of
+     * @param usernamePath       JSON pointer to the name of the creator in the resource documents
+     * @param backendRolesPath   JSON pointer to the backend roles the resources are shared with
+     * @param defaultAccessLevel the access level to share the resources at
+     * @param slices             the number of slices to scroll in parallel, {@link #AUTO_SLICES} for one per shard
+     * @param batchSize          the number of resources read and written per request
+     * @param requestsPerSecond  the maximum number of resources migrated per second, unlimited if not positive
+     */
+    public MigrateResourceSharingInfoRequest(
+        String sourceIndex,
+        String usernamePath,
+        String backendRolesPath,
+        String defaultAccessLevel,
+        int slices,
+        int batchSize,
+        int requestsPerSecond
+    ) {
+        this.sourceIndex = sourceIndex;
+        this.usernamePath = usernamePath;
+        this.backendRolesPath = backendRolesPath;
+        this.defaultAccessLevel = defaultAccessLevel;
+        this.slices = slices;
+        this.batchSize = batchSize;
+        this.requestsPerSecond = requestsPerSecond;
+    }
+
+    public MigrateResourceSharingInfoRequest(StreamInput in) throws IOException {
+        super(in);
+        this.sourceIndex = in.readString();
+        this.usernamePath = in.readString();
+        this.backendRolesPath = in.readString();
+        this.defaultAccessLevel = in.readString();
+        this.slices = in.readVInt();
+        this.batchSize = in.readVInt();
+        this.requestsPerSecond = in.readInt();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(sourceIndex);
+        out.writeString(usernamePath);
+        out.writeString(backendRolesPath);
+        out.writeString(defaultAccessLevel);
+        out.writeVInt(slices);
+        out.writeVInt(batchSize);
+        out.writeInt(requestsPerSecond);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+        if (slices < 0) {
+            validationException = addValidationError("slices must not be negative", validationException);
+        }
+        if (batchSize <= 0) {
+            validationException = addValidationError("batch_size must be positive", validationException);
+        }
+        return validationException;
+    }
+
+    @Override
+    public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        return new MigrateResourceSharingInfoTask(id, type, action, getDescription(), parentTaskId, headers);
+    }
+
+    @Override
+    public String getDescription() {
+        return "migrate resource sharing info of [" + sourceIndex + "]";
+    }
+
+    public String getSourceIndex() {
+        return sourceIndex;
+    }
+
+    public String getUsernamePath() {
+        return usernamePath;
+    }
+
+    public String getBackendRolesPath() {
+        return backendRolesPath;
+    }
+
+    public String getDefaultAccessLevel() {
+        return defaultAccessLevel;
+    }
+
+    public int getSlices() {
+        return slices;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.resources.migrate;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * Response of the {@link MigrateResourceSharingInfoAction}.
+ *
+ * @opensearch.experimental
+ */
+public class MigrateResourceSharingInfoResponse extends ActionResponse implements ToXContentObject {
+
+    private final long migrated;
+    private final long failed;
+    private final Set<String> skippedResources;
+
+    public MigrateResourceSharingInfoResponse(long migrated, long failed, Set<String> skippedResources) {
+        this.migrated = migrated;
+        this.failed = failed;
+        this.skippedResources = new TreeSet<>(skippedResources);
+    }
+
+    public MigrateResourceSharingInfoResponse(StreamInput in) throws IOException {
+        super(in);
+        this.migrated = in.readVLong();
+        this.failed = in.readVLong();
+        this.skippedResources = new TreeSet<>(in.readStringList());
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(migrated);
+        out.writeVLong(failed);
+        out.writeStringCollection(skippedResources);
+    }
+
+    /**
+     * Number of resources whose sharing info was migrated, including the ones which had been migrated before
+     */
+    public long getMigrated() {
+        return migrated;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    /**
+     * Resources without a creator, which are not migrated
+     */
+    public Set<String> getSkippedResources() {
+        return skippedResources;
+    }
+
+    public String getSummary() {
+        return String.format(
+            "Migration complete. migrated %d; skippedNoUser %d; failed %d",
+            migrated,
+            skippedResources.size(),
+            failed
+        );
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("summary", getSummary());
+        builder.array("skippedResources", skippedResources.toArray(new String[0]));
+        builder.endObject();
+        return builder;
+    }
+}
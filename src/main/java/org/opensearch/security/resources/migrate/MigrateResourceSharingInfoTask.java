@@ -0,0 +1,196 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.resources.migrate;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+
+/**
+ * Task of a running resource sharing migration. Its {@link Status} reports the progress via the tasks API, e.g.
+ * {@code GET _tasks?actions=cluster:admin/security/resource/migrate&detailed}.
+ *
+ * @opensearch.experimental
+ */
+public class MigrateResourceSharingInfoTask extends CancellableTask {
+
+    private volatile int slices;
+    private final AtomicInteger completedSlices = new AtomicInteger();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong migrated = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public MigrateResourceSharingInfoTask(
+        long id,
+        String type,
+        String action,
+        String description,
+        TaskId parentTaskId,
+        Map<String, String> headers
+    ) {
+        super(id, type, action, description, parentTaskId, headers);
+    }
+
+    @Override
+    public boolean shouldCancelChildrenOnCancellation() {
+        return true;
+    }
+
+    void setSlices(int slices) {
+        this.slices = slices;
+    }
+
+    void onSliceCompleted() {
+        completedSlices.incrementAndGet();
+    }
+
+    void addTotal(long count) {
+        total.addAndGet(count);
+    }
+
+    void addMigrated(long count) {
+        migrated.addAndGet(count);
+    }
+
+    void addSkipped(long count) {
+        skipped.addAndGet(count);
+    }
+
+    void addFailed(long count) {
+        failed.addAndGet(count);
+    }
+
+    long getMigrated() {
+        return migrated.get();
+    }
+
+    long getFailed() {
+        return failed.get();
+    }
+
+    @Override
+    public Status getStatus() {
+        return new Status(slices, completedSlices.get(), total.get(), migrated.get(), skipped.get(), failed.get());
+    }
+
+    /**
+     * Progress of the migration.
+     */
+    public static class Status implements Task.Status {
+
+        public static final String NAME = "resource_sharing_migration";
+
+        private final int slices;
+        private final int completedSlices;
+        private final long total;
+        private final long migrated;
+        private final long skipped;
+        private final long failed;
+
+        public Status(int slices, int completedSlices, long total, long migrated, long skipped, long failed) {
+            this.slices = slices;
+            this.completedSlices = completedSlices;
+            this.total = total;
+            this.migrated = migrated;
+            this.skipped = skipped;
+            this.failed = failed;
+        }
+
+        public Status(StreamInput in) throws IOException {
+            this.slices = in.readVInt();
+            this.completedSlices = in.readVInt();
+            this.total = in.readVLong();
+            this.migrated = in.readVLong();
+            this.skipped = in.readVLong();
+            this.failed = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVInt(slices);
+            out.writeVInt(completedSlices);
+            out.writeVLong(total);
+            out.writeVLong(migrated);
+            out.writeVLong(skipped);
+            out.writeVLong(failed);
+        }
+
+        @Override
+        public String getWriteableName() {
+            return NAME;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("slices", slices);
+            builder.field("completed_slices", completedSlices);
+            builder.field("total", total);
+            builder.field("migrated", migrated);
+            builder.field("skipped", skipped);
+            builder.field("failed", failed);
+            builder.endObject();
+            return builder;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public long getMigrated() {
+            return migrated;
+        }
+
+        public long getSkipped() {
+            return skipped;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Status other)) {
+                return false;
+            }
+            return slices == other.slices
+                && completedSlices == other.completedSlices
+                && total == other.total
+                && migrated == other.migrated
+                && skipped == other.skipped
+                && failed == other.failed;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(slices, completedSlices, total, migrated, skipped, failed);
+        }
+
+        @Override
+        public String toString() {
+            return Strings.toString(MediaTypeRegistry.JSON, this);
+        }
+    }
+}
@@ -0,0 +1,379 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.resources.migrate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchSecurityException;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.search.ClearScrollRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.Scroll;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.slice.SliceBuilder;
+import org.opensearch.security.configuration.AdminDNs;
+import org.opensearch.security.dlic.rest.support.Utils;
+import org.opensearch.security.resources.ResourcePluginInfo;
+import org.opensearch.security.resources.ResourceSharingIndexHandler;
+import org.opensearch.security.spi.resources.sharing.CreatedBy;
+import org.opensearch.security.spi.resources.sharing.Recipient;
+import org.opensearch.security.spi.resources.sharing.Recipients;
+import org.opensearch.security.spi.resources.sharing.ResourceSharing;
+import org.opensearch.security.spi.resources.sharing.ShareWith;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.user.User;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+import org.opensearch.transport.client.Client;
+
+/**
+ * Migrates the resource sharing information of a plugin index to its resource sharing index.
+ * <p>
+ * The source index is read with parallel sliced scrolls, each batch of a slice is written with a single bulk request
+ * and the next batch is only requested once the previous one is written, optionally delayed to keep the configured
+ * rate. Sharing records are created with op type CREATE, so records which already exist, e.g. from an earlier
+ * interrupted migration, are left untouched and a migration can be safely re-run to complete it.
+ * <p>
+ * As the sharing records are written with the privileges of the security plugin, the migration may only be run by a
+ * security admin, like the REST API, and only for indices which are registered as resource indices.
+ *
+ * @opensearch.experimental
+ */
+public class TransportMigrateResourceSharingInfoAction extends HandledTransportAction<
+    MigrateResourceSharingInfoRequest,
+    MigrateResourceSharingInfoResponse> {
+
+    private static final Logger LOGGER = LogManager.getLogger(TransportMigrateResourceSharingInfoAction.class);
+
+    private static final Scroll SCROLL = new Scroll(TimeValue.timeValueMinutes(1L));
+
+    private final Client client;
+    private final ThreadPool threadPool;
+    private final ClusterService clusterService;
+    private final ResourceSharingIndexHandler sharingIndexHandler;
+    private final AdminDNs adminDns;
+    private final ResourcePluginInfo resourcePluginInfo;
+
+    @Inject
+    public TransportMigrateResourceSharingInfoAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        Client client,
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        ResourceSharingIndexHandler sharingIndexHandler,
+        AdminDNs adminDns,
+        ResourcePluginInfo resourcePluginInfo
+    ) {
+        super(MigrateResourceSharingInfoAction.NAME, transportService, actionFilters, MigrateResourceSharingInfoRequest::new);
+        this.client = client;
+        this.threadPool = threadPool;
+        this.clusterService = clusterService;
+        this.sharingIndexHandler = sharingIndexHandler;
+        this.adminDns = adminDns;
+        this.resourcePluginInfo = resourcePluginInfo;
+    }
+
+    @Override
+    protected void doExecute(
+        Task task,
+        MigrateResourceSharingInfoRequest request,
+        ActionListener<MigrateResourceSharingInfoResponse> listener
+    ) {
+        User user = threadPool.getThreadContext().getTransient(ConfigConstants.OPENDISTRO_SECURITY_USER);
+        Exception rejection = checkAllowed(user, request, adminDns, resourcePluginInfo.getResourceIndices());
+        if (rejection != null) {
+            listener.onFailure(rejection);
+            return;
+        }
+        new Migration((MigrateResourceSharingInfoTask) task, request, listener).start();
+    }
+
+    /**
+     * Returns the reason why the given user may not run the migration, or null if it may be run.
+     */
+    static Exception checkAllowed(User user, MigrateResourceSharingInfoRequest request, AdminDNs adminDns, Set<String> resourceIndices) {
+        if (user == null || !adminDns.isAdmin(user)) {
+            return new OpenSearchSecurityException("Resource sharing info may only be migrated by a security admin", RestStatus.FORBIDDEN);
+        }
+        if (!resourceIndices.contains(request.getSourceIndex())) {
+            return new IllegalArgumentException(request.getSourceIndex() + " is not a registered resource index");
+        }
+        return null;
+    }
+
+    int slices(MigrateResourceSharingInfoRequest request) {
+        if (request.getSlices() != MigrateResourceSharingInfoRequest.AUTO_SLICES) {
+            return request.getSlices();
+        }
+        IndexMetadata indexMetadata = clusterService.state().metadata().index(request.getSourceIndex());
+        if (indexMetadata == null) {
+            return 1;
+        }
+        return Math.min(indexMetadata.getNumberOfShards(), MigrateResourceSharingInfoRequest.MAX_AUTO_SLICES);
+    }
+
+    /**
+     * Converts a document of the source index to its sharing record, or returns null if it has no creator.
+     */
+    static ResourceSharing toResourceSharing(SearchHit hit, MigrateResourceSharingInfoRequest request) throws IOException {
+        JsonNode rec = Utils.toJsonNode(hit.getSourceAsString());
+        String username = rec.at(jsonPointer(request.getUsernamePath())).asText(null);
+        if (username == null || username.isEmpty()) {
+            return null;
+        }
+
+        JsonNode backendRolesNode = rec.at(jsonPointer(request.getBackendRolesPath()));
+        Set<String> backendRoles = new HashSet<>();
+        if (backendRolesNode.isArray()) {
+            for (JsonNode br : backendRolesNode) {
+                backendRoles.add(br.asText());
+            }
+        }
+
+        ShareWith shareWith = null;
+        if (!backendRoles.isEmpty()) {
+            Recipients recipients = new Recipients(Map.of(Recipient.BACKEND_ROLES, backendRoles));
+            shareWith = new ShareWith(Map.of(request.getDefaultAccessLevel(), recipients));
+        }
+        return new ResourceSharing(hit.getId(), new CreatedBy(username), shareWith);
+    }
+
+    private static String jsonPointer(String path) {
+        return path.startsWith("/") ? path : "/" + path;
+    }
+
+    /**
+     * A single run of the migration, which completes the listener once all of its slices are done.
+     */
+    private class Migration {
+        private final MigrateResourceSharingInfoTask task;
+        private final MigrateResourceSharingInfoRequest request;
+        private final ActionListener<MigrateResourceSharingInfoResponse> listener;
+        private final Set<String> skippedResources = ConcurrentHashMap.newKeySet();
+        private final AtomicReference<Exception> failure = new AtomicReference<>();
+        private AtomicInteger pendingSlices;
+
+        Migration(
+            MigrateResourceSharingInfoTask task,
+            MigrateResourceSharingInfoRequest request,
+            ActionListener<MigrateResourceSharingInfoResponse> listener
+        ) {
+            this.task = task;
+            this.request = request;
+            this.listener = listener;
+        }
+
+        void start() {
+            int slices = slices(request);
+            task.setSlices(slices);
+            pendingSlices = new AtomicInteger(slices);
+            // the rate limit applies to the whole migration, so each slice gets an equal share of it
+            double sliceRequestsPerSecond = request.getRequestsPerSecond() > 0
+                ? (double) request.getRequestsPerSecond() / slices
+                : Double.POSITIVE_INFINITY;
+            for (int i = 0; i < slices; i++) {
+                new Slice(this, i, slices, sliceRequestsPerSecond).start();
+            }
+        }
+
+        void onSliceDone(Exception e) {
+            task.onSliceCompleted();
+            if (e != null) {
+                failure.accumulateAndGet(e, (previous, current) -> {
+                    if (previous == null) {
+                        return current;
+                    }
+                    previous.addSuppressed(current);
+                    return previous;
+                });
+            }
+            if (pendingSlices.decrementAndGet() > 0) {
+                return;
+            }
+
+            if (failure.get() != null) {
+                listener.onFailure(failure.get());
+                return;
+            }
+            // make the migrated records searchable at once instead of refreshing with every bulk request
+            sharingIndexHandler.refreshSharingIndex(
+                request.getSourceIndex(),
+                ActionListener.wrap(
+                    ignored -> listener.onResponse(
+                        new MigrateResourceSharingInfoResponse(task.getMigrated(), task.getFailed(), skippedResources)
+                    ),
+                    listener::onFailure
+                )
+            );
+        }
+    }
+
+    /**
+     * Scrolls over a slice of the source index and writes the sharing records batch by batch.
+     */
+    private class Slice {
+        private final Migration migration;
+        private final int id;
+        private final int max;
+        private final double requestsPerSecond;
+        private volatile String scrollId;
+
+        Slice(Migration migration, int id, int max, double requestsPerSecond) {
+            this.migration = migration;
+            this.id = id;
+            this.max = max;
+            this.requestsPerSecond = requestsPerSecond;
+        }
+
+        void start() {
+            SearchSourceBuilder source = new SearchSourceBuilder().query(QueryBuilders.matchAllQuery())
+                .size(migration.request.getBatchSize())
+                .sort("_doc");
+            if (max > 1) {
+                source.slice(new SliceBuilder(id, max));
+            }
+            SearchRequest searchRequest = new SearchRequest(migration.request.getSourceIndex()).scroll(SCROLL).source(source);
+            long startNanos = System.nanoTime();
+            client.search(searchRequest, ActionListener.wrap(response -> {
+                migration.task.addTotal(response.getHits().getTotalHits() != null ? response.getHits().getTotalHits().value() : 0);
+                onBatch(response, startNanos);
+            }, this::finish));
+        }
+
+        private void onBatch(SearchResponse response, long startNanos) {
+            scrollId = response.getScrollId();
+            if (migration.task.isCancelled()) {
+                finish(new TaskCancelledException("The migration was cancelled: " + migration.task.getReasonCancelled()));
+                return;
+            }
+            SearchHit[] hits = response.getHits().getHits();
+            if (hits == null || hits.length == 0) {
+                finish(null);
+                return;
+            }
+
+            List<ResourceSharing> entries = new ArrayList<>(hits.length);
+            for (SearchHit hit : hits) {
+                try {
+                    ResourceSharing entry = toResourceSharing(hit, migration.request);
+                    if (entry == null) {
+                        LOGGER.debug("Record without associated user, skipping entirely: {}", hit.getId());
+                        migration.skippedResources.add(hit.getId());
+                        migration.task.addSkipped(1);
+                    } else {
+                        entries.add(entry);
+                    }
+                } catch (Exception e) {
+                    LOGGER.warn("Failed to read sharing info of [{}]: {}", hit.getId(), e.getMessage());
+                    migration.task.addFailed(1);
+                }
+            }
+
+            if (entries.isEmpty()) {
+                next(startNanos, hits.length);
+                return;
+            }
+            try {
+                sharingIndexHandler.bulkCreateResourceSharing(
+                    migration.request.getSourceIndex(),
+                    entries,
+                    ActionListener.wrap(bulkResponse -> {
+                        onBulkResponse(bulkResponse);
+                        next(startNanos, hits.length);
+                    }, e -> {
+                        migration.task.addFailed(entries.size());
+                        next(startNanos, hits.length);
+                    })
+                );
+            } catch (Exception e) {
+                finish(e);
+            }
+        }
+
+        private void onBulkResponse(BulkResponse bulkResponse) {
+            long migrated = 0;
+            long failed = 0;
+            for (BulkItemResponse item : bulkResponse.getItems()) {
+                // an existing record was migrated before, e.g. by an earlier run of the migration
+                if (!item.isFailed()
+                    || ExceptionsHelper.unwrapCause(item.getFailure().getCause()) instanceof VersionConflictEngineException) {
+                    migrated++;
+                } else {
+                    LOGGER.debug("Failed to migrate sharing info of [{}]: {}", item.getId(), item.getFailureMessage());
+                    failed++;
+                }
+            }
+            migration.task.addMigrated(migrated);
+            migration.task.addFailed(failed);
+        }
+
+        /**
+         * Requests the next batch, delayed as far as necessary to keep the rate of this slice.
+         */
+        private void next(long startNanos, int batchSize) {
+            long delayNanos = (long) (batchSize * TimeUnit.SECONDS.toNanos(1) / requestsPerSecond) - (System.nanoTime() - startNanos);
+            long nextStartNanos = System.nanoTime() + Math.max(delayNanos, 0);
+            Runnable scroll = () -> client.searchScroll(
+                new SearchScrollRequest(scrollId).scroll(SCROLL),
+                ActionListener.wrap(response -> onBatch(response, nextStartNanos), this::finish)
+            );
+            if (delayNanos > 0) {
+                threadPool.schedule(scroll, TimeValue.timeValueNanos(delayNanos), ThreadPool.Names.GENERIC);
+            } else {
+                scroll.run();
+            }
+        }
+
+        private void finish(Exception e) {
+            if (scrollId != null) {
+                ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+                clearScrollRequest.addScrollId(scrollId);
+                client.clearScroll(
+                    clearScrollRequest,
+                    ActionListener.wrap(r -> {}, ex -> LOGGER.debug("Failed to clear scroll of slice {}", id, ex))
+                );
+            }
+            if (e != null) {
+                LOGGER.error("Migration of slice {} of [{}] failed", id, migration.request.getSourceIndex(), e);
+            }
+            migration.onSliceDone(e);
+        }
+    }
+}
@@ -17,13 +17,18 @@
 
 package org.opensearch.security.securityconf;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.ListMultimap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -34,6 +39,7 @@ import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 import org.opensearch.security.securityconf.impl.v7.RoleMappingsV7;
 import org.opensearch.security.securityconf.impl.v7.RoleV7;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.HostNameCache;
 import org.opensearch.security.support.HostResolverMode;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.User;
@@ -51,6 +57,16 @@ public class ConfigModelV7 extends ConfigModel {
         DynamicConfigModel dcm,
         Settings opensearchSettings
     ) {
+        this(roles, rolemappings, dcm, opensearchSettings, HostNameCache.uncached());
+    }
+
+    public ConfigModelV7(
+        SecurityDynamicConfiguration<RoleV7> roles,
+        SecurityDynamicConfiguration<RoleMappingsV7> rolemappings,
+        DynamicConfigModel dcm,
+        Settings opensearchSettings,
+        HostNameCache hostNameCache
+    ) {
 
         this.roles = roles;
 
@@ -66,9 +82,24 @@ public class ConfigModelV7 extends ConfigModel {
             rolesMappingResolution = ConfigConstants.RolesMappingResolution.MAPPING_ONLY;
         }
 
-        roleMappingHolder = new RoleMappingHolder(rolemappings, dcm.getHostsResolverMode());
+        roleMappingHolder = new RoleMappingHolder(
+            rolemappings,
+            dcm.getHostsResolverMode(),
+            hostNameCache,
+            opensearchSettings.getAsInt(
+                ConfigConstants.SECURITY_ROLES_MAPPING_CACHE_MAX_SIZE,
+                ConfigConstants.SECURITY_ROLES_MAPPING_CACHE_MAX_SIZE_DEFAULT
+            )
+        );
     }
 
+    /**
+     * Maps users to security roles. Exact user names, backend roles and hosts are looked up directly in the
+     * multimaps; only the remaining patterns are evaluated one by one.
+     * <p>
+     * The roles mapped by user name and backend roles are cached by user name and backend roles. A new instance
+     * of this class is created for each change of the role mapping configuration, so the cache never contains stale entries.
+     */
     private class RoleMappingHolder {
 
         private ListMultimap<String, String> users;
@@ -76,14 +107,23 @@ public class ConfigModelV7 extends ConfigModel {
         private ListMultimap<String, String> bars;
         private ListMultimap<String, String> hosts;
         private final String hostResolverMode;
+        private final HostNameCache hostNameCache;
+        private final Cache<MappingCacheKey, ImmutableSet<String>> cache;
 
         private List<WildcardMatcher> userMatchers;
         private List<WildcardMatcher> barMatchers;
         private List<WildcardMatcher> hostMatchers;
 
-        private RoleMappingHolder(final SecurityDynamicConfiguration<RoleMappingsV7> rolemappings, final String hostResolverMode) {
+        private RoleMappingHolder(
+            final SecurityDynamicConfiguration<RoleMappingsV7> rolemappings,
+            final String hostResolverMode,
+            final HostNameCache hostNameCache,
+            final int cacheMaxSize
+        ) {
 
             this.hostResolverMode = hostResolverMode;
+            this.hostNameCache = hostNameCache;
+            this.cache = cacheMaxSize > 0 ? CacheBuilder.newBuilder().maximumSize(cacheMaxSize).build() : null;
 
             if (roles != null) {
 
@@ -115,9 +155,9 @@ public class ConfigModelV7 extends ConfigModel {
                     }
                 }
 
-                userMatchers = WildcardMatcher.matchers(users.keySet());
-                barMatchers = WildcardMatcher.matchers(bars.keySet());
-                hostMatchers = WildcardMatcher.matchers(hosts.keySet());
+                userMatchers = nonExactMatchers(users.keySet());
+                barMatchers = nonExactMatchers(bars.keySet());
+                hostMatchers = nonExactMatchers(hosts.keySet());
             }
         }
 
@@ -140,44 +180,27 @@ public class ConfigModelV7 extends ConfigModel {
             if (((rolesMappingResolution == ConfigConstants.RolesMappingResolution.BOTH
                 || rolesMappingResolution == ConfigConstants.RolesMappingResolution.MAPPING_ONLY))) {
 
-                for (String p : WildcardMatcher.getAllMatchingPatterns(userMatchers, user.getName())) {
-                    securityRoles.addAll(users.get(p));
-                }
-                for (String p : WildcardMatcher.getAllMatchingPatterns(barMatchers, user.getRoles())) {
-                    securityRoles.addAll(bars.get(p));
-                }
-
-                for (List<WildcardMatcher> patterns : abars.keySet()) {
-                    if (patterns.stream().allMatch(p -> p.matchAny(user.getRoles()))) {
-                        securityRoles.addAll(abars.get(patterns));
-                    }
-                }
+                securityRoles.addAll(mapUserAndBackendRoles(user.getName(), user.getRoles()));
 
-                if (caller != null) {
+                if (caller != null && !hosts.isEmpty()) {
                     // IPV4 or IPv6 (compressed and without scope identifiers)
                     final String ipAddress = caller.getAddress();
 
-                    for (String p : WildcardMatcher.getAllMatchingPatterns(hostMatchers, ipAddress)) {
-                        securityRoles.addAll(hosts.get(p));
-                    }
+                    mapHost(ipAddress, securityRoles);
 
                     if (caller.address() != null
                         && (hostResolverMode.equalsIgnoreCase(HostResolverMode.IP_HOSTNAME.getValue())
                             || hostResolverMode.equalsIgnoreCase(HostResolverMode.IP_HOSTNAME_LOOKUP.getValue()))) {
                         final String hostName = caller.address().getHostString();
 
-                        for (String p : WildcardMatcher.getAllMatchingPatterns(hostMatchers, hostName)) {
-                            securityRoles.addAll(hosts.get(p));
-                        }
+                        mapHost(hostName, securityRoles);
                     }
 
                     if (caller.address() != null && hostResolverMode.equalsIgnoreCase(HostResolverMode.IP_HOSTNAME_LOOKUP.getValue())) {
 
-                        final String resolvedHostName = caller.address().getHostName();
+                        final String resolvedHostName = hostNameCache.getHostName(caller.address());
 
-                        for (String p : WildcardMatcher.getAllMatchingPatterns(hostMatchers, resolvedHostName)) {
-                            securityRoles.addAll(hosts.get(p));
-                        }
+                        mapHost(resolvedHostName, securityRoles);
                     }
                 }
             }
@@ -185,9 +208,112 @@ public class ConfigModelV7 extends ConfigModel {
             return Collections.unmodifiableSet(securityRoles);
 
         }
+
+        private ImmutableSet<String> mapUserAndBackendRoles(String userName, ImmutableSet<String> backendRoles) {
+            if (cache == null) {
+                return computeUserAndBackendRoles(userName, backendRoles);
+            }
+
+            MappingCacheKey key = new MappingCacheKey(userName, backendRoles);
+            ImmutableSet<String> result = cache.getIfPresent(key);
+
+            if (result == null) {
+                result = computeUserAndBackendRoles(userName, backendRoles);
+                cache.put(key, result);
+            }
+
+            return result;
+        }
+
+        private ImmutableSet<String> computeUserAndBackendRoles(String userName, ImmutableSet<String> backendRoles) {
+            ImmutableSet.Builder<String> result = ImmutableSet.builder();
+
+            result.addAll(users.get(userName));
+
+            for (WildcardMatcher userMatcher : userMatchers) {
+                if (userMatcher.test(userName)) {
+                    result.addAll(users.get(userMatcher.toString()));
+                }
+            }
+
+            for (String backendRole : backendRoles) {
+                result.addAll(bars.get(backendRole));
+            }
+
+            for (WildcardMatcher barMatcher : barMatchers) {
+                if (barMatcher.matchAny(backendRoles)) {
+                    result.addAll(bars.get(barMatcher.toString()));
+                }
+            }
+
+            for (Entry<List<WildcardMatcher>, Collection<String>> entry : abars.asMap().entrySet()) {
+                if (matchAll(entry.getKey(), backendRoles)) {
+                    result.addAll(entry.getValue());
+                }
+            }
+
+            return result.build();
+        }
+
+        private void mapHost(String host, Set<String> securityRoles) {
+            if (host == null) {
+                return;
+            }
+
+            securityRoles.addAll(hosts.get(host));
+
+            for (WildcardMatcher hostMatcher : hostMatchers) {
+                if (hostMatcher.test(host)) {
+                    securityRoles.addAll(hosts.get(hostMatcher.toString()));
+                }
+            }
+        }
     }
 
     public Set<String> mapSecurityRoles(User user, TransportAddress caller) {
         return roleMappingHolder.map(user, caller);
     }
+
+    private static List<WildcardMatcher> nonExactMatchers(Collection<String> patterns) {
+        return WildcardMatcher.matchers(patterns.stream().filter(pattern -> !WildcardMatcher.isExact(pattern)).toList());
+    }
+
+    private static boolean matchAll(List<WildcardMatcher> matchers, Set<String> candidates) {
+        for (WildcardMatcher matcher : matchers) {
+            if (!matcher.matchAny(candidates)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static class MappingCacheKey {
+        private final String userName;
+        private final ImmutableSet<String> backendRoles;
+        private final int hashCode;
+
+        MappingCacheKey(String userName, ImmutableSet<String> backendRoles) {
+            this.userName = userName;
+            this.backendRoles = backendRoles;
+            this.hashCode = Objects.hash(userName, backendRoles);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof MappingCacheKey)) {
+                return false;
+            }
+            MappingCacheKey that = (MappingCacheKey) o;
+            return Objects.equals(userName, that.userName) && backendRoles.equals(that.backendRoles);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -62,6 +62,7 @@ import org.opensearch.security.securityconf.impl.v7.RoleMappingsV7;
 import org.opensearch.security.securityconf.impl.v7.RoleV7;
 import org.opensearch.security.securityconf.impl.v7.TenantV7;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.HostNameCache;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
@@ -128,9 +129,12 @@ public class DynamicConfigFactory implements Initializable, ConfigurationChangeL
     private final ClusterInfoHolder cih;
     private final ThreadPool threadPool;
     private final Client client;
+    private final HostNameCache hostNameCache;
 
     SecurityDynamicConfiguration<?> config;
 
+    private DynamicConfigModel dynamicConfigModel;
+
     public DynamicConfigFactory(
         ConfigurationRepository cr,
         final Settings opensearchSettings,
@@ -148,6 +152,7 @@ public class DynamicConfigFactory implements Initializable, ConfigurationChangeL
         this.iab = new InternalAuthenticationBackend(passwordHasher);
         this.threadPool = threadPool;
         this.client = client;
+        this.hostNameCache = new HostNameCache(opensearchSettings, command -> threadPool.generic().execute(command));
 
         if (opensearchSettings.getAsBoolean(ConfigConstants.SECURITY_UNSUPPORTED_LOAD_STATIC_RESOURCES, true)) {
             try {
@@ -234,11 +239,15 @@ public class DynamicConfigFactory implements Initializable, ConfigurationChangeL
             log.debug(logmsg);
         }
 
+        // once initialized, only the models which depend on the changed configuration types need to be rebuilt
+        final boolean rebuildAll = !initialized.get() || dynamicConfigModel == null;
+        final boolean configChanged = rebuildAll || typeToConfig.containsKey(CType.CONFIG);
+        final boolean rolesChanged = rebuildAll || typeToConfig.containsKey(CType.ROLES) || typeToConfig.containsKey(CType.ROLESMAPPING);
+        final boolean internalUsersChanged = rebuildAll || typeToConfig.containsKey(CType.INTERNALUSERS);
+
         final DynamicConfigModel dcm;
-        final InternalUsersModel ium;
-        final ConfigModel cm;
         final NodesDnModel nm = new NodesDnModelImpl(nodesDn);
-        final AllowlistingSettings allowlist = cr.getConfiguration(CType.ALLOWLIST).getCEntry("config");
+        final AllowlistingSettings allowlist = allowlistingSetting.getCEntry("config");
         final AuditConfig audit = cr.getConfiguration(CType.AUDIT).getCEntry("config");
 
         if (roles.containsAny(staticRoles)) {
@@ -276,17 +285,30 @@ public class DynamicConfigFactory implements Initializable, ConfigurationChangeL
         );
 
         // rebuild v7 Models
-        dcm = new DynamicConfigModelV7(getConfigV7(config), opensearchSettings, configPath, iab, this.cih);
-        ium = new InternalUsersModelV7(internalusers, roles, rolesmapping);
-        cm = new ConfigModelV7(roles, rolesmapping, dcm, opensearchSettings);
+        dcm = configChanged
+            ? new DynamicConfigModelV7(getConfigV7(config), opensearchSettings, configPath, iab, this.cih)
+            : dynamicConfigModel;
+        dynamicConfigModel = dcm;
 
         // notify subscribers
-        eventBus.post(cm);
-        eventBus.post(dcm);
-        eventBus.post(ium);
-        eventBus.post(nm);
-        eventBus.post(allowlist == null ? defaultAllowlistingSettings : allowlist);
-        if (cr.isAuditHotReloadingEnabled()) {
+        if (configChanged || rolesChanged) {
+            final ConfigModel cm = new ConfigModelV7(roles, rolesmapping, dcm, opensearchSettings, hostNameCache);
+            eventBus.post(cm);
+        }
+        if (configChanged) {
+            eventBus.post(dcm);
+        }
+        if (internalUsersChanged || rolesChanged) {
+            final InternalUsersModel ium = new InternalUsersModelV7(internalusers, roles, rolesmapping);
+            eventBus.post(ium);
+        }
+        if (rebuildAll || typeToConfig.containsKey(CType.NODESDN)) {
+            eventBus.post(nm);
+        }
+        if (rebuildAll || typeToConfig.containsKey(CType.ALLOWLIST)) {
+            eventBus.post(allowlist == null ? defaultAllowlistingSettings : allowlist);
+        }
+        if (cr.isAuditHotReloadingEnabled() && (rebuildAll || typeToConfig.containsKey(CType.AUDIT))) {
             eventBus.post(audit == null ? defaultAuditConfig : audit);
         }
 
@@ -27,6 +27,7 @@
 
 package org.opensearch.security.securityconf.impl;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
@@ -39,10 +40,11 @@ import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import org.opensearch.ExceptionsHelper;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.security.DefaultObjectMapper;
@@ -55,9 +57,6 @@ public class SecurityDynamicConfiguration<T> implements ToXContent {
 
     public static final int CURRENT_VERSION = 2;
 
-    private static final TypeReference<HashMap<String, Object>> typeRefMSO = new TypeReference<HashMap<String, Object>>() {
-    };
-
     @JsonIgnore
     private final Map<String, T> centries = new HashMap<>();
     @JsonIgnore
@@ -287,11 +286,28 @@ public class SecurityDynamicConfiguration<T> implements ToXContent {
             + "]";
     }
 
+    /**
+     * Writes the _meta object and each entry directly to the builder, so that the configuration is never
+     * materialized as a whole JSON string or map.
+     */
     @Override
     @JsonIgnore
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         final boolean omitDefaults = params != null && params.paramAsBoolean("omit_defaults", false);
-        return builder.map(DefaultObjectMapper.readValue(DefaultObjectMapper.writeValueAsString(this, omitDefaults), typeRefMSO));
+        builder.startObject();
+        if (_meta != null) {
+            rawField(builder, "_meta", _meta, omitDefaults);
+        }
+        for (final Entry<String, T> entry : getCEntries().entrySet()) {
+            if (entry.getValue() != null) {
+                rawField(builder, entry.getKey(), entry.getValue(), omitDefaults);
+            }
+        }
+        return builder.endObject();
+    }
+
+    private static void rawField(XContentBuilder builder, String name, Object value, boolean omitDefaults) throws IOException {
+        builder.rawField(name, new ByteArrayInputStream(DefaultObjectMapper.writeValueAsBytes(value, omitDefaults)), XContentType.JSON);
     }
 
     @Override
@@ -340,23 +356,71 @@ public class SecurityDynamicConfiguration<T> implements ToXContent {
 
     @JsonIgnore
     public SecurityDynamicConfiguration<T> deepClone() {
-        try {
-            return fromJson(DefaultObjectMapper.writeValueAsString(this, false), ctype, version, seqNo, primaryTerm);
-        } catch (Exception e) {
-            throw ExceptionsHelper.convertToOpenSearchException(e);
-        }
+        return structuralCopy(false);
     }
 
-    @SuppressWarnings("unchecked")
     @JsonIgnore
     public SecurityDynamicConfiguration<T> deepCloneWithRedaction() {
+        return structuralCopy(true);
+    }
+
+    /**
+     * Copies this configuration through a token buffer rather than a JSON string. The copy is completed in the
+     * same way {@link #fromJson(String, CType, int, long, long)} completes a parsed configuration.
+     */
+    private SecurityDynamicConfiguration<T> structuralCopy(boolean redactSensitive) {
         try {
-            return fromJson(DefaultObjectMapper.writeValueAsStringAndRedactSensitive(this), ctype, version, seqNo, primaryTerm);
+            final SecurityDynamicConfiguration<T> result;
+            if (ctype != null) {
+                final JavaType type = DefaultObjectMapper.getTypeFactory()
+                    .constructParametricType(SecurityDynamicConfiguration.class, ctype.getConfigClass());
+                result = redactSensitive
+                    ? DefaultObjectMapper.copyValueAndRedactSensitive(this, type)
+                    : DefaultObjectMapper.copyValue(this, type);
+                validate(result, version, ctype);
+            } else {
+                result = new SecurityDynamicConfiguration<T>();
+            }
+            result.ctype = ctype;
+            result.seqNo = seqNo;
+            result.primaryTerm = primaryTerm;
+            result.version = version;
+            return result;
         } catch (Exception e) {
             throw ExceptionsHelper.convertToOpenSearchException(e);
         }
     }
 
+    /**
+     * Returns the JSON representation of a single entry, as it is stored within the configuration document.
+     */
+    @JsonIgnore
+    public String getCEntryAsJson(String key) throws JsonProcessingException {
+        return DefaultObjectMapper.writeValueAsString(centries.get(key), false);
+    }
+
+    /**
+     * Returns a shallow copy of this configuration with the given entries replaced, which then has the given
+     * document version. This allows to apply changes of single entries without parsing the whole configuration.
+     *
+     * @param changedEntries the JSON representations of the changed entries; a null value removes the entry
+     */
+    @JsonIgnore
+    public SecurityDynamicConfiguration<T> withChangedEntries(Map<String, String> changedEntries, long seqNo, long primaryTerm)
+        throws IOException {
+        SecurityDynamicConfiguration<T> result = clone();
+        for (Entry<String, String> changedEntry : changedEntries.entrySet()) {
+            if (changedEntry.getValue() == null) {
+                result.centries.remove(changedEntry.getKey());
+            } else {
+                result.centries.put(changedEntry.getKey(), DefaultObjectMapper.readValue(changedEntry.getValue(), ctype.getConfigClass()));
+            }
+        }
+        result.seqNo = seqNo;
+        result.primaryTerm = primaryTerm;
+        return result;
+    }
+
     @JsonIgnore
     public void remove(String key) {
         synchronized (modificationLock) {
@@ -176,6 +176,8 @@ public class ConfigV7 {
         public int block_expiry_seconds = BLOCK_EXPIRY_SECONDS_DEFAULT;
         public int max_blocked_clients = MAX_BLOCKED_CLIENTS_DEFAULT;
         public int max_tracked_clients = MAX_TRACKED_CLIENTS_DEFAULT;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        public String rate_tracker;
 
         public AuthFailureListener() {
             super();
@@ -201,6 +203,30 @@ public class ConfigV7 {
             this.max_tracked_clients = max_tracked_clients;
         }
 
+        public AuthFailureListener(
+            String type,
+            String authentication_backend,
+            List<String> ignore_hosts,
+            int allowed_tries,
+            int time_window_seconds,
+            int block_expiry_seconds,
+            int max_blocked_clients,
+            int max_tracked_clients,
+            String rate_tracker
+        ) {
+            this(
+                type,
+                authentication_backend,
+                ignore_hosts,
+                allowed_tries,
+                time_window_seconds,
+                block_expiry_seconds,
+                max_blocked_clients,
+                max_tracked_clients
+            );
+            this.rate_tracker = rate_tracker;
+        }
+
         @JsonIgnore
         public String asJson() {
             try {
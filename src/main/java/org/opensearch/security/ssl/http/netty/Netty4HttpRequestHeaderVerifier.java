@@ -30,6 +30,8 @@ import org.opensearch.threadpool.ThreadPool;
 import io.netty.channel.ChannelHandler.Sharable;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.util.AttributeKey;
 import io.netty.util.ReferenceCountUtil;
@@ -86,6 +88,14 @@ public class Netty4HttpRequestHeaderVerifier extends SimpleChannelInboundHandler
         try (ThreadContext.StoredContext ignore = threadPool.getThreadContext().stashContext()) {
             injectUser(msg, threadContext);
 
+            if (restFilter.isAsyncAuthenticationEnabled() && !isCompressed(msg)) {
+                // Authentication might block on backend calls; it is thus done asynchronously by the
+                // SecurityRestFilter instead of on the event loop. Compressed requests are still authenticated
+                // here, as only authenticated requests get decompressed.
+                ctx.channel().attr(Netty4HttpRequestHeaderVerifier.CONTEXT_TO_RESTORE).set(threadContext.newStoredContext(false));
+                return;
+            }
+
             // If request channel is completed and a response is sent, then there was a failure during authentication
             restFilter.checkAndAuthenticateRequest(requestChannel);
 
@@ -115,6 +125,11 @@ public class Netty4HttpRequestHeaderVerifier extends SimpleChannelInboundHandler
         }
     }
 
+    private static boolean isCompressed(HttpRequest request) {
+        String contentEncoding = request.headers().get(HttpHeaderNames.CONTENT_ENCODING);
+        return contentEncoding != null && !HttpHeaderValues.IDENTITY.contentEqualsIgnoreCase(contentEncoding);
+    }
+
     private void injectUser(HttpRequest request, ThreadContext threadContext) {
         if (this.injectUserEnabled) {
             threadContext.putTransient(
@@ -23,6 +23,7 @@ import java.security.cert.X509Certificate;
 import java.util.Arrays;
 import java.util.Set;
 import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSession;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -53,6 +54,7 @@ public class SecuritySSLRequestHandler<T extends TransportRequest> implements Tr
     private final SSLConfig SSLConfig;
 
     private static final Set<String> DEFAULT_CHANNEL_TYPES = Set.of("direct", "transport", "stream-transport");
+    private static final String PEER_INFO_SESSION_KEY = "opensearch.security.transport_peer_info";
 
     public SecuritySSLRequestHandler(
         String action,
@@ -125,34 +127,18 @@ public class SecuritySSLRequestHandler<T extends TransportRequest> implements Tr
                 throw exception;
             }
 
-            final Certificate[] peerCerts = sslhandler.engine().getSession().getPeerCertificates();
-            final Certificate[] localCerts = sslhandler.engine().getSession().getLocalCertificates();
-
-            if (peerCerts != null
-                && peerCerts.length > 0
-                && peerCerts[0] instanceof X509Certificate
-                && localCerts != null
-                && localCerts.length > 0
-                && localCerts[0] instanceof X509Certificate) {
-                final X509Certificate[] x509PeerCerts = Arrays.copyOf(peerCerts, peerCerts.length, X509Certificate[].class);
-                final X509Certificate[] x509LocalCerts = Arrays.copyOf(localCerts, localCerts.length, X509Certificate[].class);
-                final String principal = principalExtractor == null
-                    ? null
-                    : principalExtractor.extractPrincipal(x509PeerCerts[0], PrincipalExtractor.Type.TRANSPORT);
-                addAdditionalContextValues(action, request, x509LocalCerts, x509PeerCerts, principal);
+            final SSLSession session = sslhandler.engine().getSession();
+            final PeerInfo peerInfo = getPeerInfo(session);
+
+            if (peerInfo != null) {
+                addAdditionalContextValues(action, request, peerInfo.localCerts, peerInfo.peerCerts, peerInfo.principal);
                 if (threadContext != null) {
                     // in the case of ssl plugin only: threadContext and principalExtractor are null
-                    threadContext.putTransient("_opendistro_security_ssl_transport_principal", principal);
-                    threadContext.putTransient("_opendistro_security_ssl_transport_peer_certificates", x509PeerCerts);
-                    threadContext.putTransient("_opendistro_security_ssl_transport_local_certificates", x509LocalCerts);
-                    threadContext.putTransient(
-                        "_opendistro_security_ssl_transport_protocol",
-                        sslhandler.engine().getSession().getProtocol()
-                    );
-                    threadContext.putTransient(
-                        "_opendistro_security_ssl_transport_cipher",
-                        sslhandler.engine().getSession().getCipherSuite()
-                    );
+                    threadContext.putTransient("_opendistro_security_ssl_transport_principal", peerInfo.principal);
+                    threadContext.putTransient("_opendistro_security_ssl_transport_peer_certificates", peerInfo.peerCerts);
+                    threadContext.putTransient("_opendistro_security_ssl_transport_local_certificates", peerInfo.localCerts);
+                    threadContext.putTransient("_opendistro_security_ssl_transport_protocol", session.getProtocol());
+                    threadContext.putTransient("_opendistro_security_ssl_transport_cipher", session.getCipherSuite());
                 }
                 messageReceivedDecorate(request, actualHandler, channel, task);
             } else {
@@ -176,6 +162,42 @@ public class SecuritySSLRequestHandler<T extends TransportRequest> implements Tr
 
     }
 
+    /**
+     * Returns the certificates and the principal of the peer of the given session, or null if the peer did not present
+     * X509 certificates. As these cannot change during the lifetime of a TLS session, they are computed only for the
+     * first message of a session and then stored as a value of the session. A reload of the SSL context does not
+     * affect established sessions; new sessions start without a stored value.
+     */
+    private PeerInfo getPeerInfo(SSLSession session) throws SSLPeerUnverifiedException {
+        Object cached = session.getValue(PEER_INFO_SESSION_KEY);
+
+        if (cached instanceof PeerInfo peerInfo && peerInfo.principalExtractor == principalExtractor) {
+            return peerInfo;
+        }
+
+        final Certificate[] peerCerts = session.getPeerCertificates();
+        final Certificate[] localCerts = session.getLocalCertificates();
+
+        if (peerCerts != null
+            && peerCerts.length > 0
+            && peerCerts[0] instanceof X509Certificate
+            && localCerts != null
+            && localCerts.length > 0
+            && localCerts[0] instanceof X509Certificate) {
+            final X509Certificate[] x509PeerCerts = Arrays.copyOf(peerCerts, peerCerts.length, X509Certificate[].class);
+            final X509Certificate[] x509LocalCerts = Arrays.copyOf(localCerts, localCerts.length, X509Certificate[].class);
+            final String principal = principalExtractor == null
+                ? null
+                : principalExtractor.extractPrincipal(x509PeerCerts[0], PrincipalExtractor.Type.TRANSPORT);
+            final PeerInfo peerInfo = new PeerInfo(x509PeerCerts, x509LocalCerts, principal, principalExtractor);
+
+            session.putValue(PEER_INFO_SESSION_KEY, peerInfo);
+            return peerInfo;
+        } else {
+            return null;
+        }
+    }
+
     protected TransportChannel getInnerChannel(TransportChannel transportChannel) throws Exception {
         try {
             Class<?> wrappedChannelCls = transportChannel.getClass();
@@ -208,4 +230,23 @@ public class SecuritySSLRequestHandler<T extends TransportRequest> implements Tr
     ) throws Exception {
         actualHandler.messageReceived(request, transportChannel, task);
     }
+
+    private static final class PeerInfo {
+        private final X509Certificate[] peerCerts;
+        private final X509Certificate[] localCerts;
+        private final String principal;
+        private final PrincipalExtractor principalExtractor;
+
+        private PeerInfo(
+            X509Certificate[] peerCerts,
+            X509Certificate[] localCerts,
+            String principal,
+            PrincipalExtractor principalExtractor
+        ) {
+            this.peerCerts = peerCerts;
+            this.localCerts = localCerts;
+            this.principal = principal;
+            this.principalExtractor = principalExtractor;
+        }
+    }
 }
@@ -208,6 +208,9 @@ public class ConfigConstants {
     public static final String SECURITY_AUDIT_CONFIG_ENDPOINTS = SECURITY_SETTINGS_PREFIX + "audit.endpoints";
     public static final String SECURITY_AUDIT_THREADPOOL_SIZE = SECURITY_SETTINGS_PREFIX + "audit.threadpool.size";
     public static final String SECURITY_AUDIT_THREADPOOL_MAX_QUEUE_LEN = SECURITY_SETTINGS_PREFIX + "audit.threadpool.max_queue_len";
+    public static final String SECURITY_AUDIT_BATCH_ENABLED = SECURITY_SETTINGS_PREFIX + "audit.batch.enabled";
+    public static final String SECURITY_AUDIT_BATCH_MAX_SIZE = SECURITY_SETTINGS_PREFIX + "audit.batch.max_size";
+    public static final String SECURITY_AUDIT_BATCH_FLUSH_INTERVAL_MS = SECURITY_SETTINGS_PREFIX + "audit.batch.flush_interval_ms";
     public static final String OPENDISTRO_SECURITY_AUDIT_LOG_REQUEST_BODY = "opendistro_security.audit.log_request_body";
     public static final String OPENDISTRO_SECURITY_AUDIT_RESOLVE_INDICES = "opendistro_security.audit.resolve_indices";
     public static final String OPENDISTRO_SECURITY_AUDIT_ENABLE_REST = "opendistro_security.audit.enable_rest";
@@ -286,6 +289,10 @@ public class ConfigConstants {
     public static final String SECURITY_DISABLED = SECURITY_SETTINGS_PREFIX + "disabled";
 
     public static final String SECURITY_CACHE_TTL_MINUTES = SECURITY_SETTINGS_PREFIX + "cache.ttl_minutes";
+    public static final String SECURITY_CACHE_REFRESH_AFTER_MINUTES = SECURITY_SETTINGS_PREFIX + "cache.refresh_after_minutes";
+    public static final String SECURITY_CACHE_MAX_CONCURRENT_REFRESHES = SECURITY_SETTINGS_PREFIX + "cache.max_concurrent_refreshes";
+    public static final int SECURITY_CACHE_MAX_CONCURRENT_REFRESHES_DEFAULT = 10;
+    public static final String SECURITY_AUTHC_ASYNC_ENABLED = SECURITY_SETTINGS_PREFIX + "authc.async.enabled";
     public static final String SECURITY_ALLOW_UNSAFE_DEMOCERTIFICATES = SECURITY_SETTINGS_PREFIX + "allow_unsafe_democertificates";
     public static final String SECURITY_ALLOW_DEFAULT_INIT_SECURITYINDEX = SECURITY_SETTINGS_PREFIX + "allow_default_init_securityindex";
 
@@ -296,6 +303,9 @@ public class ConfigConstants {
         + "background_init_if_securityindex_not_exist";
 
     public static final String SECURITY_ROLES_MAPPING_RESOLUTION = SECURITY_SETTINGS_PREFIX + "roles_mapping_resolution";
+    public static final String SECURITY_ROLES_MAPPING_CACHE_MAX_SIZE = SECURITY_SETTINGS_PREFIX + "roles_mapping.cache.max_size";
+    public static final int SECURITY_ROLES_MAPPING_CACHE_MAX_SIZE_DEFAULT = 10000;
+    public static final String SECURITY_DNS_CACHE_TTL_SECONDS = SECURITY_SETTINGS_PREFIX + "dns_cache.ttl_seconds";
 
     public static final String OPENDISTRO_SECURITY_COMPLIANCE_HISTORY_WRITE_METADATA_ONLY =
         "opendistro_security.compliance.history.write.metadata_only";
@@ -321,6 +331,8 @@ public class ConfigConstants {
     public static final String SECURITY_COMPLIANCE_SALT_DEFAULT = "e1ukloTsQlOgPquJ";// 16 chars
     public static final String SECURITY_COMPLIANCE_HISTORY_INTERNAL_CONFIG_ENABLED =
         "opendistro_security.compliance.history.internal_config_enabled";
+    public static final String SECURITY_COMPLIANCE_HISTORY_WRITE_DIFF_MODE = SECURITY_SETTINGS_PREFIX
+        + "compliance.history.write.diff_mode";
     public static final String SECURITY_SSL_ONLY = SECURITY_SETTINGS_PREFIX + "ssl_only";
     public static final String SECURITY_CONFIG_SSL_DUAL_MODE_ENABLED = "plugins.security_config.ssl_dual_mode_enabled";
     public static final String SECURITY_SSL_DUAL_MODE_SKIP_SECURITY = OPENDISTRO_SECURITY_CONFIG_PREFIX + "passive_security";
@@ -425,6 +437,11 @@ public class ConfigConstants {
     // Resource sharing feature-flag
     public static final String OPENSEARCH_RESOURCE_SHARING_ENABLED = "plugins.security.experimental.resource_sharing.enabled";
     public static final boolean OPENSEARCH_RESOURCE_SHARING_ENABLED_DEFAULT = false;
+    public static final String OPENSEARCH_RESOURCE_SHARING_CACHE_MAX_SIZE = "plugins.security.experimental.resource_sharing.cache.max_size";
+    public static final int OPENSEARCH_RESOURCE_SHARING_CACHE_MAX_SIZE_DEFAULT = 10000;
+    public static final String OPENSEARCH_RESOURCE_SHARING_CACHE_TTL_MINUTES =
+        "plugins.security.experimental.resource_sharing.cache.ttl_minutes";
+    public static final int OPENSEARCH_RESOURCE_SHARING_CACHE_TTL_MINUTES_DEFAULT = 10;
 
     public static Set<String> getSettingAsSet(
         final Settings settings,
@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.common.settings.Settings;
+
+/**
+ * Caches the results of reverse DNS lookups, as used for role mappings in the ip-hostname-lookup mode.
+ * <p>
+ * Reverse DNS lookups block the calling thread, potentially for a long time. Thus, the results are cached for
+ * the configured TTL. Entries are refreshed in the background on the given executor when half of the TTL has
+ * passed and they are used again; until the refresh is complete, the previous host name is returned. Only the
+ * first lookup of an address - or a lookup after the entry expired - blocks the calling thread. Concurrent
+ * lookups of the same address share a single DNS request.
+ */
+public class HostNameCache {
+
+    private static final Logger log = LogManager.getLogger(HostNameCache.class);
+
+    private static final int DEFAULT_TTL_SECONDS = 300;
+    private static final int MAX_SIZE = 10000;
+
+    private final LoadingCache<InetAddress, String> cache;
+    private final Function<InetAddress, String> resolver;
+
+    public HostNameCache(Settings settings, Executor executor) {
+        this(settings.getAsInt(ConfigConstants.SECURITY_DNS_CACHE_TTL_SECONDS, DEFAULT_TTL_SECONDS), executor, HostNameCache::lookup);
+    }
+
+    HostNameCache(int ttlSeconds, Executor executor, Function<InetAddress, String> resolver) {
+        this.resolver = resolver;
+
+        if (ttlSeconds > 0) {
+            long ttlMs = TimeUnit.SECONDS.toMillis(ttlSeconds);
+
+            this.cache = CacheBuilder.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+                .refreshAfterWrite(ttlMs / 2, TimeUnit.MILLISECONDS)
+                .build(CacheLoader.asyncReloading(CacheLoader.from(resolver::apply), executor));
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * Returns a cache which does not cache anything. Each call of getHostName() will do a DNS lookup.
+     */
+    public static HostNameCache uncached() {
+        return new HostNameCache(0, MoreExecutors.directExecutor(), HostNameCache::lookup);
+    }
+
+    /**
+     * Returns the host name of the given address. This has the same semantics as InetSocketAddress.getHostName():
+     * If the reverse lookup fails, the textual representation of the IP address is returned.
+     */
+    public String getHostName(InetSocketAddress socketAddress) {
+        InetAddress address = socketAddress.getAddress();
+
+        if (address == null) {
+            // Unresolved addresses already carry a host name
+            return socketAddress.getHostString();
+        }
+
+        if (cache == null) {
+            return resolver.apply(address);
+        }
+
+        return cache.getUnchecked(address);
+    }
+
+    private static String lookup(InetAddress address) {
+        try {
+            // A fresh instance is needed because InetAddress caches the host name once it has been looked up
+            return InetAddress.getByAddress(address.getAddress()).getHostName();
+        } catch (UnknownHostException e) {
+            log.warn("Invalid address {}", address, e);
+            return address.getHostAddress();
+        }
+    }
+}
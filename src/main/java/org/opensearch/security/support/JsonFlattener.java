@@ -13,7 +13,10 @@ package org.opensearch.security.support;
 import java.io.IOException;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Predicate;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 
 import org.opensearch.core.common.Strings;
@@ -34,6 +37,78 @@ public class JsonFlattener {
         }
     }
 
+    /**
+     * Flattens the given JSON object like flattenAsMap(String), but only returns the entries whose path is accepted
+     * by the given filter. The document is processed in a single pass over the token stream; values are only
+     * materialized for accepted paths.
+     */
+    public static Map<String, Object> flattenAsMap(byte[] json, Predicate<String> pathFilter) {
+        try (JsonParser parser = DefaultObjectMapper.objectMapper.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Unparseable json: expected an object");
+            }
+
+            final Map<String, Object> result = new LinkedHashMap<>();
+            flattenObject(parser, "", pathFilter, result);
+            return result;
+        } catch (final IOException ioe) {
+            throw new IllegalArgumentException("Unparseable json", ioe);
+        }
+    }
+
+    /**
+     * Flattens the given map like flattenAsMap(String), but only returns the entries whose path is accepted by the
+     * given filter.
+     */
+    public static Map<String, Object> flattenAsMap(Map<String, Object> jsonMap, Predicate<String> pathFilter) {
+        final Map<String, Object> flattenMap = new LinkedHashMap<>();
+        flattenEntries("", jsonMap.entrySet(), flattenMap);
+        flattenMap.keySet().removeIf(pathFilter.negate());
+        return flattenMap;
+    }
+
+    private static void flattenObject(JsonParser parser, String prefix, Predicate<String> pathFilter, Map<String, Object> result)
+        throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String path = prefix.isEmpty() ? parser.currentName() : prefix + "." + parser.currentName();
+            parser.nextToken();
+            flattenValue(parser, path, pathFilter, result);
+        }
+    }
+
+    private static void flattenArray(JsonParser parser, String prefix, Predicate<String> pathFilter, Map<String, Object> result)
+        throws IOException {
+        int counter = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            flattenValue(parser, prefix + "[" + counter + "]", pathFilter, result);
+            counter++;
+        }
+    }
+
+    private static void flattenValue(JsonParser parser, String path, Predicate<String> pathFilter, Map<String, Object> result)
+        throws IOException {
+        final JsonToken token = parser.currentToken();
+
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            if (pathFilter.test(path)) {
+                // The whole sub-tree is needed as value; we materialize it and flatten the materialized object
+                final Map<String, Object> subTree = new LinkedHashMap<>();
+                flattenElement(path, DefaultObjectMapper.objectMapper.readValue(parser, Object.class), subTree);
+                subTree.forEach((k, v) -> {
+                    if (pathFilter.test(k)) {
+                        result.put(k, v);
+                    }
+                });
+            } else if (token == JsonToken.START_OBJECT) {
+                flattenObject(parser, path, pathFilter, result);
+            } else {
+                flattenArray(parser, path, pathFilter, result);
+            }
+        } else if (pathFilter.test(path)) {
+            result.put(path, DefaultObjectMapper.objectMapper.readValue(parser, Object.class));
+        }
+    }
+
     private static void flattenEntries(String prefix, final Iterable<Map.Entry<String, Object>> entries, final Map<String, Object> result) {
         if (!Strings.isNullOrEmpty(prefix)) {
             prefix += ".";
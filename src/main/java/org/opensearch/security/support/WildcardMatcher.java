@@ -29,9 +29,9 @@ package org.opensearch.security.support;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -42,9 +42,44 @@ import java.util.stream.Stream;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.util.automaton.Automata;
+import org.apache.lucene.util.automaton.Automaton;
+import org.apache.lucene.util.automaton.CharacterRunAutomaton;
+import org.apache.lucene.util.automaton.Operations;
+import org.apache.lucene.util.automaton.TooComplexToDeterminizeException;
+
+import org.opensearch.common.settings.Setting;
 
 public abstract class WildcardMatcher implements Predicate<String> {
 
+    private static final Logger log = LogManager.getLogger(WildcardMatcher.class);
+
+    private static final int DEFAULT_AUTOMATON_THRESHOLD = 32;
+
+    /**
+     * Combined matchers with at least this number of simple patterns (constants and patterns with * wildcards)
+     * compile these patterns to a single automaton, which matches in one pass over the candidate string. Regular
+     * expressions, case-insensitive patterns and patterns with ? wildcards are still tested one by one. A value
+     * of 0 disables the automaton compilation.
+     */
+    public static final Setting<Integer> AUTOMATON_THRESHOLD = Setting.intSetting(
+        "plugins.security.wildcard_matcher.automaton_threshold",
+        DEFAULT_AUTOMATON_THRESHOLD,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    private static volatile int automatonThreshold = DEFAULT_AUTOMATON_THRESHOLD;
+
+    /**
+     * Sets the value of AUTOMATON_THRESHOLD to be used for newly created matchers. Existing matchers are not affected.
+     */
+    public static void setAutomatonThreshold(int automatonThreshold) {
+        WildcardMatcher.automatonThreshold = automatonThreshold;
+    }
+
     public static final WildcardMatcher ANY = new WildcardMatcher() {
 
         @Override
@@ -214,6 +249,14 @@ public abstract class WildcardMatcher implements Predicate<String> {
      */
     public abstract WildcardMatcher ignoreCase();
 
+    /**
+     * Returns the pattern of this matcher if it can be compiled to an automaton by MatcherCombiner; null otherwise.
+     * The pattern may only consist of literal characters and * wildcards and must be matched case-sensitively.
+     */
+    String automatonPattern() {
+        return null;
+    }
+
     public WildcardMatcher concat(Collection<WildcardMatcher> matchers) {
         if (matchers.isEmpty()) {
             return this;
@@ -226,7 +269,13 @@ public abstract class WildcardMatcher implements Predicate<String> {
     }
 
     public boolean matchAny(Collection<String> candidates) {
-        return matchAny(candidates.stream());
+        for (String candidate : candidates) {
+            if (test(candidate)) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     public boolean matchAny(String... candidates) {
@@ -341,11 +390,33 @@ public abstract class WildcardMatcher implements Predicate<String> {
     }
 
     public static List<String> getAllMatchingPatterns(final Collection<WildcardMatcher> matchers, final String candidate) {
-        return matchers.stream().filter(p -> p.test(candidate)).map(Objects::toString).collect(Collectors.toList());
+        List<String> result = null;
+
+        for (WildcardMatcher matcher : matchers) {
+            if (matcher.test(candidate)) {
+                if (result == null) {
+                    result = new ArrayList<>();
+                }
+                result.add(matcher.toString());
+            }
+        }
+
+        return result != null ? result : Collections.emptyList();
     }
 
-    public static List<String> getAllMatchingPatterns(final Collection<WildcardMatcher> pattern, final Collection<String> candidates) {
-        return pattern.stream().filter(p -> p.matchAny(candidates)).map(Objects::toString).collect(Collectors.toList());
+    public static List<String> getAllMatchingPatterns(final Collection<WildcardMatcher> matchers, final Collection<String> candidates) {
+        List<String> result = null;
+
+        for (WildcardMatcher matcher : matchers) {
+            if (matcher.matchAny(candidates)) {
+                if (result == null) {
+                    result = new ArrayList<>();
+                }
+                result.add(matcher.toString());
+            }
+        }
+
+        return result != null ? result : Collections.emptyList();
     }
 
     public static boolean isExact(String pattern) {
@@ -377,6 +448,11 @@ public abstract class WildcardMatcher implements Predicate<String> {
         public WildcardMatcher ignoreCase() {
             return new Exact(this.pattern, false);
         }
+
+        @Override
+        String automatonPattern() {
+            return caseSensitive ? pattern : null;
+        }
     }
 
     /**
@@ -449,8 +525,19 @@ public abstract class WildcardMatcher implements Predicate<String> {
                 public boolean test(String candidate) {
                     return super.test(candidate.toLowerCase());
                 }
+
+                @Override
+                String automatonPattern() {
+                    return null;
+                }
             };
         }
+
+        @Override
+        String automatonPattern() {
+            // ? matches a single UTF-16 char here, but a single code point in automatons. Thus, we leave these alone.
+            return pattern.indexOf('?') == -1 ? pattern : null;
+        }
     }
 
     /**
@@ -480,6 +567,11 @@ public abstract class WildcardMatcher implements Predicate<String> {
         public WildcardMatcher ignoreCase() {
             return new PrefixMatcher(this.pattern, false);
         }
+
+        @Override
+        String automatonPattern() {
+            return caseSensitive ? pattern : null;
+        }
     }
 
     /**
@@ -509,11 +601,19 @@ public abstract class WildcardMatcher implements Predicate<String> {
         public WildcardMatcher ignoreCase() {
             return new ContainsMatcher(this.pattern, false);
         }
+
+        @Override
+        String automatonPattern() {
+            return caseSensitive ? pattern : null;
+        }
     }
 
     /**
      * MatcherCombiner is a combination of a set of matchers.
      * This class matches if at least one of the contained matchers matches.
+     * <p>
+     * If the set contains at least AUTOMATON_THRESHOLD matchers which support automatons, these are compiled
+     * to a single deterministic automaton. Then, only the remaining matchers are tested one by one.
      */
     static final class MatcherCombiner extends WildcardMatcher {
 
@@ -521,23 +621,104 @@ public abstract class WildcardMatcher implements Predicate<String> {
         private final int hashCode;
         private final String asString;
 
+        /**
+         * The automaton for the matchers which support it; null if the threshold was not reached or if the
+         * automaton would have been too complex.
+         */
+        private final CharacterRunAutomaton automaton;
+
+        /**
+         * The matchers which are not covered by the automaton. If automaton is null, these are all matchers.
+         */
+        private final WildcardMatcher[] remainingMatchers;
+
         MatcherCombiner(Collection<WildcardMatcher> wildcardMatchers) {
             Preconditions.checkArgument(wildcardMatchers.size() > 1);
             this.wildcardMatchers = wildcardMatchers.toArray(new WildcardMatcher[0]);
             this.hashCode = wildcardMatchers.hashCode();
             this.asString = wildcardMatchers.toString();
+
+            int threshold = automatonThreshold;
+            List<String> automatonPatterns = new ArrayList<>();
+            List<WildcardMatcher> remainingMatchers = new ArrayList<>();
+
+            for (WildcardMatcher matcher : this.wildcardMatchers) {
+                String automatonPattern = threshold > 0 ? matcher.automatonPattern() : null;
+
+                if (automatonPattern != null) {
+                    automatonPatterns.add(automatonPattern);
+                } else {
+                    remainingMatchers.add(matcher);
+                }
+            }
+
+            CharacterRunAutomaton automaton = threshold > 0 && automatonPatterns.size() >= threshold
+                ? toAutomaton(automatonPatterns)
+                : null;
+
+            if (automaton != null) {
+                this.automaton = automaton;
+                this.remainingMatchers = remainingMatchers.toArray(new WildcardMatcher[0]);
+            } else {
+                this.automaton = null;
+                this.remainingMatchers = this.wildcardMatchers;
+            }
         }
 
         @Override
         public boolean test(String candidate) {
-            for (int i = 0; i < this.wildcardMatchers.length; i++) {
-                if (this.wildcardMatchers[i].test(candidate)) {
+            if (this.automaton != null && this.automaton.run(candidate)) {
+                return true;
+            }
+
+            for (int i = 0; i < this.remainingMatchers.length; i++) {
+                if (this.remainingMatchers[i].test(candidate)) {
                     return true;
                 }
             }
             return false;
         }
 
+        boolean isCompiledToAutomaton() {
+            return automaton != null;
+        }
+
+        /**
+         * Creates a deterministic automaton which accepts all strings matched by the given patterns. Returns null
+         * if determinization would be too expensive; this can happen for many patterns with several wildcards.
+         */
+        static CharacterRunAutomaton toAutomaton(List<String> patterns) {
+            List<Automaton> automatons = new ArrayList<>(patterns.size());
+
+            for (String pattern : patterns) {
+                List<Automaton> parts = new ArrayList<>();
+                int start = 0;
+
+                for (int star = pattern.indexOf('*'); star != -1; star = pattern.indexOf('*', start)) {
+                    if (star > start) {
+                        parts.add(Automata.makeString(pattern.substring(start, star)));
+                    }
+                    parts.add(Automata.makeAnyString());
+                    start = star + 1;
+                }
+
+                if (start < pattern.length() || parts.isEmpty()) {
+                    parts.add(Automata.makeString(pattern.substring(start)));
+                }
+
+                automatons.add(parts.size() == 1 ? parts.get(0) : Operations.concatenate(parts));
+            }
+
+            try {
+                return new CharacterRunAutomaton(
+                    Operations.determinize(Operations.union(automatons), Operations.DEFAULT_DETERMINIZE_WORK_LIMIT)
+                );
+            } catch (TooComplexToDeterminizeException e) {
+                log.debug("Patterns are too complex for an automaton; falling back to sequential matching: {}", patterns, e);
+                return null;
+            }
+        }
+
         @Override
         public WildcardMatcher ignoreCase() {
             return new MatcherCombiner(Stream.of(this.wildcardMatchers).map(WildcardMatcher::ignoreCase).toList());
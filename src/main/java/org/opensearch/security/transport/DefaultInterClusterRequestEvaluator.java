@@ -33,8 +33,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -54,14 +55,14 @@ public final class DefaultInterClusterRequestEvaluator implements InterClusterRe
     private final String certOid;
     private final WildcardMatcher staticNodesDnFromEsYml;
     private boolean dynamicNodesDnConfigEnabled;
-    private volatile Map<String, WildcardMatcher> dynamicNodesDn;
+    private volatile NodesDn nodesDn;
 
     public DefaultInterClusterRequestEvaluator(final Settings settings) {
         this.certOid = settings.get(ConfigConstants.SECURITY_CERT_OID, "1.2.3.4.5.5");
         this.staticNodesDnFromEsYml = WildcardMatcher.from(settings.getAsList(ConfigConstants.SECURITY_NODES_DN, Collections.emptyList()))
             .ignoreCase();
         this.dynamicNodesDnConfigEnabled = settings.getAsBoolean(ConfigConstants.SECURITY_NODES_DN_DYNAMIC_CONFIG_ENABLED, false);
-        this.dynamicNodesDn = Collections.emptyMap();
+        this.nodesDn = new NodesDn(this.staticNodesDnFromEsYml);
     }
 
     public void subscribeForChanges(DynamicConfigFactory dynamicConfigFactory) {
@@ -70,13 +71,6 @@ public final class DefaultInterClusterRequestEvaluator implements InterClusterRe
         }
     }
 
-    private WildcardMatcher getNodesDnToEvaluate() {
-        if (dynamicNodesDnConfigEnabled) {
-            return staticNodesDnFromEsYml.concat(dynamicNodesDn.values());
-        }
-        return staticNodesDnFromEsYml;
-    }
-
     @Override
     public boolean isInterClusterRequest(
         TransportRequest request,
@@ -84,7 +78,24 @@ public final class DefaultInterClusterRequestEvaluator implements InterClusterRe
         X509Certificate[] peerCerts,
         final String principal
     ) {
+        final NodesDn nodesDn = this.nodesDn;
+
+        if (peerCerts == null || peerCerts.length == 0) {
+            return isInterClusterRequest(peerCerts, principal, nodesDn.matcher);
+        }
+
+        Boolean cached = nodesDn.decisions.getIfPresent(peerCerts[0]);
+
+        if (cached != null) {
+            return cached;
+        }
 
+        boolean result = isInterClusterRequest(peerCerts, principal, nodesDn.matcher);
+        nodesDn.decisions.put(peerCerts[0], result);
+        return result;
+    }
+
+    private boolean isInterClusterRequest(X509Certificate[] peerCerts, String principal, WildcardMatcher nodesDn) {
         String[] principals = new String[2];
 
         if (principal != null && principal.length() > 0) {
@@ -92,8 +103,6 @@ public final class DefaultInterClusterRequestEvaluator implements InterClusterRe
             principals[1] = principal.replace(" ", "");
         }
 
-        WildcardMatcher nodesDn = this.getNodesDnToEvaluate();
-
         final boolean isTraceEnabled = log.isTraceEnabled();
         if (principals[0] != null && nodesDn.matchAny(principals)) {
 
@@ -176,6 +185,22 @@ public final class DefaultInterClusterRequestEvaluator implements InterClusterRe
 
     @Subscribe
     public void onNodesDnModelChanged(NodesDnModel nm) {
-        this.dynamicNodesDn = nm.getNodesDn();
+        if (dynamicNodesDnConfigEnabled) {
+            this.nodesDn = new NodesDn(staticNodesDnFromEsYml.concat(nm.getNodesDn().values()));
+        }
+    }
+
+    /**
+     * The nodes DN configuration and the decisions which were made with it. The decisions are keyed by the peer
+     * certificate; the certificate instances are kept by the TLS session of a connection, so the decision is made once
+     * per session. A configuration change replaces the instance, thus discarding all previous decisions.
+     */
+    private static final class NodesDn {
+        private final WildcardMatcher matcher;
+        private final Cache<X509Certificate, Boolean> decisions = CacheBuilder.newBuilder().weakKeys().maximumSize(10000).build();
+
+        private NodesDn(WildcardMatcher matcher) {
+            this.matcher = matcher;
+        }
     }
 }
@@ -90,6 +90,13 @@ public class HeapBasedRateTracker<ClientIdType> implements RateTracker<ClientIdT
         this.cache.invalidate(clientId);
     }
 
+    /**
+     * Returns whether the given client has attempts within the time window.
+     */
+    boolean isTracked(ClientIdType clientId) {
+        return this.cache.getIfPresent(clientId) != null;
+    }
+
     private class ClientRecord {
         private long startTime = -1;
         private final int[] timeOffsets = new int[maxTimeOffsets];
@@ -23,13 +23,24 @@ public interface RateTracker<ClientIdType> {
 
     void reset(ClientIdType clientId);
 
+    String HEAP_TYPE = "heap";
+    String STRIPED_TYPE = "striped";
+
     static <ClientIdType> RateTracker<ClientIdType> create(long timeWindowMs, int allowedTries, int maxEntries) {
+        return create(timeWindowMs, allowedTries, maxEntries, HEAP_TYPE);
+    }
+
+    static <ClientIdType> RateTracker<ClientIdType> create(long timeWindowMs, int allowedTries, int maxEntries, String type) {
         if (allowedTries == 1) {
             return new SingleTryRateTracker<ClientIdType>();
-        } else if (allowedTries > 1) {
+        } else if (allowedTries < 1) {
+            throw new IllegalArgumentException("allowedTries must be > 0: " + allowedTries);
+        } else if (type == null || HEAP_TYPE.equals(type)) {
             return new HeapBasedRateTracker<ClientIdType>(timeWindowMs, allowedTries, maxEntries);
+        } else if (STRIPED_TYPE.equals(type)) {
+            return new StripedRateTracker<ClientIdType>(timeWindowMs, allowedTries, maxEntries);
         } else {
-            throw new IllegalArgumentException("allowedTries must be > 0: " + allowedTries);
+            throw new IllegalArgumentException("Unknown rate tracker type: " + type);
         }
     }
 
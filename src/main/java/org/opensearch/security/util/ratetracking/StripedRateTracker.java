@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.util.ratetracking;
+
+import java.security.SecureRandom;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A rate tracker which does not use any locks and which has a bounded memory footprint.
+ * <p>
+ * Clients are kept in a fixed size open addressing hash table. Each client record holds a ring of the timestamps
+ * of the last allowedTries - 1 attempts. Tracking an attempt replaces the oldest timestamp in the ring with
+ * an atomic getAndSet(); if the replaced timestamp is still within the time window, allowedTries attempts happened
+ * within the time window. Thus, this tracker yields the same results as HeapBasedRateTracker.
+ * <p>
+ * A client is looked up in MAX_PROBES consecutive slots of the table. The start slot is derived from a SipHash of the
+ * client id which is keyed per instance; thus, clients cannot choose ids which collide on purpose. If the client is not
+ * found, it gets a free slot or the slot of a record whose attempts are all outside the time window. Records with
+ * attempts inside the time window are never replaced, as this would reset their count. If there is no such slot, the
+ * client is tracked by a HeapBasedRateTracker instead; it stays there as long as it is active. Records are replaced
+ * with CAS operations; concurrent first attempts of the same client might thus be counted in separate records, which
+ * only delays blocking of that client.
+ */
+public class StripedRateTracker<ClientIdType> implements RateTracker<ClientIdType> {
+
+    private static final Logger log = LogManager.getLogger(StripedRateTracker.class);
+
+    private static final int MAX_PROBES = 4;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private final AtomicReferenceArray<ClientRecord> slots;
+    private final int mask;
+    private final HashFunction slotHash;
+    private final HeapBasedRateTracker<ClientIdType> overflowTracker;
+    private final LongSupplier timeProvider;
+    private final long timeWindowMs;
+    private final int ringSize;
+
+    public StripedRateTracker(long timeWindowMs, int allowedTries, int maxEntries) {
+        this(timeWindowMs, allowedTries, maxEntries, null);
+    }
+
+    public StripedRateTracker(long timeWindowMs, int allowedTries, int maxEntries, LongSupplier timeProvider) {
+        if (allowedTries < 2) {
+            throw new IllegalArgumentException("allowedTries must be >= 2");
+        }
+
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be > 0: " + maxEntries);
+        }
+
+        int capacity = Math.max(MAX_PROBES, Math.min(MAX_CAPACITY, maxEntries));
+        capacity = Integer.bitCount(capacity) == 1 ? capacity : Integer.highestOneBit(capacity) << 1;
+
+        SecureRandom random = new SecureRandom();
+
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.slotHash = Hashing.sipHash24(random.nextLong(), random.nextLong());
+        this.timeWindowMs = timeWindowMs;
+        this.ringSize = allowedTries - 1;
+        this.timeProvider = Optional.ofNullable(timeProvider).orElse(System::currentTimeMillis);
+        this.overflowTracker = new HeapBasedRateTracker<>(timeWindowMs, allowedTries, maxEntries, this.timeProvider);
+    }
+
+    @Override
+    public boolean track(ClientIdType clientId) {
+        long timestamp = timeProvider.getAsLong();
+        ClientRecord clientRecord = getOrCreateRecord(clientId, timestamp);
+
+        if (clientRecord == null) {
+            return overflowTracker.track(clientId);
+        }
+
+        boolean result = clientRecord.track(timestamp);
+
+        if (log.isDebugEnabled()) {
+            log.debug("track({}): {}", clientId, result);
+        }
+
+        return result;
+    }
+
+    @Override
+    public void reset(ClientIdType clientId) {
+        int start = slotIndex(clientId);
+
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int index = (start + probe) & mask;
+            ClientRecord clientRecord = slots.get(index);
+
+            if (clientRecord != null && clientRecord.clientId.equals(clientId)) {
+                slots.compareAndSet(index, clientRecord, null);
+            }
+        }
+
+        overflowTracker.reset(clientId);
+    }
+
+    /**
+     * Returns the record of the given client, or null if the client has to be tracked by the overflowTracker.
+     */
+    private ClientRecord getOrCreateRecord(ClientIdType clientId, long timestamp) {
+        int start = slotIndex(clientId);
+
+        for (;;) {
+            int victimIndex = -1;
+            ClientRecord victim = null;
+            long victimLastAccess = Long.MAX_VALUE;
+
+            for (int probe = 0; probe < MAX_PROBES; probe++) {
+                int index = (start + probe) & mask;
+                ClientRecord clientRecord = slots.get(index);
+
+                if (clientRecord == null) {
+                    if (victimLastAccess != NO_TIMESTAMP) {
+                        victimIndex = index;
+                        victim = null;
+                        victimLastAccess = NO_TIMESTAMP;
+                    }
+                } else if (clientRecord.clientId.equals(clientId)) {
+                    return clientRecord;
+                } else if (timestamp - clientRecord.lastAccess >= timeWindowMs && clientRecord.lastAccess < victimLastAccess) {
+                    // all attempts of the record are outside the time window; thus, replacing it does not lose anything
+                    victimIndex = index;
+                    victim = clientRecord;
+                    victimLastAccess = clientRecord.lastAccess;
+                }
+            }
+
+            if (victimIndex == -1 || overflowTracker.isTracked(clientId)) {
+                return null;
+            }
+
+            ClientRecord newRecord = new ClientRecord(clientId, timestamp);
+
+            if (slots.compareAndSet(victimIndex, victim, newRecord)) {
+                if (victim != null && log.isDebugEnabled()) {
+                    log.debug("Removing {}", victim.clientId);
+                }
+
+                return newRecord;
+            }
+        }
+    }
+
+    private int slotIndex(ClientIdType clientId) {
+        int hash = clientId instanceof String
+            ? slotHash.hashUnencodedChars((String) clientId).asInt()
+            : slotHash.hashInt(clientId.hashCode()).asInt();
+        return hash & mask;
+    }
+
+    private final class ClientRecord {
+        private final ClientIdType clientId;
+        private final AtomicLongArray timestamps;
+        private final AtomicInteger cursor = new AtomicInteger();
+        private volatile long lastAccess;
+
+        ClientRecord(ClientIdType clientId, long timestamp) {
+            this.clientId = clientId;
+            this.timestamps = new AtomicLongArray(ringSize);
+            this.lastAccess = timestamp;
+
+            for (int i = 0; i < ringSize; i++) {
+                this.timestamps.set(i, NO_TIMESTAMP);
+            }
+        }
+
+        boolean track(long timestamp) {
+            this.lastAccess = timestamp;
+
+            int index = Math.floorMod(cursor.getAndIncrement(), ringSize);
+            long replaced = timestamps.getAndSet(index, timestamp);
+
+            return replaced != NO_TIMESTAMP && timestamp - replaced < timeWindowMs;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.action.configupdate;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ConfigUpdateRequestTest {
+
+    @Test
+    public void delta_shouldBeSerialized() throws IOException {
+        final Map<String, String> changedEntries = new HashMap<>();
+        changedEntries.put("role_a", "{\"cluster_permissions\":[\"a\"]}");
+        changedEntries.put("role_b", null);
+        final ConfigUpdateRequest request = new ConfigUpdateRequest("roles", new ConfigUpdateDelta(1, 2, 3, 4, changedEntries));
+
+        final ConfigUpdateRequest deserialized = roundTrip(request, Version.CURRENT);
+
+        assertThat(deserialized.getConfigTypes(), arrayContaining("roles"));
+        final ConfigUpdateDelta delta = deserialized.getDelta();
+        assertThat(delta, is(notNullValue()));
+        assertThat(delta.getBaseSeqNo(), is(1L));
+        assertThat(delta.getBasePrimaryTerm(), is(2L));
+        assertThat(delta.getSeqNo(), is(3L));
+        assertThat(delta.getPrimaryTerm(), is(4L));
+        assertThat(delta.getChangedEntries(), equalTo(changedEntries));
+    }
+
+    @Test
+    public void delta_shouldNotBeSerializedToNodesBefore330() throws IOException {
+        final ConfigUpdateRequest request = new ConfigUpdateRequest(
+            "roles",
+            new ConfigUpdateDelta(1, 1, 2, 1, Map.of("role_a", "{\"cluster_permissions\":[\"a\"]}"))
+        );
+
+        final ConfigUpdateRequest deserialized = roundTrip(request, Version.V_3_1_0);
+
+        assertThat(deserialized.getConfigTypes(), arrayContaining("roles"));
+        assertThat(deserialized.getDelta(), is(nullValue()));
+    }
+
+    @Test
+    public void entityNames_shouldStillBeSerializedToNodesBefore330() throws IOException {
+        final ConfigUpdateRequest request = new ConfigUpdateRequest("internalusers", new String[] { "alice" });
+
+        final ConfigUpdateRequest deserialized = roundTrip(request, Version.V_3_1_0);
+
+        assertThat(deserialized.getConfigTypes(), arrayContaining("internalusers"));
+        assertThat(deserialized.getEntityNames(), arrayContaining("alice"));
+        assertThat(deserialized.getDelta(), is(nullValue()));
+    }
+
+    private static ConfigUpdateRequest roundTrip(ConfigUpdateRequest request, Version version) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(version);
+            request.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(version);
+                return new ConfigUpdateRequest(in);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.action.configupdate;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.auth.BackendRegistry;
+import org.opensearch.security.configuration.ConfigurationRepository;
+import org.opensearch.security.securityconf.DynamicConfigFactory;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TransportConfigUpdateActionTest {
+
+    @Mock
+    private ThreadPool threadPool;
+    @Mock
+    private ClusterService clusterService;
+    @Mock
+    private TransportService transportService;
+    @Mock
+    private ConfigurationRepository configurationRepository;
+    @Mock
+    private BackendRegistry backendRegistry;
+    @Mock
+    private DynamicConfigFactory dynamicConfigFactory;
+    @Mock
+    private DiscoveryNode localNode;
+
+    private TransportConfigUpdateAction action;
+
+    @Before
+    public void setUp() {
+        when(clusterService.localNode()).thenReturn(localNode);
+        action = new TransportConfigUpdateAction(
+            Settings.EMPTY,
+            threadPool,
+            clusterService,
+            transportService,
+            configurationRepository,
+            new ActionFilters(Set.of()),
+            () -> backendRegistry,
+            dynamicConfigFactory
+        );
+    }
+
+    @Test
+    public void nodeOperation_shouldApplyDelta() {
+        ConfigUpdateDelta delta = new ConfigUpdateDelta(1, 1, 2, 1, Map.of("role_a", "{}"));
+        when(configurationRepository.applyChangedEntries(CType.ROLES, 1, 1, 2, 1, delta.getChangedEntries())).thenReturn(true);
+
+        action.nodeOperation(new TransportConfigUpdateAction.NodeConfigUpdateRequest(new ConfigUpdateRequest("roles", delta)));
+
+        verify(configurationRepository, never()).reloadConfiguration(any());
+        verify(backendRegistry).invalidateCache();
+    }
+
+    @Test
+    public void nodeOperation_shouldOnlyInvalidateChangedUsersWhenApplyingDelta() {
+        ConfigUpdateDelta delta = new ConfigUpdateDelta(1, 1, 2, 1, Map.of("alice", "{}"));
+        when(configurationRepository.applyChangedEntries(CType.INTERNALUSERS, 1, 1, 2, 1, delta.getChangedEntries())).thenReturn(true);
+
+        action.nodeOperation(new TransportConfigUpdateAction.NodeConfigUpdateRequest(new ConfigUpdateRequest("internalusers", delta)));
+
+        verify(configurationRepository, never()).reloadConfiguration(any());
+        verify(backendRegistry).invalidateUserCache(new String[] { "alice" });
+        verify(backendRegistry, never()).invalidateCache();
+    }
+
+    @Test
+    public void nodeOperation_shouldReloadIfDeltaCannotBeApplied() {
+        ConfigUpdateDelta delta = new ConfigUpdateDelta(1, 1, 2, 1, Map.of("role_a", "{}"));
+        when(configurationRepository.applyChangedEntries(eq(CType.ROLES), anyLong(), anyLong(), anyLong(), anyLong(), any())).thenReturn(
+            false
+        );
+        when(configurationRepository.reloadConfiguration(Set.of(CType.ROLES))).thenReturn(true);
+
+        action.nodeOperation(new TransportConfigUpdateAction.NodeConfigUpdateRequest(new ConfigUpdateRequest("roles", delta)));
+
+        verify(configurationRepository).reloadConfiguration(Set.of(CType.ROLES));
+        verify(backendRegistry).invalidateCache();
+    }
+
+    @Test
+    public void nodeOperation_shouldReloadWithoutDelta() {
+        when(configurationRepository.reloadConfiguration(Set.of(CType.ROLES))).thenReturn(true);
+
+        action.nodeOperation(new TransportConfigUpdateAction.NodeConfigUpdateRequest(new ConfigUpdateRequest(new String[] { "roles" })));
+
+        verify(configurationRepository, never()).applyChangedEntries(any(), anyLong(), anyLong(), anyLong(), anyLong(), any());
+        verify(configurationRepository).reloadConfiguration(Set.of(CType.ROLES));
+        verify(backendRegistry).invalidateCache();
+    }
+}
@@ -15,6 +15,7 @@ import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -25,7 +26,9 @@ import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -164,6 +167,68 @@ public class AuditMessageTest {
         assertThat(message.getAsMap().get(AuditMessage.REQUEST_BODY), is("Hash in tuple is __HASH__"));
     }
 
+    @Test
+    public void testTupleRequestBodyIsRenderedLazily() throws Exception {
+        message.addTupleToRequestBody(new Tuple<>(XContentType.JSON, new BytesArray("{\"a\": 1}")));
+        assertThat(message.getRequestBody(), is("{\"a\": 1}"));
+        assertThat(message.getAsMap().get(AuditMessage.REQUEST_BODY), is("{\"a\": 1}"));
+
+        message.addTupleToRequestBody(new Tuple<>(XContentType.YAML, new BytesArray("a: 1")));
+        assertThat(message.getRequestBody(), is("{\"a\":1}"));
+    }
+
+    @Test
+    public void testToXContentMatchesMap() throws Exception {
+        message.addEffectiveUser("user");
+        message.addIndices(new String[] { "index_a", "index_b" });
+        message.addTupleToRequestBody(new Tuple<>(XContentType.JSON, new BytesArray("{\"a\": 1}")));
+
+        String direct = message.toJson();
+        String viaMap = JsonXContent.contentBuilder().map(message.getAsMap()).toString();
+
+        assertThat(
+            XContentHelper.convertToMap(new BytesArray(direct), false, XContentType.JSON).v2(),
+            is(XContentHelper.convertToMap(new BytesArray(viaMap), false, XContentType.JSON).v2())
+        );
+    }
+
+    @Test
+    public void testDeferredWriteDiffIsComputedOnce() {
+        final String diff = "[{\"op\":\"add\",\"path\":\"/a\",\"value\":1}]";
+        final AtomicInteger computations = new AtomicInteger();
+        message.addDeferredComplianceWriteDiffSource(() -> {
+            computations.incrementAndGet();
+            return diff;
+        });
+        assertThat(computations.get(), is(0));
+
+        assertThat(message.getAsMap().get(AuditMessage.COMPLIANCE_DIFF_CONTENT), is(diff));
+        assertThat(message.getAsMap().get(AuditMessage.COMPLIANCE_DIFF_IS_NOOP), is(false));
+        message.toJson();
+        assertThat(computations.get(), is(1));
+    }
+
+    @Test
+    public void testDeferredWriteDiffNoop() {
+        message.addDeferredComplianceWriteDiffSource(() -> "");
+        assertNull(message.getAsMap().get(AuditMessage.COMPLIANCE_DIFF_CONTENT));
+        assertThat(message.getAsMap().get(AuditMessage.COMPLIANCE_DIFF_IS_NOOP), is(true));
+    }
+
+    @Test
+    public void testDeferredWriteDiffFailure() {
+        message.addDeferredComplianceWriteDiffSource(() -> null);
+        assertThat(message.getAsMap().containsKey(AuditMessage.COMPLIANCE_DIFF_CONTENT), is(false));
+        assertThat(message.getAsMap().containsKey(AuditMessage.COMPLIANCE_DIFF_IS_NOOP), is(false));
+    }
+
+    @Test
+    public void testDeferredSecurityConfigWriteDiffIsRedacted() {
+        final String hash = "$2y$12$gpTlsqv8yYsbR7P.fFbZ5uYXxUmGY4oLYeJNOMiz23ByrRMNFgBGm";
+        message.addDeferredSecurityConfigWriteDiffSource(() -> "Diff is " + hash, CType.INTERNALUSERS.toLCString());
+        assertThat(message.getAsMap().get(AuditMessage.COMPLIANCE_DIFF_CONTENT), is("Diff is __HASH__"));
+    }
+
     @Test
     public void testRequestBodyLoggingWithInvalidSourceOrContentTypeParam() {
         when(auditConfig.getFilter().shouldLogRequestBody()).thenReturn(true);
@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.auditlog.config.BatchConfig;
+import org.opensearch.security.auditlog.config.ThreadPoolConfig;
+import org.opensearch.security.auditlog.helper.LoggingSink;
+import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.auditlog.sink.AuditLogSink;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class BatchingStoragePoolTest {
+
+    @Test
+    public void testMessagesAreStoredInBatches() {
+        BatchSink sink = new BatchSink(new LoggingSink("fallback", Settings.EMPTY, null, null));
+        AsyncStoragePool pool = new AsyncStoragePool(new ThreadPoolConfig(2, 1000), new BatchConfig(true, 10, 60_000));
+
+        for (int i = 0; i < 25; i++) {
+            pool.submit(MockAuditMessageFactory.validAuditMessage(), sink);
+        }
+        pool.close();
+
+        assertThat(sink.storedMessages(), is(25));
+        assertThat(sink.batchSizes(), everyItem(lessThanOrEqualTo(10)));
+        assertThat(pool.getRejectedMessageCount(), is(0L));
+    }
+
+    @Test
+    public void testMessagesAreFlushedAfterInterval() throws Exception {
+        BatchSink sink = new BatchSink(new LoggingSink("fallback", Settings.EMPTY, null, null));
+        AsyncStoragePool pool = new AsyncStoragePool(new ThreadPoolConfig(2, 1000), new BatchConfig(true, 100, 50));
+
+        try {
+            for (int i = 0; i < 3; i++) {
+                pool.submit(MockAuditMessageFactory.validAuditMessage(), sink);
+            }
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (sink.storedMessages() < 3 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertThat(sink.storedMessages(), is(3));
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testFullBufferFallsBackToFallbackSink() {
+        LoggingSink fallbackSink = new LoggingSink("fallback", Settings.EMPTY, null, null);
+        BatchSink sink = new BatchSink(fallbackSink);
+        AsyncStoragePool pool = new AsyncStoragePool(new ThreadPoolConfig(1, 2), new BatchConfig(true, 100, 60_000));
+
+        for (int i = 0; i < 3; i++) {
+            pool.submit(MockAuditMessageFactory.validAuditMessage(), sink);
+        }
+
+        assertThat(fallbackSink.messages.size(), is(1));
+        assertThat(pool.getRejectedMessageCount(), is(1L));
+
+        pool.close();
+
+        assertThat(sink.storedMessages(), is(2));
+    }
+
+    @Test
+    public void testFullBufferWithoutFallbackSinkDropsMessage() {
+        BatchSink sink = new BatchSink(null);
+        AsyncStoragePool pool = new AsyncStoragePool(new ThreadPoolConfig(1, 2), new BatchConfig(true, 100, 60_000));
+
+        for (int i = 0; i < 3; i++) {
+            pool.submit(MockAuditMessageFactory.validAuditMessage(), sink);
+        }
+
+        assertThat(pool.getRejectedMessageCount(), is(0L));
+        assertThat(pool.getDroppedMessageCount(), is(1L));
+
+        pool.close();
+
+        assertThat(sink.storedMessages(), is(2));
+    }
+
+    static class BatchSink extends AuditLogSink {
+        private final List<Integer> batchSizes = new ArrayList<>();
+
+        BatchSink(AuditLogSink fallbackSink) {
+            super("batch", Settings.EMPTY, null, fallbackSink);
+        }
+
+        @Override
+        protected boolean doStore(AuditMessage msg) {
+            return doStoreBatch(List.of(msg)).isEmpty();
+        }
+
+        @Override
+        protected synchronized List<AuditMessage> doStoreBatch(List<AuditMessage> msgs) {
+            batchSizes.add(msgs.size());
+            return List.of();
+        }
+
+        synchronized List<Integer> batchSizes() {
+            return new ArrayList<>(batchSizes);
+        }
+
+        synchronized int storedMessages() {
+            return batchSizes.stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class BoundedRingBufferTest {
+
+    @Test
+    public void testCapacityIsRoundedUp() {
+        assertThat(new BoundedRingBuffer<String>(1).capacity(), is(1));
+        assertThat(new BoundedRingBuffer<String>(3).capacity(), is(4));
+        assertThat(new BoundedRingBuffer<String>(4).capacity(), is(4));
+        assertThat(new BoundedRingBuffer<String>(100_000).capacity(), is(131072));
+    }
+
+    @Test
+    public void testOfferAndPoll() {
+        BoundedRingBuffer<String> buffer = new BoundedRingBuffer<>(2);
+
+        assertThat(buffer.offer("a"), is(true));
+        assertThat(buffer.offer("b"), is(true));
+        assertThat(buffer.offer("c"), is(false));
+        assertThat(buffer.size(), is(2));
+
+        assertThat(buffer.poll(), is("a"));
+        assertThat(buffer.offer("c"), is(true));
+        assertThat(buffer.poll(), is("b"));
+        assertThat(buffer.poll(), is("c"));
+        assertThat(buffer.poll(), is(nullValue()));
+        assertThat(buffer.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testDrainTo() {
+        BoundedRingBuffer<String> buffer = new BoundedRingBuffer<>(8);
+        buffer.offer("a");
+        buffer.offer("b");
+        buffer.offer("c");
+
+        List<String> target = new ArrayList<>();
+        assertThat(buffer.drainTo(target, 2), is(2));
+        assertThat(target, contains("a", "b"));
+        assertThat(buffer.drainTo(target, 2), is(1));
+        assertThat(target, contains("a", "b", "c"));
+        assertThat(buffer.drainTo(target, 2), is(0));
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws Exception {
+        final int producers = 4;
+        final int messagesPerProducer = 10_000;
+        final BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>(64);
+        final Set<Integer> received = ConcurrentHashMap.newKeySet();
+        final AtomicInteger remaining = new AtomicInteger(producers * messagesPerProducer);
+        final CountDownLatch done = new CountDownLatch(producers + 2);
+
+        for (int p = 0; p < producers; p++) {
+            final int offset = p * messagesPerProducer;
+            new Thread(() -> {
+                for (int i = 0; i < messagesPerProducer; i++) {
+                    while (!buffer.offer(offset + i)) {
+                        Thread.yield();
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+
+        for (int c = 0; c < 2; c++) {
+            new Thread(() -> {
+                while (remaining.get() > 0) {
+                    Integer element = buffer.poll();
+                    if (element != null) {
+                        received.add(element);
+                        remaining.decrementAndGet();
+                    } else {
+                        Thread.yield();
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+
+        done.await();
+
+        assertThat(received.size(), is(producers * messagesPerProducer));
+        assertThat(buffer.isEmpty(), is(true));
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auth;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ArrayListMultimap;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.security.auditlog.AuditLog;
+import org.opensearch.security.configuration.AdminDNs;
+import org.opensearch.security.configuration.ClusterInfoHolder;
+import org.opensearch.security.filter.SecurityRequestChannel;
+import org.opensearch.security.http.XFFResolver;
+import org.opensearch.security.securityconf.DynamicConfigModel;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.user.AuthCredentials;
+import org.opensearch.security.user.User;
+import org.opensearch.threadpool.ThreadPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BackendRegistryAsyncTest {
+
+    private ThreadContext threadContext;
+    private CountingAuthenticationBackend authenticationBackend;
+    private BackendRegistry backendRegistry;
+    private List<Runnable> pendingTasks;
+
+    @Before
+    public void setUp() {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        threadContext = new ThreadContext(Settings.EMPTY);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+
+        XFFResolver xffResolver = mock(XFFResolver.class);
+        when(xffResolver.resolve(any())).thenReturn(new TransportAddress(new InetSocketAddress("127.0.0.1", 9200)));
+
+        backendRegistry = new BackendRegistry(
+            Settings.EMPTY,
+            mock(AdminDNs.class),
+            xffResolver,
+            mock(AuditLog.class),
+            threadPool,
+            mock(ClusterInfoHolder.class)
+        );
+
+        HTTPAuthenticator httpAuthenticator = mock(HTTPAuthenticator.class);
+        when(httpAuthenticator.getType()).thenReturn("test");
+        when(httpAuthenticator.extractCredentials(any(), any())).thenAnswer(
+            invocation -> new AuthCredentials("test_user", "secret".getBytes(StandardCharsets.UTF_8)).markComplete()
+        );
+
+        authenticationBackend = new CountingAuthenticationBackend();
+
+        DynamicConfigModel dynamicConfigModel = mock(DynamicConfigModel.class);
+        when(dynamicConfigModel.getRestAuthDomains()).thenReturn(
+            new TreeSet<>(List.of(new AuthDomain(authenticationBackend, httpAuthenticator, false, 0)))
+        );
+        when(dynamicConfigModel.getRestAuthorizers()).thenReturn(Set.of());
+        when(dynamicConfigModel.getIpAuthFailureListeners()).thenReturn(List.of());
+        when(dynamicConfigModel.getIpClientBlockRegistries()).thenReturn(List.of());
+        when(dynamicConfigModel.getAuthBackendFailureListeners()).thenReturn(ArrayListMultimap.create());
+        when(dynamicConfigModel.getAuthBackendClientBlockRegistries()).thenReturn(ArrayListMultimap.create());
+        backendRegistry.onDynamicConfigModelChanged(dynamicConfigModel);
+
+        pendingTasks = new ArrayList<>();
+    }
+
+    @Test
+    public void authenticateAsync_doesNotBlock() {
+        CompletableFuture<User> user = authenticateAsync(pendingTasks::add);
+
+        assertFalse(user.isDone());
+        assertEquals(0, authenticationBackend.calls.get());
+
+        runPendingTasks();
+
+        assertEquals("test_user", user.join().getName());
+        assertEquals(1, authenticationBackend.calls.get());
+        assertNull("Thread context of the request must not leak", threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_USER));
+    }
+
+    @Test
+    public void authenticateAsync_coalescesConcurrentCacheMisses() {
+        CompletableFuture<User> user1 = authenticateAsync(pendingTasks::add);
+        CompletableFuture<User> user2 = authenticateAsync(pendingTasks::add);
+
+        assertEquals(1, pendingTasks.size());
+
+        runPendingTasks();
+
+        // Each request gets the user in its own thread context
+        assertEquals("test_user", user1.join().getName());
+        assertEquals("test_user", user2.join().getName());
+        assertEquals(1, authenticationBackend.calls.get());
+    }
+
+    @Test
+    public void authenticateAsync_cached() {
+        authenticateAsync(pendingTasks::add);
+        runPendingTasks();
+
+        CompletableFuture<User> user = authenticateAsync(pendingTasks::add);
+
+        assertTrue(user.isDone());
+        assertTrue(pendingTasks.isEmpty());
+        assertEquals("test_user", user.join().getName());
+        assertEquals(1, authenticationBackend.calls.get());
+    }
+
+    @Test
+    public void getCacheStats_recordsHitsMissesAndLoads() {
+        authenticateAsync(pendingTasks::add);
+        runPendingTasks();
+        authenticateAsync(pendingTasks::add).join();
+
+        CacheStats userCacheStats = backendRegistry.getCacheStats().get("user_cache");
+        assertEquals(1, userCacheStats.hitCount());
+        assertEquals(1, userCacheStats.missCount());
+        assertEquals(1, userCacheStats.loadSuccessCount());
+        assertTrue(backendRegistry.getCacheStats().containsKey("impersonation_cache"));
+        assertTrue(backendRegistry.getCacheStats().containsKey("role_cache"));
+    }
+
+    @Test
+    public void authenticateAsync_rejected() {
+        CompletableFuture<User> user = authenticateAsync(command -> { throw new OpenSearchRejectedExecutionException("rejected"); });
+
+        CompletionException e = assertThrows(CompletionException.class, user::join);
+        assertTrue(e.getCause() instanceof OpenSearchRejectedExecutionException);
+
+        // The rejected authentication must not be pending anymore
+        CompletableFuture<User> retried = authenticateAsync(pendingTasks::add);
+        runPendingTasks();
+        assertEquals("test_user", retried.join().getName());
+    }
+
+    @Test
+    public void authenticate_sync() {
+        try (ThreadContext.StoredContext ctx = threadContext.stashContext()) {
+            assertTrue(backendRegistry.authenticate(mock(SecurityRequestChannel.class)));
+            assertEquals("test_user", ((User) threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_USER)).getName());
+        }
+
+        assertEquals(1, authenticationBackend.calls.get());
+    }
+
+    /**
+     * Starts the authentication of a request in a fresh thread context. The returned future completes with the user
+     * which was put into the thread context of the request.
+     */
+    private CompletableFuture<User> authenticateAsync(Executor executor) {
+        try (ThreadContext.StoredContext ctx = threadContext.stashContext()) {
+            return backendRegistry.authenticateAsync(mock(SecurityRequestChannel.class), executor)
+                .thenApply(authenticated -> threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_USER));
+        }
+    }
+
+    private void runPendingTasks() {
+        List<Runnable> tasks = new ArrayList<>(pendingTasks);
+        pendingTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    static class CountingAuthenticationBackend implements AuthenticationBackend {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public String getType() {
+            return "counting";
+        }
+
+        @Override
+        public User authenticate(AuthenticationContext context) {
+            calls.incrementAndGet();
+            return new User(context.getCredentials().getUsername());
+        }
+    }
+}
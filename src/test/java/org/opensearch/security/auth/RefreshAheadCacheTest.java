@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auth;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.google.common.base.Ticker;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+public class RefreshAheadCacheTest {
+
+    final AtomicLong nanos = new AtomicLong();
+    final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+
+    @Test
+    public void refreshAfterInterval() {
+        RefreshAheadCache<String, String> cache = new RefreshAheadCache<>("test", 10, 5, TimeUnit.MINUTES, 10, ticker);
+        PendingRefresher refresher = new PendingRefresher();
+
+        cache.put("key", "v1", refresher);
+
+        advanceMinutes(4);
+        assertEquals("v1", cache.getIfPresent("key"));
+        assertEquals(0, refresher.calls.get());
+
+        advanceMinutes(2);
+        // The previous value is returned while the refresh is running; only one refresh is started
+        assertEquals("v1", cache.getIfPresent("key"));
+        assertEquals("v1", cache.getIfPresent("key"));
+        assertEquals(1, refresher.calls.get());
+
+        refresher.pending.complete("v2");
+        assertEquals("v2", cache.getIfPresent("key"));
+        assertEquals(1, cache.refreshSuccessCount());
+
+        // The refreshed entry still expires at the original expiry time
+        advanceMinutes(5);
+        assertNull(cache.getIfPresent("key"));
+    }
+
+    @Test
+    public void refreshedEntriesExpireAfterTtlSinceCreation() {
+        RefreshAheadCache<String, String> cache = new RefreshAheadCache<>("test", 10, 5, TimeUnit.MINUTES, 10, ticker);
+        PendingRefresher refresher = new PendingRefresher();
+
+        cache.put("key", "v1", refresher);
+
+        // Keep the entry hot and refreshed
+        advanceMinutes(6);
+        assertEquals("v1", cache.getIfPresent("key"));
+        refresher.pending.complete("v2");
+        advanceMinutes(3);
+        assertEquals("v2", cache.getIfPresent("key"));
+
+        // The refresh must not extend the lifetime of the entry beyond the TTL since it was created
+        advanceMinutes(1);
+        assertNull(cache.getIfPresent("key"));
+    }
+
+    @Test
+    public void get_reloadsEntriesExpiredSinceCreation() throws Exception {
+        RefreshAheadCache<String, String> cache = new RefreshAheadCache<>("test", 10, 5, TimeUnit.MINUTES, 10, ticker);
+        PendingRefresher refresher = new PendingRefresher();
+
+        cache.put("key", "v1", refresher);
+        advanceMinutes(6);
+        cache.getIfPresent("key");
+        refresher.pending.complete("v2");
+
+        advanceMinutes(4);
+        assertEquals("v3", cache.get("key", () -> "v3", null));
+    }
+
+    @Test
+    public void notReadEntriesExpire() {
+        RefreshAheadCache<String, String> cache = new RefreshAheadCache<>("test", 10, 5, TimeUnit.MINUTES, 10, ticker);
+        PendingRefresher refresher = new PendingRefresher();
+
+        cache.put("key", "v1", refresher);
+
+        advanceMinutes(11);
+        assertNull(cache.getIfPresent("key"));
+        assertEquals(0, refresher.calls.get());
+    }
+
+    @Test
+    public void failedRefresh_keepsPreviousValue() {
+        RefreshAheadCache<String, String> cache = new RefreshAheadCache<>("test", 10, 5, TimeUnit.MINUTES, 10, ticker);
+        PendingRefresher refresher = new PendingRefresher();
+
+        cache.put("key", "v1", refresher);
+        advanceMinutes(6);
+        cache.getIfPresent("key");
+        refresher.pending.completeExceptionally(new RuntimeException("backend unavailable"));
+
+        assertEquals("v1", cache.getIfPresent("key"));
+        assertEquals(1, cache.refreshFailureCount());
+        // The next read retries the refresh
+        assertEquals(2, refresher.calls.get());
+
+        advanceMinutes(5);
+        assertNull(cache.getIfPresent("key"));
+    }
+
+    @Test
+    public void refreshToNull_removesEntry() {
+        RefreshAheadCache<String, String> cache = new RefreshAheadCache<>("test", 10, 5, TimeUnit.MINUTES, 10, ticker);
+        PendingRefresher refresher = new PendingRefresher();
+
+        cache.put("key", "v1", refresher);
+        advanceMinutes(6);
+        cache.getIfPresent("key");
+        refresher.pending.complete(null);
+
+        assertNull(cache.getIfPresent("key"));
+    }
+
+    @Test
+    public void invalidatedDuringRefresh() {
+        RefreshAheadCache<String, String> cache = new RefreshAheadCache<>("test", 10, 5, TimeUnit.MINUTES, 10, ticker);
+        PendingRefresher refresher = new PendingRefresher();
+
+        cache.put("key", "v1", refresher);
+        advanceMinutes(6);
+        cache.getIfPresent("key");
+        cache.invalidateAll();
+        refresher.pending.complete("v2");
+
+        assertNull(cache.getIfPresent("key"));
+    }
+
+    @Test
+    public void concurrentRefreshesAreBounded() {
+        RefreshAheadCache<String, String> cache = new RefreshAheadCache<>("test", 10, 5, TimeUnit.MINUTES, 1, ticker);
+        PendingRefresher refresher1 = new PendingRefresher();
+        PendingRefresher refresher2 = new PendingRefresher();
+
+        cache.put("key1", "v1", refresher1);
+        cache.put("key2", "v1", refresher2);
+        advanceMinutes(6);
+
+        cache.getIfPresent("key1");
+        cache.getIfPresent("key2");
+        assertEquals(1, refresher1.calls.get());
+        assertEquals(0, refresher2.calls.get());
+        assertEquals(1, cache.refreshSkippedCount());
+
+        refresher1.pending.complete("v2");
+        cache.getIfPresent("key2");
+        assertEquals(1, refresher2.calls.get());
+    }
+
+    @Test
+    public void refreshDisabled() {
+        RefreshAheadCache<String, String> cache = new RefreshAheadCache<>("test", 10, 0, TimeUnit.MINUTES, 10, ticker);
+        PendingRefresher refresher = new PendingRefresher();
+
+        cache.put("key", "v1", refresher);
+        advanceMinutes(9);
+        assertEquals("v1", cache.getIfPresent("key"));
+        assertEquals(0, refresher.calls.get());
+    }
+
+    @Test
+    public void stats() throws Exception {
+        RefreshAheadCache<String, String> cache = new RefreshAheadCache<>("test", 10, 5, TimeUnit.MINUTES, 10, ticker);
+
+        cache.getIfPresent("a");
+        cache.put("a", "v", null);
+        cache.recordLoad(100, true);
+        cache.getIfPresent("a");
+        assertEquals("v", cache.get("b", () -> "v", null));
+        assertThrows(Exception.class, () -> cache.get("c", () -> null, null));
+
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(3, cache.stats().missCount());
+        assertEquals(2, cache.stats().loadSuccessCount());
+        assertEquals(1, cache.stats().loadExceptionCount());
+    }
+
+    @Test
+    public void get_loaderFailure() {
+        RefreshAheadCache<String, String> cache = new RefreshAheadCache<>("test", 10, 5, TimeUnit.MINUTES, 10, ticker);
+
+        assertThrows(ExecutionException.class, () -> cache.get("key", () -> { throw new Exception("failure"); }, null));
+        assertNull(cache.getIfPresent("key"));
+    }
+
+    private void advanceMinutes(long minutes) {
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(minutes));
+    }
+
+    static class PendingRefresher implements Supplier<CompletableFuture<String>> {
+        final AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<String> pending;
+
+        @Override
+        public CompletableFuture<String> get() {
+            calls.incrementAndGet();
+            pending = new CompletableFuture<>();
+            return pending;
+        }
+    }
+}
@@ -685,6 +685,47 @@ public class LdapBackendTestNewStyleConfig2 {
         assertThat(new ArrayList<>(new TreeSet<>(user.getRoles())).get(7), is("rolemo4"));
     }
 
+    @Test
+    public void testLdapAuthorizationNestedAttrParallelCached() throws Exception {
+
+        final Settings.Builder settings = createBaseSettings().putList(ConfigConstants.LDAP_HOSTS, "localhost:" + ldapPort)
+            .put("users.u1.search", "(uid={0})")
+            .put("users.u1.base", "ou=people,o=TEST")
+            .put("roles.g1.base", "ou=groups,o=TEST")
+            .put(ConfigConstants.LDAP_AUTHZ_ROLENAME, "cn")
+            .put(ConfigConstants.LDAP_AUTHZ_RESOLVE_NESTED_ROLES, true)
+            .put("roles.g1.search", "(uniqueMember={0})")
+            .put(ConfigConstants.LDAP_AUTHZ_USERROLENAME, "description") // no memberOf OID
+            .put(ConfigConstants.LDAP_AUTHZ_ROLESEARCH_ENABLED, true);
+
+        LDAPAuthorizationBackend2 serialBackend = new LDAPAuthorizationBackend2(
+            settings.put(ConfigConstants.LDAP_AUTHZ_NESTED_ROLE_PARALLELISM, 1)
+                .put(ConfigConstants.LDAP_AUTHZ_NESTED_ROLE_CACHE_TTL_SECONDS, 0)
+                .build(),
+            null
+        );
+        LDAPAuthorizationBackend2 parallelBackend = new LDAPAuthorizationBackend2(
+            settings.put(ConfigConstants.LDAP_AUTHZ_NESTED_ROLE_PARALLELISM, 3)
+                .put(ConfigConstants.LDAP_AUTHZ_NESTED_ROLE_CACHE_TTL_SECONDS, 60)
+                .build(),
+            null
+        );
+
+        try {
+            User expected = serialBackend.addRoles(new User("spock"), ctx("spock", "secret"));
+            assertThat(expected.getRoles(), hasItem("nested3"));
+
+            // The second call is answered from the nested role cache
+            for (int i = 0; i < 2; i++) {
+                User user = parallelBackend.addRoles(new User("spock"), ctx("spock", "secret"));
+                assertThat(user.getRoles(), is(expected.getRoles()));
+            }
+        } finally {
+            serialBackend.destroy();
+            parallelBackend.destroy();
+        }
+    }
+
     @Test
     public void testLdapAuthorizationNestedAttrFilter() throws Exception {
 
@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auth.limiting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.junit.Test;
+
+import org.opensearch.security.util.ratetracking.RateTracker;
+import org.opensearch.security.util.ratetracking.StripedRateTracker;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class StripedRateTrackerTest {
+
+    private final AtomicLong currentTime = new AtomicLong(1);
+    private LongSupplier timeProvider = () -> currentTime.getAndAdd(1);
+
+    @Test
+    public void simpleTest() throws Exception {
+        StripedRateTracker<String> tracker = new StripedRateTracker<>(100, 5, 100_000, timeProvider);
+
+        assertFalse(tracker.track("a"));
+        assertFalse(tracker.track("a"));
+        assertFalse(tracker.track("a"));
+        assertFalse(tracker.track("a"));
+        assertTrue(tracker.track("a"));
+    }
+
+    @Test
+    public void expiryTest() throws Exception {
+        StripedRateTracker<String> tracker = new StripedRateTracker<>(100, 5, 100_000, timeProvider);
+
+        assertFalse(tracker.track("a"));
+        assertFalse(tracker.track("a"));
+        assertFalse(tracker.track("a"));
+        assertFalse(tracker.track("a"));
+        assertTrue(tracker.track("a"));
+
+        assertFalse(tracker.track("b"));
+        assertFalse(tracker.track("b"));
+        assertFalse(tracker.track("b"));
+        assertFalse(tracker.track("b"));
+        assertTrue(tracker.track("b"));
+
+        assertFalse(tracker.track("c"));
+
+        currentTime.addAndGet(50);
+
+        assertFalse(tracker.track("c"));
+        assertFalse(tracker.track("c"));
+        assertFalse(tracker.track("c"));
+
+        currentTime.addAndGet(55);
+
+        assertFalse(tracker.track("c"));
+        assertTrue(tracker.track("c"));
+
+        assertFalse(tracker.track("a"));
+
+        currentTime.addAndGet(55);
+        assertFalse(tracker.track("c"));
+        assertFalse(tracker.track("c"));
+        assertTrue(tracker.track("c"));
+    }
+
+    @Test
+    public void maxTwoTriesTest() throws Exception {
+        StripedRateTracker<String> tracker = new StripedRateTracker<>(100, 2, 100_000, timeProvider);
+
+        assertFalse(tracker.track("a"));
+        assertTrue(tracker.track("a"));
+
+        assertFalse(tracker.track("b"));
+        currentTime.addAndGet(50);
+        assertTrue(tracker.track("b"));
+
+        currentTime.addAndGet(55);
+        assertTrue(tracker.track("b"));
+
+        currentTime.addAndGet(105);
+        assertFalse(tracker.track("b"));
+        assertTrue(tracker.track("b"));
+    }
+
+    @Test
+    public void resetTest() throws Exception {
+        StripedRateTracker<String> tracker = new StripedRateTracker<>(100, 3, 100_000, timeProvider);
+
+        assertFalse(tracker.track("a"));
+        assertFalse(tracker.track("a"));
+        tracker.reset("a");
+        assertFalse(tracker.track("a"));
+        assertFalse(tracker.track("a"));
+        assertTrue(tracker.track("a"));
+    }
+
+    @Test
+    public void activeClientsAreNotReplacedWhenFull() throws Exception {
+        StripedRateTracker<Integer> tracker = new StripedRateTracker<>(1000, 2, 4, timeProvider);
+
+        for (int i = 0; i < 4; i++) {
+            assertFalse(tracker.track(i));
+        }
+
+        // client 4 does not find a slot and is tracked by the fallback tracker
+        assertFalse(tracker.track(4));
+        assertTrue(tracker.track(4));
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(tracker.track(i));
+        }
+    }
+
+    @Test
+    public void expiredClientIsReplacedWhenFull() throws Exception {
+        StripedRateTracker<Integer> tracker = new StripedRateTracker<>(1000, 2, 4, timeProvider);
+
+        for (int i = 0; i < 4; i++) {
+            assertFalse(tracker.track(i));
+        }
+
+        currentTime.addAndGet(1000);
+
+        // replaces client 0, which is the least recently active one
+        assertFalse(tracker.track(4));
+        assertTrue(tracker.track(4));
+        assertFalse(tracker.track(0));
+    }
+
+    @Test
+    public void collidingClientsCannotResetTrackedClient() throws Exception {
+        // with four slots, all clients are looked up in the same slots, just like clients with colliding hashes
+        StripedRateTracker<String> tracker = new StripedRateTracker<>(1000, 3, 4, timeProvider);
+
+        assertFalse(tracker.track("victim"));
+        assertFalse(tracker.track("victim"));
+
+        for (int i = 0; i < 10; i++) {
+            tracker.track("attacker" + i);
+            tracker.track("attacker" + i);
+        }
+
+        assertTrue(tracker.track("victim"));
+    }
+
+    @Test
+    public void clientTrackedByFallbackTrackerIsNotReset() throws Exception {
+        StripedRateTracker<String> tracker = new StripedRateTracker<>(100, 3, 4, timeProvider);
+
+        for (int i = 0; i < 4; i++) {
+            assertFalse(tracker.track("attacker" + i));
+        }
+
+        currentTime.addAndGet(90);
+        assertFalse(tracker.track("victim"));
+
+        // the records of the attackers are expired now; the victim must still not get a fresh record
+        currentTime.addAndGet(10);
+        assertFalse(tracker.track("victim"));
+        assertTrue(tracker.track("victim"));
+    }
+
+    @Test
+    public void concurrentTracking() throws Exception {
+        int threads = 8;
+        int attemptsPerThread = 1000;
+        StripedRateTracker<String> tracker = new StripedRateTracker<>(60_000, 10, 100_000);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int exceeded = 0;
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (tracker.track("user")) {
+                            exceeded++;
+                        }
+                    }
+                    return exceeded;
+                }));
+            }
+
+            start.countDown();
+
+            int exceeded = 0;
+            for (Future<Integer> future : futures) {
+                exceeded += future.get(30, TimeUnit.SECONDS);
+            }
+
+            // Only the first nine attempts may be below the limit
+            assertThat(exceeded >= threads * attemptsPerThread - 9 * threads, is(true));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void createByType() {
+        assertThat(RateTracker.<String>create(100, 5, 100, RateTracker.STRIPED_TYPE), instanceOf(StripedRateTracker.class));
+    }
+}
@@ -15,7 +15,11 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeoutException;
@@ -56,6 +60,7 @@ import org.opensearch.security.auditlog.AuditLog;
 import org.opensearch.security.securityconf.DynamicConfigFactory;
 import org.opensearch.security.securityconf.impl.CType;
 import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.securityconf.impl.v7.RoleV7;
 import org.opensearch.security.state.SecurityConfig;
 import org.opensearch.security.state.SecurityMetadata;
 import org.opensearch.security.support.ConfigConstants;
@@ -632,6 +637,92 @@ public class ConfigurationRepositoryTest {
         verify(configurationRepository, never()).reloadConfiguration(any());
     }
 
+    @Test
+    public void applyChangedEntries_shouldApplyChangesAtBaseVersion() throws Exception {
+        ConfigurationRepository configurationRepository = createRepositoryWithRoles(1, 1);
+        List<ConfigurationMap> notifications = new ArrayList<>();
+        configurationRepository.subscribeOnChange(notifications::add);
+
+        Map<String, String> changedEntries = new HashMap<>();
+        changedEntries.put("role_a", "{\"cluster_permissions\":[\"c\"]}");
+        changedEntries.put("role_b", null);
+
+        assertThat(configurationRepository.applyChangedEntries(CType.ROLES, 1, 1, 2, 1, changedEntries), is(true));
+
+        SecurityDynamicConfiguration<RoleV7> roles = configurationRepository.getConfiguration(CType.ROLES);
+        assertThat(roles.getSeqNo(), is(2L));
+        assertThat(roles.getCEntry("role_a").getCluster_permissions(), equalTo(List.of("c")));
+        assertThat(roles.exists("role_b"), is(false));
+        assertThat(notifications.size(), is(1));
+        assertThat(notifications.get(0).size(), is(1));
+        assertThat(notifications.get(0).containsKey(CType.ROLES), is(true));
+    }
+
+    @Test
+    public void applyChangedEntries_shouldRejectChangesBasedOnOtherVersion() throws Exception {
+        ConfigurationRepository configurationRepository = createRepositoryWithRoles(3, 1);
+        List<ConfigurationMap> notifications = new ArrayList<>();
+        configurationRepository.subscribeOnChange(notifications::add);
+
+        Map<String, String> changedEntries = Map.of("role_a", "{\"cluster_permissions\":[\"c\"]}");
+
+        assertThat(configurationRepository.applyChangedEntries(CType.ROLES, 1, 1, 2, 1, changedEntries), is(false));
+        assertThat(configurationRepository.applyChangedEntries(CType.ROLES, 3, 2, 4, 2, changedEntries), is(false));
+
+        SecurityDynamicConfiguration<RoleV7> roles = configurationRepository.getConfiguration(CType.ROLES);
+        assertThat(roles.getSeqNo(), is(3L));
+        assertThat(roles.getCEntry("role_a").getCluster_permissions(), equalTo(List.of("a")));
+        assertThat(notifications.size(), is(0));
+    }
+
+    @Test
+    public void applyChangedEntries_shouldIgnoreChangesAlreadyApplied() throws Exception {
+        ConfigurationRepository configurationRepository = createRepositoryWithRoles(2, 1);
+        List<ConfigurationMap> notifications = new ArrayList<>();
+        configurationRepository.subscribeOnChange(notifications::add);
+
+        Map<String, String> changedEntries = Map.of("role_a", "{\"cluster_permissions\":[\"c\"]}");
+
+        assertThat(configurationRepository.applyChangedEntries(CType.ROLES, 1, 1, 2, 1, changedEntries), is(true));
+
+        SecurityDynamicConfiguration<RoleV7> roles = configurationRepository.getConfiguration(CType.ROLES);
+        assertThat(roles.getCEntry("role_a").getCluster_permissions(), equalTo(List.of("a")));
+        assertThat(notifications.size(), is(0));
+    }
+
+    @Test
+    public void applyChangedEntries_shouldRejectChangesBeforeInitialization() {
+        ConfigurationRepository configurationRepository = createConfigurationRepository(Settings.EMPTY);
+
+        assertThat(
+            configurationRepository.applyChangedEntries(CType.ROLES, 1, 1, 2, 1, Map.of("role_a", "{\"cluster_permissions\":[\"c\"]}")),
+            is(false)
+        );
+    }
+
+    /**
+     * Returns an initialized repository whose roles configuration is at the given version and contains role_a and role_b.
+     */
+    private ConfigurationRepository createRepositoryWithRoles(long seqNo, long primaryTerm) throws Exception {
+        ConfigurationRepository configurationRepository = createConfigurationRepository(
+            Settings.builder().put(ConfigConstants.SECURITY_BACKGROUND_INIT_IF_SECURITYINDEX_NOT_EXIST, false).build()
+        );
+        configurationRepository.initOnNodeStart();
+
+        SecurityDynamicConfiguration<RoleV7> roles = SecurityDynamicConfiguration.fromJson(
+            "{\"_meta\":{\"type\":\"roles\",\"config_version\":2},"
+                + "\"role_a\":{\"cluster_permissions\":[\"a\"]},"
+                + "\"role_b\":{\"cluster_permissions\":[\"b\"]}}",
+            CType.ROLES,
+            2,
+            seqNo,
+            primaryTerm
+        );
+        when(configurationLoaderSecurity7.load(any(), anyLong(), any(), anyBoolean())).thenReturn(ConfigurationMap.of(roles));
+        assertThat(configurationRepository.reloadConfiguration(Set.of(CType.ROLES)), is(true));
+        return configurationRepository;
+    }
+
     void assertClusterState(final ArgumentCaptor<ClusterStateUpdateTask> clusterStateUpdateTaskCaptor) throws Exception {
         final var initializedStateUpdate = clusterStateUpdateTaskCaptor.getValue();
         assertThat(initializedStateUpdate.priority(), is(Priority.IMMEDIATE));
@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.FixedBitSet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.privileges.dlsfls.FieldMasking;
+import org.opensearch.security.privileges.dlsfls.FieldPrivileges;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class DlsBitSetCacheTest {
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private LeafReader segment;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (int i = 0; i < 10; i++) {
+                Document document = new Document();
+                document.add(new StringField("tenant", i % 2 == 0 ? "a" : "b", Field.Store.NO));
+                writer.addDocument(document);
+            }
+        }
+        reader = DirectoryReader.open(directory);
+        segment = reader.leaves().get(0).reader();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (reader != null) {
+            reader.close();
+        }
+        directory.close();
+    }
+
+    @Test
+    public void reusesBitSetForEqualQueries() throws Exception {
+        DlsBitSetCache cache = new DlsBitSetCache(Settings.EMPTY);
+        AtomicInteger loads = new AtomicInteger();
+
+        FixedBitSet first = compute(cache, "a", FieldMasking.FieldMaskingRule.ALLOW_ALL, loads);
+        FixedBitSet second = compute(cache, "a", FieldMasking.FieldMaskingRule.ALLOW_ALL, loads);
+
+        assertThat(second, sameInstance(first));
+        assertThat(loads.get(), is(1));
+    }
+
+    @Test
+    public void computesSeparateBitSetsForDifferentQueries() throws Exception {
+        DlsBitSetCache cache = new DlsBitSetCache(Settings.EMPTY);
+        AtomicInteger loads = new AtomicInteger();
+
+        compute(cache, "a", FieldMasking.FieldMaskingRule.ALLOW_ALL, loads);
+        compute(cache, "b", FieldMasking.FieldMaskingRule.ALLOW_ALL, loads);
+
+        assertThat(loads.get(), is(2));
+        assertThat(cache.size(), equalTo(2L));
+    }
+
+    @Test
+    public void evictsEntriesOnSegmentClose() throws Exception {
+        DlsBitSetCache cache = new DlsBitSetCache(Settings.EMPTY);
+        AtomicInteger loads = new AtomicInteger();
+
+        compute(cache, "a", FieldMasking.FieldMaskingRule.ALLOW_ALL, loads);
+        assertThat(cache.size(), equalTo(1L));
+
+        reader.close();
+        reader = null;
+
+        assertThat(cache.size(), equalTo(0L));
+    }
+
+    @Test
+    public void invalidateAll() throws Exception {
+        DlsBitSetCache cache = new DlsBitSetCache(Settings.EMPTY);
+        AtomicInteger loads = new AtomicInteger();
+
+        compute(cache, "a", FieldMasking.FieldMaskingRule.ALLOW_ALL, loads);
+        cache.invalidateAll();
+        compute(cache, "a", FieldMasking.FieldMaskingRule.ALLOW_ALL, loads);
+
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    public void disabled() throws Exception {
+        DlsBitSetCache cache = new DlsBitSetCache(Settings.builder().put(DlsBitSetCache.ENABLED.getKey(), false).build());
+        AtomicInteger loads = new AtomicInteger();
+
+        compute(cache, "a", FieldMasking.FieldMaskingRule.ALLOW_ALL, loads);
+        compute(cache, "a", FieldMasking.FieldMaskingRule.ALLOW_ALL, loads);
+
+        assertThat(loads.get(), is(2));
+        assertThat(cache.size(), equalTo(0L));
+    }
+
+    @Test
+    public void computesSeparateBitSetsForDifferentFieldMasking() throws Exception {
+        DlsBitSetCache cache = new DlsBitSetCache(Settings.EMPTY);
+        AtomicInteger loads = new AtomicInteger();
+        FieldMasking.FieldMaskingRule maskTenant = FieldMasking.FieldMaskingRule.of(FieldMasking.Config.DEFAULT, "tenant");
+        FieldMasking.FieldMaskingRule maskOther = FieldMasking.FieldMaskingRule.of(FieldMasking.Config.DEFAULT, "other");
+
+        // two roles with the same DLS query, but different field masking, must not share bit sets
+        FixedBitSet unmasked = compute(cache, "a", FieldMasking.FieldMaskingRule.ALLOW_ALL, loads);
+        FixedBitSet maskedTenant = compute(cache, "a", maskTenant, loads);
+        FixedBitSet maskedOther = compute(cache, "a", maskOther, loads);
+
+        assertThat(loads.get(), is(3));
+        assertThat(maskedTenant, not(sameInstance(unmasked)));
+        assertThat(maskedOther, not(sameInstance(maskedTenant)));
+
+        // the same field masking rule re-uses its bit set
+        assertThat(compute(cache, "a", maskTenant, loads), sameInstance(maskedTenant));
+        // rules which do not mask anything share the bit set of the unmasked reader
+        assertThat(compute(cache, "a", FieldMasking.FieldMaskingRule.of(FieldMasking.Config.DEFAULT), loads), sameInstance(unmasked));
+        assertThat(loads.get(), is(3));
+    }
+
+    private FixedBitSet compute(DlsBitSetCache cache, String tenant, FieldMasking.FieldMaskingRule fmRule, AtomicInteger loads)
+        throws Exception {
+        return cache.getOrCompute(
+            segment,
+            new TermQuery(new Term("tenant", tenant)),
+            FieldPrivileges.FlsRule.ALLOW_ALL,
+            fmRule,
+            () -> bitSet(loads)
+        );
+    }
+
+    private FixedBitSet bitSet(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new FixedBitSet(segment.maxDoc());
+    }
+}
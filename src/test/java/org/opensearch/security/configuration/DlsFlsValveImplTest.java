@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.configuration;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.securityconf.impl.v7.RoleV7;
+
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DlsFlsValveImplTest {
+
+    @Mock
+    private ConfigurationRepository configurationRepository;
+    @Mock
+    private DlsFlsValveImpl dlsFlsValve;
+    @Mock
+    private DlsBitSetCache dlsBitSetCache;
+
+    @Test
+    public void rolesChangeListener_shouldUpdateOnRolesChange() {
+        SecurityDynamicConfiguration<RoleV7> roles = SecurityDynamicConfiguration.empty(CType.ROLES);
+        when(configurationRepository.getConfiguration(CType.ROLES)).thenReturn(roles);
+
+        DlsFlsValveImpl.rolesChangeListener(configurationRepository, dlsFlsValve, dlsBitSetCache).onChange(ConfigurationMap.of(roles));
+
+        verify(dlsFlsValve).updateConfiguration(roles);
+        verify(dlsBitSetCache).invalidateAll();
+    }
+
+    @Test
+    public void rolesChangeListener_shouldIgnoreOtherTypes() {
+        ConfigurationChangeListener listener = DlsFlsValveImpl.rolesChangeListener(configurationRepository, dlsFlsValve, dlsBitSetCache);
+
+        listener.onChange(ConfigurationMap.of(SecurityDynamicConfiguration.empty(CType.INTERNALUSERS)));
+        listener.onChange(ConfigurationMap.of(SecurityDynamicConfiguration.empty(CType.ROLESMAPPING)));
+        listener.onChange(ConfigurationMap.of(SecurityDynamicConfiguration.empty(CType.ACTIONGROUPS)));
+
+        verify(dlsFlsValve, never()).updateConfiguration(any());
+        verify(dlsBitSetCache, never()).invalidateAll();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.dlic.rest.api;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.opensearch.security.DefaultObjectMapper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class AbstractApiActionChangedEntityNamesTest {
+
+    @Test
+    public void changedEntityNames_shouldReturnPatchedEntities() throws IOException {
+        assertThat(
+            changedEntityNames(
+                "[{\"op\":\"replace\",\"path\":\"/role_a/cluster_permissions\",\"value\":[\"a\"]},{\"op\":\"remove\",\"path\":\"/role_b\"}]"
+            ),
+            equalTo(Optional.of(Set.of("role_a", "role_b")))
+        );
+    }
+
+    @Test
+    public void changedEntityNames_shouldIncludeSourceOfMoveAndCopy() throws IOException {
+        assertThat(
+            changedEntityNames("[{\"op\":\"move\",\"from\":\"/role_a\",\"path\":\"/role_b\"}]"),
+            equalTo(Optional.of(Set.of("role_a", "role_b")))
+        );
+        assertThat(
+            changedEntityNames("[{\"op\":\"copy\",\"from\":\"/role_a/index_permissions\",\"path\":\"/role_c/index_permissions\"}]"),
+            equalTo(Optional.of(Set.of("role_a", "role_c")))
+        );
+    }
+
+    @Test
+    public void changedEntityNames_shouldBeEmptyIfMetadataIsChanged() throws IOException {
+        assertThat(
+            changedEntityNames(
+                "[{\"op\":\"remove\",\"path\":\"/role_a\"},{\"op\":\"replace\",\"path\":\"/_meta/config_version\",\"value\":2}]"
+            ),
+            equalTo(Optional.empty())
+        );
+        assertThat(changedEntityNames("[{\"op\":\"copy\",\"from\":\"/_meta\",\"path\":\"/role_a\"}]"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    public void changedEntityNames_shouldBeEmptyIfRootIsChanged() throws IOException {
+        assertThat(changedEntityNames("[{\"op\":\"replace\",\"path\":\"\",\"value\":{}}]"), equalTo(Optional.empty()));
+        assertThat(changedEntityNames("[{\"op\":\"add\",\"path\":\"/\",\"value\":{}}]"), equalTo(Optional.empty()));
+    }
+
+    private static Optional<Set<String>> changedEntityNames(final String diff) throws IOException {
+        return AbstractApiAction.changedEntityNames(DefaultObjectMapper.readTree(diff));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.privileges;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.settings.Settings;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class FilteredAliasIndicesTest {
+
+    static final Metadata METADATA = Metadata.builder()
+        .put(index("index_two_filtered", filteredAlias("alias_a"), filteredAlias("alias_b")), false)
+        .put(index("index_one_filtered", filteredAlias("alias_a"), AliasMetadata.builder("alias_c").build()), false)
+        .put(index("index_unfiltered", AliasMetadata.builder("alias_c").build(), AliasMetadata.builder("alias_d").build()), false)
+        .put(index("index_no_alias"), false)
+        .build();
+
+    @Test
+    public void findIndex() {
+        FilteredAliasIndices subject = FilteredAliasIndices.of(METADATA);
+
+        assertThat(subject.isEmpty(), is(false));
+        assertThat(subject.anyIndex(), is("index_two_filtered"));
+        assertThat(subject.findIndex(List.of("index_no_alias", "index_two_filtered")), is("index_two_filtered"));
+        assertThat(subject.findIndex(List.of("index_one_filtered", "index_unfiltered", "index_no_alias")), is(nullValue()));
+        assertThat(subject.getFilteredAliases("index_two_filtered").size(), is(2));
+        assertThat(subject.getFilteredAliases("index_one_filtered").size(), is(0));
+    }
+
+    @Test
+    public void noFilteredAliases() {
+        FilteredAliasIndices subject = FilteredAliasIndices.of(Metadata.builder().put(index("index_no_alias"), false).build());
+
+        assertThat(subject.isEmpty(), is(true));
+        assertThat(subject.anyIndex(), is(nullValue()));
+        assertThat(subject.findIndex(List.of("index_no_alias")), is(nullValue()));
+    }
+
+    @Test
+    public void isFor() {
+        FilteredAliasIndices subject = FilteredAliasIndices.of(METADATA);
+
+        assertThat(subject.isFor(METADATA), is(true));
+        assertThat(subject.isFor(Metadata.builder(METADATA).build()), is(false));
+    }
+
+    static IndexMetadata.Builder index(String name, AliasMetadata... aliases) {
+        IndexMetadata.Builder builder = IndexMetadata.builder(name)
+            .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+            .numberOfShards(1)
+            .numberOfReplicas(0);
+
+        for (AliasMetadata alias : aliases) {
+            builder.putAlias(alias);
+        }
+
+        return builder;
+    }
+
+    static AliasMetadata filteredAlias(String name) {
+        return AliasMetadata.builder(name).filter("{\"term\":{\"dept\":\"" + name + "\"}}").build();
+    }
+}
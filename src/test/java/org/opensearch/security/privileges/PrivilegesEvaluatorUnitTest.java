@@ -18,6 +18,7 @@ import org.junit.runner.RunWith;
 
 import org.opensearch.OpenSearchSecurityException;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
@@ -25,10 +26,15 @@ import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.security.auditlog.AuditLog;
 import org.opensearch.security.configuration.ClusterInfoHolder;
+import org.opensearch.security.configuration.ConfigurationChangeListener;
+import org.opensearch.security.configuration.ConfigurationMap;
 import org.opensearch.security.configuration.ConfigurationRepository;
 import org.opensearch.security.resolver.IndexResolverReplacer;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 import org.opensearch.threadpool.ThreadPool;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -39,6 +45,8 @@ import static org.opensearch.security.privileges.PrivilegesEvaluator.isClusterPe
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -223,4 +231,29 @@ public class PrivilegesEvaluatorUnitTest {
         );
         assertThat(exception.getMessage(), equalTo("OpenSearch Security is not initialized. Cluster manager not present"));
     }
+
+    @Test
+    public void testConfigurationChange_onlyRebuildsPrivilegesForRelevantTypes() {
+        when(clusterState.metadata()).thenReturn(Metadata.EMPTY_METADATA);
+        when(configurationRepository.getConfiguration(CType.ACTIONGROUPS)).thenReturn(
+            SecurityDynamicConfiguration.empty(CType.ACTIONGROUPS)
+        );
+        when(configurationRepository.getConfiguration(CType.ROLES)).thenReturn(SecurityDynamicConfiguration.empty(CType.ROLES));
+        when(configurationRepository.getConfiguration(CType.TENANTS)).thenReturn(SecurityDynamicConfiguration.empty(CType.TENANTS));
+        ArgumentCaptor<ConfigurationChangeListener> listener = ArgumentCaptor.forClass(ConfigurationChangeListener.class);
+        verify(configurationRepository).subscribeOnChange(listener.capture());
+
+        listener.getValue().onChange(ConfigurationMap.of(SecurityDynamicConfiguration.empty(CType.INTERNALUSERS)));
+        // the initial configuration is always applied
+        verify(configurationRepository, times(1)).getConfiguration(CType.ROLES);
+
+        listener.getValue().onChange(ConfigurationMap.of(SecurityDynamicConfiguration.empty(CType.INTERNALUSERS)));
+        listener.getValue().onChange(ConfigurationMap.of(SecurityDynamicConfiguration.empty(CType.ROLESMAPPING)));
+        verify(configurationRepository, times(1)).getConfiguration(CType.ROLES);
+
+        listener.getValue().onChange(ConfigurationMap.of(SecurityDynamicConfiguration.empty(CType.ROLES)));
+        listener.getValue().onChange(ConfigurationMap.of(SecurityDynamicConfiguration.empty(CType.ACTIONGROUPS)));
+        listener.getValue().onChange(ConfigurationMap.of(SecurityDynamicConfiguration.empty(CType.TENANTS)));
+        verify(configurationRepository, times(4)).getConfiguration(CType.ROLES);
+    }
 }
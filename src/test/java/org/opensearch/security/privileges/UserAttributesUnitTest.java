@@ -13,13 +13,18 @@ package org.opensearch.security.privileges;
 import java.util.List;
 import java.util.Map;
 
+import com.google.common.cache.Cache;
 import com.google.common.collect.ImmutableSet;
 import org.junit.Test;
 
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.User;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class UserAttributesUnitTest {
@@ -71,4 +76,32 @@ public class UserAttributesUnitTest {
             """;
         assertEquals(expectedString, UserAttributes.replaceProperties(stringWithPlaceholders, ctx));
     }
+
+    @Test
+    public void testRenderedMatcherSharedBetweenRequests() throws Exception {
+        Cache<String, WildcardMatcher> cache = UserAttributes.createRenderedTemplateCache(Settings.EMPTY);
+        PrivilegesEvaluationContext ctx1 = ctx(new User("user_1").withAttributes(Map.of("attr.tenant", "a")), cache);
+        PrivilegesEvaluationContext ctx2 = ctx(new User("user_2").withAttributes(Map.of("attr.tenant", "a")), cache);
+        PrivilegesEvaluationContext ctx3 = ctx(new User("user_3").withAttributes(Map.of("attr.tenant", "b")), cache);
+
+        WildcardMatcher matcher1 = ctx1.getRenderedMatcher("index_${attr.tenant}_*");
+        WildcardMatcher matcher2 = ctx2.getRenderedMatcher("index_${attr.tenant}_*");
+        WildcardMatcher matcher3 = ctx3.getRenderedMatcher("index_${attr.tenant}_*");
+
+        assertSame(matcher1, matcher2);
+        assertTrue(matcher1.test("index_a_1"));
+        assertFalse(matcher3.test("index_a_1"));
+        assertTrue(matcher3.test("index_b_1"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testRenderedTemplateCacheDisabled() {
+        Settings settings = Settings.builder().put(UserAttributes.RENDERED_TEMPLATE_CACHE_MAX_SIZE.getKey(), 0).build();
+        assertNull(UserAttributes.createRenderedTemplateCache(settings));
+    }
+
+    static PrivilegesEvaluationContext ctx(User user, Cache<String, WildcardMatcher> renderedMatcherCache) {
+        return new PrivilegesEvaluationContext(user, ImmutableSet.of(), null, null, null, null, null, null, null, renderedMatcherCache);
+    }
 }
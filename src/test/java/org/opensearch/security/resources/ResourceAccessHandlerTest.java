@@ -9,6 +9,7 @@
 package org.opensearch.security.resources;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import com.google.common.collect.ImmutableMap;
@@ -21,6 +22,7 @@ import org.opensearch.OpenSearchStatusException;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.security.auth.UserSubjectImpl;
 import org.opensearch.security.configuration.AdminDNs;
 import org.opensearch.security.privileges.PrivilegesEvaluationContext;
@@ -28,6 +30,7 @@ import org.opensearch.security.privileges.PrivilegesEvaluator;
 import org.opensearch.security.privileges.actionlevel.RoleBasedActionPrivileges;
 import org.opensearch.security.privileges.actionlevel.SubjectBasedActionPrivileges;
 import org.opensearch.security.securityconf.FlattenedActionGroups;
+import org.opensearch.security.spi.resources.client.ResourceIdsPage;
 import org.opensearch.security.spi.resources.sharing.Recipient;
 import org.opensearch.security.spi.resources.sharing.ResourceSharing;
 import org.opensearch.security.spi.resources.sharing.ShareWith;
@@ -39,6 +42,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.argThat;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
@@ -241,6 +245,52 @@ public class ResourceAccessHandlerTest {
         verify(listener).onResponse(Set.of("res1"));
     }
 
+    @Test
+    public void testGetOwnAndSharedResourcesPage_asNormalUser() {
+        User user = new User("alice", ImmutableSet.of("r1"), ImmutableSet.of("b1"), null, ImmutableMap.of(), false);
+        injectUser(user);
+        when(adminDNs.isAdmin(user)).thenReturn(false);
+
+        ActionListener<ResourceIdsPage> listener = mock(ActionListener.class);
+        ResourceIdsPage page = new ResourceIdsPage(List.of("res1", "res2"), "res2");
+
+        doAnswer(inv -> {
+            ActionListener<ResourceIdsPage> l = inv.getArgument(4);
+            l.onResponse(page);
+            return null;
+        }).when(sharingIndexHandler).fetchAccessibleResourceIdsPage(eq(INDEX), any(BoolQueryBuilder.class), eq("res0"), eq(2), any());
+
+        handler.getOwnAndSharedResourceIdsForCurrentUser(INDEX, "res0", 2, listener);
+        verify(listener).onResponse(page);
+    }
+
+    @Test
+    public void testGetOwnAndSharedResourcesPage_asAdmin() {
+        User user = new User("admin", ImmutableSet.of(), ImmutableSet.of(), null, ImmutableMap.of(), false);
+        injectUser(user);
+        when(adminDNs.isAdmin(user)).thenReturn(true);
+
+        ActionListener<ResourceIdsPage> listener = mock(ActionListener.class);
+        ResourceIdsPage page = new ResourceIdsPage(List.of("res1"), null);
+
+        doAnswer(inv -> {
+            ActionListener<ResourceIdsPage> l = inv.getArgument(3);
+            l.onResponse(page);
+            return null;
+        }).when(sharingIndexHandler).fetchAllResourceIdsPage(eq(INDEX), eq(null), eq(2), any());
+
+        handler.getOwnAndSharedResourceIdsForCurrentUser(INDEX, null, 2, listener);
+        verify(listener).onResponse(page);
+    }
+
+    @Test
+    public void testGetOwnAndSharedResourcesPage_noUser() {
+        ActionListener<ResourceIdsPage> listener = mock(ActionListener.class);
+
+        handler.getOwnAndSharedResourceIdsForCurrentUser(INDEX, null, 10, listener);
+        verify(listener).onResponse(argThat(page -> page.getResourceIds().isEmpty() && !page.hasNextPage()));
+    }
+
     @Test
     public void testShareSuccess() {
         User user = new User("user2", ImmutableSet.of(), ImmutableSet.of(), null, ImmutableMap.of(), false);
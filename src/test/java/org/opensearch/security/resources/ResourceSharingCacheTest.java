@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.resources;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.spi.resources.sharing.CreatedBy;
+import org.opensearch.security.spi.resources.sharing.ResourceSharing;
+import org.opensearch.security.support.ConfigConstants;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ResourceSharingCacheTest {
+
+    private static final String INDEX = "resource-index";
+
+    private final ResourceSharingCache cache = new ResourceSharingCache(100, 10);
+
+    @Test
+    public void putAndGet() {
+        ResourceSharing sharing = sharing("1");
+
+        cache.put(INDEX, "1", sharing, cache.generation());
+
+        assertSame(sharing, cache.getIfPresent(INDEX, "1"));
+        assertNull(cache.getIfPresent(INDEX, "2"));
+        assertNull(cache.getIfPresent("other-index", "1"));
+    }
+
+    @Test
+    public void invalidate() {
+        cache.put(INDEX, "1", sharing("1"), cache.generation());
+        cache.put(INDEX, "2", sharing("2"), cache.generation());
+        cache.put(INDEX, "3", sharing("3"), cache.generation());
+
+        cache.invalidate(INDEX, "1");
+        assertNull(cache.getIfPresent(INDEX, "1"));
+        assertEquals(2, cache.size());
+
+        cache.invalidate(INDEX, List.of("2", "3"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void invalidationDuringRead_isNotCached() {
+        long generation = cache.generation();
+
+        // The document is changed while the previous version is being read
+        cache.invalidate(INDEX, "1");
+        cache.put(INDEX, "1", sharing("1"), generation);
+
+        assertNull(cache.getIfPresent(INDEX, "1"));
+
+        cache.put(INDEX, "1", sharing("1"), cache.generation());
+        cache.invalidateAll();
+        assertNull(cache.getIfPresent(INDEX, "1"));
+    }
+
+    @Test
+    public void disabled() {
+        ResourceSharingCache disabled = new ResourceSharingCache(
+            Settings.builder().put(ConfigConstants.OPENSEARCH_RESOURCE_SHARING_CACHE_MAX_SIZE, 0).build()
+        );
+
+        disabled.put(INDEX, "1", sharing("1"), disabled.generation());
+
+        assertFalse(disabled.isEnabled());
+        assertNull(disabled.getIfPresent(INDEX, "1"));
+        assertTrue(new ResourceSharingCache(Settings.EMPTY).isEnabled());
+    }
+
+    private static ResourceSharing sharing(String resourceId) {
+        return new ResourceSharing(resourceId, new CreatedBy("owner"), null);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.resources;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.Version;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.security.resources.api.cache.InvalidateResourceSharingCacheResponse;
+import org.opensearch.security.spi.resources.client.ResourceIdsPage;
+import org.opensearch.security.spi.resources.sharing.CreatedBy;
+import org.opensearch.security.spi.resources.sharing.Recipient;
+import org.opensearch.security.spi.resources.sharing.Recipients;
+import org.opensearch.security.spi.resources.sharing.ResourceSharing;
+import org.opensearch.security.spi.resources.sharing.ShareWith;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class ResourceSharingIndexHandlerTest {
+
+    @Test
+    public void allSharedPrincipals() {
+        ShareWith shareWith = new ShareWith(
+            Map.of(
+                "read_only",
+                new Recipients(Map.of(Recipient.USERS, Set.of("bob"), Recipient.ROLES, Set.of("*"))),
+                "read_write",
+                new Recipients(Map.of(Recipient.BACKEND_ROLES, Set.of("admins")))
+            )
+        );
+
+        assertEquals(
+            Set.of("user:alice", "user:bob", "role:*", "backend:admins"),
+            ResourceSharingIndexHandler.allSharedPrincipals(new ResourceSharing("res-1", new CreatedBy("alice"), shareWith))
+        );
+        assertEquals(
+            Set.of("user:alice"),
+            ResourceSharingIndexHandler.allSharedPrincipals(new ResourceSharing("res-1", new CreatedBy("alice"), null))
+        );
+    }
+
+    @Test
+    public void toSource() throws Exception {
+        ShareWith shareWith = new ShareWith(Map.of("read_only", new Recipients(Map.of(Recipient.USERS, Set.of("bob")))));
+
+        Map<String, Object> source = XContentHelper.convertToMap(
+            BytesReference.bytes(
+                ResourceSharingIndexHandler.toSource(new ResourceSharing("res-1", new CreatedBy("alice"), shareWith))
+            ),
+            false,
+            XContentType.JSON
+        ).v2();
+
+        assertEquals("res-1", source.get("resource_id"));
+        assertEquals(Map.of("user", "alice"), source.get("created_by"));
+        assertEquals(Map.of("read_only", Map.of("users", List.of("bob"))), source.get("share_with"));
+        assertEquals(List.of("user:alice", "user:bob"), source.get(ResourceSharingIndexHandler.ALL_SHARED_PRINCIPALS));
+    }
+
+    @Test
+    public void invalidationFailure() {
+        assertNull(
+            ResourceSharingIndexHandler.invalidationFailure(
+                "resource-index",
+                "res-1",
+                new InvalidateResourceSharingCacheResponse(new ClusterName("test"), List.of(), List.of())
+            )
+        );
+
+        Exception failure = ResourceSharingIndexHandler.invalidationFailure(
+            "resource-index",
+            "res-1",
+            new InvalidateResourceSharingCacheResponse(
+                new ClusterName("test"),
+                List.of(),
+                List.of(new FailedNodeException("node-2", "node-2 is unreachable", new Exception()))
+            )
+        );
+
+        assertEquals(RestStatus.INTERNAL_SERVER_ERROR, ((OpenSearchStatusException) failure).status());
+        assertTrue(failure.getMessage(), failure.getMessage().contains("[node-2]"));
+    }
+
+    @Test
+    public void fetchAccessibleResourceIdsPage_shouldRejectPageSizeAboveMaxResultWindow() {
+        String sharingIndex = ResourceSharingIndexHandler.getSharingIndex("resource-index");
+        Client client = mock(Client.class);
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.state()).thenReturn(
+            ClusterState.builder(new ClusterName("test"))
+                .metadata(
+                    Metadata.builder()
+                        .put(
+                            IndexMetadata.builder(sharingIndex)
+                                .settings(
+                                    Settings.builder()
+                                        .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                                        .put(IndexSettings.MAX_RESULT_WINDOW_SETTING.getKey(), 100)
+                                )
+                                .numberOfShards(1)
+                                .numberOfReplicas(0),
+                            false
+                        )
+                )
+                .build()
+        );
+        ResourceSharingIndexHandler handler = new ResourceSharingIndexHandler(client, clusterService, mock(ThreadPool.class));
+
+        @SuppressWarnings("unchecked")
+        ActionListener<ResourceIdsPage> listener = mock(ActionListener.class);
+        handler.fetchAllResourceIdsPage("resource-index", null, 101, listener);
+
+        ArgumentCaptor<Exception> failure = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(failure.capture());
+        assertTrue(failure.getValue() instanceof IllegalArgumentException);
+        assertTrue(failure.getValue().getMessage(), failure.getValue().getMessage().contains("[100]"));
+        verifyNoInteractions(client);
+    }
+
+    @Test
+    public void maxResultWindow_shouldDefaultIfSharingIndexDoesNotExist() {
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.state()).thenReturn(ClusterState.builder(new ClusterName("test")).build());
+        ResourceSharingIndexHandler handler = new ResourceSharingIndexHandler(mock(Client.class), clusterService, mock(ThreadPool.class));
+
+        assertEquals(
+            (int) IndexSettings.MAX_RESULT_WINDOW_SETTING.getDefault(Settings.EMPTY),
+            handler.maxResultWindow(ResourceSharingIndexHandler.getSharingIndex("resource-index"))
+        );
+    }
+}
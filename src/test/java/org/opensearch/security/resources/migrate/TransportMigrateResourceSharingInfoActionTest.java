@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.resources.migrate;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import org.opensearch.OpenSearchSecurityException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.search.SearchHit;
+import org.opensearch.security.configuration.AdminDNs;
+import org.opensearch.security.spi.resources.sharing.Recipient;
+import org.opensearch.security.spi.resources.sharing.ResourceSharing;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.user.User;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TransportMigrateResourceSharingInfoActionTest {
+
+    private final MigrateResourceSharingInfoRequest request = new MigrateResourceSharingInfoRequest(
+        "source-index",
+        "owner/name",
+        "/owner/backend_roles",
+        "read_only",
+        MigrateResourceSharingInfoRequest.AUTO_SLICES,
+        MigrateResourceSharingInfoRequest.DEFAULT_BATCH_SIZE,
+        -1
+    );
+
+    @Test
+    public void toResourceSharing() throws Exception {
+        ResourceSharing resourceSharing = TransportMigrateResourceSharingInfoAction.toResourceSharing(
+            hit("res-1", "{\"owner\": {\"name\": \"alice\", \"backend_roles\": [\"admins\", \"ops\"]}}"),
+            request
+        );
+
+        assertEquals("res-1", resourceSharing.getResourceId());
+        assertEquals("alice", resourceSharing.getCreatedBy().getUsername());
+        assertEquals(
+            Set.of("admins", "ops"),
+            resourceSharing.getShareWith().atAccessLevel("read_only").getRecipients().get(Recipient.BACKEND_ROLES)
+        );
+    }
+
+    @Test
+    public void toResourceSharing_withoutBackendRoles() throws Exception {
+        ResourceSharing resourceSharing = TransportMigrateResourceSharingInfoAction.toResourceSharing(
+            hit("res-1", "{\"owner\": {\"name\": \"alice\"}}"),
+            request
+        );
+
+        assertEquals("alice", resourceSharing.getCreatedBy().getUsername());
+        assertNull(resourceSharing.getShareWith());
+    }
+
+    @Test
+    public void toResourceSharing_withoutUser() throws Exception {
+        assertNull(TransportMigrateResourceSharingInfoAction.toResourceSharing(hit("res-1", "{\"owner\": {}}"), request));
+    }
+
+    private static final String ADMIN_DN = "CN=admin,OU=client,O=client,L=test,C=de";
+
+    private final AdminDNs adminDns = new AdminDNs(Settings.builder().putList(ConfigConstants.SECURITY_AUTHCZ_ADMIN_DN, ADMIN_DN).build());
+
+    @Test
+    public void checkAllowed_securityAdmin() {
+        assertNull(checkAllowed(new User(ADMIN_DN), Set.of("source-index")));
+    }
+
+    @Test
+    public void checkAllowed_rejectsNonAdmin() {
+        assertTrue(checkAllowed(new User("cluster_admin"), Set.of("source-index")) instanceof OpenSearchSecurityException);
+        assertTrue(checkAllowed(null, Set.of("source-index")) instanceof OpenSearchSecurityException);
+    }
+
+    @Test
+    public void checkAllowed_rejectsUnregisteredIndex() {
+        assertTrue(checkAllowed(new User(ADMIN_DN), Set.of("other-index")) instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void statusSerialization() throws Exception {
+        MigrateResourceSharingInfoTask.Status status = new MigrateResourceSharingInfoTask.Status(4, 1, 100, 60, 3, 2);
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            status.writeTo(out);
+            assertEquals(status, new MigrateResourceSharingInfoTask.Status(out.bytes().streamInput()));
+        }
+    }
+
+    private Exception checkAllowed(User user, Set<String> resourceIndices) {
+        return TransportMigrateResourceSharingInfoAction.checkAllowed(user, request, adminDns, resourceIndices);
+    }
+
+    private static SearchHit hit(String id, String source) {
+        SearchHit hit = new SearchHit(0, id, Map.of(), Map.of());
+        hit.sourceRef(new BytesArray(source));
+        return hit;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.securityconf;
+
+import java.net.InetAddress;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.securityconf.impl.v7.RoleMappingsV7;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.HostNameCache;
+import org.opensearch.security.support.HostResolverMode;
+import org.opensearch.security.user.User;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ConfigModelV7Test {
+
+    static final String ROLES_MAPPING = "exact_user:\n"
+        + "  users: ['user_a']\n"
+        + "pattern_user:\n"
+        + "  users: ['user_*']\n"
+        + "exact_backend_role:\n"
+        + "  backend_roles: ['group_a']\n"
+        + "pattern_backend_role:\n"
+        + "  backend_roles: ['/group_[0-9]+/']\n"
+        + "and_backend_roles:\n"
+        + "  and_backend_roles: ['group_a', 'group_b*']\n"
+        + "exact_host:\n"
+        + "  hosts: ['127.0.0.1']\n"
+        + "pattern_host:\n"
+        + "  hosts: ['*.example.com']";
+
+    @Test
+    public void userAndBackendRoles() throws Exception {
+        ConfigModelV7 subject = configModel(Settings.EMPTY, HostResolverMode.IP_HOSTNAME, HostNameCache.uncached());
+
+        assertThat(subject.mapSecurityRoles(new User("user_a"), null), containsInAnyOrder("exact_user", "pattern_user"));
+        assertThat(subject.mapSecurityRoles(new User("user_b"), null), containsInAnyOrder("pattern_user"));
+        assertThat(subject.mapSecurityRoles(new User("other"), null), empty());
+        assertThat(
+            subject.mapSecurityRoles(new User("other").withRoles("group_a", "group_1"), null),
+            containsInAnyOrder("exact_backend_role", "pattern_backend_role")
+        );
+        assertThat(
+            subject.mapSecurityRoles(new User("other").withRoles("group_a", "group_bx"), null),
+            containsInAnyOrder("exact_backend_role", "and_backend_roles")
+        );
+        assertThat(
+            subject.mapSecurityRoles(new User("other").withSecurityRoles(List.of("direct")), null),
+            containsInAnyOrder("direct")
+        );
+    }
+
+    @Test
+    public void userAndBackendRoles_cached() throws Exception {
+        ConfigModelV7 subject = configModel(Settings.EMPTY, HostResolverMode.IP_HOSTNAME, HostNameCache.uncached());
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(
+                subject.mapSecurityRoles(new User("user_a").withRoles("group_a"), null),
+                containsInAnyOrder("exact_user", "pattern_user", "exact_backend_role")
+            );
+            assertThat(
+                subject.mapSecurityRoles(new User("user_a").withRoles("group_2"), null),
+                containsInAnyOrder("exact_user", "pattern_user", "pattern_backend_role")
+            );
+        }
+    }
+
+    @Test
+    public void userAndBackendRoles_cacheDisabled() throws Exception {
+        ConfigModelV7 subject = configModel(
+            Settings.builder().put(ConfigConstants.SECURITY_ROLES_MAPPING_CACHE_MAX_SIZE, 0).build(),
+            HostResolverMode.IP_HOSTNAME,
+            HostNameCache.uncached()
+        );
+
+        assertThat(
+            subject.mapSecurityRoles(new User("user_a").withRoles("group_a"), null),
+            containsInAnyOrder("exact_user", "pattern_user", "exact_backend_role")
+        );
+    }
+
+    @Test
+    public void backendRolesOnly() throws Exception {
+        ConfigModelV7 subject = configModel(
+            Settings.builder().put(ConfigConstants.SECURITY_ROLES_MAPPING_RESOLUTION, "backendroles_only").build(),
+            HostResolverMode.IP_HOSTNAME,
+            HostNameCache.uncached()
+        );
+
+        assertThat(subject.mapSecurityRoles(new User("user_a").withRoles("group_a"), null), containsInAnyOrder("group_a"));
+    }
+
+    @Test
+    public void hosts() throws Exception {
+        ConfigModelV7 subject = configModel(Settings.EMPTY, HostResolverMode.IP_HOSTNAME, HostNameCache.uncached());
+
+        assertThat(
+            subject.mapSecurityRoles(new User("other"), new TransportAddress(InetAddress.getByName("127.0.0.1"), 9200)),
+            containsInAnyOrder("exact_host")
+        );
+    }
+
+    @Test
+    public void hosts_lookup() throws Exception {
+        TransportAddress caller = new TransportAddress(InetAddress.getByAddress(new byte[] { 10, 0, 0, 1 }), 9200);
+        HostNameCache hostNameCache = mock(HostNameCache.class);
+        when(hostNameCache.getHostName(caller.address())).thenReturn("node.example.com");
+        ConfigModelV7 subject = configModel(Settings.EMPTY, HostResolverMode.IP_HOSTNAME_LOOKUP, hostNameCache);
+
+        assertThat(subject.mapSecurityRoles(new User("other"), caller), containsInAnyOrder("pattern_host"));
+    }
+
+    static ConfigModelV7 configModel(Settings settings, HostResolverMode hostResolverMode, HostNameCache hostNameCache) throws Exception {
+        SecurityDynamicConfiguration<RoleMappingsV7> rolesMapping = SecurityDynamicConfiguration.fromYaml(
+            ROLES_MAPPING,
+            CType.ROLESMAPPING
+        );
+        DynamicConfigModel dcm = mock(DynamicConfigModel.class);
+        when(dcm.getHostsResolverMode()).thenReturn(hostResolverMode.getValue());
+
+        return new ConfigModelV7(SecurityDynamicConfiguration.empty(CType.ROLES), rolesMapping, dcm, settings, hostNameCache);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.security.securityconf;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.security.configuration.ClusterInfoHolder;
+import org.opensearch.security.configuration.ConfigurationMap;
+import org.opensearch.security.configuration.ConfigurationRepository;
+import org.opensearch.security.hasher.PasswordHasher;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import org.greenrobot.eventbus.Subscribe;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DynamicConfigFactoryTest {
+
+    private static final String CONFIG_JSON = "{\"_meta\":{\"type\":\"config\",\"config_version\":2},\"config\":{\"dynamic\":{}}}";
+
+    @Mock
+    private ConfigurationRepository cr;
+    @Mock
+    private ThreadPool threadPool;
+    @Mock
+    private Client client;
+    @Mock
+    private ClusterInfoHolder clusterInfoHolder;
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    private DynamicConfigFactory dynamicConfigFactory;
+    private ModelListener listener;
+
+    @Before
+    public void setUp() throws Exception {
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        when(cr.getConfiguration(CType.ACTIONGROUPS)).thenAnswer(i -> SecurityDynamicConfiguration.empty(CType.ACTIONGROUPS));
+        when(cr.getConfiguration(CType.CONFIG)).thenReturn(SecurityDynamicConfiguration.fromJson(CONFIG_JSON, CType.CONFIG, 2, 0, 0));
+        when(cr.getConfiguration(CType.INTERNALUSERS)).thenAnswer(i -> SecurityDynamicConfiguration.empty(CType.INTERNALUSERS));
+        when(cr.getConfiguration(CType.ROLES)).thenAnswer(i -> SecurityDynamicConfiguration.empty(CType.ROLES));
+        when(cr.getConfiguration(CType.ROLESMAPPING)).thenAnswer(i -> SecurityDynamicConfiguration.empty(CType.ROLESMAPPING));
+        when(cr.getConfiguration(CType.TENANTS)).thenAnswer(i -> SecurityDynamicConfiguration.empty(CType.TENANTS));
+        when(cr.getConfiguration(CType.NODESDN)).thenAnswer(i -> SecurityDynamicConfiguration.empty(CType.NODESDN));
+        when(cr.getConfiguration(CType.ALLOWLIST)).thenAnswer(i -> SecurityDynamicConfiguration.empty(CType.ALLOWLIST));
+        when(cr.getConfiguration(CType.AUDIT)).thenAnswer(i -> SecurityDynamicConfiguration.empty(CType.AUDIT));
+
+        dynamicConfigFactory = new DynamicConfigFactory(
+            cr,
+            Settings.builder().put(ConfigConstants.SECURITY_UNSUPPORTED_LOAD_STATIC_RESOURCES, false).build(),
+            null,
+            client,
+            threadPool,
+            clusterInfoHolder,
+            passwordHasher
+        );
+        listener = new ModelListener();
+        dynamicConfigFactory.registerDCFListener(listener);
+
+        // the first notification always rebuilds all models
+        dynamicConfigFactory.onChange(ConfigurationMap.EMPTY);
+        assertThat(dynamicConfigFactory.isInitialized(), is(true));
+        assertModelsPosted(1, 1, 1);
+    }
+
+    @After
+    public void tearDown() {
+        DynamicConfigFactory.resetStatics();
+    }
+
+    @Test
+    public void onChange_shouldNotRebuildModelsForUnrelatedTypes() {
+        dynamicConfigFactory.onChange(ConfigurationMap.of(SecurityDynamicConfiguration.empty(CType.TENANTS)));
+
+        assertModelsPosted(1, 1, 1);
+    }
+
+    @Test
+    public void onChange_shouldOnlyRebuildInternalUsersModelForInternalUsers() {
+        dynamicConfigFactory.onChange(ConfigurationMap.of(SecurityDynamicConfiguration.empty(CType.INTERNALUSERS)));
+
+        assertModelsPosted(1, 1, 2);
+    }
+
+    @Test
+    public void onChange_shouldNotRebuildDynamicConfigModelForRoles() {
+        dynamicConfigFactory.onChange(ConfigurationMap.of(SecurityDynamicConfiguration.empty(CType.ROLES)));
+
+        assertModelsPosted(2, 1, 2);
+    }
+
+    @Test
+    public void onChange_shouldRebuildAllModelsForConfig() {
+        dynamicConfigFactory.onChange(ConfigurationMap.of(cr.getConfiguration(CType.CONFIG)));
+
+        assertModelsPosted(2, 2, 1);
+    }
+
+    private void assertModelsPosted(int configModels, int dynamicConfigModels, int internalUsersModels) {
+        assertThat(listener.configModels, is(configModels));
+        assertThat(listener.dynamicConfigModels, is(dynamicConfigModels));
+        assertThat(listener.internalUsersModels, is(internalUsersModels));
+    }
+
+    public static class ModelListener {
+        int configModels;
+        int dynamicConfigModels;
+        int internalUsersModels;
+
+        @Subscribe
+        public void onConfigModelChanged(ConfigModel configModel) {
+            configModels++;
+        }
+
+        @Subscribe
+        public void onDynamicConfigModelChanged(DynamicConfigModel dynamicConfigModel) {
+            dynamicConfigModels++;
+        }
+
+        @Subscribe
+        public void onInternalUsersModelChanged(InternalUsersModel internalUsersModel) {
+            internalUsersModels++;
+        }
+    }
+}
@@ -12,6 +12,9 @@
 package org.opensearch.security.securityconf.impl;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -19,12 +22,16 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.Before;
 import org.junit.Test;
 
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.Strings;
 import org.opensearch.security.DefaultObjectMapper;
+import org.opensearch.security.securityconf.impl.v7.RoleV7;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
 
 public class SecurityDynamicConfigurationTest {
 
@@ -49,4 +56,69 @@ public class SecurityDynamicConfigurationTest {
         SecurityDynamicConfiguration<?> securityDeepClone = securityDynamicConfiguration.deepClone();
         assertThat(securityDeepClone, is(not(equalTo(securityDynamicConfiguration))));
     }
+
+    @Test
+    public void withChangedEntries_shouldApplyChangesToCopy() throws IOException {
+        objectNode.set("role_a", objectMapper.createObjectNode().set("cluster_permissions", objectMapper.createArrayNode().add("a")));
+        objectNode.set("role_b", objectMapper.createObjectNode().set("cluster_permissions", objectMapper.createArrayNode().add("b")));
+        final SecurityDynamicConfiguration<RoleV7> roles = SecurityDynamicConfiguration.fromJson(
+            objectMapper.writeValueAsString(objectNode),
+            CType.ROLES,
+            2,
+            1,
+            1
+        );
+
+        final Map<String, String> changedEntries = new HashMap<>();
+        changedEntries.put("role_a", "{\"cluster_permissions\":[\"c\"]}");
+        changedEntries.put("role_b", null);
+        changedEntries.put("role_c", roles.getCEntryAsJson("role_b"));
+        final var changed = roles.withChangedEntries(changedEntries, 2, 1);
+
+        assertThat(changed.getCEntry("role_a").getCluster_permissions(), equalTo(List.of("c")));
+        assertThat(changed.getCEntry("role_b"), is(nullValue()));
+        assertThat(changed.getCEntry("role_c").getCluster_permissions(), equalTo(List.of("b")));
+        assertThat(changed.getSeqNo(), is(2L));
+        assertThat(changed.getPrimaryTerm(), is(1L));
+
+        assertThat(roles.getCEntry("role_a").getCluster_permissions(), equalTo(List.of("a")));
+        assertThat(roles.exists("role_b"), is(true));
+        assertThat(roles.exists("role_c"), is(false));
+        assertThat(roles.getSeqNo(), is(1L));
+    }
+
+    @Test
+    public void deepClone_shouldCopyEntries() throws IOException {
+        final SecurityDynamicConfiguration<RoleV7> roles = rolesWithClusterPermissions("role_a", "a");
+
+        final SecurityDynamicConfiguration<RoleV7> clone = roles.deepClone();
+        clone.getCEntry("role_a").setCluster_permissions(List.of("b"));
+
+        assertThat(roles.getCEntry("role_a").getCluster_permissions(), equalTo(List.of("a")));
+        assertThat(clone.getCType(), is(CType.ROLES));
+        assertThat(clone.getSeqNo(), is(1L));
+        assertThat(clone.getPrimaryTerm(), is(1L));
+        assertThat(clone.get_meta().getType(), equalTo(CType.ROLES.toLCString()));
+    }
+
+    @Test
+    public void toXContent_shouldRenderMetaAndEntries() throws IOException {
+        final SecurityDynamicConfiguration<RoleV7> roles = rolesWithClusterPermissions("role_a", "a");
+
+        final var rendered = DefaultObjectMapper.readTree(Strings.toString(XContentType.JSON, roles));
+
+        assertThat(rendered.get("_meta").get("type").asText(), equalTo(CType.ROLES.toLCString()));
+        assertThat(rendered.get("_meta").get("config_version").asInt(), is(2));
+        assertThat(rendered.get("role_a").get("cluster_permissions").get(0).asText(), equalTo("a"));
+        assertThat(
+            SecurityDynamicConfiguration.fromNode(rendered, CType.ROLES, 2, 1, 1).getCEntry("role_a").getCluster_permissions(),
+            equalTo(List.of("a"))
+        );
+    }
+
+    private SecurityDynamicConfiguration<RoleV7> rolesWithClusterPermissions(String role, String clusterPermission) throws IOException {
+        final var clusterPermissions = objectMapper.createArrayNode().add(clusterPermission);
+        objectNode.set(role, objectMapper.createObjectNode().set("cluster_permissions", clusterPermissions));
+        return SecurityDynamicConfiguration.fromJson(objectMapper.writeValueAsString(objectNode), CType.ROLES, 2, 1, 1);
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class HostNameCacheTest {
+
+    @Test
+    public void cached() throws Exception {
+        AtomicInteger lookups = new AtomicInteger();
+        HostNameCache subject = new HostNameCache(60, Runnable::run, address -> "host" + lookups.incrementAndGet());
+        InetSocketAddress address1 = new InetSocketAddress(InetAddress.getByAddress(new byte[] { 10, 0, 0, 1 }), 9200);
+        InetSocketAddress address2 = new InetSocketAddress(InetAddress.getByAddress(new byte[] { 10, 0, 0, 2 }), 9300);
+
+        assertThat(subject.getHostName(address1), is("host1"));
+        assertThat(subject.getHostName(address2), is("host2"));
+        assertThat(subject.getHostName(new InetSocketAddress(address1.getAddress(), 9201)), is("host1"));
+        assertThat(lookups.get(), is(2));
+    }
+
+    @Test
+    public void uncached() throws Exception {
+        AtomicInteger lookups = new AtomicInteger();
+        HostNameCache subject = new HostNameCache(0, Runnable::run, address -> "host" + lookups.incrementAndGet());
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getByAddress(new byte[] { 10, 0, 0, 1 }), 9200);
+
+        assertThat(subject.getHostName(address), is("host1"));
+        assertThat(subject.getHostName(address), is("host2"));
+    }
+
+    @Test
+    public void unresolved() {
+        HostNameCache subject = new HostNameCache(60, Runnable::run, address -> {
+            throw new AssertionError("Unexpected lookup");
+        });
+
+        assertThat(subject.getHostName(InetSocketAddress.createUnresolved("node.example.com", 9200)), is("node.example.com"));
+    }
+}
@@ -10,13 +10,17 @@
 
 package org.opensearch.security.support;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import org.junit.Test;
 
+import org.opensearch.security.DefaultObjectMapper;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
@@ -42,6 +46,28 @@ public class JsonFlattenerTest {
         assertThat(flattenedMap3.values(), is(empty()));
     }
 
+    @Test
+    public void testFlattenAsMapWithPathFilter() throws Exception {
+        String json = "{\"a\":{\"b\":1,\"c\":null,\"d\":[false,{\"i\":{\"j\":[false,true,\"xy\"]}}]},\"e\":\"f\",\"g\":2.3,\"z\":[]}";
+        Map<String, Object> unfiltered = JsonFlattener.flattenAsMap(json);
+        Map<String, Object> jsonMap = DefaultObjectMapper.readValue(json, new TypeReference<Map<String, Object>>() {
+        });
+
+        for (String pattern : Arrays.asList("*", "a.b", "a.d*", "a.d[1]", "e", "g", "z", "x", "a.d[1].i.j[2]")) {
+            WildcardMatcher matcher = WildcardMatcher.from(pattern);
+            Map<String, Object> expected = new HashMap<>(unfiltered);
+            expected.keySet().removeIf(matcher.negate());
+
+            assertThat(pattern, JsonFlattener.flattenAsMap(json.getBytes(StandardCharsets.UTF_8), matcher), is(expected));
+            assertThat(pattern, JsonFlattener.flattenAsMap(jsonMap, matcher), is(expected));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFlattenAsMapWithPathFilterInvalidJson() {
+        JsonFlattener.flattenAsMap("{\"a\": ".getBytes(StandardCharsets.UTF_8), WildcardMatcher.ANY);
+    }
+
     @Test
     public void testFlattenAsMapComplex() {
         Map<String, Object> flattenedMap1 = JsonFlattener.flattenAsMap("{\n" + //
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.transport;
+
+import java.security.cert.X509Certificate;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.securityconf.NodesDnModel;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.WildcardMatcher;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class DefaultInterClusterRequestEvaluatorTest {
+
+    private final DefaultInterClusterRequestEvaluator evaluator = new DefaultInterClusterRequestEvaluator(
+        Settings.builder()
+            .putList(ConfigConstants.SECURITY_NODES_DN, "CN=node-*,OU=SSL,O=Test")
+            .put(ConfigConstants.SECURITY_NODES_DN_DYNAMIC_CONFIG_ENABLED, true)
+            .build()
+    );
+
+    @Test
+    public void nodesDn() {
+        assertTrue(isInterClusterRequest(mock(X509Certificate.class), "CN=node-1,OU=SSL,O=Test"));
+        assertFalse(isInterClusterRequest(mock(X509Certificate.class), "CN=client,OU=SSL,O=Test"));
+    }
+
+    @Test
+    public void decisionIsCachedPerCertificate() throws Exception {
+        X509Certificate certificate = mock(X509Certificate.class);
+
+        assertFalse(isInterClusterRequest(certificate, "CN=client,OU=SSL,O=Test"));
+        assertFalse(isInterClusterRequest(certificate, "CN=client,OU=SSL,O=Test"));
+
+        verify(certificate, times(1)).getSubjectAlternativeNames();
+    }
+
+    @Test
+    public void configChangeDiscardsCachedDecisions() {
+        X509Certificate certificate = mock(X509Certificate.class);
+
+        assertFalse(isInterClusterRequest(certificate, "CN=client,OU=SSL,O=Test"));
+
+        evaluator.onNodesDnModelChanged(new NodesDnModel() {
+            @Override
+            public Map<String, WildcardMatcher> getNodesDn() {
+                return Map.of("client", WildcardMatcher.from("CN=client,OU=SSL,O=Test"));
+            }
+        });
+
+        assertTrue(isInterClusterRequest(certificate, "CN=client,OU=SSL,O=Test"));
+        assertTrue(isInterClusterRequest(mock(X509Certificate.class), "CN=node-1,OU=SSL,O=Test"));
+    }
+
+    private boolean isInterClusterRequest(X509Certificate certificate, String principal) {
+        return evaluator.isInterClusterRequest(null, new X509Certificate[0], new X509Certificate[] { certificate }, principal);
+    }
+}